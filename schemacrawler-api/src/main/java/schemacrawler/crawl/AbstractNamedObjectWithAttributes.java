@@ -31,11 +31,18 @@ package schemacrawler.crawl;
 import static us.fatehi.utility.Utility.isBlank;
 import static us.fatehi.utility.Utility.trimToEmpty;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.UnaryOperator;
 
 import schemacrawler.schema.AttributedObject;
 import schemacrawler.schema.DescribedObject;
@@ -47,7 +54,70 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
 
   private static final long serialVersionUID = -1486322887991472729L;
 
-  private final Map<String, Object> attributeMap;
+  /**
+   * Attributes are serialized as a map, in the same form as earlier versions, so that saved
+   * catalogs can be read by both earlier and later versions.
+   */
+  private static final ObjectStreamField[] serialPersistentFields = {
+    new ObjectStreamField("attributeMap", Map.class)
+  };
+
+  private static final Object[] NO_ATTRIBUTES = new Object[0];
+
+  private static final AtomicReferenceFieldUpdater<AbstractNamedObjectWithAttributes, Object[]>
+      ATTRIBUTES =
+          AtomicReferenceFieldUpdater.newUpdater(
+              AbstractNamedObjectWithAttributes.class, Object[].class, "attributes");
+
+  private static int indexOf(final Object[] attributes, final String name) {
+    if (attributes != null && name != null) {
+      for (int i = 0; i < attributes.length; i = i + 2) {
+        if (name.equals(attributes[i])) {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+
+  private static Object[] withAttribute(
+      final Object[] attributes, final String name, final Object value) {
+    final Object[] current = attributes == null ? NO_ATTRIBUTES : attributes;
+    final int index = indexOf(current, name);
+    if (index >= 0) {
+      if (current[index + 1] == value) {
+        return attributes;
+      }
+      final Object[] updated = current.clone();
+      updated[index + 1] = value;
+      return updated;
+    }
+    final Object[] updated = Arrays.copyOf(current, current.length + 2);
+    updated[current.length] = name;
+    updated[current.length + 1] = value;
+    return updated;
+  }
+
+  private static Object[] withoutAttribute(final Object[] attributes, final String name) {
+    final int index = indexOf(attributes, name);
+    if (index < 0) {
+      return attributes;
+    }
+    if (attributes.length == 2) {
+      return null;
+    }
+    final Object[] updated = new Object[attributes.length - 2];
+    System.arraycopy(attributes, 0, updated, 0, index);
+    System.arraycopy(attributes, index + 2, updated, index, attributes.length - index - 2);
+    return updated;
+  }
+
+  /**
+   * Attribute names and values, one after the other. Most objects have few attributes, if any, so
+   * a small array, that is only created when the first attribute is set, takes much less memory
+   * than a map. The array is replaced on every change, so it can be read without locking.
+   */
+  private transient volatile Object[] attributes;
 
   /**
    * Effective Java - Item 17 - Minimize Mutability - Package-private constructors make a class
@@ -57,7 +127,6 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
    */
   AbstractNamedObjectWithAttributes(final String name) {
     super(name);
-    attributeMap = new ConcurrentHashMap<>();
   }
 
   /** {@inheritDoc} */
@@ -70,19 +139,31 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
   @Override
   public final <T> T getAttribute(final String name, final T defaultValue)
       throws ClassCastException {
-    return (T) attributeMap.getOrDefault(name, defaultValue);
+    final Object[] currentAttributes = attributes;
+    final int index = indexOf(currentAttributes, name);
+    if (index < 0) {
+      return defaultValue;
+    }
+    return (T) currentAttributes[index + 1];
   }
 
   /** {@inheritDoc} */
   @Override
   public final Map<String, Object> getAttributes() {
-    return new TreeMap<>(attributeMap);
+    final Map<String, Object> attributeMap = new TreeMap<>();
+    final Object[] currentAttributes = attributes;
+    if (currentAttributes != null) {
+      for (int i = 0; i < currentAttributes.length; i = i + 2) {
+        attributeMap.put((String) currentAttributes[i], currentAttributes[i + 1]);
+      }
+    }
+    return attributeMap;
   }
 
   /** {@inheritDoc} */
   @Override
   public final String getRemarks() {
-    final Object remarks = attributeMap.get(REMARKS_ATTRIBUTE);
+    final Object remarks = getAttribute(REMARKS_ATTRIBUTE);
     if (remarks == null) {
       return "";
     }
@@ -92,7 +173,7 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
   /** {@inheritDoc} */
   @Override
   public final boolean hasAttribute(final String name) {
-    return attributeMap.containsKey(name);
+    return indexOf(attributes, name) >= 0;
   }
 
   /** {@inheritDoc} */
@@ -114,7 +195,7 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
   @Override
   public final void removeAttribute(final String name) {
     if (!isBlank(name)) {
-      attributeMap.remove(name);
+      updateAttributes(currentAttributes -> withoutAttribute(currentAttributes, name));
     }
   }
 
@@ -123,9 +204,9 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
   public final void setAttribute(final String name, final Object value) {
     if (!isBlank(name)) {
       if (value == null) {
-        attributeMap.remove(name);
+        updateAttributes(currentAttributes -> withoutAttribute(currentAttributes, name));
       } else {
-        attributeMap.put(name, value);
+        updateAttributes(currentAttributes -> withAttribute(currentAttributes, name, value));
       }
     }
   }
@@ -136,16 +217,44 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
   }
 
   protected final void addAttributes(final Map<String, Object> values) {
-    if (values == null) {
+    if (values == null || values.isEmpty()) {
       return;
     }
-    // Check for null entries, since concurrent hash map does not allow them
-    for (final Entry<String, Object> entry : values.entrySet()) {
-      final String key = entry.getKey();
-      final Object value = entry.getValue();
-      if (key != null && value != null) {
-        attributeMap.put(key, value);
+    // Add all the values in one change, skipping null entries
+    updateAttributes(
+        currentAttributes -> {
+          Object[] updated = currentAttributes;
+          for (final Entry<String, Object> entry : values.entrySet()) {
+            final String key = entry.getKey();
+            final Object value = entry.getValue();
+            if (key != null && value != null) {
+              updated = withAttribute(updated, key, value);
+            }
+          }
+          return updated;
+        });
+  }
+
+  @SuppressWarnings("unchecked")
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    final ObjectInputStream.GetField fields = in.readFields();
+    addAttributes((Map<String, Object>) fields.get("attributeMap", null));
+  }
+
+  private void updateAttributes(final UnaryOperator<Object[]> update) {
+    while (true) {
+      final Object[] currentAttributes = attributes;
+      final Object[] updatedAttributes = update.apply(currentAttributes);
+      if (updatedAttributes == currentAttributes
+          || ATTRIBUTES.compareAndSet(this, currentAttributes, updatedAttributes)) {
+        return;
       }
     }
   }
+
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    final ObjectOutputStream.PutField fields = out.putFields();
+    fields.put("attributeMap", new ConcurrentHashMap<>(getAttributes()));
+    out.writeFields();
+  }
 }
@@ -32,6 +32,7 @@ import static java.util.Objects.requireNonNull;
 import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSchemaInclusion;
 import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForTableInclusion;
 import static us.fatehi.utility.Utility.isBlank;
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.util.HashMap;
@@ -49,12 +50,25 @@ import schemacrawler.schema.Schema;
 import schemacrawler.schemacrawler.Retriever;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.schemacrawler.exceptions.SchemaCrawlerException;
 import schemacrawler.utility.TypeMap;
+import us.fatehi.utility.scheduler.TaskDefinition;
+import us.fatehi.utility.scheduler.TaskMetrics;
+import us.fatehi.utility.scheduler.TaskRunner;
+import us.fatehi.utility.scheduler.TaskRunners;
+import us.fatehi.utility.string.StringFormat;
 
 /** Base class for retriever that uses database metadata to get the details about the schema. */
 @Retriever
 abstract class AbstractRetriever {
 
+  /** Retrieves metadata for a single table, using a connection borrowed for that table. */
+  @FunctionalInterface
+  interface TableRetrieval {
+    void retrieve(MutableTable table, Connection connection) throws SQLException;
+  }
+
   private static final Logger LOGGER = Logger.getLogger(AbstractRetriever.class.getName());
 
   final MutableCatalog catalog;
@@ -106,6 +120,10 @@ abstract class AbstractRetriever {
     return catalog.getAllSchemas();
   }
 
+  final MetadataFetchSizes getFetchSizes() {
+    return retrieverConnection.getFetchSizes();
+  }
+
   final Map<String, InclusionRule> getLimitMap() {
     final Map<String, InclusionRule> limitMap = new HashMap<>();
     limitMap.put("schema-inclusion-rule", options.getLimitOptions().get(ruleForSchemaInclusion));
@@ -117,6 +135,10 @@ abstract class AbstractRetriever {
     return retrieverConnection;
   }
 
+  final StringPool getStringPool() {
+    return retrieverConnection.getStringPool();
+  }
+
   final void logPossiblyUnsupportedSQLFeature(
       final Supplier<String> message, final SQLException e) {
     // HYC00 = Optional feature not implemented
@@ -194,10 +216,55 @@ abstract class AbstractRetriever {
       columnDataType.withQuoting(getRetrieverConnection().getIdentifiers());
 
       catalog.addColumnDataType(columnDataType);
+      TaskMetrics.recordObjects(1);
     }
     return columnDataType;
   }
 
+  /**
+   * Runs a metadata retrieval for each table concurrently. The number of threads is bounded by the
+   * maximum number of threads in the load options, and by the number of connections that the
+   * database connection source can have in use at the same time.
+   *
+   * @param retrievalName Name of the retrieval, used to identify the thread pool
+   * @param tables Tables to retrieve metadata for
+   * @param retrieval Retrieval for a single table
+   * @throws SQLException On an exception that is not handled by the table retrieval
+   */
+  final void retrieveForEachTable(
+      final String retrievalName,
+      final Iterable<MutableTable> tables,
+      final TableRetrieval retrieval)
+      throws SQLException {
+    requireNonNull(tables, "No tables provided");
+    requireNonNull(retrieval, "No table retrieval provided");
+
+    final int maxThreads =
+        Math.min(
+            options.getLoadOptions().getMaxThreads(), retrieverConnection.getMaxConnections());
+    LOGGER.log(
+        Level.CONFIG,
+        new StringFormat("Running <%s> with up to <%d> threads", retrievalName, maxThreads));
+
+    try (final TaskRunner taskRunner = TaskRunners.getTaskRunner(retrievalName, maxThreads); ) {
+      for (final MutableTable table : tables) {
+        taskRunner.add(
+            new TaskDefinition(
+                table.getFullName(),
+                () -> {
+                  try (final Connection connection = retrieverConnection.getConnection(); ) {
+                    retrieval.retrieve(table, connection);
+                  }
+                }));
+      }
+      taskRunner.submit();
+    } catch (final SQLException | SchemaCrawlerException e) {
+      throw e;
+    } catch (final Exception e) {
+      throw new ExecutionRuntimeException(e.getMessage(), e);
+    }
+  }
+
   final Optional<MutableRoutine> lookupRoutine(
       final String catalogName,
       final String schemaName,
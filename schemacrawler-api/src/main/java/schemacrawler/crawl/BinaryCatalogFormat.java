@@ -0,0 +1,94 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+/**
+ * Layout of the compact binary catalog format. A file starts with a fixed size header, followed by
+ * an index of sections, and then the sections themselves. Every string in the catalog is stored
+ * once in the string table, and is referred to elsewhere by its position in the table. Database
+ * objects refer to each other by their position in the order in which they were written, so that
+ * no object is written twice.
+ *
+ * <pre>
+ * header         magic (int), version (int), section count (int)
+ * section index  section type (int), schema id (int), offset (long), length (int) - repeated
+ * sections       variable length encoded data
+ * </pre>
+ *
+ * <p>Tables, routines, sequences and synonyms are written in separate sections for each schema.
+ * Within table and routine sections, each object is prefixed with its length, so that a reader
+ * can skip objects that are filtered out, and load them later if another object refers to them.
+ */
+final class BinaryCatalogFormat {
+
+  enum SectionType {
+    strings,
+    catalog,
+    schemas,
+    column_data_types,
+    tables,
+    routines,
+    sequences,
+    synonyms,
+    foreign_keys,
+    ;
+  }
+
+  /** "SCBC" - SchemaCrawler binary catalog. */
+  static final int MAGIC = 0x53434243;
+
+  static final int VERSION = 3;
+
+  static final int HEADER_SIZE = 3 * Integer.BYTES;
+  static final int SECTION_INDEX_ENTRY_SIZE = 3 * Integer.BYTES + Long.BYTES;
+
+  /** Schema id for sections that are not specific to a schema. */
+  static final int NO_SCHEMA = -1;
+
+  // Tags for attribute and property values
+  static final int NULL_VALUE = 0;
+  static final int STRING_VALUE = 1;
+  static final int BOOLEAN_VALUE = 2;
+  static final int INTEGER_VALUE = 3;
+  static final int LONG_VALUE = 4;
+  static final int DOUBLE_VALUE = 5;
+  static final int SERIALIZED_VALUE = 6;
+
+  // Tags for table constraints
+  static final int PRIMARY_KEY_CONSTRAINT = 0;
+  static final int TABLE_CONSTRAINT = 1;
+
+  // Tags for objects referenced by synonyms
+  static final int TABLE_REFERENCE = 0;
+  static final int ROUTINE_REFERENCE = 1;
+  static final int UNKNOWN_REFERENCE = 2;
+
+  private BinaryCatalogFormat() {
+    // Prevent instantiation
+  }
+}
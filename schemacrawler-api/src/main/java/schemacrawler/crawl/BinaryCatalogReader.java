@@ -0,0 +1,1299 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.crawl.BinaryCatalogFormat.BOOLEAN_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.DOUBLE_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.HEADER_SIZE;
+import static schemacrawler.crawl.BinaryCatalogFormat.INTEGER_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.LONG_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.MAGIC;
+import static schemacrawler.crawl.BinaryCatalogFormat.NULL_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.PRIMARY_KEY_CONSTRAINT;
+import static schemacrawler.crawl.BinaryCatalogFormat.ROUTINE_REFERENCE;
+import static schemacrawler.crawl.BinaryCatalogFormat.SECTION_INDEX_ENTRY_SIZE;
+import static schemacrawler.crawl.BinaryCatalogFormat.SERIALIZED_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.STRING_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.TABLE_REFERENCE;
+import static schemacrawler.crawl.BinaryCatalogFormat.VERSION;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.math.BigInteger;
+import java.nio.Buffer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.sql.DriverPropertyInfo;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.BaseProductVersion;
+import schemacrawler.ProductVersion;
+import schemacrawler.crawl.BinaryCatalogFormat.SectionType;
+import schemacrawler.crawl.SynonymRetriever.UnknownDatabaseObject;
+import schemacrawler.filter.FilterFactory;
+import schemacrawler.schema.ActionOrientationType;
+import schemacrawler.schema.AttributedObject;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.CheckOptionType;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.ConditionTimingType;
+import schemacrawler.schema.DataTypeType;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.EventManipulationType;
+import schemacrawler.schema.ForeignKeyDeferrability;
+import schemacrawler.schema.ForeignKeyUpdateRule;
+import schemacrawler.schema.FunctionReturnType;
+import schemacrawler.schema.IndexColumnSortSequence;
+import schemacrawler.schema.IndexType;
+import schemacrawler.schema.ParameterModeType;
+import schemacrawler.schema.ProcedureReturnType;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineBodyType;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.SearchableType;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraintType;
+import schemacrawler.schema.TableType;
+import schemacrawler.schemacrawler.FilterOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.utility.CatalogModelInputStream;
+import schemacrawler.utility.JavaSqlTypes;
+import us.fatehi.utility.scheduler.TaskMetrics;
+
+/**
+ * Reads a catalog that was written by {@link BinaryCatalogWriter}. The catalog is decoded
+ * directly from a byte buffer, which allows large catalogs to be read from a memory-mapped file
+ * without copying the file into memory first. Strings are only decoded from the string table
+ * when they are first needed.
+ */
+public final class BinaryCatalogReader {
+
+  private static final class SectionEntry {
+
+    private final SectionType sectionType;
+    private final int schemaId;
+    private final int offset;
+    private final int length;
+
+    SectionEntry(
+        final SectionType sectionType, final int schemaId, final int offset, final int length) {
+      this.sectionType = sectionType;
+      this.schemaId = schemaId;
+      this.offset = offset;
+      this.length = length;
+    }
+  }
+
+  /** Reads a single section, decoding variable length numbers, and strings by reference. */
+  private final class SectionInput {
+
+    private final ByteBuffer in;
+    private final int schemaId;
+
+    SectionInput(final SectionEntry sectionEntry) {
+      this(sectionEntry, 0, sectionEntry.length);
+    }
+
+    SectionInput(final SectionEntry sectionEntry, final int offset, final int length) {
+      if (offset < 0 || length < 0 || (long) offset + length > sectionEntry.length) {
+        throw new IndexOutOfBoundsException(
+            String.format("Invalid offset <%d> or length <%d> in section", offset, length));
+      }
+      schemaId = sectionEntry.schemaId;
+      final ByteBuffer section = buffer.duplicate();
+      // Call through Buffer, since ByteBuffer does not override these methods on Java 8
+      ((Buffer) section).limit(sectionEntry.offset + offset + length);
+      ((Buffer) section).position(sectionEntry.offset + offset);
+      in = section.slice();
+    }
+
+    void readAttributes(final AttributedObject attributedObject) throws IOException {
+      final int count = readInt();
+      for (int i = 0; i < count; i++) {
+        final String name = readString();
+        attributedObject.setAttribute(name, readValue());
+      }
+    }
+
+    BigInteger readBigInteger() {
+      final byte[] bytes = readBytes();
+      if (bytes == null) {
+        return null;
+      }
+      return new BigInteger(bytes);
+    }
+
+    boolean hasRemaining() {
+      return in.hasRemaining();
+    }
+
+    boolean readBoolean() {
+      return in.get() != 0;
+    }
+
+    byte[] readBytes() {
+      final int length = readInt();
+      if (length == -1) {
+        return null;
+      }
+      if (length < 0 || length > in.remaining()) {
+        throw new IndexOutOfBoundsException(String.format("Invalid length <%d>", length));
+      }
+      final byte[] bytes = new byte[length];
+      in.get(bytes);
+      return bytes;
+    }
+
+    <E extends Enum<E>> E readEnum(final Class<E> enumClass, final E defaultValue) {
+      final String name = readString();
+      if (name == null) {
+        return defaultValue;
+      }
+      try {
+        return Enum.valueOf(enumClass, name);
+      } catch (final IllegalArgumentException e) {
+        return defaultValue;
+      }
+    }
+
+    int readInt() {
+      return (int) readLong();
+    }
+
+    long readLong() {
+      long encoded = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = in.get();
+        encoded |= (long) (b & 0x7F) << shift;
+        shift = shift + 7;
+      } while ((b & 0x80) != 0);
+      return encoded >>> 1 ^ -(encoded & 1);
+    }
+
+    String readString() {
+      final int stringId = readInt();
+      if (stringId == 0) {
+        return null;
+      }
+      return string(stringId - 1);
+    }
+
+    List<String> readStrings() {
+      final int count = readInt();
+      final List<String> values = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        values.add(readString());
+      }
+      return values;
+    }
+
+    Object readValue() throws IOException {
+      final int tag = readInt();
+      switch (tag) {
+        case NULL_VALUE:
+          return null;
+        case STRING_VALUE:
+          return readString();
+        case BOOLEAN_VALUE:
+          return readBoolean();
+        case INTEGER_VALUE:
+          return readInt();
+        case LONG_VALUE:
+          return readLong();
+        case DOUBLE_VALUE:
+          return Double.longBitsToDouble(readLong());
+        case SERIALIZED_VALUE:
+          try (final ObjectInputStream objIn =
+              new CatalogModelInputStream(new ByteArrayInputStream(readBytes()))) {
+            return objIn.readObject();
+          } catch (final ClassNotFoundException e) {
+            throw new IOException("Cannot deserialize attribute value", e);
+          }
+        default:
+          throw new IOException(String.format("Unknown value tag <%d>", tag));
+      }
+    }
+
+    void skipAttributes() throws IOException {
+      final int count = readInt();
+      for (int i = 0; i < count; i++) {
+        skipString();
+        skipValue();
+      }
+    }
+
+    /**
+     * Skips over bytes in the section.
+     *
+     * @param length Number of bytes to skip
+     * @return Offset of the first skipped byte
+     */
+    int skip(final int length) {
+      final int offset = in.position();
+      if (length < 0 || length > in.remaining()) {
+        throw new IndexOutOfBoundsException(String.format("Invalid length <%d>", length));
+      }
+      ((Buffer) in).position(offset + length);
+      return offset;
+    }
+
+    void skipString() {
+      readInt();
+    }
+
+    private void skipValue() throws IOException {
+      final int tag = readInt();
+      switch (tag) {
+        case NULL_VALUE:
+          break;
+        case STRING_VALUE:
+          skipString();
+          break;
+        case BOOLEAN_VALUE:
+          readBoolean();
+          break;
+        case INTEGER_VALUE:
+        case LONG_VALUE:
+        case DOUBLE_VALUE:
+          readLong();
+          break;
+        case SERIALIZED_VALUE:
+          skip(readInt());
+          break;
+        default:
+          throw new IOException(String.format("Unknown value tag <%d>", tag));
+      }
+    }
+  }
+
+  /**
+   * Tables or routines of a schema. Each object is length-prefixed, so it can be read on its own.
+   * Object positions are only indexed when the section is first used.
+   */
+  private final class ObjectSection {
+
+    private final SectionEntry sectionEntry;
+    private final int firstId;
+    private final int count;
+    private int[] offsets;
+    private int[] lengths;
+
+    ObjectSection(final SectionEntry sectionEntry) {
+      this.sectionEntry = sectionEntry;
+      final SectionInput in = new SectionInput(sectionEntry);
+      firstId = in.readInt();
+      count = in.readInt();
+    }
+
+    SectionInput input(final int id) {
+      if (offsets == null) {
+        final SectionInput in = new SectionInput(sectionEntry);
+        in.readInt();
+        in.readInt();
+        offsets = new int[count];
+        lengths = new int[count];
+        for (int i = 0; i < count; i++) {
+          lengths[i] = in.readInt();
+          offsets[i] = in.skip(lengths[i]);
+        }
+      }
+      return new SectionInput(sectionEntry, offsets[id - firstId], lengths[id - firstId]);
+    }
+  }
+
+  /** Decides which objects are loaded up-front. Other objects are only loaded when referenced. */
+  private static final class LoadFilters {
+
+    private final Predicate<Schema> schemaFilter;
+    private final Predicate<Table> tableLimitFilter;
+    private final Predicate<Table> tableFilter;
+    private final Predicate<Routine> routineLimitFilter;
+    private final Predicate<Routine> routineFilter;
+    private final Predicate<Sequence> sequenceFilter;
+    private final Predicate<Synonym> synonymFilter;
+
+    LoadFilters() {
+      schemaFilter = schema -> true;
+      tableLimitFilter = table -> true;
+      tableFilter = table -> true;
+      routineLimitFilter = routine -> true;
+      routineFilter = routine -> true;
+      sequenceFilter = sequence -> true;
+      synonymFilter = synonym -> true;
+    }
+
+    LoadFilters(final SchemaCrawlerOptions options) {
+      schemaFilter = FilterFactory.schemaFilter(options);
+      tableLimitFilter = FilterFactory.tableLimitFilter(options);
+      tableFilter = FilterFactory.tableFilter(options);
+      routineLimitFilter = FilterFactory.routineLimitFilter(options);
+      routineFilter = FilterFactory.routineFilter(options);
+      sequenceFilter = FilterFactory.sequenceFilter(options);
+      synonymFilter = FilterFactory.synonymFilter(options);
+    }
+  }
+
+  private static final Logger LOGGER = Logger.getLogger(BinaryCatalogReader.class.getName());
+
+  /**
+   * Checks whether the buffer starts with the header of a binary catalog. The position of the
+   * buffer is not changed.
+   *
+   * @param buffer Buffer to check
+   * @return True if the buffer holds a binary catalog
+   */
+  public static boolean isBinaryCatalog(final ByteBuffer buffer) {
+    requireNonNull(buffer, "No buffer provided");
+    return buffer.remaining() >= HEADER_SIZE && buffer.getInt(buffer.position()) == MAGIC;
+  }
+
+  private final ByteBuffer buffer;
+  private final List<SectionEntry> sectionIndex;
+  private final JavaSqlTypes javaSqlTypes;
+  private ByteBuffer stringTable;
+  private int[] stringOffsets;
+  private int[] stringLengths;
+  private String[] strings;
+  private SchemaReference[] schemas;
+  private MutableColumnDataType[] columnDataTypes;
+  private MutableCatalog catalog;
+  private LoadFilters loadFilters;
+  private ObjectSection[] tableSections;
+  private ObjectSection[] routineSections;
+  private MutableTable[] tables;
+  private Column[][] tableColumns;
+  private boolean[] selectedTables;
+  private MutableRoutine[] routines;
+  private Column[][] partialTableColumns;
+  private Map<MutableView, int[]> tableUsage;
+
+  public BinaryCatalogReader(final ByteBuffer buffer) throws IOException {
+    requireNonNull(buffer, "No buffer provided");
+    if (!isBinaryCatalog(buffer)) {
+      throw new IOException("Not a binary catalog");
+    }
+    this.buffer = buffer.slice();
+
+    final int version = this.buffer.getInt(Integer.BYTES);
+    if (version != VERSION) {
+      throw new IOException(String.format("Unsupported binary catalog version <%d>", version));
+    }
+    final int sectionCount = this.buffer.getInt(2 * Integer.BYTES);
+    if (sectionCount < 0
+        || sectionCount > (this.buffer.limit() - HEADER_SIZE) / SECTION_INDEX_ENTRY_SIZE) {
+      throw new IOException(
+          String.format("Corrupt binary catalog, with <%d> sections", sectionCount));
+    }
+    sectionIndex = new ArrayList<>(sectionCount);
+    final SectionType[] sectionTypes = SectionType.values();
+    try {
+      for (int i = 0; i < sectionCount; i++) {
+        final int entryOffset = HEADER_SIZE + i * SECTION_INDEX_ENTRY_SIZE;
+        final int sectionType = this.buffer.getInt(entryOffset);
+        final int schemaId = this.buffer.getInt(entryOffset + Integer.BYTES);
+        final long offset = this.buffer.getLong(entryOffset + 2 * Integer.BYTES);
+        final int length = this.buffer.getInt(entryOffset + 2 * Integer.BYTES + Long.BYTES);
+        if (sectionType < 0
+            || sectionType >= sectionTypes.length
+            || offset < 0
+            || length < 0
+            || offset + length > this.buffer.limit()) {
+          throw new IOException("Corrupt binary catalog section index");
+        }
+        sectionIndex.add(
+            new SectionEntry(sectionTypes[sectionType], schemaId, (int) offset, length));
+      }
+    } catch (final IndexOutOfBoundsException e) {
+      throw new IOException("Corrupt binary catalog section index", e);
+    }
+
+    javaSqlTypes = new JavaSqlTypes();
+  }
+
+  /**
+   * Decodes the catalog from the buffer.
+   *
+   * @return Catalog
+   * @throws IOException On a corrupt or unreadable binary catalog
+   */
+  public Catalog read() throws IOException {
+    return read(new LoadFilters());
+  }
+
+  /**
+   * Decodes the catalog from the buffer, skipping over schemas, tables, routines, sequences and
+   * synonyms that are excluded by the limit and grep options. Excluded tables and routines are
+   * still loaded if an included object refers to them, such as by a foreign key to another schema,
+   * so the catalog still needs to be reduced with the same options afterwards. Such tables only
+   * have the foreign keys that link them to tables that were loaded up-front. If the options
+   * include tables related to the filtered tables, the full catalog is loaded.
+   *
+   * @param schemaCrawlerOptions Options with limit and grep rules
+   * @return Catalog
+   * @throws IOException On a corrupt or unreadable binary catalog
+   */
+  public Catalog read(final SchemaCrawlerOptions schemaCrawlerOptions) throws IOException {
+    requireNonNull(schemaCrawlerOptions, "No SchemaCrawler options provided");
+    final FilterOptions filterOptions = schemaCrawlerOptions.getFilterOptions();
+    if (filterOptions.getChildTableFilterDepth() > 0
+        || filterOptions.getParentTableFilterDepth() > 0) {
+      LOGGER.log(Level.CONFIG, "Loading full catalog, since related tables need to be included");
+      return read();
+    }
+    return read(new LoadFilters(schemaCrawlerOptions));
+  }
+
+  private Catalog read(final LoadFilters loadFilters) throws IOException {
+    this.loadFilters = loadFilters;
+    try {
+      readStrings();
+      catalog = readCatalog();
+      readSchemas();
+      readColumnDataTypes();
+      tableUsage = new HashMap<>();
+      tableSections = objectSections(SectionType.tables);
+      routineSections = objectSections(SectionType.routines);
+      readTables();
+      readRoutines();
+      for (final SectionInput in : sections(SectionType.sequences)) {
+        readSequences(in);
+      }
+      readForeignKeys();
+      for (final SectionInput in : sections(SectionType.synonyms)) {
+        readSynonyms(in);
+      }
+      // Resolving table usage can load more views, with their own table usage
+      while (!tableUsage.isEmpty()) {
+        final Iterator<Entry<MutableView, int[]>> iterator = tableUsage.entrySet().iterator();
+        final Entry<MutableView, int[]> viewTableUsage = iterator.next();
+        iterator.remove();
+        for (final int tableId : viewTableUsage.getValue()) {
+          viewTableUsage.getKey().addTableUsage(table(tableId));
+        }
+      }
+      return catalog;
+    } catch (final BufferUnderflowException
+        | IndexOutOfBoundsException
+        | IllegalArgumentException
+        | NegativeArraySizeException e) {
+      throw new IOException("Corrupt binary catalog", e);
+    }
+  }
+
+  private void addForeignKey(final Table table, final MutableForeignKey foreignKey) {
+    if (table instanceof MutableTable) {
+      ((MutableTable) table).addForeignKey(foreignKey);
+    } else if (table instanceof TablePartial) {
+      ((TablePartial) table).addForeignKey(foreignKey);
+    }
+  }
+
+  private MutableColumnDataType columnDataType(final int columnDataTypeId) {
+    if (columnDataTypeId == -1) {
+      return null;
+    }
+    return columnDataTypes[columnDataTypeId];
+  }
+
+  private void readBaseColumn(final SectionInput in, final AbstractColumn<?> column) {
+    column.setColumnDataType(columnDataType(in.readInt()));
+    column.setSize(in.readInt());
+    column.setDecimalDigits(in.readInt());
+    column.setNullable(in.readBoolean());
+    column.setOrdinalPosition(in.readInt());
+  }
+
+  private MutableCatalog readCatalog() throws IOException {
+    final SectionInput in = section(SectionType.catalog);
+    final String catalogName = in.readString();
+
+    final MutableDatabaseInfo databaseInfo =
+        new MutableDatabaseInfo(in.readString(), in.readString(), in.readString());
+    final int serverInfoCount = in.readInt();
+    for (int i = 0; i < serverInfoCount; i++) {
+      final String name = in.readString();
+      final Object value = in.readValue();
+      final String description = in.readString();
+      databaseInfo.addServerInfo(
+          new ImmutableServerInfoProperty(
+              name, value == null ? null : String.valueOf(value), description));
+    }
+    final int databasePropertyCount = in.readInt();
+    final List<ImmutableDatabaseProperty> databaseProperties = new ArrayList<>();
+    for (int i = 0; i < databasePropertyCount; i++) {
+      databaseProperties.add(new ImmutableDatabaseProperty(in.readString(), in.readValue()));
+    }
+    databaseInfo.addAll(databaseProperties);
+
+    final MutableJdbcDriverInfo jdbcDriverInfo =
+        new MutableJdbcDriverInfo(
+            in.readString(),
+            in.readString(),
+            in.readString(),
+            in.readInt(),
+            in.readInt(),
+            in.readInt(),
+            in.readInt(),
+            in.readBoolean(),
+            in.readString());
+    final int driverPropertyCount = in.readInt();
+    for (int i = 0; i < driverPropertyCount; i++) {
+      final DriverPropertyInfo driverPropertyInfo =
+          new DriverPropertyInfo(in.readString(), in.readString());
+      driverPropertyInfo.description = in.readString();
+      driverPropertyInfo.required = in.readBoolean();
+      driverPropertyInfo.choices = in.readStrings().toArray(new String[0]);
+      jdbcDriverInfo.addJdbcDriverProperty(new ImmutableJdbcDriverProperty(driverPropertyInfo));
+    }
+
+    final MutableCrawlInfo crawlInfo =
+        new MutableCrawlInfo(
+            readProductVersion(in),
+            readProductVersion(in),
+            readProductVersion(in),
+            readProductVersion(in),
+            readProductVersion(in),
+            Instant.ofEpochSecond(in.readLong(), in.readInt()),
+            UUID.fromString(in.readString()));
+    final int retrievalMetricsCount = in.readInt();
+    final List<TaskMetrics> retrievalMetrics = new ArrayList<>(retrievalMetricsCount);
+    for (int i = 0; i < retrievalMetricsCount; i++) {
+      retrievalMetrics.add(
+          new TaskMetrics(
+              in.readString(),
+              Duration.ofNanos(in.readLong()),
+              in.readLong(),
+              in.readLong(),
+              in.readLong(),
+              in.readLong(),
+              in.readLong()));
+    }
+    crawlInfo.setRetrievalMetrics(retrievalMetrics);
+
+    final MutableCatalog catalog =
+        new MutableCatalog(catalogName, databaseInfo, jdbcDriverInfo, crawlInfo);
+
+    final int databaseUserCount = in.readInt();
+    for (int i = 0; i < databaseUserCount; i++) {
+      final ImmutableDatabaseUser databaseUser = new ImmutableDatabaseUser(in.readString());
+      in.readAttributes(databaseUser);
+      catalog.addDatabaseUser(databaseUser);
+    }
+
+    in.readAttributes(catalog);
+
+    return catalog;
+  }
+
+  /**
+   * Looks up a column in the catalog, loading its table if needed, or a column of a partial table.
+   */
+  private Column column(final int tableId, final int columnIndex) throws IOException {
+    if (tableId >= 0) {
+      table(tableId);
+      return tableColumns[tableId][columnIndex];
+    } else {
+      return partialTableColumns[-tableId - 1][columnIndex];
+    }
+  }
+
+  /**
+   * Resolves column references that were read as key sequence, foreign key table and column, and
+   * primary key table and column ids.
+   */
+  private List<ColumnReference> columnReferences(final int[] columnReferenceIds)
+      throws IOException {
+    final List<ColumnReference> columnReferences = new ArrayList<>();
+    for (int i = 0; i < columnReferenceIds.length; i = i + 5) {
+      final Column foreignKeyColumn =
+          column(columnReferenceIds[i + 1], columnReferenceIds[i + 2]);
+      final Column primaryKeyColumn =
+          column(columnReferenceIds[i + 3], columnReferenceIds[i + 4]);
+      columnReferences.add(
+          new ImmutableColumnReference(
+              columnReferenceIds[i], foreignKeyColumn, primaryKeyColumn));
+    }
+    return columnReferences;
+  }
+
+  private boolean isTableLoaded(final int tableId) {
+    return tableId < 0 || tables[tableId] != null;
+  }
+
+  /**
+   * Checks whether a foreign key or weak association needs to be loaded, which is when either
+   * table was loaded up-front.
+   */
+  private boolean isTableReferenceSelected(final int[] columnReferenceIds) {
+    if (columnReferenceIds.length == 0) {
+      return false;
+    }
+    final int foreignKeyTableId = columnReferenceIds[1];
+    final int primaryKeyTableId = columnReferenceIds[3];
+    return foreignKeyTableId >= 0 && selectedTables[foreignKeyTableId]
+        || primaryKeyTableId >= 0 && selectedTables[primaryKeyTableId];
+  }
+
+  private ObjectSection objectSection(final ObjectSection[] objectSections, final int id) {
+    // Sections are written in order of object ids
+    int low = 0;
+    int high = objectSections.length - 1;
+    while (low <= high) {
+      final int middle = low + high >>> 1;
+      final ObjectSection objectSection = objectSections[middle];
+      if (id < objectSection.firstId) {
+        high = middle - 1;
+      } else if (id >= objectSection.firstId + objectSection.count) {
+        low = middle + 1;
+      } else {
+        return objectSection;
+      }
+    }
+    throw new IndexOutOfBoundsException(String.format("No object with id <%d>", id));
+  }
+
+  private ObjectSection[] objectSections(final SectionType sectionType) {
+    final List<ObjectSection> objectSections = new ArrayList<>();
+    for (final SectionEntry sectionEntry : sectionIndex) {
+      if (sectionEntry.sectionType == sectionType) {
+        objectSections.add(new ObjectSection(sectionEntry));
+      }
+    }
+    return objectSections.toArray(new ObjectSection[0]);
+  }
+
+  private void readColumnDataTypes() throws IOException {
+    final SectionInput in = section(SectionType.column_data_types);
+    final int count = in.readInt();
+    final int catalogCount = in.readInt();
+    columnDataTypes = new MutableColumnDataType[count];
+    final int[] baseTypeIds = new int[count];
+    for (int i = 0; i < count; i++) {
+      final Schema schema = schemas[in.readInt()];
+      final String name = in.readString();
+      final DataTypeType type = in.readEnum(DataTypeType.class, DataTypeType.system);
+      final MutableColumnDataType columnDataType = new MutableColumnDataType(schema, name, type);
+      columnDataType.setJavaSqlType(javaSqlTypes.valueOf(in.readInt()));
+      columnDataType.setTypeMappedClass(in.readString());
+      baseTypeIds[i] = in.readInt();
+      columnDataType.setAutoIncrementable(in.readBoolean());
+      columnDataType.setCaseSensitive(in.readBoolean());
+      columnDataType.setCreateParameters(in.readString());
+      columnDataType.setFixedPrecisionScale(in.readBoolean());
+      columnDataType.setLiteralPrefix(in.readString());
+      columnDataType.setLiteralSuffix(in.readString());
+      columnDataType.setLocalTypeName(in.readString());
+      columnDataType.setMaximumScale(in.readInt());
+      columnDataType.setMinimumScale(in.readInt());
+      columnDataType.setNullable(in.readBoolean());
+      columnDataType.setNumPrecisionRadix(in.readInt());
+      columnDataType.setPrecision(in.readLong());
+      columnDataType.setSearchable(in.readEnum(SearchableType.class, SearchableType.unknown));
+      columnDataType.setUnsigned(in.readBoolean());
+      columnDataType.setEnumValues(in.readStrings());
+      in.readAttributes(columnDataType);
+
+      columnDataTypes[i] = columnDataType;
+      if (i < catalogCount) {
+        catalog.addColumnDataType(columnDataType);
+      }
+    }
+    for (int i = 0; i < count; i++) {
+      columnDataTypes[i].setBaseType(columnDataType(baseTypeIds[i]));
+    }
+  }
+
+  private void readConstraintColumns(
+      final SectionInput in,
+      final MutableTable table,
+      final Column[] columns,
+      final MutableTableConstraint tableConstraint) {
+    final int count = in.readInt();
+    for (int i = 0; i < count; i++) {
+      final Column column = readLocalColumnReference(in, table, columns);
+      final MutableTableConstraintColumn constraintColumn =
+          new MutableTableConstraintColumn(tableConstraint, column);
+      constraintColumn.setKeyOrdinalPosition(in.readInt());
+      tableConstraint.addColumn(constraintColumn);
+    }
+  }
+
+  private void readForeignKeys() throws IOException {
+    final SectionInput in = section(SectionType.foreign_keys);
+
+    final int partialTableCount = in.readInt();
+    partialTableColumns = new Column[partialTableCount][];
+    for (int i = 0; i < partialTableCount; i++) {
+      final TablePartial table = new TablePartial(schemas[in.readInt()], in.readString());
+      final List<String> columnNames = in.readStrings();
+      partialTableColumns[i] = new Column[columnNames.size()];
+      for (int j = 0; j < columnNames.size(); j++) {
+        final ColumnPartial column = new ColumnPartial(table, columnNames.get(j));
+        table.addColumn(column);
+        partialTableColumns[i][j] = column;
+      }
+    }
+
+    final int foreignKeyCount = in.readInt();
+    for (int i = 0; i < foreignKeyCount; i++) {
+      final String name = in.readString();
+      final int[] columnReferenceIds = readColumnReferenceIds(in);
+      if (!isTableReferenceSelected(columnReferenceIds)) {
+        in.skipAttributes();
+        for (int j = 0; j < 4; j++) {
+          in.skipString();
+        }
+        in.readBoolean();
+        continue;
+      }
+      final List<ColumnReference> columnReferences = columnReferences(columnReferenceIds);
+      final MutableForeignKey foreignKey = new MutableForeignKey(name, columnReferences.get(0));
+      for (final ColumnReference columnReference :
+          columnReferences.subList(1, columnReferences.size())) {
+        foreignKey.addColumnReference(columnReference);
+      }
+      in.readAttributes(foreignKey);
+      foreignKey.setUpdateRule(
+          in.readEnum(ForeignKeyUpdateRule.class, ForeignKeyUpdateRule.unknown));
+      foreignKey.setDeleteRule(
+          in.readEnum(ForeignKeyUpdateRule.class, ForeignKeyUpdateRule.unknown));
+      foreignKey.setDeferrability(
+          in.readEnum(ForeignKeyDeferrability.class, ForeignKeyDeferrability.unknown));
+      foreignKey.appendDefinition(in.readString());
+      final boolean isTableConstraint = in.readBoolean();
+
+      final Table foreignKeyTable = foreignKey.getForeignKeyTable();
+      addForeignKey(foreignKeyTable, foreignKey);
+      addForeignKey(foreignKey.getPrimaryKeyTable(), foreignKey);
+      if (isTableConstraint) {
+        ((MutableTable) foreignKeyTable).addTableConstraint(foreignKey);
+      }
+    }
+
+    final int weakAssociationCount = in.readInt();
+    for (int i = 0; i < weakAssociationCount; i++) {
+      final String name = in.readString();
+      final int[] columnReferenceIds = readColumnReferenceIds(in);
+      if (!isTableReferenceSelected(columnReferenceIds)) {
+        in.skipAttributes();
+        continue;
+      }
+      final List<ColumnReference> columnReferences = columnReferences(columnReferenceIds);
+      final MutableWeakAssociation weakAssociation =
+          new MutableWeakAssociation(name, columnReferences.get(0));
+      for (final ColumnReference columnReference :
+          columnReferences.subList(1, columnReferences.size())) {
+        weakAssociation.addColumnReference(columnReference);
+      }
+      in.readAttributes(weakAssociation);
+
+      for (final Table table :
+          Arrays.asList(
+              weakAssociation.getForeignKeyTable(), weakAssociation.getPrimaryKeyTable())) {
+        if (table instanceof MutableTable) {
+          ((MutableTable) table).addWeakAssociation(weakAssociation);
+        }
+      }
+    }
+
+    final int referencingColumnCount = in.readInt();
+    for (int i = 0; i < referencingColumnCount; i++) {
+      final int tableId = in.readInt();
+      final int columnIndex = in.readInt();
+      final int referencedTableId = in.readInt();
+      final int referencedColumnIndex = in.readInt();
+      // Only columns of loaded tables, or of partial tables of loaded foreign keys, are linked
+      if (!isTableLoaded(tableId) || tableId < 0 && !isTableLoaded(referencedTableId)) {
+        continue;
+      }
+      final Column column = column(tableId, columnIndex);
+      final Column referencedColumn = column(referencedTableId, referencedColumnIndex);
+      if (column instanceof MutableColumn) {
+        ((MutableColumn) column).setReferencedColumn(referencedColumn);
+      } else if (column instanceof ColumnPartial) {
+        ((ColumnPartial) column).setReferencedColumn(referencedColumn);
+      }
+    }
+  }
+
+  /**
+   * Reads the ids in column references, without resolving them, as key sequence, foreign key table
+   * and column, and primary key table and column.
+   */
+  private int[] readColumnReferenceIds(final SectionInput in) {
+    final int[] columnReferenceIds = new int[in.readInt() * 5];
+    for (int i = 0; i < columnReferenceIds.length; i++) {
+      columnReferenceIds[i] = in.readInt();
+    }
+    return columnReferenceIds;
+  }
+
+  /** Reads a reference to a column of the given table, or creates a partial column. */
+  private Column readLocalColumnReference(
+      final SectionInput in, final MutableTable table, final Column[] columns) {
+    final int columnIndex = in.readInt();
+    if (columnIndex == -1) {
+      return new ColumnPartial(table, in.readString());
+    }
+    return columns[columnIndex];
+  }
+
+  private <D extends DatabaseObject> List<MutablePrivilege<D>> readPrivileges(
+      final SectionInput in, final DatabaseObjectReference<D> parent) throws IOException {
+    final int count = in.readInt();
+    final List<MutablePrivilege<D>> privileges = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      final MutablePrivilege<D> privilege = new MutablePrivilege<>(parent, in.readString());
+      in.readAttributes(privilege);
+      final int grantCount = in.readInt();
+      for (int j = 0; j < grantCount; j++) {
+        privilege.addGrant(in.readString(), in.readString(), in.readBoolean());
+      }
+      privileges.add(privilege);
+    }
+    return privileges;
+  }
+
+  private ProductVersion readProductVersion(final SectionInput in) {
+    return new BaseProductVersion(in.readString(), in.readString());
+  }
+
+  private void readRoutine(final SectionInput in, final MutableRoutine routine)
+      throws IOException {
+    routine.setRoutineBodyType(in.readEnum(RoutineBodyType.class, RoutineBodyType.unknown));
+    routine.appendDefinition(in.readString());
+    in.readAttributes(routine);
+
+    final int parameterCount = in.readInt();
+    for (int j = 0; j < parameterCount; j++) {
+      final String parameterName = in.readString();
+      final MutableRoutineParameter<?> parameter;
+      if (routine instanceof MutableFunction) {
+        final MutableFunctionParameter functionParameter =
+            new MutableFunctionParameter((MutableFunction) routine, parameterName);
+        ((MutableFunction) routine).addParameter(functionParameter);
+        parameter = functionParameter;
+      } else {
+        final MutableProcedureParameter procedureParameter =
+            new MutableProcedureParameter((MutableProcedure) routine, parameterName);
+        ((MutableProcedure) routine).addParameter(procedureParameter);
+        parameter = procedureParameter;
+      }
+      readBaseColumn(in, parameter);
+      parameter.setParameterMode(in.readEnum(ParameterModeType.class, ParameterModeType.unknown));
+      parameter.setPrecision(in.readInt());
+      in.readAttributes(parameter);
+    }
+  }
+
+  /** Reads the routine name and type, which is enough to apply limit options. */
+  private MutableRoutine readRoutineHeader(final SectionInput in) {
+    final Schema schema = schemas[in.schemaId];
+    final boolean isFunction = in.readBoolean();
+    final String name = in.readString();
+    final String specificName = in.readString();
+    if (isFunction) {
+      final MutableFunction function = new MutableFunction(schema, name, specificName);
+      function.setReturnType(in.readEnum(FunctionReturnType.class, FunctionReturnType.unknown));
+      return function;
+    } else {
+      final MutableProcedure procedure = new MutableProcedure(schema, name, specificName);
+      procedure.setReturnType(in.readEnum(ProcedureReturnType.class, ProcedureReturnType.unknown));
+      return procedure;
+    }
+  }
+
+  private void readRoutines() throws IOException {
+    for (final ObjectSection routineSection : routineSections) {
+      if (!loadFilters.schemaFilter.test(schemas[routineSection.sectionEntry.schemaId])) {
+        continue;
+      }
+      for (int i = 0; i < routineSection.count; i++) {
+        final int routineId = routineSection.firstId + i;
+        final SectionInput in = routineSection.input(routineId);
+        final MutableRoutine routine = readRoutineHeader(in);
+        if (!loadFilters.routineLimitFilter.test(routine)) {
+          continue;
+        }
+        readRoutine(in, routine);
+        if (loadFilters.routineFilter.test(routine)) {
+          routines[routineId] = routine;
+          catalog.addRoutine(routine);
+        }
+      }
+    }
+  }
+
+  private void readSchemas() throws IOException {
+    final SectionInput in = section(SectionType.schemas);
+    final int count = in.readInt();
+    final int catalogCount = in.readInt();
+    schemas = new SchemaReference[count];
+    for (int i = 0; i < count; i++) {
+      final SchemaReference schema = new SchemaReference(in.readString(), in.readString());
+      in.readAttributes(schema);
+      schemas[i] = schema;
+      if (i < catalogCount) {
+        catalog.addSchema(schema);
+      }
+    }
+    final int tableCount = in.readInt();
+    tables = new MutableTable[tableCount];
+    tableColumns = new Column[tableCount][];
+    selectedTables = new boolean[tableCount];
+    routines = new MutableRoutine[in.readInt()];
+  }
+
+  private void readSequences(final SectionInput in) throws IOException {
+    if (!loadFilters.schemaFilter.test(schemas[in.schemaId])) {
+      return;
+    }
+    while (in.hasRemaining()) {
+      final MutableSequence sequence = new MutableSequence(schemas[in.schemaId], in.readString());
+      sequence.setIncrement(in.readLong());
+      sequence.setMinimumValue(in.readBigInteger());
+      sequence.setMaximumValue(in.readBigInteger());
+      sequence.setStartValue(in.readBigInteger());
+      sequence.setCycle(in.readBoolean());
+      in.readAttributes(sequence);
+      if (loadFilters.sequenceFilter.test(sequence)) {
+        catalog.addSequence(sequence);
+      }
+    }
+  }
+
+  private void readStrings() throws IOException {
+    final SectionInput in = section(SectionType.strings);
+    final int count = in.readInt();
+    stringOffsets = new int[count];
+    stringLengths = new int[count];
+    for (int i = 0; i < count; i++) {
+      stringLengths[i] = in.readInt();
+      stringOffsets[i] = in.skip(stringLengths[i]);
+    }
+    strings = new String[count];
+    stringTable = in.in;
+  }
+
+  private void readSynonyms(final SectionInput in) throws IOException {
+    if (!loadFilters.schemaFilter.test(schemas[in.schemaId])) {
+      return;
+    }
+    while (in.hasRemaining()) {
+      final MutableSynonym synonym = new MutableSynonym(schemas[in.schemaId], in.readString());
+      in.readAttributes(synonym);
+      final int referenceType = in.readInt();
+      final int referencedId = in.readInt();
+      final DatabaseObject referencedObject;
+      if (!loadFilters.synonymFilter.test(synonym)) {
+        if (referenceType != TABLE_REFERENCE && referenceType != ROUTINE_REFERENCE) {
+          in.skipString();
+        }
+        continue;
+      } else if (referenceType == TABLE_REFERENCE) {
+        referencedObject = table(referencedId);
+      } else if (referenceType == ROUTINE_REFERENCE) {
+        referencedObject = routine(referencedId);
+      } else {
+        referencedObject = new UnknownDatabaseObject(schemas[referencedId], in.readString());
+      }
+      if (referencedObject != null) {
+        synonym.setReferencedObject(referencedObject);
+        catalog.addSynonym(synonym);
+      }
+    }
+  }
+
+  private MutableColumn readTableColumn(
+      final SectionInput in, final MutableTable table, final String name) throws IOException {
+    final MutableColumn column = new MutableColumn(table, name);
+    readBaseColumn(in, column);
+    column.setDefaultValue(in.readString());
+    column.setAutoIncremented(in.readBoolean());
+    column.setGenerated(in.readBoolean());
+    column.setHidden(in.readBoolean());
+    if (in.readBoolean()) {
+      column.markAsPartOfIndex();
+    }
+    if (in.readBoolean()) {
+      column.markAsPartOfPrimaryKey();
+    }
+    if (in.readBoolean()) {
+      column.markAsPartOfUniqueIndex();
+    }
+    in.readAttributes(column);
+    for (final MutablePrivilege<Column> privilege :
+        readPrivileges(in, new ColumnPointer(column))) {
+      column.addPrivilege(privilege);
+    }
+    return column;
+  }
+
+  private void readTableKey(
+      final SectionInput in,
+      final MutableTable table,
+      final Column[] columns,
+      final MutablePrimaryKey key)
+      throws IOException {
+    key.setDeferrable(in.readBoolean());
+    key.setInitiallyDeferred(in.readBoolean());
+    key.appendDefinition(in.readString());
+    in.readAttributes(key);
+    readConstraintColumns(in, table, columns, key);
+  }
+
+  /**
+   * Reads the table details that follow the table header, and returns the table's columns, with
+   * hidden columns after regular columns.
+   */
+  private Column[] readTable(final SectionInput in, final MutableTable table)
+      throws IOException {
+    final boolean isView = table instanceof MutableView;
+    table.setSortIndex(in.readInt());
+    table.appendDefinition(in.readString());
+    in.readAttributes(table);
+
+    final int columnCount = in.readInt();
+    final List<Column> columns = new ArrayList<>(columnCount);
+    for (int j = 0; j < columnCount; j++) {
+      final MutableColumn column = readTableColumn(in, table, in.readString());
+      table.addColumn(column);
+      columns.add(column);
+    }
+    final int hiddenColumnCount = in.readInt();
+    for (int j = 0; j < hiddenColumnCount; j++) {
+      final MutableColumn column = readTableColumn(in, table, in.readString());
+      table.addHiddenColumn(column);
+      columns.add(column);
+    }
+    final Column[] tableColumns = columns.toArray(new Column[0]);
+
+    MutablePrimaryKey primaryKey = null;
+    if (in.readBoolean()) {
+      primaryKey = MutablePrimaryKey.newPrimaryKey(table, in.readString());
+      readTableKey(in, table, tableColumns, primaryKey);
+      table.setPrimaryKey(primaryKey);
+    }
+    final int alternateKeyCount = in.readInt();
+    for (int j = 0; j < alternateKeyCount; j++) {
+      final MutablePrimaryKey alternateKey =
+          MutablePrimaryKey.newAlternateKey(table, in.readString());
+      readTableKey(in, table, tableColumns, alternateKey);
+      table.addAlternateKey(alternateKey);
+    }
+
+    final int indexCount = in.readInt();
+    for (int j = 0; j < indexCount; j++) {
+      final MutableIndex index = new MutableIndex(table, in.readString());
+      index.setUnique(in.readBoolean());
+      index.setIndexType(in.readEnum(IndexType.class, IndexType.unknown));
+      index.setCardinality(in.readLong());
+      index.setPages(in.readLong());
+      index.appendDefinition(in.readString());
+      in.readAttributes(index);
+      final int indexColumnCount = in.readInt();
+      for (int k = 0; k < indexColumnCount; k++) {
+        final Column column = readLocalColumnReference(in, table, tableColumns);
+        final MutableIndexColumn indexColumn = new MutableIndexColumn(index, column);
+        indexColumn.setKeyOrdinalPosition(in.readInt());
+        indexColumn.setSortSequence(in.readEnum(IndexColumnSortSequence.class, null));
+        index.addColumn(indexColumn);
+      }
+      table.addIndex(index);
+    }
+
+    final int triggerCount = in.readInt();
+    for (int j = 0; j < triggerCount; j++) {
+      final MutableTrigger trigger = new MutableTrigger(table, in.readString());
+      trigger.appendActionCondition(in.readString());
+      trigger.setActionOrder(in.readInt());
+      trigger.setActionOrientation(
+          in.readEnum(ActionOrientationType.class, ActionOrientationType.unknown));
+      trigger.appendActionStatement(in.readString());
+      trigger.setConditionTiming(
+          in.readEnum(ConditionTimingType.class, ConditionTimingType.unknown));
+      trigger.setEventManipulationType(
+          in.readEnum(EventManipulationType.class, EventManipulationType.unknown));
+      in.readAttributes(trigger);
+      table.addTrigger(trigger);
+    }
+
+    for (final MutablePrivilege<Table> privilege : readPrivileges(in, new TablePointer(table))) {
+      table.addPrivilege(privilege);
+    }
+
+    final int tableConstraintCount = in.readInt();
+    for (int j = 0; j < tableConstraintCount; j++) {
+      if (in.readInt() == PRIMARY_KEY_CONSTRAINT) {
+        table.addTableConstraint(primaryKey);
+        continue;
+      }
+      final MutableTableConstraint tableConstraint =
+          new MutableTableConstraint(table, in.readString());
+      tableConstraint.setTableConstraintType(
+          in.readEnum(TableConstraintType.class, TableConstraintType.unknown));
+      tableConstraint.setDeferrable(in.readBoolean());
+      tableConstraint.setInitiallyDeferred(in.readBoolean());
+      tableConstraint.appendDefinition(in.readString());
+      in.readAttributes(tableConstraint);
+      readConstraintColumns(in, table, tableColumns, tableConstraint);
+      table.addTableConstraint(tableConstraint);
+    }
+
+    if (isView) {
+      final MutableView view = (MutableView) table;
+      view.setCheckOption(in.readEnum(CheckOptionType.class, CheckOptionType.unknown));
+      view.setUpdatable(in.readBoolean());
+      final int tableUsageCount = in.readInt();
+      final int[] tableUsageIds = new int[tableUsageCount];
+      for (int j = 0; j < tableUsageCount; j++) {
+        tableUsageIds[j] = in.readInt();
+      }
+      tableUsage.put(view, tableUsageIds);
+    }
+
+    return tableColumns;
+  }
+
+  /** Reads the table name and type, which is enough to apply limit options. */
+  private MutableTable readTableHeader(final SectionInput in) {
+    final Schema schema = schemas[in.schemaId];
+    final boolean isView = in.readBoolean();
+    final String name = in.readString();
+    final MutableTable table;
+    if (isView) {
+      table = new MutableView(schema, name);
+    } else {
+      table = new MutableTable(schema, name);
+    }
+    table.setTableType(new TableType(in.readString()));
+    return table;
+  }
+
+  private void readTables() throws IOException {
+    for (final ObjectSection tableSection : tableSections) {
+      if (!loadFilters.schemaFilter.test(schemas[tableSection.sectionEntry.schemaId])) {
+        continue;
+      }
+      for (int i = 0; i < tableSection.count; i++) {
+        final int tableId = tableSection.firstId + i;
+        final SectionInput in = tableSection.input(tableId);
+        final MutableTable table = readTableHeader(in);
+        if (!loadFilters.tableLimitFilter.test(table)) {
+          continue;
+        }
+        final Column[] columns = readTable(in, table);
+        if (loadFilters.tableFilter.test(table)) {
+          tables[tableId] = table;
+          tableColumns[tableId] = columns;
+          selectedTables[tableId] = true;
+          catalog.addTable(table);
+        } else {
+          tableUsage.remove(table);
+        }
+      }
+    }
+  }
+
+  /** Looks up a routine, loading it if it was not loaded up-front. */
+  private MutableRoutine routine(final int routineId) throws IOException {
+    if (routines[routineId] == null) {
+      final SectionInput in = objectSection(routineSections, routineId).input(routineId);
+      final MutableRoutine routine = readRoutineHeader(in);
+      readRoutine(in, routine);
+      routines[routineId] = routine;
+      catalog.addRoutine(routine);
+    }
+    return routines[routineId];
+  }
+
+  private SectionInput section(final SectionType sectionType) throws IOException {
+    final List<SectionInput> sections = sections(sectionType);
+    if (sections.isEmpty()) {
+      throw new IOException(String.format("No <%s> section in binary catalog", sectionType));
+    }
+    return sections.get(0);
+  }
+
+  private List<SectionInput> sections(final SectionType sectionType) {
+    final List<SectionInput> sections = new ArrayList<>();
+    for (final SectionEntry sectionEntry : sectionIndex) {
+      if (sectionEntry.sectionType == sectionType) {
+        sections.add(new SectionInput(sectionEntry));
+      }
+    }
+    return sections;
+  }
+
+  /** Looks up a table, loading it if it was not loaded up-front. */
+  private MutableTable table(final int tableId) throws IOException {
+    if (tables[tableId] == null) {
+      final SectionInput in = objectSection(tableSections, tableId).input(tableId);
+      final MutableTable table = readTableHeader(in);
+      final Column[] columns = readTable(in, table);
+      tables[tableId] = table;
+      tableColumns[tableId] = columns;
+      catalog.addTable(table);
+    }
+    return tables[tableId];
+  }
+
+  private String string(final int stringId) {
+    String value = strings[stringId];
+    if (value == null) {
+      final byte[] bytes = new byte[stringLengths[stringId]];
+      final ByteBuffer string = stringTable.duplicate();
+      ((Buffer) string).position(stringOffsets[stringId]);
+      string.get(bytes);
+      value = new String(bytes, UTF_8);
+      strings[stringId] = value;
+    }
+    return value;
+  }
+}
@@ -0,0 +1,889 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Comparator.comparing;
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.crawl.BinaryCatalogFormat.BOOLEAN_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.DOUBLE_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.HEADER_SIZE;
+import static schemacrawler.crawl.BinaryCatalogFormat.INTEGER_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.LONG_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.MAGIC;
+import static schemacrawler.crawl.BinaryCatalogFormat.NO_SCHEMA;
+import static schemacrawler.crawl.BinaryCatalogFormat.NULL_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.PRIMARY_KEY_CONSTRAINT;
+import static schemacrawler.crawl.BinaryCatalogFormat.ROUTINE_REFERENCE;
+import static schemacrawler.crawl.BinaryCatalogFormat.SECTION_INDEX_ENTRY_SIZE;
+import static schemacrawler.crawl.BinaryCatalogFormat.SERIALIZED_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.STRING_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.TABLE_CONSTRAINT;
+import static schemacrawler.crawl.BinaryCatalogFormat.TABLE_REFERENCE;
+import static schemacrawler.crawl.BinaryCatalogFormat.UNKNOWN_REFERENCE;
+import static schemacrawler.crawl.BinaryCatalogFormat.VERSION;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import schemacrawler.ProductVersion;
+import schemacrawler.crawl.BinaryCatalogFormat.SectionType;
+import schemacrawler.schema.AttributedObject;
+import schemacrawler.schema.BaseColumn;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.DatabaseInfo;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.DatabaseProperty;
+import schemacrawler.schema.DatabaseUser;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Function;
+import schemacrawler.schema.Grant;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.IndexColumn;
+import schemacrawler.schema.JdbcDriverInfo;
+import schemacrawler.schema.JdbcDriverProperty;
+import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schema.PrimaryKey;
+import schemacrawler.schema.Privilege;
+import schemacrawler.schema.Property;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineParameter;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.TableConstraintColumn;
+import schemacrawler.schema.TableReference;
+import schemacrawler.schema.Trigger;
+import schemacrawler.schema.View;
+import schemacrawler.schema.WeakAssociation;
+import us.fatehi.utility.scheduler.TaskMetrics;
+
+/**
+ * Writes a catalog in a compact binary format, which can be loaded back with {@link
+ * BinaryCatalogReader}. See {@link BinaryCatalogFormat} for the layout of the output.
+ */
+public final class BinaryCatalogWriter {
+
+  /** Buffers a single section, using variable length encoding for numbers. */
+  private final class SectionOutput {
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+    private final SectionType sectionType;
+    private final int schemaId;
+
+    SectionOutput(final SectionType sectionType, final int schemaId) {
+      this.sectionType = sectionType;
+      this.schemaId = schemaId;
+    }
+
+    void writeAttributes(final AttributedObject attributedObject) throws IOException {
+      final Map<String, Object> attributes = attributedObject.getAttributes();
+      writeInt(attributes.size());
+      for (final Entry<String, Object> attribute : attributes.entrySet()) {
+        writeString(attribute.getKey());
+        writeValue(attribute.getValue());
+      }
+    }
+
+    void writeBigInteger(final BigInteger value) {
+      if (value == null) {
+        writeBytes(null);
+      } else {
+        writeBytes(value.toByteArray());
+      }
+    }
+
+    void writeBoolean(final boolean value) {
+      bytes.write(value ? 1 : 0);
+    }
+
+    void writeBytes(final byte[] value) {
+      if (value == null) {
+        writeInt(-1);
+      } else {
+        writeInt(value.length);
+        bytes.write(value, 0, value.length);
+      }
+    }
+
+    void writeEnum(final Enum<?> value) {
+      writeString(value == null ? null : value.name());
+    }
+
+    void writeInt(final int value) {
+      writeLong(value);
+    }
+
+    void writeLong(final long value) {
+      // Zig-zag encode, so that small negative numbers are also small
+      long encoded = value << 1 ^ value >> 63;
+      while ((encoded & ~0x7FL) != 0) {
+        bytes.write((int) (encoded & 0x7F | 0x80));
+        encoded >>>= 7;
+      }
+      bytes.write((int) encoded);
+    }
+
+    void writeString(final String value) {
+      if (value == null) {
+        writeInt(0);
+      } else {
+        writeInt(stringId(value) + 1);
+      }
+    }
+
+    void writeStrings(final Collection<String> values) {
+      writeInt(values.size());
+      for (final String value : values) {
+        writeString(value);
+      }
+    }
+
+    void writeValue(final Object value) throws IOException {
+      if (value == null) {
+        writeInt(NULL_VALUE);
+      } else if (value instanceof String) {
+        writeInt(STRING_VALUE);
+        writeString((String) value);
+      } else if (value instanceof Boolean) {
+        writeInt(BOOLEAN_VALUE);
+        writeBoolean((Boolean) value);
+      } else if (value instanceof Integer) {
+        writeInt(INTEGER_VALUE);
+        writeInt((Integer) value);
+      } else if (value instanceof Long) {
+        writeInt(LONG_VALUE);
+        writeLong((Long) value);
+      } else if (value instanceof Double) {
+        writeInt(DOUBLE_VALUE);
+        writeLong(Double.doubleToLongBits((Double) value));
+      } else if (value instanceof Serializable) {
+        final ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (final ObjectOutputStream objOut = new ObjectOutputStream(serialized)) {
+          objOut.writeObject(value);
+        }
+        writeInt(SERIALIZED_VALUE);
+        writeBytes(serialized.toByteArray());
+      } else {
+        writeInt(STRING_VALUE);
+        writeString(String.valueOf(value));
+      }
+    }
+  }
+
+  /** A table that is referenced by a foreign key, but is not in the catalog. */
+  private static final class PartialTable {
+
+    private final int schemaId;
+    private final String name;
+    private final List<String> columnNames = new ArrayList<>();
+
+    PartialTable(final int schemaId, final String name) {
+      this.schemaId = schemaId;
+      this.name = name;
+    }
+
+    int columnIndex(final String columnName) {
+      int index = columnNames.indexOf(columnName);
+      if (index == -1) {
+        index = columnNames.size();
+        columnNames.add(columnName);
+      }
+      return index;
+    }
+  }
+
+  private final Catalog catalog;
+  private final Map<String, Integer> stringIds;
+  private final List<String> strings;
+  private final Map<Schema, Integer> schemaIds;
+  private final List<Schema> schemas;
+  private final Map<ColumnDataType, Integer> columnDataTypeIds;
+  private final List<ColumnDataType> columnDataTypes;
+  private final Map<Table, Integer> tableIds;
+  private final List<Table> tables;
+  private final Map<Table, Map<String, Integer>> tableColumnIndexes;
+  private final Map<Routine, Integer> routineIds;
+  private final Map<NamedObjectKey, Integer> partialTableIds;
+  private final List<PartialTable> partialTables;
+  private final List<SectionOutput> sections;
+
+  public BinaryCatalogWriter(final Catalog catalog) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+
+    stringIds = new HashMap<>();
+    strings = new ArrayList<>();
+    schemaIds = new HashMap<>();
+    schemas = new ArrayList<>();
+    columnDataTypeIds = new HashMap<>();
+    columnDataTypes = new ArrayList<>();
+    tableIds = new IdentityHashMap<>();
+    tables = new ArrayList<>();
+    tableColumnIndexes = new IdentityHashMap<>();
+    routineIds = new IdentityHashMap<>();
+    partialTableIds = new HashMap<>();
+    partialTables = new ArrayList<>();
+    sections = new ArrayList<>();
+  }
+
+  /**
+   * Writes the catalog to the output stream. The stream is not closed.
+   *
+   * @param out Output stream
+   * @throws IOException On an exception writing the stream
+   */
+  public void write(final OutputStream out) throws IOException {
+    requireNonNull(out, "No output stream provided");
+
+    // Number all schemas, tables and routines up-front, since objects can refer to objects in
+    // other schemas
+    for (final Schema schema : catalog.getSchemas()) {
+      schemaId(schema);
+    }
+    final int catalogSchemaCount = schemas.size();
+    final Map<Integer, List<Table>> tablesBySchema = new LinkedHashMap<>();
+    for (final Table table : catalog.getTables()) {
+      tablesBySchema.computeIfAbsent(schemaId(table.getSchema()), k -> new ArrayList<>());
+    }
+    for (final Entry<Integer, List<Table>> schemaTables : tablesBySchema.entrySet()) {
+      schemaTables.getValue().addAll(catalog.getTables(schemas.get(schemaTables.getKey())));
+      for (final Table table : schemaTables.getValue()) {
+        tableIds.put(table, tables.size());
+        tables.add(table);
+      }
+    }
+    final Map<Integer, List<Routine>> routinesBySchema = new LinkedHashMap<>();
+    for (final Routine routine : catalog.getRoutines()) {
+      routinesBySchema
+          .computeIfAbsent(schemaId(routine.getSchema()), k -> new ArrayList<>())
+          .add(routine);
+      routineIds.put(routine, routineIds.size());
+    }
+    for (final ColumnDataType columnDataType : catalog.getColumnDataTypes()) {
+      columnDataTypeId(columnDataType);
+    }
+    final int catalogColumnDataTypeCount = columnDataTypes.size();
+
+    for (final Entry<Integer, List<Table>> schemaTables : tablesBySchema.entrySet()) {
+      writeTables(schemaTables.getKey(), schemaTables.getValue());
+    }
+    for (final Entry<Integer, List<Routine>> schemaRoutines : routinesBySchema.entrySet()) {
+      writeRoutines(schemaRoutines.getKey(), schemaRoutines.getValue());
+    }
+    writeSequences();
+    writeSynonyms();
+    writeForeignKeys();
+    // Data types and schemas are written last, since they can be discovered while writing other
+    // sections
+    writeColumnDataTypes(catalogColumnDataTypeCount);
+    writeSchemas(catalogSchemaCount);
+    writeCatalog();
+    writeStrings();
+
+    // Lay out the header and section index, with the string table first
+    sections.sort(comparing(section -> section.sectionType));
+    long offset = HEADER_SIZE + (long) sections.size() * SECTION_INDEX_ENTRY_SIZE;
+    final ByteBuffer header = ByteBuffer.allocate((int) offset);
+    header.putInt(MAGIC).putInt(VERSION).putInt(sections.size());
+    for (final SectionOutput section : sections) {
+      final int length = section.bytes.size();
+      header
+          .putInt(section.sectionType.ordinal())
+          .putInt(section.schemaId)
+          .putLong(offset)
+          .putInt(length);
+      offset = offset + length;
+    }
+    // Offsets are read back as ints, so that the catalog can be read from a single buffer
+    if (offset > Integer.MAX_VALUE) {
+      throw new IOException(
+          String.format(
+              "Cannot write binary catalog of <%d> bytes, since it must be smaller than 2 GB",
+              offset));
+    }
+    out.write(header.array());
+    for (final SectionOutput section : sections) {
+      section.bytes.writeTo(out);
+    }
+    out.flush();
+  }
+
+  private int columnDataTypeId(final ColumnDataType columnDataType) {
+    if (columnDataType == null) {
+      return -1;
+    }
+    return columnDataTypeIds.computeIfAbsent(
+        columnDataType,
+        k -> {
+          columnDataTypes.add(columnDataType);
+          return columnDataTypes.size() - 1;
+        });
+  }
+
+  /**
+   * Column index in the table, with hidden columns numbered after regular columns, or -1 if the
+   * column is not one of the table's columns.
+   */
+  private int columnIndex(final Table table, final Column column) {
+    final Map<String, Integer> columnIndexes =
+        tableColumnIndexes.computeIfAbsent(
+            table,
+            k -> {
+              final Map<String, Integer> indexes = new HashMap<>();
+              for (final Column tableColumn : table.getColumns()) {
+                indexes.putIfAbsent(tableColumn.getName(), indexes.size());
+              }
+              for (final Column tableColumn : table.getHiddenColumns()) {
+                indexes.putIfAbsent(tableColumn.getName(), indexes.size());
+              }
+              return indexes;
+            });
+    return columnIndexes.getOrDefault(column.getName(), -1);
+  }
+
+  private SectionOutput newSection(final SectionType sectionType, final int schemaId) {
+    final SectionOutput section = new SectionOutput(sectionType, schemaId);
+    sections.add(section);
+    return section;
+  }
+
+  private int schemaId(final Schema schema) {
+    return schemaIds.computeIfAbsent(
+        schema,
+        k -> {
+          schemas.add(schema);
+          return schemas.size() - 1;
+        });
+  }
+
+  private int stringId(final String value) {
+    return stringIds.computeIfAbsent(
+        value,
+        k -> {
+          strings.add(value);
+          return strings.size() - 1;
+        });
+  }
+
+  private void writeBaseColumn(final SectionOutput out, final BaseColumn<?> column) {
+    out.writeString(column.getName());
+    out.writeInt(columnDataTypeId(column.getColumnDataType()));
+    out.writeInt(column.getSize());
+    out.writeInt(column.getDecimalDigits());
+    out.writeBoolean(column.isNullable());
+    out.writeInt(column.getOrdinalPosition());
+  }
+
+  private void writeCatalog() throws IOException {
+    final SectionOutput out = newSection(SectionType.catalog, NO_SCHEMA);
+    out.writeString(catalog.getName());
+
+    final DatabaseInfo databaseInfo = catalog.getDatabaseInfo();
+    out.writeString(databaseInfo.getProductName());
+    out.writeString(databaseInfo.getProductVersion());
+    out.writeString(databaseInfo.getUserName());
+    final Collection<Property> serverInfo = databaseInfo.getServerInfo();
+    out.writeInt(serverInfo.size());
+    for (final Property property : serverInfo) {
+      out.writeString(property.getName());
+      out.writeValue(property.getValue());
+      out.writeString(property.getDescription());
+    }
+    final Collection<DatabaseProperty> databaseProperties = databaseInfo.getProperties();
+    out.writeInt(databaseProperties.size());
+    for (final DatabaseProperty property : databaseProperties) {
+      out.writeString(property.getName());
+      out.writeValue(property.getValue());
+    }
+
+    final JdbcDriverInfo jdbcDriverInfo = catalog.getJdbcDriverInfo();
+    out.writeString(jdbcDriverInfo.getProductName());
+    out.writeString(jdbcDriverInfo.getDriverClassName());
+    out.writeString(jdbcDriverInfo.getProductVersion());
+    out.writeInt(jdbcDriverInfo.getDriverMajorVersion());
+    out.writeInt(jdbcDriverInfo.getDriverMinorVersion());
+    out.writeInt(jdbcDriverInfo.getJdbcMajorVersion());
+    out.writeInt(jdbcDriverInfo.getJdbcMinorVersion());
+    out.writeBoolean(jdbcDriverInfo.isJdbcCompliant());
+    out.writeString(jdbcDriverInfo.getConnectionUrl());
+    final Collection<JdbcDriverProperty> driverProperties = jdbcDriverInfo.getDriverProperties();
+    out.writeInt(driverProperties.size());
+    for (final JdbcDriverProperty property : driverProperties) {
+      out.writeString(property.getName());
+      out.writeString(property.getValue());
+      out.writeString(property.getDescription());
+      out.writeBoolean(property.isRequired());
+      out.writeStrings(property.getChoices());
+    }
+
+    final CrawlInfo crawlInfo = catalog.getCrawlInfo();
+    writeProductVersion(out, crawlInfo.getSchemaCrawlerVersion());
+    writeProductVersion(out, crawlInfo.getOperatingSystemVersion());
+    writeProductVersion(out, crawlInfo.getJvmVersion());
+    writeProductVersion(out, crawlInfo.getDatabaseVersion());
+    writeProductVersion(out, crawlInfo.getJdbcDriverVersion());
+    out.writeLong(crawlInfo.getCrawlTimestampInstant().getEpochSecond());
+    out.writeInt(crawlInfo.getCrawlTimestampInstant().getNano());
+    out.writeString(crawlInfo.getRunId());
+    final List<TaskMetrics> retrievalMetrics = crawlInfo.getRetrievalMetrics();
+    out.writeInt(retrievalMetrics.size());
+    for (final TaskMetrics metrics : retrievalMetrics) {
+      out.writeString(metrics.getTaskName());
+      out.writeLong(metrics.getDuration().toNanos());
+      out.writeLong(metrics.getRows());
+      out.writeLong(metrics.getRoundTrips());
+      out.writeLong(metrics.getConnections());
+      out.writeLong(metrics.getLobCharacters());
+      out.writeLong(metrics.getObjects());
+    }
+
+    final Collection<DatabaseUser> databaseUsers = catalog.getDatabaseUsers();
+    out.writeInt(databaseUsers.size());
+    for (final DatabaseUser databaseUser : databaseUsers) {
+      out.writeString(databaseUser.getName());
+      out.writeAttributes(databaseUser);
+    }
+
+    out.writeAttributes(catalog);
+  }
+
+  /** Writes a reference to a column in the catalog, or in a partial table. */
+  private void writeColumnReference(final SectionOutput out, final Column column) {
+    final Table table = column.getParent();
+    final Integer tableId = tableIds.get(table);
+    final int columnIndex;
+    if (tableId != null && (columnIndex = columnIndex(table, column)) != -1) {
+      out.writeInt(tableId);
+      out.writeInt(columnIndex);
+    } else {
+      final NamedObjectKey tableKey = table.key();
+      final int partialTableId =
+          partialTableIds.computeIfAbsent(
+              tableKey,
+              k -> {
+                partialTables.add(new PartialTable(schemaId(table.getSchema()), table.getName()));
+                return partialTables.size() - 1;
+              });
+      out.writeInt(-(partialTableId + 1));
+      out.writeInt(partialTables.get(partialTableId).columnIndex(column.getName()));
+    }
+  }
+
+  private void writeColumnDataTypes(final int catalogColumnDataTypeCount) throws IOException {
+    final SectionOutput out = newSection(SectionType.column_data_types, NO_SCHEMA);
+    // Base types can add more data types while looping
+    final SectionOutput body = new SectionOutput(SectionType.column_data_types, NO_SCHEMA);
+    for (int i = 0; i < columnDataTypes.size(); i++) {
+      final ColumnDataType columnDataType = columnDataTypes.get(i);
+      body.writeInt(schemaId(columnDataType.getSchema()));
+      body.writeString(columnDataType.getName());
+      body.writeEnum(columnDataType.getType());
+      body.writeInt(columnDataType.getJavaSqlType().getVendorTypeNumber());
+      body.writeString(columnDataType.getTypeMappedClass().getName());
+      body.writeInt(columnDataTypeId(columnDataType.getBaseType()));
+      body.writeBoolean(columnDataType.isAutoIncrementable());
+      body.writeBoolean(columnDataType.isCaseSensitive());
+      body.writeString(columnDataType.getCreateParameters());
+      body.writeBoolean(columnDataType.isFixedPrecisionScale());
+      body.writeString(columnDataType.getLiteralPrefix());
+      body.writeString(columnDataType.getLiteralSuffix());
+      body.writeString(columnDataType.getLocalTypeName());
+      body.writeInt(columnDataType.getMaximumScale());
+      body.writeInt(columnDataType.getMinimumScale());
+      body.writeBoolean(columnDataType.isNullable());
+      body.writeInt(columnDataType.getNumPrecisionRadix());
+      body.writeLong(columnDataType.getPrecision());
+      body.writeEnum(columnDataType.getSearchable());
+      body.writeBoolean(columnDataType.isUnsigned());
+      body.writeStrings(columnDataType.getEnumValues());
+      body.writeAttributes(columnDataType);
+    }
+    out.writeInt(columnDataTypes.size());
+    out.writeInt(catalogColumnDataTypeCount);
+    body.bytes.writeTo(out.bytes);
+  }
+
+  private void writeConstraintColumns(
+      final SectionOutput out, final Table table, final TableConstraint tableConstraint) {
+    final List<TableConstraintColumn> columns = tableConstraint.getConstrainedColumns();
+    out.writeInt(columns.size());
+    for (final TableConstraintColumn column : columns) {
+      writeLocalColumnReference(out, table, column);
+      out.writeInt(column.getTableConstraintOrdinalPosition());
+    }
+  }
+
+  private void writeForeignKeys() throws IOException {
+    final Set<ForeignKey> foreignKeys = Collections.newSetFromMap(new LinkedHashMap<>());
+    final Set<WeakAssociation> weakAssociations = Collections.newSetFromMap(new LinkedHashMap<>());
+    final List<Column> referencingColumns = new ArrayList<>();
+    for (final Table table : tables) {
+      foreignKeys.addAll(table.getForeignKeys());
+      weakAssociations.addAll(table.getWeakAssociations());
+      for (final Column column : table.getColumns()) {
+        if (column.getReferencedColumn() != null) {
+          referencingColumns.add(column);
+        }
+      }
+    }
+    // Partial columns in foreign keys also refer to primary key columns
+    for (final ForeignKey foreignKey : foreignKeys) {
+      for (final ColumnReference columnReference : foreignKey) {
+        final Column column = columnReference.getForeignKeyColumn();
+        if (!tableIds.containsKey(column.getParent()) && column.getReferencedColumn() != null) {
+          referencingColumns.add(column);
+        }
+      }
+    }
+
+    // Partial tables are discovered while writing column references, so buffer the body
+    final SectionOutput out = newSection(SectionType.foreign_keys, NO_SCHEMA);
+    final SectionOutput body = new SectionOutput(SectionType.foreign_keys, NO_SCHEMA);
+
+    body.writeInt(foreignKeys.size());
+    for (final ForeignKey foreignKey : foreignKeys) {
+      writeTableReference(body, foreignKey);
+      body.writeEnum(foreignKey.getUpdateRule());
+      body.writeEnum(foreignKey.getDeleteRule());
+      body.writeEnum(foreignKey.getDeferrability());
+      body.writeString(foreignKey.getDefinition());
+      final Table foreignKeyTable = foreignKey.getForeignKeyTable();
+      body.writeBoolean(
+          tableIds.containsKey(foreignKeyTable)
+              && foreignKeyTable.getTableConstraints().contains(foreignKey));
+    }
+
+    body.writeInt(weakAssociations.size());
+    for (final WeakAssociation weakAssociation : weakAssociations) {
+      writeTableReference(body, weakAssociation);
+    }
+
+    body.writeInt(referencingColumns.size());
+    for (final Column column : referencingColumns) {
+      writeColumnReference(body, column);
+      writeColumnReference(body, column.getReferencedColumn());
+    }
+
+    out.writeInt(partialTables.size());
+    for (final PartialTable partialTable : partialTables) {
+      out.writeInt(partialTable.schemaId);
+      out.writeString(partialTable.name);
+      out.writeStrings(partialTable.columnNames);
+    }
+    body.bytes.writeTo(out.bytes);
+  }
+
+  /** Writes a reference to a column of the given table, or the name of a partial column. */
+  private void writeLocalColumnReference(
+      final SectionOutput out, final Table table, final Column column) {
+    final int columnIndex = columnIndex(table, column);
+    out.writeInt(columnIndex);
+    if (columnIndex == -1) {
+      out.writeString(column.getName());
+    }
+  }
+
+  private void writePrivileges(
+      final SectionOutput out, final Collection<? extends Privilege<?>> privileges)
+      throws IOException {
+    out.writeInt(privileges.size());
+    for (final Privilege<?> privilege : privileges) {
+      out.writeString(privilege.getName());
+      out.writeAttributes(privilege);
+      final Collection<? extends Grant<?>> grants = privilege.getGrants();
+      out.writeInt(grants.size());
+      for (final Grant<?> grant : grants) {
+        out.writeString(grant.getGrantor());
+        out.writeString(grant.getGrantee());
+        out.writeBoolean(grant.isGrantable());
+      }
+    }
+  }
+
+  private void writeProductVersion(final SectionOutput out, final ProductVersion productVersion) {
+    out.writeString(productVersion.getProductName());
+    out.writeString(productVersion.getProductVersion());
+  }
+
+  private void writeRoutines(final int schemaId, final List<Routine> routines)
+      throws IOException {
+    final SectionOutput section = newSection(SectionType.routines, schemaId);
+    section.writeInt(routineIds.get(routines.get(0)));
+    section.writeInt(routines.size());
+    for (final Routine routine : routines) {
+      final SectionOutput out = new SectionOutput(SectionType.routines, schemaId);
+      out.writeBoolean(routine instanceof Function);
+      out.writeString(routine.getName());
+      out.writeString(routine.getSpecificName());
+      out.writeEnum((Enum<?>) routine.getReturnType());
+      out.writeEnum(routine.getRoutineBodyType());
+      out.writeString(routine.getDefinition());
+      out.writeAttributes(routine);
+      final List<? extends RoutineParameter<? extends Routine>> parameters =
+          routine.getParameters();
+      out.writeInt(parameters.size());
+      for (final RoutineParameter<? extends Routine> parameter : parameters) {
+        writeBaseColumn(out, parameter);
+        out.writeEnum(parameter.getParameterMode());
+        out.writeInt(parameter.getPrecision());
+        out.writeAttributes(parameter);
+      }
+      section.writeBytes(out.bytes.toByteArray());
+    }
+  }
+
+  private void writeSchemas(final int catalogSchemaCount) throws IOException {
+    final SectionOutput out = newSection(SectionType.schemas, NO_SCHEMA);
+    out.writeInt(schemas.size());
+    out.writeInt(catalogSchemaCount);
+    for (final Schema schema : schemas) {
+      out.writeString(schema.getCatalogName());
+      out.writeString(schema.getName());
+      out.writeAttributes(schema);
+    }
+    out.writeInt(tables.size());
+    out.writeInt(routineIds.size());
+  }
+
+  private void writeSequences() throws IOException {
+    final Map<Integer, SectionOutput> sectionsBySchema = new HashMap<>();
+    for (final Sequence sequence : catalog.getSequences()) {
+      final SectionOutput out =
+          sectionsBySchema.computeIfAbsent(
+              schemaId(sequence.getSchema()), k -> newSection(SectionType.sequences, k));
+      out.writeString(sequence.getName());
+      out.writeLong(sequence.getIncrement());
+      out.writeBigInteger(sequence.getMinimumValue());
+      out.writeBigInteger(sequence.getMaximumValue());
+      out.writeBigInteger(sequence.getStartValue());
+      out.writeBoolean(sequence.isCycle());
+      out.writeAttributes(sequence);
+    }
+  }
+
+  private void writeStrings() {
+    final SectionOutput out = newSection(SectionType.strings, NO_SCHEMA);
+    out.writeInt(strings.size());
+    for (final String string : strings) {
+      out.writeBytes(string.getBytes(UTF_8));
+    }
+  }
+
+  private void writeSynonyms() throws IOException {
+    final Map<Integer, SectionOutput> sectionsBySchema = new HashMap<>();
+    for (final Synonym synonym : catalog.getSynonyms()) {
+      final SectionOutput out =
+          sectionsBySchema.computeIfAbsent(
+              schemaId(synonym.getSchema()), k -> newSection(SectionType.synonyms, k));
+      out.writeString(synonym.getName());
+      out.writeAttributes(synonym);
+      final DatabaseObject referencedObject = synonym.getReferencedObject();
+      if (tableIds.containsKey(referencedObject)) {
+        out.writeInt(TABLE_REFERENCE);
+        out.writeInt(tableIds.get(referencedObject));
+      } else if (routineIds.containsKey(referencedObject)) {
+        out.writeInt(ROUTINE_REFERENCE);
+        out.writeInt(routineIds.get(referencedObject));
+      } else {
+        out.writeInt(UNKNOWN_REFERENCE);
+        out.writeInt(schemaId(referencedObject.getSchema()));
+        out.writeString(referencedObject.getName());
+      }
+    }
+  }
+
+  private void writeTableReference(final SectionOutput out, final TableReference tableReference)
+      throws IOException {
+    out.writeString(tableReference.getName());
+    final List<ColumnReference> columnReferences = tableReference.getColumnReferences();
+    out.writeInt(columnReferences.size());
+    for (final ColumnReference columnReference : columnReferences) {
+      out.writeInt(columnReference.getKeySequence());
+      writeColumnReference(out, columnReference.getForeignKeyColumn());
+      writeColumnReference(out, columnReference.getPrimaryKeyColumn());
+    }
+    out.writeAttributes(tableReference);
+  }
+
+  private void writeTables(final int schemaId, final List<Table> tables) throws IOException {
+    final SectionOutput section = newSection(SectionType.tables, schemaId);
+    section.writeInt(tableIds.get(tables.get(0)));
+    section.writeInt(tables.size());
+    for (final Table table : tables) {
+      // Each table is length-prefixed, so that a reader can skip over it
+      final SectionOutput out = new SectionOutput(SectionType.tables, schemaId);
+      out.writeBoolean(table instanceof View);
+      out.writeString(table.getName());
+      out.writeString(table.getTableType().getTableType());
+      out.writeInt(table instanceof MutableTable ? ((MutableTable) table).getSortIndex() : 0);
+      out.writeString(table.getDefinition());
+      out.writeAttributes(table);
+
+      final List<Column> columns = table.getColumns();
+      out.writeInt(columns.size());
+      for (final Column column : columns) {
+        writeTableColumn(out, column);
+      }
+      final Collection<Column> hiddenColumns = table.getHiddenColumns();
+      out.writeInt(hiddenColumns.size());
+      for (final Column column : hiddenColumns) {
+        writeTableColumn(out, column);
+      }
+
+      final PrimaryKey primaryKey = table.getPrimaryKey();
+      out.writeBoolean(primaryKey != null);
+      if (primaryKey != null) {
+        writeTableKey(out, table, primaryKey);
+      }
+      final Collection<PrimaryKey> alternateKeys = table.getAlternateKeys();
+      out.writeInt(alternateKeys.size());
+      for (final PrimaryKey alternateKey : alternateKeys) {
+        writeTableKey(out, table, alternateKey);
+      }
+
+      final Collection<Index> indexes = table.getIndexes();
+      out.writeInt(indexes.size());
+      for (final Index index : indexes) {
+        out.writeString(index.getName());
+        out.writeBoolean(index.isUnique());
+        out.writeEnum(index.getIndexType());
+        out.writeLong(index.getCardinality());
+        out.writeLong(index.getPages());
+        out.writeString(index.getDefinition());
+        out.writeAttributes(index);
+        final List<IndexColumn> indexColumns = index.getColumns();
+        out.writeInt(indexColumns.size());
+        for (final IndexColumn indexColumn : indexColumns) {
+          writeLocalColumnReference(out, table, indexColumn);
+          out.writeInt(indexColumn.getIndexOrdinalPosition());
+          out.writeEnum(indexColumn.getSortSequence());
+        }
+      }
+
+      final Collection<Trigger> triggers = table.getTriggers();
+      out.writeInt(triggers.size());
+      for (final Trigger trigger : triggers) {
+        out.writeString(trigger.getName());
+        out.writeString(trigger.getActionCondition());
+        out.writeInt(trigger.getActionOrder());
+        out.writeEnum(trigger.getActionOrientation());
+        out.writeString(trigger.getActionStatement());
+        out.writeEnum(trigger.getConditionTiming());
+        out.writeEnum(trigger.getEventManipulationType());
+        out.writeAttributes(trigger);
+      }
+
+      writePrivileges(out, table.getPrivileges());
+
+      // Foreign keys are written with the foreign keys section
+      final List<TableConstraint> tableConstraints = new ArrayList<>();
+      for (final TableConstraint tableConstraint : table.getTableConstraints()) {
+        if (!(tableConstraint instanceof TableReference)) {
+          tableConstraints.add(tableConstraint);
+        }
+      }
+      out.writeInt(tableConstraints.size());
+      for (final TableConstraint tableConstraint : tableConstraints) {
+        if (tableConstraint == primaryKey) {
+          out.writeInt(PRIMARY_KEY_CONSTRAINT);
+          continue;
+        }
+        out.writeInt(TABLE_CONSTRAINT);
+        out.writeString(tableConstraint.getName());
+        out.writeEnum(tableConstraint.getType());
+        out.writeBoolean(tableConstraint.isDeferrable());
+        out.writeBoolean(tableConstraint.isInitiallyDeferred());
+        out.writeString(tableConstraint.getDefinition());
+        out.writeAttributes(tableConstraint);
+        writeConstraintColumns(out, table, tableConstraint);
+      }
+
+      if (table instanceof View) {
+        final View view = (View) table;
+        out.writeEnum(view.getCheckOption());
+        out.writeBoolean(view.isUpdatable());
+        final List<Integer> tableUsage = new ArrayList<>();
+        for (final Table usedTable : view.getTableUsage()) {
+          final Integer tableId = tableIds.get(usedTable);
+          if (tableId != null) {
+            tableUsage.add(tableId);
+          }
+        }
+        out.writeInt(tableUsage.size());
+        for (final int tableId : tableUsage) {
+          out.writeInt(tableId);
+        }
+      }
+      section.writeBytes(out.bytes.toByteArray());
+    }
+  }
+
+  private void writeTableColumn(final SectionOutput out, final Column column) throws IOException {
+    writeBaseColumn(out, column);
+    out.writeString(column.getDefaultValue());
+    out.writeBoolean(column.isAutoIncremented());
+    out.writeBoolean(column.isGenerated());
+    out.writeBoolean(column.isHidden());
+    out.writeBoolean(column.isPartOfIndex());
+    out.writeBoolean(column.isPartOfPrimaryKey());
+    out.writeBoolean(column.isPartOfUniqueIndex());
+    out.writeAttributes(column);
+    writePrivileges(out, column.getPrivileges());
+  }
+
+  private void writeTableKey(final SectionOutput out, final Table table, final PrimaryKey key)
+      throws IOException {
+    out.writeString(key.getName());
+    out.writeBoolean(key.isDeferrable());
+    out.writeBoolean(key.isInitiallyDeferred());
+    out.writeString(key.getDefinition());
+    out.writeAttributes(key);
+    writeConstraintColumns(out, table, key);
+  }
+}
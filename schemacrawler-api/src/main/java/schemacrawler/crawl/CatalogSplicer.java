@@ -0,0 +1,281 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.TableReference;
+import schemacrawler.schema.View;
+import schemacrawler.schema.WeakAssociation;
+import schemacrawler.schemacrawler.exceptions.IORuntimeException;
+import schemacrawler.schemacrawler.exceptions.InternalRuntimeException;
+import schemacrawler.utility.CatalogModelInputStream;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Works out which tables changed since an earlier crawl, and splices the tables that did not
+ * change into the catalog from an incremental crawl of just the changed tables.
+ */
+final class CatalogSplicer {
+
+  private static final Logger LOGGER = Logger.getLogger(CatalogSplicer.class.getName());
+
+  /** Allows for clock differences between the database server and the earlier crawl. */
+  private static final Duration CHANGE_MARGIN = Duration.ofMinutes(5);
+
+  private final MutableCatalog previousCatalog;
+  private final Map<NamedObjectKey, MutableTable> changedTables;
+  private final Set<NamedObjectKey> staleTables;
+
+  /**
+   * Works out which tables changed since an earlier crawl.
+   *
+   * @param previousCatalog Catalog from an earlier crawl
+   * @param tableChanges All tables that currently exist in the database, with the time that they
+   *     were last changed
+   */
+  CatalogSplicer(
+      final MutableCatalog previousCatalog, final Map<MutableTable, Instant> tableChanges) {
+    this.previousCatalog = requireNonNull(previousCatalog, "No previous catalog provided");
+    requireNonNull(tableChanges, "No table changes provided");
+
+    final Instant changedSince =
+        previousCatalog.getCrawlInfo().getCrawlTimestampInstant().minus(CHANGE_MARGIN);
+
+    final Map<NamedObjectKey, MutableTable> currentTables = new HashMap<>();
+    changedTables = new HashMap<>();
+    for (final Entry<MutableTable, Instant> tableChange : tableChanges.entrySet()) {
+      final MutableTable table = tableChange.getKey();
+      final Instant changedAt = tableChange.getValue();
+      final NamedObjectKey key = table.key();
+      currentTables.put(key, table);
+      if (changedAt == null
+          || !changedAt.isBefore(changedSince)
+          || !previousCatalog.lookupTable(key).isPresent()) {
+        changedTables.put(key, table);
+      }
+    }
+
+    // Tables that changed or were dropped cannot be reused from the previous catalog
+    staleTables = new HashSet<>(changedTables.keySet());
+    for (final MutableTable table : previousCatalog.getAllTables()) {
+      if (!currentTables.containsKey(table.key())) {
+        staleTables.add(table.key());
+      }
+    }
+
+    // Views need to be retrieved again if any of the tables that they use changed, and this can
+    // cascade to views that use those views
+    boolean foundChangedView;
+    do {
+      foundChangedView = false;
+      for (final MutableTable table : previousCatalog.getAllTables()) {
+        final NamedObjectKey key = table.key();
+        if (!(table instanceof View) || staleTables.contains(key)) {
+          continue;
+        }
+        for (final Table usedTable : ((View) table).getTableUsage()) {
+          if (staleTables.contains(usedTable.key())) {
+            changedTables.put(key, currentTables.get(key));
+            staleTables.add(key);
+            foundChangedView = true;
+            break;
+          }
+        }
+      }
+    } while (foundChangedView);
+  }
+
+  /**
+   * Tables that need to be retrieved again, since they are new or changed since the earlier crawl.
+   * These tables are not from any catalog, and only have names.
+   *
+   * @return Changed tables
+   */
+  Collection<MutableTable> getChangedTables() {
+    return new ArrayList<>(changedTables.values());
+  }
+
+  /**
+   * Adds tables that did not change from the previous catalog to the catalog from the incremental
+   * crawl. Relationships between unchanged tables and changed or dropped tables are removed, so
+   * relationships for changed tables need to be retrieved again after splicing. The unchanged
+   * tables are copied before they are spliced, so the previous catalog is not modified, and columns
+   * of the copies use the column data types from the catalog.
+   *
+   * @param catalog Catalog from the incremental crawl
+   */
+  @SuppressWarnings("unchecked")
+  void splice(final MutableCatalog catalog) {
+    requireNonNull(catalog, "No catalog provided");
+
+    // Unchanged tables may use user-defined data types that were not retrieved again
+    final List<MutableColumnDataType> columnDataTypes = new ArrayList<>();
+    for (final ColumnDataType columnDataType : previousCatalog.getColumnDataTypes()) {
+      if (!catalog
+          .lookupColumnDataType(columnDataType.getSchema(), columnDataType.getName())
+          .isPresent()) {
+        columnDataTypes.add((MutableColumnDataType) columnDataType);
+      }
+    }
+
+    final List<MutableTable> unchangedTables = new ArrayList<>();
+    final Set<NamedObjectKey> unchangedTableKeys = new HashSet<>();
+    for (final MutableTable table : previousCatalog.getAllTables()) {
+      final NamedObjectKey key = table.key();
+      if (!staleTables.contains(key) && !catalog.lookupTable(key).isPresent()) {
+        unchangedTables.add(table);
+        unchangedTableKeys.add(key);
+      }
+    }
+
+    // The copies refer to copies of all the objects that they use, so they are linked back to the
+    // objects in the catalog
+    final Object[] copies = copy(new Object[] {columnDataTypes, unchangedTables});
+    final List<MutableColumnDataType> copiedColumnDataTypes =
+        (List<MutableColumnDataType>) copies[0];
+    for (final MutableColumnDataType columnDataType : copiedColumnDataTypes) {
+      catalog.addColumnDataType(columnDataType);
+    }
+    for (final MutableColumnDataType columnDataType : copiedColumnDataTypes) {
+      final ColumnDataType baseType = columnDataType.getBaseType();
+      if (baseType != null) {
+        columnDataType.setBaseType(lookupColumnDataType(catalog, baseType));
+      }
+    }
+    for (final MutableTable table : (List<MutableTable>) copies[1]) {
+      removeStaleReferences(table, unchangedTableKeys);
+      for (final MutableColumn column : table.getAllColumns()) {
+        final ColumnDataType columnDataType = column.getColumnDataType();
+        if (columnDataType != null) {
+          column.setColumnDataType(lookupColumnDataType(catalog, columnDataType));
+        }
+      }
+      catalog.addTable(table);
+    }
+
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Reused %d unchanged tables from the previous catalog", unchangedTables.size()));
+  }
+
+  /**
+   * Makes a deep copy of schema objects from the previous catalog, using Java serialization. Since
+   * the objects are copied together, references between them are kept.
+   */
+  private Object[] copy(final Object[] objects) {
+    try {
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+        out.writeObject(objects);
+      }
+      try (final ObjectInputStream in =
+          new CatalogModelInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+        return (Object[]) in.readObject();
+      }
+    } catch (final IOException e) {
+      throw new IORuntimeException("Could not copy tables from the previous catalog", e);
+    } catch (final ClassNotFoundException e) {
+      throw new InternalRuntimeException("Could not copy tables from the previous catalog", e);
+    }
+  }
+
+  private boolean isStale(
+      final TableReference tableReference, final Set<NamedObjectKey> unchangedTableKeys) {
+    return !unchangedTableKeys.contains(tableReference.getForeignKeyTable().key())
+        || !unchangedTableKeys.contains(tableReference.getPrimaryKeyTable().key());
+  }
+
+  private ColumnDataType lookupColumnDataType(
+      final MutableCatalog catalog, final ColumnDataType columnDataType) {
+    final Optional<MutableColumnDataType> catalogColumnDataType =
+        catalog.lookupColumnDataType(columnDataType.getSchema(), columnDataType.getName());
+    if (catalogColumnDataType.isPresent()) {
+      return catalogColumnDataType.get();
+    }
+    return columnDataType;
+  }
+
+  /**
+   * Removes relationships to tables that were not copied, since the copies of those tables are not
+   * in the catalog.
+   */
+  private void removeStaleReferences(
+      final MutableTable table, final Set<NamedObjectKey> unchangedTableKeys) {
+    for (final ForeignKey foreignKey : table.getForeignKeys()) {
+      if (!isStale(foreignKey, unchangedTableKeys)) {
+        continue;
+      }
+      table.removeForeignKey((MutableForeignKey) foreignKey);
+      final Optional<TableConstraint> tableConstraint =
+          table.lookupTableConstraint(foreignKey.getName());
+      if (tableConstraint.isPresent() && tableConstraint.get() == foreignKey) {
+        table.removeTableConstraint(foreignKey);
+      }
+    }
+
+    for (final WeakAssociation weakAssociation : table.getWeakAssociations()) {
+      if (isStale(weakAssociation, unchangedTableKeys)) {
+        table.removeWeakAssociation((MutableWeakAssociation) weakAssociation);
+      }
+    }
+
+    for (final MutableColumn column : table.getAllColumns()) {
+      final Column referencedColumn = column.getReferencedColumn();
+      if (referencedColumn != null
+          && !unchangedTableKeys.contains(referencedColumn.getParent().key())) {
+        column.setReferencedColumn(null);
+      }
+    }
+  }
+}
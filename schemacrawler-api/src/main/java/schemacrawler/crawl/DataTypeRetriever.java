@@ -47,7 +47,7 @@ import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaReference;
-import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import us.fatehi.utility.scheduler.TaskMetrics;
 import us.fatehi.utility.string.StringFormat;
 
 final class DataTypeRetriever extends AbstractRetriever {
@@ -149,20 +149,19 @@ final class DataTypeRetriever extends AbstractRetriever {
     columnDataType.addAttributes(results.getAttributes());
 
     catalog.addColumnDataType(columnDataType);
+    TaskMetrics.recordObjects(1);
   }
 
   private void retrieveSystemColumnDataTypesFromDataDictionary(final Schema systemSchema)
       throws SQLException {
     final InformationSchemaViews informationSchemaViews =
         getRetrieverConnection().getInformationSchemaViews();
-    if (!informationSchemaViews.hasQuery(TYPE_INFO)) {
-      throw new ExecutionRuntimeException("No system column data types SQL provided");
-    }
     final Query typeInfoSql = informationSchemaViews.getQuery(TYPE_INFO);
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(typeInfoSql, statement, getLimitMap()); ) {
+            new MetadataResultSet(
+                typeInfoSql, statement, getLimitMap(), getFetchSizes(), getStringPool()); ) {
       int numSystemColumnDataTypes = 0;
       while (results.next()) {
         numSystemColumnDataTypes = numSystemColumnDataTypes + 1;
@@ -179,7 +178,10 @@ final class DataTypeRetriever extends AbstractRetriever {
     try (final Connection connection = getRetrieverConnection().getConnection();
         final MetadataResultSet results =
             new MetadataResultSet(
-                connection.getMetaData().getTypeInfo(), "DatabaseMetaData::getTypeInfo"); ) {
+                connection.getMetaData().getTypeInfo(),
+                "DatabaseMetaData::getTypeInfo",
+                getFetchSizes(),
+                getStringPool()); ) {
       int numSystemColumnDataTypes = 0;
       while (results.next()) {
         numSystemColumnDataTypes = numSystemColumnDataTypes + 1;
@@ -216,7 +218,9 @@ final class DataTypeRetriever extends AbstractRetriever {
         final MetadataResultSet results =
             new MetadataResultSet(
                 connection.getMetaData().getUDTs(catalogName, schemaName, null, null),
-                "DatabaseMetaData::getUDTs"); ) {
+                "DatabaseMetaData::getUDTs",
+                getFetchSizes(),
+                getStringPool()); ) {
       while (results.next()) {
         // "TYPE_CAT", "TYPE_SCHEM"
         final String typeName = results.getString("TYPE_NAME");
@@ -242,6 +246,7 @@ final class DataTypeRetriever extends AbstractRetriever {
         columnDataType.addAttributes(results.getAttributes());
 
         catalog.addColumnDataType(columnDataType);
+        TaskMetrics.recordObjects(1);
       }
     } catch (final SQLException e) {
       logPossiblyUnsupportedSQLFeature(
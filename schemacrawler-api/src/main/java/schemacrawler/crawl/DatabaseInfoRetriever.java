@@ -56,6 +56,7 @@ import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import us.fatehi.utility.database.DatabaseUtility;
+import us.fatehi.utility.scheduler.TaskMetrics;
 import us.fatehi.utility.string.StringFormat;
 
 final class DatabaseInfoRetriever extends AbstractRetriever {
@@ -235,7 +236,8 @@ final class DatabaseInfoRetriever extends AbstractRetriever {
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(databaseUsersSql, statement, new HashMap<>()); ) {
+            new MetadataResultSet(
+                databaseUsersSql, statement, new HashMap<>(), getFetchSizes(), getStringPool()); ) {
       while (results.next()) {
         final String username = results.getString("USERNAME");
         if (isBlank(username)) {
@@ -246,6 +248,7 @@ final class DatabaseInfoRetriever extends AbstractRetriever {
         final ImmutableDatabaseUser databaseUser = new ImmutableDatabaseUser(username);
         databaseUser.addAttributes(results.getAttributes());
         catalog.addDatabaseUser(databaseUser);
+        TaskMetrics.recordObjects(1);
       }
     } catch (final Exception e) {
       LOGGER.log(Level.WARNING, "Could not retrieve database users", e);
@@ -270,7 +273,8 @@ final class DatabaseInfoRetriever extends AbstractRetriever {
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(serverInfoSql, statement, new HashMap<>()); ) {
+            new MetadataResultSet(
+                serverInfoSql, statement, new HashMap<>(), getFetchSizes(), getStringPool()); ) {
       while (results.next()) {
         final String propertyName = results.getString("NAME");
         if (isBlank(propertyName)) {
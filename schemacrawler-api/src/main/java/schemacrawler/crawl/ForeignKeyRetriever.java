@@ -36,7 +36,9 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -53,6 +55,7 @@ import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.exceptions.WrappedSQLException;
+import us.fatehi.utility.scheduler.TaskMetrics;
 import us.fatehi.utility.string.StringFormat;
 
 /** A retriever uses database metadata to get the details about the database forign keys. */
@@ -91,93 +94,103 @@ final class ForeignKeyRetriever extends AbstractRetriever {
       final MetadataResultSet results, final Map<NamedObjectKey, MutableForeignKey> foreignKeys)
       throws SQLException {
     while (results.next()) {
-      String foreignKeyName = results.getString("FK_NAME");
-      LOGGER.log(Level.FINE, new StringFormat("Retrieving foreign key: %s", foreignKeyName));
-
-      final String pkTableCatalogName = normalizeCatalogName(results.getString("PKTABLE_CAT"));
-      final String pkTableSchemaName = normalizeSchemaName(results.getString("PKTABLE_SCHEM"));
-      final String pkTableName = results.getString("PKTABLE_NAME");
-      final String pkColumnName = results.getString("PKCOLUMN_NAME");
-
-      final String fkTableCatalogName = normalizeCatalogName(results.getString("FKTABLE_CAT"));
-      final String fkTableSchemaName = normalizeSchemaName(results.getString("FKTABLE_SCHEM"));
-      final String fkTableName = results.getString("FKTABLE_NAME");
-      final String fkColumnName = results.getString("FKCOLUMN_NAME");
-
-      final Optional<MutableTable> pkTableOptional =
-          lookupTable(pkTableCatalogName, pkTableSchemaName, pkTableName);
-      final Optional<MutableTable> fkTableOptional =
-          lookupTable(fkTableCatalogName, fkTableSchemaName, fkTableName);
-      if (!pkTableOptional.isPresent() && !fkTableOptional.isPresent()) {
-        continue;
+      // Foreign keys are seen from both the referencing and the referenced table, possibly on
+      // different threads, so build them one row at a time
+      synchronized (foreignKeys) {
+        createForeignKey(results, foreignKeys);
       }
+    }
+  }
 
-      final int keySequence = results.getInt("KEY_SEQ", 0);
-      final ForeignKeyUpdateRule updateRule =
-          results.getEnumFromId("UPDATE_RULE", ForeignKeyUpdateRule.unknown);
-      final ForeignKeyUpdateRule deleteRule =
-          results.getEnumFromId("DELETE_RULE", ForeignKeyUpdateRule.unknown);
-      final ForeignKeyDeferrability deferrability =
-          results.getEnumFromId("DEFERRABILITY", ForeignKeyDeferrability.unknown);
-
-      final Column pkColumn =
-          lookupOrCreateColumn(pkTableCatalogName, pkTableSchemaName, pkTableName, pkColumnName);
-      final Column fkColumn =
-          lookupOrCreateColumn(fkTableCatalogName, fkTableSchemaName, fkTableName, fkColumnName);
-      final boolean isPkColumnPartial = pkColumn instanceof ColumnPartial;
-      final boolean isFkColumnPartial = fkColumn instanceof ColumnPartial;
-
-      if (pkColumn == null || fkColumn == null || isFkColumnPartial && isPkColumnPartial) {
-        continue;
-      }
+  private void createForeignKey(
+      final MetadataResultSet results, final Map<NamedObjectKey, MutableForeignKey> foreignKeys) {
+    String foreignKeyName = results.getString("FK_NAME");
+    LOGGER.log(Level.FINE, new StringFormat("Retrieving foreign key: %s", foreignKeyName));
+
+    final String pkTableCatalogName = normalizeCatalogName(results.getString("PKTABLE_CAT"));
+    final String pkTableSchemaName = normalizeSchemaName(results.getString("PKTABLE_SCHEM"));
+    final String pkTableName = results.getString("PKTABLE_NAME");
+    final String pkColumnName = results.getString("PKCOLUMN_NAME");
+
+    final String fkTableCatalogName = normalizeCatalogName(results.getString("FKTABLE_CAT"));
+    final String fkTableSchemaName = normalizeSchemaName(results.getString("FKTABLE_SCHEM"));
+    final String fkTableName = results.getString("FKTABLE_NAME");
+    final String fkColumnName = results.getString("FKCOLUMN_NAME");
+
+    final Optional<MutableTable> pkTableOptional =
+        lookupTable(pkTableCatalogName, pkTableSchemaName, pkTableName);
+    final Optional<MutableTable> fkTableOptional =
+        lookupTable(fkTableCatalogName, fkTableSchemaName, fkTableName);
+    if (!pkTableOptional.isPresent() && !fkTableOptional.isPresent()) {
+      return;
+    }
 
-      final Table fkTable = fkColumn.getParent();
-      final Table pkTable = pkColumn.getParent();
+    final int keySequence = results.getInt("KEY_SEQ", 0);
+    final ForeignKeyUpdateRule updateRule =
+        results.getEnumFromId("UPDATE_RULE", ForeignKeyUpdateRule.unknown);
+    final ForeignKeyUpdateRule deleteRule =
+        results.getEnumFromId("DELETE_RULE", ForeignKeyUpdateRule.unknown);
+    final ForeignKeyDeferrability deferrability =
+        results.getEnumFromId("DEFERRABILITY", ForeignKeyDeferrability.unknown);
+
+    final Column pkColumn =
+        lookupOrCreateColumn(pkTableCatalogName, pkTableSchemaName, pkTableName, pkColumnName);
+    final Column fkColumn =
+        lookupOrCreateColumn(fkTableCatalogName, fkTableSchemaName, fkTableName, fkColumnName);
+    final boolean isPkColumnPartial = pkColumn instanceof ColumnPartial;
+    final boolean isFkColumnPartial = fkColumn instanceof ColumnPartial;
+
+    if (pkColumn == null || fkColumn == null || isFkColumnPartial && isPkColumnPartial) {
+      return;
+    }
 
-      if (isBlank(foreignKeyName)) {
-        foreignKeyName = RetrieverUtility.constructForeignKeyName(fkTable, pkTable);
-        LOGGER.log(
-            Level.CONFIG,
-            new StringFormat(
-                "Identifying foreign key with blank name: %s from %s --> %s",
-                foreignKeyName, fkTable, pkTable));
-      }
+    final Table fkTable = fkColumn.getParent();
+    final Table pkTable = pkColumn.getParent();
 
-      final NamedObjectKey fkLookupKey =
-          new NamedObjectKey(fkTableCatalogName, fkTableSchemaName, fkTableName, foreignKeyName);
-      final ColumnReference columnReference =
-          new ImmutableColumnReference(keySequence, fkColumn, pkColumn);
-
-      final Optional<MutableForeignKey> foreignKeyOptional =
-          Optional.ofNullable(foreignKeys.get(fkLookupKey));
-      final MutableForeignKey foreignKey;
-      if (foreignKeyOptional.isPresent()) {
-        foreignKey = foreignKeyOptional.get();
-        foreignKey.addColumnReference(columnReference);
-      } else {
-        foreignKey = new MutableForeignKey(foreignKeyName, columnReference);
-        foreignKeys.put(fkLookupKey, foreignKey);
-      }
-      foreignKey.withQuoting(getRetrieverConnection().getIdentifiers());
-
-      foreignKey.setUpdateRule(updateRule);
-      foreignKey.setDeleteRule(deleteRule);
-      foreignKey.setDeferrability(deferrability);
-      foreignKey.addAttributes(results.getAttributes());
-
-      if (fkColumn instanceof MutableColumn) {
-        ((MutableColumn) fkColumn).setReferencedColumn(pkColumn);
-        ((MutableTable) fkTable).addForeignKey(foreignKey);
-      } else if (isFkColumnPartial) {
-        ((ColumnPartial) fkColumn).setReferencedColumn(pkColumn);
-        ((TablePartial) fkTable).addForeignKey(foreignKey);
-      }
+    if (isBlank(foreignKeyName)) {
+      foreignKeyName = RetrieverUtility.constructForeignKeyName(fkTable, pkTable);
+      LOGGER.log(
+          Level.CONFIG,
+          new StringFormat(
+              "Identifying foreign key with blank name: %s from %s --> %s",
+              foreignKeyName, fkTable, pkTable));
+    }
 
-      if (pkColumn instanceof MutableColumn) {
-        ((MutableTable) pkTable).addForeignKey(foreignKey);
-      } else if (isPkColumnPartial) {
-        ((TablePartial) pkTable).addForeignKey(foreignKey);
-      }
+    final NamedObjectKey fkLookupKey =
+        new NamedObjectKey(fkTableCatalogName, fkTableSchemaName, fkTableName, foreignKeyName);
+    final ColumnReference columnReference =
+        new ImmutableColumnReference(keySequence, fkColumn, pkColumn);
+
+    final Optional<MutableForeignKey> foreignKeyOptional =
+        Optional.ofNullable(foreignKeys.get(fkLookupKey));
+    final MutableForeignKey foreignKey;
+    if (foreignKeyOptional.isPresent()) {
+      foreignKey = foreignKeyOptional.get();
+      foreignKey.addColumnReference(columnReference);
+    } else {
+      foreignKey = new MutableForeignKey(foreignKeyName, columnReference);
+      foreignKeys.put(fkLookupKey, foreignKey);
+      TaskMetrics.recordObjects(1);
+    }
+    foreignKey.withQuoting(getRetrieverConnection().getIdentifiers());
+
+    foreignKey.setUpdateRule(updateRule);
+    foreignKey.setDeleteRule(deleteRule);
+    foreignKey.setDeferrability(deferrability);
+    foreignKey.addAttributes(results.getAttributes());
+
+    if (fkColumn instanceof MutableColumn) {
+      ((MutableColumn) fkColumn).setReferencedColumn(pkColumn);
+      ((MutableTable) fkTable).addForeignKey(foreignKey);
+    } else if (isFkColumnPartial) {
+      ((ColumnPartial) fkColumn).setReferencedColumn(pkColumn);
+      ((TablePartial) fkTable).addForeignKey(foreignKey);
+    }
+
+    if (pkColumn instanceof MutableColumn) {
+      ((MutableTable) pkTable).addForeignKey(foreignKey);
+    } else if (isPkColumnPartial) {
+      ((TablePartial) pkTable).addForeignKey(foreignKey);
     }
   }
 
@@ -198,17 +211,13 @@ final class ForeignKeyRetriever extends AbstractRetriever {
     final InformationSchemaViews informationSchemaViews =
         getRetrieverConnection().getInformationSchemaViews();
 
-    if (!informationSchemaViews.hasQuery(FOREIGN_KEYS)) {
-      LOGGER.log(Level.FINE, "Extended foreign keys SQL statement was not provided");
-      return;
-    }
-
     final Map<NamedObjectKey, MutableForeignKey> foreignKeys = new HashMap<>();
     final Query fkSql = informationSchemaViews.getQuery(FOREIGN_KEYS);
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(fkSql, statement, getLimitMap()); ) {
+            new MetadataResultSet(
+                fkSql, statement, getLimitMap(), getFetchSizes(), getStringPool()); ) {
       createForeignKeys(results, foreignKeys);
     } catch (final SQLException e) {
       throw new WrappedSQLException(
@@ -218,45 +227,55 @@ final class ForeignKeyRetriever extends AbstractRetriever {
 
   private void retrieveForeignKeysFromMetadata(final NamedObjectList<MutableTable> allTables)
       throws SQLException {
-    try (final Connection connection = getRetrieverConnection().getConnection(); ) {
-      final DatabaseMetaData metaData = connection.getMetaData();
-      final Map<NamedObjectKey, MutableForeignKey> foreignKeys = new ConcurrentHashMap<>();
-      for (final MutableTable table : allTables) {
-        if (table instanceof View) {
-          continue;
-        }
-
-        // Get imported foreign keys
-        try (final MetadataResultSet results =
-            new MetadataResultSet(
-                metaData.getImportedKeys(
-                    table.getSchema().getCatalogName(),
-                    table.getSchema().getName(),
-                    table.getName()),
-                "DatabaseMetaData::getImportedKeys")) {
-          createForeignKeys(results, foreignKeys);
-        } catch (final SQLException e) {
-          logPossiblyUnsupportedSQLFeature(
-              new StringFormat("Could not retrieve foreign keys for table <%s>", table), e);
-        }
-
-        // We need to get exported keys as well, since if only a single
-        // table is selected, we have not retrieved it's keys that are
-        // imported by other tables.
-        try (final MetadataResultSet results =
-            new MetadataResultSet(
-                metaData.getExportedKeys(
-                    table.getSchema().getCatalogName(),
-                    table.getSchema().getName(),
-                    table.getName()),
-                "DatabaseMetaData::getExportedKeys")) {
-          createForeignKeys(results, foreignKeys);
-        } catch (final SQLException e) {
-          logPossiblyUnsupportedSQLFeature(
-              new StringFormat("Could not retrieve exported foreign keys for table <%s>", table),
-              e);
-        }
+    final List<MutableTable> tables = new ArrayList<>();
+    for (final MutableTable table : allTables) {
+      if (!(table instanceof View)) {
+        tables.add(table);
       }
     }
+
+    final Map<NamedObjectKey, MutableForeignKey> foreignKeys = new ConcurrentHashMap<>();
+    retrieveForEachTable(
+        "retrieve-foreign-keys-from-metadata",
+        tables,
+        (table, connection) -> {
+          final DatabaseMetaData metaData = connection.getMetaData();
+
+          // Get imported foreign keys
+          try (final MetadataResultSet results =
+              new MetadataResultSet(
+                  metaData.getImportedKeys(
+                      table.getSchema().getCatalogName(),
+                      table.getSchema().getName(),
+                      table.getName()),
+                  "DatabaseMetaData::getImportedKeys",
+                  getFetchSizes(),
+                  getStringPool())) {
+            createForeignKeys(results, foreignKeys);
+          } catch (final SQLException e) {
+            logPossiblyUnsupportedSQLFeature(
+                new StringFormat("Could not retrieve foreign keys for table <%s>", table), e);
+          }
+
+          // We need to get exported keys as well, since if only a single
+          // table is selected, we have not retrieved it's keys that are
+          // imported by other tables.
+          try (final MetadataResultSet results =
+              new MetadataResultSet(
+                  metaData.getExportedKeys(
+                      table.getSchema().getCatalogName(),
+                      table.getSchema().getName(),
+                      table.getName()),
+                  "DatabaseMetaData::getExportedKeys",
+                  getFetchSizes(),
+                  getStringPool())) {
+            createForeignKeys(results, foreignKeys);
+          } catch (final SQLException e) {
+            logPossiblyUnsupportedSQLFeature(
+                new StringFormat(
+                    "Could not retrieve exported foreign keys for table <%s>", table),
+                e);
+          }
+        });
   }
 }
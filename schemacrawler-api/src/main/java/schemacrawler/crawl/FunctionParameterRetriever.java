@@ -49,7 +49,7 @@ import schemacrawler.schema.RoutineType;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
-import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import us.fatehi.utility.scheduler.TaskMetrics;
 import us.fatehi.utility.string.StringFormat;
 
 /** A retriever uses database metadata to get the details about the database function parameters. */
@@ -160,6 +160,7 @@ final class FunctionParameterRetriever extends AbstractRetriever {
 
       LOGGER.log(Level.FINER, new StringFormat("Adding parameter to function <%s>", parameter));
       function.addParameter(parameter);
+      TaskMetrics.recordObjects(1);
     }
   }
 
@@ -192,14 +193,12 @@ final class FunctionParameterRetriever extends AbstractRetriever {
       throws SQLException {
     final InformationSchemaViews informationSchemaViews =
         getRetrieverConnection().getInformationSchemaViews();
-    if (!informationSchemaViews.hasQuery(FUNCTION_COLUMNS)) {
-      throw new ExecutionRuntimeException("No function columns SQL provided");
-    }
     final Query functionColumnsSql = informationSchemaViews.getQuery(FUNCTION_COLUMNS);
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(functionColumnsSql, statement, getLimitMap()); ) {
+            new MetadataResultSet(
+                functionColumnsSql, statement, getLimitMap(), getFetchSizes(), getStringPool()); ) {
       while (results.next()) {
         createFunctionParameter(results, allRoutines, parameterFilter);
       }
@@ -226,7 +225,9 @@ final class FunctionParameterRetriever extends AbstractRetriever {
                           function.getSchema().getName(),
                           function.getName(),
                           null),
-                  "DatabaseMetaData::getFunctionColumns"); ) {
+                  "DatabaseMetaData::getFunctionColumns",
+                  getFetchSizes(),
+                  getStringPool()); ) {
         while (results.next()) {
           createFunctionParameter(results, allRoutines, parameterFilter);
         }
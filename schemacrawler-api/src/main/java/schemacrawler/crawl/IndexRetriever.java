@@ -46,6 +46,7 @@ import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.exceptions.WrappedSQLException;
+import us.fatehi.utility.scheduler.TaskMetrics;
 import us.fatehi.utility.string.StringFormat;
 
 /** A retriever uses database metadata to get the details about the database tables. */
@@ -143,6 +144,7 @@ final class IndexRetriever extends AbstractRetriever {
     } else {
       index = new MutableIndex(table, indexName);
       table.addIndex(index);
+      TaskMetrics.recordObjects(1);
     }
     index.withQuoting(getRetrieverConnection().getIdentifiers());
 
@@ -162,16 +164,12 @@ final class IndexRetriever extends AbstractRetriever {
     final InformationSchemaViews informationSchemaViews =
         getRetrieverConnection().getInformationSchemaViews();
 
-    if (!informationSchemaViews.hasQuery(INDEXES)) {
-      LOGGER.log(Level.FINE, "Extended indexes SQL statement was not provided");
-      return;
-    }
-
     final Query indexesSql = informationSchemaViews.getQuery(INDEXES);
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(indexesSql, statement, getLimitMap()); ) {
+            new MetadataResultSet(
+                indexesSql, statement, getLimitMap(), getFetchSizes(), getStringPool()); ) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
         final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEM"));
@@ -193,10 +191,12 @@ final class IndexRetriever extends AbstractRetriever {
 
   private void retrieveIndexesFromMetadata(final NamedObjectList<MutableTable> allTables)
       throws SQLException {
-    for (final MutableTable table : allTables) {
-      final Schema tableSchema = table.getSchema();
-      try (final Connection connection = getRetrieverConnection().getConnection();
-          final MetadataResultSet results =
+    retrieveForEachTable(
+        "retrieve-indexes-from-metadata",
+        allTables,
+        (table, connection) -> {
+          final Schema tableSchema = table.getSchema();
+          try (final MetadataResultSet results =
               new MetadataResultSet(
                   connection
                       .getMetaData()
@@ -206,12 +206,14 @@ final class IndexRetriever extends AbstractRetriever {
                           table.getName(),
                           false /* return indices regardless of whether unique or not */,
                           true /* approximate - reflect approximate or out of data values */),
-                  "DatabaseMetaData::getIndexInfo"); ) {
-        createIndexes(table, results);
-      } catch (final SQLException e) {
-        logPossiblyUnsupportedSQLFeature(
-            new StringFormat("Could not retrieve indexes for table <%s>", table), e);
-      }
-    }
+                  "DatabaseMetaData::getIndexInfo",
+                  getFetchSizes(),
+                  getStringPool()); ) {
+            createIndexes(table, results);
+          } catch (final SQLException e) {
+            logPossiblyUnsupportedSQLFeature(
+                new StringFormat("Could not retrieve indexes for table <%s>", table), e);
+          }
+        });
   }
 }
@@ -0,0 +1,252 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.foreignKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.functionParametersRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.functionsRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.procedureParametersRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.proceduresRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tableColumnPrivilegesRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tableColumnsRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tablePrivilegesRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tablesRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.typeInfoRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder.DEFAULT_FETCH_SIZE;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+
+/**
+ * Resolves the fetch size for metadata result-sets from the schema retrieval options, and keeps
+ * count of rows and estimated round-trips for each kind of metadata result-set, so that they can
+ * be reported along with crawl timings.
+ */
+final class MetadataFetchSizes {
+
+  private static final class FetchCounts {
+    private final LongAdder resultSets = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder roundTrips = new LongAdder();
+    private final LongAccumulator maxRows = new LongAccumulator(Math::max, 0);
+  }
+
+  /** Largest fetch size that adaptive fetching will grow to. */
+  static final int MAX_FETCH_SIZE = 10_000;
+
+  /** Approximate number of characters to fetch in a round-trip, when growing the fetch size. */
+  private static final int MAX_FETCH_WIDTH = 4 * 1024 * 1024;
+
+  /** Assumed display size for large objects, and columns that do not report a size. */
+  private static final int MAX_COLUMN_WIDTH = 4000;
+
+  private static final Map<String, InformationSchemaKey> informationSchemaKeys;
+  private static final Map<InformationSchemaKey, SchemaInfoMetadataRetrievalStrategy>
+      informationSchemaStrategies;
+  private static final Map<String, SchemaInfoMetadataRetrievalStrategy> metadataStrategies;
+
+  static {
+    informationSchemaKeys = new HashMap<>();
+    for (final InformationSchemaKey key : InformationSchemaKey.values()) {
+      informationSchemaKeys.put(key.description(), key);
+    }
+
+    informationSchemaStrategies = new EnumMap<>(InformationSchemaKey.class);
+    for (final SchemaInfoMetadataRetrievalStrategy strategy :
+        SchemaInfoMetadataRetrievalStrategy.values()) {
+      informationSchemaStrategies.put(strategy.getInformationSchemaKey(), strategy);
+    }
+
+    metadataStrategies = new HashMap<>();
+    metadataStrategies.put(
+        "DatabaseMetaData::getColumnPrivileges", tableColumnPrivilegesRetrievalStrategy);
+    metadataStrategies.put("DatabaseMetaData::getColumns", tableColumnsRetrievalStrategy);
+    metadataStrategies.put("DatabaseMetaData::getExportedKeys", foreignKeysRetrievalStrategy);
+    metadataStrategies.put(
+        "DatabaseMetaData::getFunctionColumns", functionParametersRetrievalStrategy);
+    metadataStrategies.put("DatabaseMetaData::getFunctions", functionsRetrievalStrategy);
+    metadataStrategies.put("DatabaseMetaData::getImportedKeys", foreignKeysRetrievalStrategy);
+    metadataStrategies.put("DatabaseMetaData::getIndexInfo", indexesRetrievalStrategy);
+    metadataStrategies.put("DatabaseMetaData::getPrimaryKeys", primaryKeysRetrievalStrategy);
+    metadataStrategies.put(
+        "DatabaseMetaData::getProcedureColumns", procedureParametersRetrievalStrategy);
+    metadataStrategies.put("DatabaseMetaData::getProcedures", proceduresRetrievalStrategy);
+    metadataStrategies.put(
+        "DatabaseMetaData::getTablePrivileges", tablePrivilegesRetrievalStrategy);
+    metadataStrategies.put("DatabaseMetaData::getTables", tablesRetrievalStrategy);
+    metadataStrategies.put("DatabaseMetaData::getTypeInfo", typeInfoRetrievalStrategy);
+  }
+
+  private final SchemaRetrievalOptions schemaRetrievalOptions;
+  private final boolean adaptive;
+  private final Map<String, FetchCounts> fetchCounts;
+
+  /** Fixed, default fetch size for all metadata result-sets. */
+  MetadataFetchSizes() {
+    schemaRetrievalOptions = null;
+    adaptive = false;
+    fetchCounts = new ConcurrentHashMap<>();
+  }
+
+  MetadataFetchSizes(final SchemaRetrievalOptions schemaRetrievalOptions) {
+    this.schemaRetrievalOptions =
+        requireNonNull(schemaRetrievalOptions, "No database specific overrides provided");
+    adaptive = schemaRetrievalOptions.isAdaptiveFetchSize();
+    fetchCounts = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Fetch size to start with for a metadata result-set. In adaptive mode, this is large enough to
+   * read the largest result-set seen so far for the same query in a single round-trip.
+   *
+   * @param description Result-set description, which is the query name or the metadata call
+   * @return Initial fetch size
+   */
+  int fetchSize(final String description) {
+    final int fetchSize = configuredFetchSize(description);
+    if (!adaptive) {
+      return fetchSize;
+    }
+    final FetchCounts counts = fetchCounts.get(description);
+    if (counts == null) {
+      return fetchSize;
+    }
+    return (int) Math.max(fetchSize, Math.min(counts.maxRows.get(), MAX_FETCH_SIZE));
+  }
+
+  boolean isAdaptive() {
+    return adaptive;
+  }
+
+  /**
+   * Fetch size for the next round-trip, once all the rows of the previous one have been read. The
+   * fetch size doubles until the estimated width of a round-trip reaches a limit.
+   *
+   * @param fetchSize Current fetch size
+   * @param rowWidth Estimated width of a row, in characters
+   * @return Next fetch size, which is never smaller than the current fetch size
+   */
+  int nextFetchSize(final int fetchSize, final int rowWidth) {
+    if (!adaptive) {
+      return fetchSize;
+    }
+    final int maxFetchSize =
+        Math.min(MAX_FETCH_SIZE, Math.max(1, MAX_FETCH_WIDTH / Math.max(1, rowWidth)));
+    if (fetchSize >= maxFetchSize) {
+      return fetchSize;
+    }
+    return (int) Math.min((long) fetchSize * 2, maxFetchSize);
+  }
+
+  void record(final String description, final long rows, final long roundTrips) {
+    final FetchCounts counts = fetchCounts.computeIfAbsent(description, key -> new FetchCounts());
+    counts.resultSets.increment();
+    counts.rows.add(rows);
+    counts.roundTrips.add(roundTrips);
+    counts.maxRows.accumulate(rows);
+  }
+
+  /**
+   * Allows for a deferred conversion to a string. Useful in logging.
+   *
+   * @return String supplier
+   */
+  Supplier<String> report() {
+    return () -> {
+      final Map<String, FetchCounts> sortedCounts = new TreeMap<>(fetchCounts);
+      long totalRows = 0;
+      long totalRoundTrips = 0;
+      final StringBuilder buffer = new StringBuilder(1024);
+      for (final Map.Entry<String, FetchCounts> entry : sortedCounts.entrySet()) {
+        final FetchCounts counts = entry.getValue();
+        final long rows = counts.rows.sum();
+        final long roundTrips = counts.roundTrips.sum();
+        totalRows = totalRows + rows;
+        totalRoundTrips = totalRoundTrips + roundTrips;
+        buffer.append(
+            String.format(
+                "-%,10d rows in %,8d round-trips, %,6d result-sets - <%s>%n",
+                rows, roundTrips, counts.resultSets.sum(), entry.getKey()));
+      }
+      return String.format(
+          "Metadata fetch - %,d rows in %,d round-trips (estimated)%n%s",
+          totalRows, totalRoundTrips, buffer);
+    };
+  }
+
+  /**
+   * Estimates the width of a row from the display sizes of the result-set columns.
+   *
+   * @param displaySizes Column display sizes
+   * @return Estimated row width, in characters
+   */
+  static int rowWidth(final int[] displaySizes) {
+    long rowWidth = 0;
+    for (final int displaySize : displaySizes) {
+      if (displaySize <= 0 || displaySize > MAX_COLUMN_WIDTH) {
+        rowWidth = rowWidth + MAX_COLUMN_WIDTH;
+      } else {
+        rowWidth = rowWidth + displaySize;
+      }
+    }
+    return (int) Math.min(rowWidth, Integer.MAX_VALUE);
+  }
+
+  private int configuredFetchSize(final String description) {
+    if (schemaRetrievalOptions == null || description == null) {
+      return DEFAULT_FETCH_SIZE;
+    }
+
+    final InformationSchemaKey informationSchemaKey = informationSchemaKeys.get(description);
+    final SchemaInfoMetadataRetrievalStrategy strategy;
+    if (informationSchemaKey != null) {
+      if (schemaRetrievalOptions.hasFetchSize(informationSchemaKey)) {
+        return schemaRetrievalOptions.getFetchSize(informationSchemaKey);
+      }
+      strategy = informationSchemaStrategies.get(informationSchemaKey);
+    } else {
+      strategy = metadataStrategies.get(description);
+    }
+
+    if (strategy != null) {
+      return schemaRetrievalOptions.getFetchSize(strategy);
+    }
+    return schemaRetrievalOptions.getFetchSize();
+  }
+}
@@ -40,14 +40,14 @@ import java.math.BigInteger;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.inclusionrule.InclusionRule;
@@ -57,6 +57,7 @@ import schemacrawler.schema.ResultsColumns;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.utility.BinaryData;
 import us.fatehi.utility.UtilityLogger;
+import us.fatehi.utility.scheduler.TaskMetrics;
 import us.fatehi.utility.string.StringFormat;
 
 /**
@@ -68,33 +69,78 @@ public final class MetadataResultSet implements AutoCloseable {
 
   private static final Logger LOGGER = Logger.getLogger(MetadataResultSet.class.getName());
 
-  private static final int FETCHSIZE = 20;
+  private static final int NO_COLUMN = -1;
 
   private final ResultsColumns resultsColumns;
   private final ResultSet results;
   private final String description;
-  private Set<ResultsColumn> readColumns;
+  private final ResultsColumn[] columns;
+  private final Map<String, Integer> columnIndexes;
+  private final Map<String, Integer> resolvedColumnNames;
+  private final String[] attributeNames;
+  private final StringPool stringPool;
+  private final BitSet readColumns;
+  private final MetadataFetchSizes fetchSizes;
+  private final int rowWidth;
+  private int fetchSize;
+  private int fetchCount;
+  private int rowsInFetch;
+  private boolean exhausted;
   private int rowCount;
   private boolean showLobs;
 
   public MetadataResultSet(
       final Query query, final Statement statement, final Map<String, InclusionRule> limitMap)
       throws SQLException {
-    this(executeAgainstSchema(query, statement, limitMap), query.getName());
+    this(query, statement, limitMap, new MetadataFetchSizes(), new StringPool());
   }
 
   public MetadataResultSet(final ResultSet resultSet, final String description)
       throws SQLException {
+    this(resultSet, description, new MetadataFetchSizes(), new StringPool());
+  }
+
+  MetadataResultSet(
+      final Query query,
+      final Statement statement,
+      final Map<String, InclusionRule> limitMap,
+      final MetadataFetchSizes fetchSizes,
+      final StringPool stringPool)
+      throws SQLException {
+    this(
+        executeAgainstSchema(query, withFetchSize(statement, query, fetchSizes), limitMap),
+        query.getName(),
+        fetchSizes,
+        stringPool);
+  }
+
+  MetadataResultSet(
+      final ResultSet resultSet,
+      final String description,
+      final MetadataFetchSizes fetchSizes,
+      final StringPool stringPool)
+      throws SQLException {
     results = requireNonNull(resultSet, "Cannot use null results");
-    try {
-      results.setFetchSize(FETCHSIZE);
-    } catch (final NullPointerException | SQLException e) {
-      LOGGER.log(Level.WARNING, "Could not set fetch size", e);
-    }
     this.description = requireNotBlank(description, "No result-set description provided");
+    this.fetchSizes = requireNonNull(fetchSizes, "No fetch sizes provided");
+    this.stringPool = requireNonNull(stringPool, "No string pool provided");
+    fetchSize = fetchSizes.fetchSize(description);
+    setFetchSize(fetchSize);
 
     resultsColumns = new ResultsCrawler(results).crawl();
-    readColumns = new HashSet<>();
+    columns = resultsColumns.getColumns().toArray(new ResultsColumn[0]);
+    columnIndexes = indexColumns(columns);
+    // Attribute names are the same for every row, so only create them once
+    attributeNames = new String[columns.length];
+    for (int i = 0; i < columns.length; i++) {
+      final String label = columns[i].getLabel();
+      if (label != null) {
+        attributeNames[i] = stringPool.pooled(label.toUpperCase());
+      }
+    }
+    resolvedColumnNames = new HashMap<>();
+    readColumns = new BitSet(columns.length);
+    rowWidth = rowWidth(columns);
     showLobs = true;
   }
 
@@ -107,7 +153,12 @@ public final class MetadataResultSet implements AutoCloseable {
   @Override
   public void close() throws SQLException {
     results.close();
-    LOGGER.log(Level.FINE, new StringFormat("Processed %d rows for <%s>", rowCount, description));
+    fetchSizes.record(description, rowCount, fetchCount);
+    TaskMetrics.recordRows(rowCount, fetchCount);
+    LOGGER.log(
+        Level.FINE,
+        new StringFormat(
+            "Processed %d rows in %d round-trips for <%s>", rowCount, fetchCount, description));
   }
 
   /**
@@ -118,23 +169,23 @@ public final class MetadataResultSet implements AutoCloseable {
    */
   public Map<String, Object> getAttributes() {
     final Map<String, Object> attributes = new HashMap<>();
-    for (final ResultsColumn resultsColumn : resultsColumns) {
-      if (!readColumns.contains(resultsColumn)) {
-        try {
-          final String key = resultsColumn.getLabel().toUpperCase();
-          final Object value = getColumnData(resultsColumn);
-          attributes.put(key, value);
-        } catch (final SQLException | ArrayIndexOutOfBoundsException e) {
-          /*
-           * MySQL connector is broken and can cause ArrayIndexOutOfBoundsExceptions for no good
-           * reason (tested with connector 5.1.26 and server version 5.0.95). Ignoring the
-           * exception, we can still get some useful data out of the database.
-           */
-          LOGGER.log(
-              Level.WARNING,
-              e,
-              new StringFormat("Could not read value for column <%s>", resultsColumn));
-        }
+    for (int index = readColumns.nextClearBit(0);
+        index < columns.length;
+        index = readColumns.nextClearBit(index + 1)) {
+      final ResultsColumn resultsColumn = columns[index];
+      try {
+        final Object value = getColumnData(resultsColumn);
+        attributes.put(attributeNames[index], value);
+      } catch (final SQLException | ArrayIndexOutOfBoundsException e) {
+        /*
+         * MySQL connector is broken and can cause ArrayIndexOutOfBoundsExceptions for no good
+         * reason (tested with connector 5.1.26 and server version 5.0.95). Ignoring the
+         * exception, we can still get some useful data out of the database.
+         */
+        LOGGER.log(
+            Level.WARNING,
+            e,
+            new StringFormat("Could not read value for column <%s>", resultsColumn));
       }
     }
     return attributes;
@@ -163,9 +214,10 @@ public final class MetadataResultSet implements AutoCloseable {
    * @return Whether the string evaluates to true
    */
   public boolean getBoolean(final String columnName) {
-    if (useColumn(columnName)) {
+    final int ordinal = useColumn(columnName);
+    if (ordinal != NO_COLUMN) {
       try {
-        final Object booleanValue = results.getObject(columnName);
+        final Object booleanValue = results.getObject(ordinal);
         final String stringBooleanValue;
         if (results.wasNull() || booleanValue == null) {
           LOGGER.log(
@@ -241,6 +293,31 @@ public final class MetadataResultSet implements AutoCloseable {
     return enumValueFromId(value, defaultValue);
   }
 
+  /**
+   * Reads the value of a column from the result set as a timestamp.
+   *
+   * @param columnName Column name
+   * @return Instant value of the column, or null if not available
+   */
+  public Instant getInstant(final String columnName) {
+    Instant value = null;
+    final int ordinal = useColumn(columnName);
+    if (ordinal != NO_COLUMN) {
+      try {
+        final Timestamp timestamp = results.getTimestamp(ordinal);
+        if (!results.wasNull() && timestamp != null) {
+          value = timestamp.toInstant();
+        }
+      } catch (final SQLException e) {
+        LOGGER.log(
+            Level.WARNING,
+            e,
+            new StringFormat("Could not read timestamp value for column <%s>", columnName));
+      }
+    }
+    return value;
+  }
+
   /**
    * Reads the value of a column from the result set as an integer. If the value was null, returns
    * the default.
@@ -251,9 +328,10 @@ public final class MetadataResultSet implements AutoCloseable {
    */
   public int getInt(final String columnName, final int defaultValue) {
     int value = defaultValue;
-    if (useColumn(columnName)) {
+    final int ordinal = useColumn(columnName);
+    if (ordinal != NO_COLUMN) {
       try {
-        value = results.getInt(columnName);
+        value = results.getInt(ordinal);
         if (results.wasNull()) {
           LOGGER.log(
               Level.FINER,
@@ -281,9 +359,10 @@ public final class MetadataResultSet implements AutoCloseable {
    */
   public long getLong(final String columnName, final long defaultValue) {
     long value = defaultValue;
-    if (useColumn(columnName)) {
+    final int ordinal = useColumn(columnName);
+    if (ordinal != NO_COLUMN) {
       try {
-        value = results.getLong(columnName);
+        value = results.getLong(ordinal);
         if (results.wasNull()) {
           LOGGER.log(
               Level.FINER,
@@ -312,9 +391,10 @@ public final class MetadataResultSet implements AutoCloseable {
    */
   public short getShort(final String columnName, final short defaultValue) {
     short value = defaultValue;
-    if (useColumn(columnName)) {
+    final int ordinal = useColumn(columnName);
+    if (ordinal != NO_COLUMN) {
       try {
-        value = results.getShort(columnName);
+        value = results.getShort(ordinal);
         if (results.wasNull()) {
           LOGGER.log(
               Level.FINER,
@@ -341,15 +421,16 @@ public final class MetadataResultSet implements AutoCloseable {
    */
   public String getString(final String columnName) {
     String value = null;
-    if (useColumn(columnName)) {
+    final int ordinal = useColumn(columnName);
+    if (ordinal != NO_COLUMN) {
       try {
-        value = results.getString(columnName);
+        value = results.getString(ordinal);
         if (results.wasNull()) {
           value = null;
         }
 
         if (value != null) {
-          value = value.trim();
+          value = stringPool.pooled(value.trim());
         }
       } catch (final SQLException e) {
         LOGGER.log(
@@ -371,12 +452,27 @@ public final class MetadataResultSet implements AutoCloseable {
    * @throws SQLException On a database access error
    */
   public boolean next() throws SQLException {
-    readColumns = new HashSet<>();
+    readColumns.clear();
+
+    // Keep an estimate of round-trips, since the driver fetches the next set of rows
+    // once all the rows of the previous fetch have been read
+    if (!exhausted) {
+      if (fetchCount == 0) {
+        fetchCount = 1;
+      } else if (rowsInFetch >= fetchSize) {
+        growFetchSize();
+        fetchCount = fetchCount + 1;
+        rowsInFetch = 0;
+      }
+    }
 
     final boolean next = results.next();
     new UtilityLogger(LOGGER).logSQLWarnings(results);
     if (next) {
       rowCount = rowCount + 1;
+      rowsInFetch = rowsInFetch + 1;
+    } else {
+      exhausted = true;
     }
     return next;
   }
@@ -390,10 +486,55 @@ public final class MetadataResultSet implements AutoCloseable {
     return currentRow;
   }
 
+  /**
+   * Reads the current row into an array, so that one array can be reused for every row.
+   *
+   * @param columnData Array with one element for each column
+   * @return Array with the data for the current row
+   * @throws SQLException On an exception reading the row
+   */
+  public Object[] row(final Object[] columnData) throws SQLException {
+    requireNonNull(columnData, "No column data array provided");
+    if (columnData.length != columns.length) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected <%d> columns, but array has <%d> elements",
+              columns.length, columnData.length));
+    }
+    for (int i = 0; i < columns.length; i++) {
+      columnData[i] = getColumnData(columns[i]);
+    }
+    return columnData;
+  }
+
   public void setShowLobs(final boolean showLobs) {
     this.showLobs = showLobs;
   }
 
+  private static int rowWidth(final ResultsColumn[] columns) {
+    final int[] displaySizes = new int[columns.length];
+    for (int index = 0; index < columns.length; index++) {
+      displaySizes[index] = columns[index].getDisplaySize();
+    }
+    return MetadataFetchSizes.rowWidth(displaySizes);
+  }
+
+  /**
+   * Sets the fetch size on the statement before the query is executed, so that the first
+   * round-trip also uses it.
+   */
+  private static Statement withFetchSize(
+      final Statement statement, final Query query, final MetadataFetchSizes fetchSizes) {
+    if (statement != null && query != null && fetchSizes != null) {
+      try {
+        statement.setFetchSize(fetchSizes.fetchSize(query.getName()));
+      } catch (final SQLException e) {
+        LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+      }
+    }
+    return statement;
+  }
+
   private Object getColumnData(final ResultsColumn resultsColumn) throws SQLException {
     final int javaSqlType =
         resultsColumn.getColumnDataType().getJavaSqlType().getVendorTypeNumber();
@@ -427,16 +568,30 @@ public final class MetadataResultSet implements AutoCloseable {
         columnData = results.getObject(ordinalPosition);
         if (results.wasNull()) {
           columnData = null;
+        } else if (columnData instanceof String) {
+          columnData = stringPool.pooled((String) columnData);
         }
         break;
     }
     return columnData;
   }
 
+  private void growFetchSize() {
+    final int nextFetchSize = fetchSizes.nextFetchSize(fetchSize, rowWidth);
+    if (nextFetchSize != fetchSize) {
+      fetchSize = nextFetchSize;
+      setFetchSize(fetchSize);
+    }
+  }
+
   private Object readCharacterData(final Reader reader) {
     try {
       if (reader != null && showLobs) {
-        return readFully(reader);
+        final String characterData = readFully(reader);
+        if (characterData != null) {
+          TaskMetrics.recordLobCharacters(characterData.length());
+        }
+        return characterData;
       }
     } catch (final Exception e) {
       LOGGER.log(Level.WARNING, "Could not read character data", e);
@@ -445,9 +600,52 @@ public final class MetadataResultSet implements AutoCloseable {
     return new BinaryData();
   }
 
-  private boolean useColumn(final String columnName) {
-    final Optional<ResultsColumn> optionalResultsColumn = resultsColumns.lookupColumn(columnName);
-    optionalResultsColumn.ifPresent(readColumns::add);
-    return optionalResultsColumn.isPresent();
+  /**
+   * Indexes columns by label, full name and name, so that lookups are case-insensitive. The first
+   * column that matches a given name wins, which is the same order that {@link
+   * ResultsColumns#lookupColumn(String)} uses.
+   */
+  private static Map<String, Integer> indexColumns(final ResultsColumn[] columns) {
+    final Map<String, Integer> columnIndexes = new HashMap<>();
+    for (int index = 0; index < columns.length; index++) {
+      final ResultsColumn column = columns[index];
+      for (final String name :
+          new String[] {column.getLabel(), column.getFullName(), column.getName()}) {
+        if (name != null) {
+          columnIndexes.putIfAbsent(name.toUpperCase(Locale.ENGLISH), index);
+        }
+      }
+    }
+    return columnIndexes;
+  }
+
+  /**
+   * Resolves a column name to its JDBC ordinal position, and marks the column as read. Names are
+   * resolved once per result-set, since retrievers ask for the same columns on every row.
+   *
+   * @param columnName Column name
+   * @return JDBC column ordinal position, or {@link #NO_COLUMN} if there is no such column
+   */
+  private int useColumn(final String columnName) {
+    if (columnName == null) {
+      return NO_COLUMN;
+    }
+    final int index =
+        resolvedColumnNames.computeIfAbsent(
+            columnName,
+            name -> columnIndexes.getOrDefault(name.toUpperCase(Locale.ENGLISH), NO_COLUMN));
+    if (index == NO_COLUMN) {
+      return NO_COLUMN;
+    }
+    readColumns.set(index);
+    return columns[index].getOrdinalPosition();
+  }
+
+  private void setFetchSize(final int fetchSize) {
+    try {
+      results.setFetchSize(fetchSize);
+    } catch (final NullPointerException | SQLException e) {
+      LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+    }
   }
 }
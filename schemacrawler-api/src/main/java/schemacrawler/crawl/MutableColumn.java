@@ -43,7 +43,8 @@ import schemacrawler.schema.Table;
 final class MutableColumn extends AbstractColumn<Table> implements Column {
 
   private static final long serialVersionUID = 3834591019449528633L;
-  private final NamedObjectList<MutablePrivilege<Column>> privileges = new NamedObjectList<>();
+  // Most columns have no privileges, so the list is created when the first one is added
+  private volatile NamedObjectList<MutablePrivilege<Column>> privileges;
   private String defaultValue;
   private boolean isAutoIncremented;
   private boolean isGenerated;
@@ -66,7 +67,11 @@ final class MutableColumn extends AbstractColumn<Table> implements Column {
   /** {@inheritDoc} */
   @Override
   public Collection<Privilege<Column>> getPrivileges() {
-    return new ArrayList<>(privileges.values());
+    final NamedObjectList<MutablePrivilege<Column>> currentPrivileges = privileges;
+    if (currentPrivileges == null) {
+      return new ArrayList<>();
+    }
+    return new ArrayList<>(currentPrivileges.values());
   }
 
   /** {@inheritDoc} */
@@ -120,10 +125,17 @@ final class MutableColumn extends AbstractColumn<Table> implements Column {
   /** {@inheritDoc} */
   @Override
   public Optional<MutablePrivilege<Column>> lookupPrivilege(final String name) {
-    return privileges.lookup(this, name);
+    final NamedObjectList<MutablePrivilege<Column>> currentPrivileges = privileges;
+    if (currentPrivileges == null) {
+      return Optional.empty();
+    }
+    return currentPrivileges.lookup(this, name);
   }
 
-  void addPrivilege(final MutablePrivilege<Column> privilege) {
+  synchronized void addPrivilege(final MutablePrivilege<Column> privilege) {
+    if (privileges == null) {
+      privileges = new NamedObjectList<>();
+    }
     privileges.add(privilege);
   }
 
@@ -43,6 +43,8 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.SignStyle;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import schemacrawler.BaseProductVersion;
 import schemacrawler.JvmSystemInfo;
@@ -50,6 +52,7 @@ import schemacrawler.OperatingSystemInfo;
 import schemacrawler.ProductVersion;
 import schemacrawler.Version;
 import schemacrawler.schema.CrawlInfo;
+import us.fatehi.utility.scheduler.TaskMetrics;
 
 /** SchemaCrawler crawl information. */
 final class MutableCrawlInfo implements CrawlInfo {
@@ -82,6 +85,7 @@ final class MutableCrawlInfo implements CrawlInfo {
   private final ProductVersion schemaCrawlerVersion;
   private final ProductVersion databaseVersion;
   private final ProductVersion jdbcDriverVersion;
+  private final List<TaskMetrics> retrievalMetrics;
 
   MutableCrawlInfo(
       final MutableDatabaseInfo databaseInfo, final MutableJdbcDriverInfo jdbcDriverInfo) {
@@ -97,6 +101,28 @@ final class MutableCrawlInfo implements CrawlInfo {
 
     crawlTimestamp = Instant.now();
     runId = UUID.randomUUID();
+    retrievalMetrics = new ArrayList<>();
+  }
+
+  /** Restores information about an earlier crawl, such as from a saved catalog. */
+  MutableCrawlInfo(
+      final ProductVersion schemaCrawlerVersion,
+      final ProductVersion operatingSystemVersion,
+      final ProductVersion jvmVersion,
+      final ProductVersion databaseVersion,
+      final ProductVersion jdbcDriverVersion,
+      final Instant crawlTimestamp,
+      final UUID runId) {
+    this.schemaCrawlerVersion =
+        requireNonNull(schemaCrawlerVersion, "No SchemaCrawler version provided");
+    this.operatingSystemVersion =
+        requireNonNull(operatingSystemVersion, "No operating system version provided");
+    this.jvmVersion = requireNonNull(jvmVersion, "No JVM version provided");
+    this.databaseVersion = requireNonNull(databaseVersion, "No database version provided");
+    this.jdbcDriverVersion = requireNonNull(jdbcDriverVersion, "No JDBC driver version provided");
+    this.crawlTimestamp = requireNonNull(crawlTimestamp, "No crawl timestamp provided");
+    this.runId = requireNonNull(runId, "No run id provided");
+    retrievalMetrics = new ArrayList<>();
   }
 
   @Override
@@ -134,6 +160,12 @@ final class MutableCrawlInfo implements CrawlInfo {
     return operatingSystemVersion;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public List<TaskMetrics> getRetrievalMetrics() {
+    return new ArrayList<>(retrievalMetrics);
+  }
+
   /** {@inheritDoc} */
   @Override
   public String getRunId() {
@@ -162,6 +194,13 @@ final class MutableCrawlInfo implements CrawlInfo {
     return info.toString();
   }
 
+  void setRetrievalMetrics(final List<TaskMetrics> retrievalMetrics) {
+    this.retrievalMetrics.clear();
+    if (retrievalMetrics != null) {
+      this.retrievalMetrics.addAll(retrievalMetrics);
+    }
+  }
+
   private ZonedDateTime getCrawlTimestampUTC() {
     return ZonedDateTime.ofInstant(crawlTimestamp, UTC);
   }
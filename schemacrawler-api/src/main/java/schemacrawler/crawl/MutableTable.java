@@ -346,10 +346,22 @@ class MutableTable extends AbstractDatabaseObject implements Table {
     return columns;
   }
 
+  int getSortIndex() {
+    return sortIndex;
+  }
+
+  void removeForeignKey(final MutableForeignKey foreignKey) {
+    foreignKeys.remove(foreignKey);
+  }
+
   void removeTableConstraint(final TableConstraint tableConstraint) {
     constraints.remove(tableConstraint);
   }
 
+  void removeWeakAssociation(final MutableWeakAssociation weakAssociation) {
+    weakAssociations.remove(weakAssociation);
+  }
+
   final void setPrimaryKey(final MutablePrimaryKey primaryKey) {
     if (primaryKey != null) {
       this.primaryKey = primaryKey;
@@ -32,6 +32,8 @@ import static java.util.Comparator.naturalOrder;
 import static java.util.Objects.requireNonNull;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -39,11 +41,14 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.function.Predicate;
 import schemacrawler.schema.AttributedObject;
+import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.NamedObject;
 import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.ReducibleCollection;
+import schemacrawler.schema.Schema;
 import us.fatehi.utility.ObjectToString;
 
 /**
@@ -51,6 +56,10 @@ import us.fatehi.utility.ObjectToString;
  * ability to look up by dependent object which is not created yet. That is, by NamedObject +
  * String. Returns values sorted in natural sort order, and is iterable. The iterator does not allow
  * modifications to the underlying data structure.
+ *
+ * <p>The sorted values are cached, and the cache is rebuilt only after objects are added, removed
+ * or filtered. Since the natural sort order of some objects (such as tables) can change after they
+ * are added, the cached values are checked to be still in order before they are returned.
  */
 final class NamedObjectList<N extends NamedObject> implements Serializable, ReducibleCollection<N> {
 
@@ -58,6 +67,53 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
 
   private static final String SCHEMACRAWLER_FILTERED_OUT = "schemacrawler.filtered_out";
 
+  @SuppressWarnings("rawtypes")
+  private static final AtomicLongFieldUpdater<NamedObjectList> MODIFICATIONS =
+      AtomicLongFieldUpdater.newUpdater(NamedObjectList.class, "modifications");
+
+  /**
+   * Sorted values, along with the modification count at the time they were sorted. Sorted values
+   * of database objects are also grouped by the lookup key of their schema, on demand.
+   */
+  private static final class SortedValues<N> {
+
+    private final long modifications;
+    private final List<N> values;
+    private volatile Map<NamedObjectKey, List<N>> valuesBySchema;
+
+    SortedValues(final long modifications, final List<N> values) {
+      this.modifications = modifications;
+      this.values = Collections.unmodifiableList(values);
+    }
+
+    List<N> values(final NamedObjectKey schemaKey) {
+      Map<NamedObjectKey, List<N>> bySchema = valuesBySchema;
+      if (bySchema == null) {
+        bySchema = new HashMap<>();
+        for (final N value : values) {
+          if (value instanceof DatabaseObject) {
+            final NamedObjectKey key = ((DatabaseObject) value).getSchema().key();
+            bySchema.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+          }
+        }
+        for (final Entry<NamedObjectKey, List<N>> entry : bySchema.entrySet()) {
+          entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+        valuesBySchema = bySchema;
+      }
+      return bySchema.getOrDefault(schemaKey, Collections.emptyList());
+    }
+  }
+
+  private static <N extends NamedObject> boolean isSorted(final List<N> values) {
+    for (int i = 1; i < values.size(); i++) {
+      if (values.get(i - 1).compareTo(values.get(i)) > 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   private static NamedObjectKey makeLookupKey(final NamedObject namedObject) {
     final NamedObjectKey key;
     if (namedObject == null) {
@@ -77,7 +133,10 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
   }
 
   private final Map<NamedObjectKey, N> objects = new ConcurrentHashMap<>();
-  private final Map<NamedObjectKey, N> filteredObjects = new ConcurrentHashMap<>();
+  // Most lists are never filtered, so the map of filtered objects is created when needed
+  private Map<NamedObjectKey, N> filteredObjects;
+  private transient volatile long modifications;
+  private transient volatile SortedValues<N> sortedValues;
 
   /** {@inheritDoc} */
   @Override
@@ -95,6 +154,9 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
       if (!predicate.test(namedObject)) {
         // Filter object by moving it to the filtered objects map
         iterator.remove();
+        if (filteredObjects == null) {
+          filteredObjects = new ConcurrentHashMap<>();
+        }
         filteredObjects.put(namedObjectKey, namedObject);
         if (namedObject instanceof AttributedObject) {
           final AttributedObject attributedObject = (AttributedObject) namedObject;
@@ -102,6 +164,7 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
         }
       }
     }
+    MODIFICATIONS.incrementAndGet(this);
   }
 
   /** {@inheritDoc} */
@@ -137,6 +200,9 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
   /** {@inheritDoc} */
   @Override
   public synchronized void resetFilter() {
+    if (filteredObjects == null) {
+      return;
+    }
     final Set<Entry<NamedObjectKey, N>> entrySet = filteredObjects.entrySet();
     for (final Iterator<Entry<NamedObjectKey, N>> iterator = entrySet.iterator();
         iterator.hasNext(); ) {
@@ -150,6 +216,7 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
         attributedObject.removeAttribute(SCHEMACRAWLER_FILTERED_OUT);
       }
     }
+    MODIFICATIONS.incrementAndGet(this);
   }
 
   /** {@inheritDoc} */
@@ -167,6 +234,7 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
     requireNonNull(namedObject, "Cannot add a null object to the list");
     final NamedObjectKey key = makeLookupKey(namedObject);
     objects.put(key, namedObject);
+    MODIFICATIONS.incrementAndGet(this);
     return true;
   }
 
@@ -194,7 +262,9 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
   }
 
   N remove(final N namedObject) {
-    return objects.remove(makeLookupKey(namedObject));
+    final N removed = objects.remove(makeLookupKey(namedObject));
+    MODIFICATIONS.incrementAndGet(this);
+    return removed;
   }
 
   /**
@@ -207,17 +277,54 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
   }
 
   /**
-   * Gets all named objects in the list, in sorted order.
+   * Gets all named objects in the list, in sorted order. The returned list cannot be modified.
    *
    * @return All named objects
    */
   List<N> values() {
-    final List<N> all = new ArrayList<>(objects.values());
-    all.sort(naturalOrder());
-    return all;
+    final SortedValues<N> cached = sortedValues;
+    if (cached != null && cached.modifications == modifications && isSorted(cached.values)) {
+      return cached.values;
+    }
+    return sort().values;
+  }
+
+  /**
+   * Gets all database objects in the list that belong to a schema, in sorted order. The returned
+   * list cannot be modified. Objects are looked up from an index by schema, so the cost is
+   * proportional to the number of objects in the schema, rather than in the list.
+   *
+   * @param schema Schema to get objects for
+   * @return Named objects in the schema
+   */
+  List<N> values(final Schema schema) {
+    requireNonNull(schema, "No schema provided");
+    final NamedObjectKey schemaKey = schema.key();
+
+    SortedValues<N> cached = sortedValues;
+    if (cached == null || cached.modifications != modifications) {
+      cached = sort();
+    }
+    List<N> schemaValues = cached.values(schemaKey);
+    if (!isSorted(schemaValues)) {
+      cached = sort();
+      schemaValues = cached.values(schemaKey);
+    }
+    return schemaValues;
   }
 
   private Optional<N> internalGet(final NamedObjectKey key) {
     return Optional.ofNullable(objects.get(key));
   }
+
+  private SortedValues<N> sort() {
+    // Read the modification count before the values, so that a concurrent modification
+    // invalidates these sorted values
+    final long currentModifications = modifications;
+    final List<N> all = new ArrayList<>(objects.values());
+    all.sort(naturalOrder());
+    final SortedValues<N> sorted = new SortedValues<>(currentModifications, all);
+    sortedValues = sorted;
+    return sorted;
+  }
 }
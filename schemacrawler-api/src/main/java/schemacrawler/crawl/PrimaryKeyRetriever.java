@@ -34,6 +34,8 @@ import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.pr
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -43,6 +45,7 @@ import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.exceptions.WrappedSQLException;
+import us.fatehi.utility.scheduler.TaskMetrics;
 import us.fatehi.utility.string.StringFormat;
 
 /** A retriever uses database metadata to get the details about the database tables. */
@@ -93,6 +96,7 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
     if (primaryKey == null) {
       primaryKey = MutablePrimaryKey.newPrimaryKey(table, primaryKeyName);
       table.setPrimaryKey(primaryKey);
+      TaskMetrics.recordObjects(1);
     }
 
     // Register primary key information
@@ -112,16 +116,12 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
     final InformationSchemaViews informationSchemaViews =
         getRetrieverConnection().getInformationSchemaViews();
 
-    if (!informationSchemaViews.hasQuery(PRIMARY_KEYS)) {
-      LOGGER.log(Level.FINE, "Extended primary keys SQL statement was not provided");
-      return;
-    }
-
     final Query pkSql = informationSchemaViews.getQuery(PRIMARY_KEYS);
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(pkSql, statement, getLimitMap()); ) {
+            new MetadataResultSet(
+                pkSql, statement, getLimitMap(), getFetchSizes(), getStringPool()); ) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
         final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEM"));
@@ -143,26 +143,34 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
 
   private void retrievePrimaryKeysFromMetadata(final NamedObjectList<MutableTable> allTables)
       throws SQLException {
+    final List<MutableTable> tables = new ArrayList<>();
     for (final MutableTable table : allTables) {
-      if (table instanceof View) {
-        continue;
+      if (!(table instanceof View)) {
+        tables.add(table);
       }
-      final Schema tableSchema = table.getSchema();
-      try (final Connection connection = getRetrieverConnection().getConnection();
-          final MetadataResultSet results =
+    }
+
+    retrieveForEachTable(
+        "retrieve-primary-keys-from-metadata",
+        tables,
+        (table, connection) -> {
+          final Schema tableSchema = table.getSchema();
+          try (final MetadataResultSet results =
               new MetadataResultSet(
                   connection
                       .getMetaData()
                       .getPrimaryKeys(
                           tableSchema.getCatalogName(), tableSchema.getName(), table.getName()),
-                  "DatabaseMetaData::getPrimaryKeys"); ) {
-        while (results.next()) {
-          createPrimaryKeyForTable(table, results);
-        }
-      } catch (final SQLException e) {
-        logPossiblyUnsupportedSQLFeature(
-            new StringFormat("Could not retrieve primary keys for table <%s>", table), e);
-      }
-    }
+                  "DatabaseMetaData::getPrimaryKeys",
+                  getFetchSizes(),
+                  getStringPool()); ) {
+            while (results.next()) {
+              createPrimaryKeyForTable(table, results);
+            }
+          } catch (final SQLException e) {
+            logPossiblyUnsupportedSQLFeature(
+                new StringFormat("Could not retrieve primary keys for table <%s>", table), e);
+          }
+        });
   }
 }
@@ -49,8 +49,8 @@ import schemacrawler.schema.RoutineType;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
-import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
 import schemacrawler.schemacrawler.exceptions.WrappedSQLException;
+import us.fatehi.utility.scheduler.TaskMetrics;
 import us.fatehi.utility.string.StringFormat;
 
 /**
@@ -164,6 +164,7 @@ final class ProcedureParameterRetriever extends AbstractRetriever {
 
       LOGGER.log(Level.FINER, new StringFormat("Adding parameter to procedure <%s>", parameter));
       procedure.addParameter(parameter);
+      TaskMetrics.recordObjects(1);
     }
   }
 
@@ -197,14 +198,16 @@ final class ProcedureParameterRetriever extends AbstractRetriever {
       throws SQLException {
     final InformationSchemaViews informationSchemaViews =
         getRetrieverConnection().getInformationSchemaViews();
-    if (!informationSchemaViews.hasQuery(PROCEDURE_COLUMNS)) {
-      throw new ExecutionRuntimeException("No procedure parameters SQL provided");
-    }
     final Query procedureColumnsSql = informationSchemaViews.getQuery(PROCEDURE_COLUMNS);
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(procedureColumnsSql, statement, getLimitMap()); ) {
+            new MetadataResultSet(
+                procedureColumnsSql,
+                statement,
+                getLimitMap(),
+                getFetchSizes(),
+                getStringPool()); ) {
       while (results.next()) {
         createProcedureParameter(results, allRoutines, parameterFilter);
       }
@@ -232,7 +235,9 @@ final class ProcedureParameterRetriever extends AbstractRetriever {
                           procedure.getSchema().getName(),
                           procedure.getName(),
                           null),
-                  "DatabaseMetaData::getProcedureColumns"); ) {
+                  "DatabaseMetaData::getProcedureColumns",
+                  getFetchSizes(),
+                  getStringPool()); ) {
         while (results.next()) {
           createProcedureParameter(results, allRoutines, parameterFilter);
         }
@@ -31,18 +31,24 @@ package schemacrawler.crawl;
 import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.Utility.requireNotBlank;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import schemacrawler.schemacrawler.SchemaInfoLevel;
 import schemacrawler.schemacrawler.SchemaInfoRetrieval;
 import us.fatehi.utility.scheduler.TaskDefinition;
+import us.fatehi.utility.scheduler.TaskMetrics;
 import us.fatehi.utility.scheduler.TaskRunner;
 import us.fatehi.utility.scheduler.TaskRunners;
 
 /**
- * Builds a list of task definitions that can be run in parallel. These are then submitted to be run
- * (in parallel) in a blocked way until all are complete.
+ * Builds a graph of task definitions, where each task depends on the retrievals it is conditional
+ * on, and on any tasks it is declared to run after. These are then submitted to be run (in
+ * parallel, as far as the dependencies allow) in a blocked way until all are complete.
  */
 public final class RetrievalTaskRunner {
 
@@ -50,6 +56,7 @@ public final class RetrievalTaskRunner {
 
   private final TaskRunner taskRunner;
   private final SchemaInfoLevel infoLevel;
+  private final Collection<String> currentDependencies;
 
   public RetrievalTaskRunner(
       final String runId, final SchemaInfoLevel infoLevel, final int maxThreads) {
@@ -58,6 +65,7 @@ public final class RetrievalTaskRunner {
     this.infoLevel = requireNonNull(infoLevel, "No info-level provided");
 
     taskRunner = TaskRunners.getTaskRunner(runId, maxThreads);
+    currentDependencies = new ArrayList<>();
   }
 
   public RetrievalTaskRunner add(
@@ -66,7 +74,7 @@ public final class RetrievalTaskRunner {
       final SchemaInfoRetrieval... additionalRetrievals)
       throws Exception {
     final boolean shouldRun = shouldRun(retrieval) && shouldRun(additionalRetrievals);
-    add(retrieval.name(), shouldRun, function);
+    add(retrieval.name(), shouldRun, function, additionalRetrievals);
     return this;
   }
 
@@ -76,10 +84,52 @@ public final class RetrievalTaskRunner {
       final SchemaInfoRetrieval... additionalRetrievals)
       throws Exception {
     final boolean shouldRun = shouldRun(additionalRetrievals);
-    add(retrievalName, shouldRun, function);
+    add(retrievalName, shouldRun, function, additionalRetrievals);
     return this;
   }
 
+  /**
+   * Tasks added after this call will only run once the named retrievals have completed. This holds
+   * until the next call to this method, or until the tasks are submitted.
+   *
+   * @param retrievals Retrievals that subsequently added tasks depend on.
+   * @return This task runner, for chaining.
+   */
+  public RetrievalTaskRunner after(final SchemaInfoRetrieval... retrievals) {
+    currentDependencies.clear();
+    if (retrievals != null) {
+      for (final SchemaInfoRetrieval retrieval : retrievals) {
+        currentDependencies.add(retrieval.name());
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Tasks added after this call will only run once the named tasks have completed. This holds until
+   * the next call to this method, or until the tasks are submitted.
+   *
+   * @param retrievalNames Names of tasks that subsequently added tasks depend on.
+   * @return This task runner, for chaining.
+   */
+  public RetrievalTaskRunner after(final String... retrievalNames) {
+    currentDependencies.clear();
+    if (retrievalNames != null) {
+      currentDependencies.addAll(Arrays.asList(retrievalNames));
+    }
+    return this;
+  }
+
+  /**
+   * Metrics for the retrievals that have run, such as rows read and round trips made. Nested tasks
+   * run by a retrieval are counted towards the retrieval.
+   *
+   * @return Metrics for each retrieval.
+   */
+  public List<TaskMetrics> getRetrievalMetrics() {
+    return taskRunner.getTaskMetrics();
+  }
+
   /**
    * Allows for a deferred conversion to a string. Useful in logging.
    *
@@ -94,18 +144,28 @@ public final class RetrievalTaskRunner {
   }
 
   public void submit() throws Exception {
+    currentDependencies.clear();
     taskRunner.submit();
   }
 
   private void add(
       final String retrievalName,
       final boolean shouldRun,
-      final TaskDefinition.TaskRunnable function)
+      final TaskDefinition.TaskRunnable function,
+      final SchemaInfoRetrieval... additionalRetrievals)
       throws Exception {
+    // Retrievals that a task is conditional on also need to complete before it runs
+    final List<String> dependencies = new ArrayList<>(currentDependencies);
+    if (additionalRetrievals != null) {
+      for (final SchemaInfoRetrieval additionalRetrieval : additionalRetrievals) {
+        dependencies.add(additionalRetrieval.name());
+      }
+    }
+
     if (shouldRun) {
-      taskRunner.add(new TaskDefinition(retrievalName, function));
+      taskRunner.add(new TaskDefinition(retrievalName, function, dependencies));
     } else {
-      taskRunner.add(new TaskDefinition(retrievalName));
+      taskRunner.add(new TaskDefinition(retrievalName, dependencies));
     }
   }
 
@@ -29,8 +29,11 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.metadata;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.function.Supplier;
 import schemacrawler.plugin.EnumDataTypeHelper;
 import schemacrawler.schema.TableTypes;
 import schemacrawler.schemacrawler.Identifiers;
@@ -41,13 +44,16 @@ import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import schemacrawler.utility.JavaSqlTypes;
 import schemacrawler.utility.TypeMap;
 import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.scheduler.TaskMetrics;
 
 /** A connection for the retriever. Wraps a live database connection. */
 final class RetrieverConnection {
 
   private final DatabaseConnectionSource dataSource;
   private final JavaSqlTypes javaSqlTypes;
+  private final MetadataFetchSizes fetchSizes;
   private final SchemaRetrievalOptions schemaRetrievalOptions;
+  private final StringPool stringPool;
 
   RetrieverConnection(
       final DatabaseConnectionSource dataSource,
@@ -60,21 +66,83 @@ final class RetrieverConnection {
         requireNonNull(schemaRetrievalOptions, "No database specific overrides provided");
 
     javaSqlTypes = new JavaSqlTypes();
+    fetchSizes = new MetadataFetchSizes(schemaRetrievalOptions);
+    // Metadata result-sets share a pool of the strings that they read, since names and flag values
+    // repeat across many rows
+    stringPool = new StringPool();
   }
 
+  /**
+   * Gets the strategy to retrieve metadata with. Data dictionary queries retrieve metadata for all
+   * database objects together, but if no query is provided, metadata is retrieved with JDBC
+   * metadata calls instead. Retrievers can rely on the query being provided when the data
+   * dictionary strategy is returned.
+   *
+   * @param schemaInfoMetadataRetrievalStrategy Retrieval
+   * @return Strategy to use for the retrieval
+   */
   public MetadataRetrievalStrategy get(
       final SchemaInfoMetadataRetrievalStrategy schemaInfoMetadataRetrievalStrategy) {
-    return schemaRetrievalOptions.get(schemaInfoMetadataRetrievalStrategy);
+    final MetadataRetrievalStrategy metadataRetrievalStrategy =
+        schemaRetrievalOptions.get(schemaInfoMetadataRetrievalStrategy);
+    if (metadataRetrievalStrategy == data_dictionary_all
+        && !getInformationSchemaViews()
+            .hasQuery(schemaInfoMetadataRetrievalStrategy.getInformationSchemaKey())) {
+      return metadata;
+    }
+    return metadataRetrievalStrategy;
+  }
+
+  /**
+   * Reports the strategy used for each retrieval, noting where data dictionary retrieval was
+   * requested, but no query was provided. Allows for a deferred conversion to a string.
+   *
+   * @return String supplier
+   */
+  Supplier<String> reportRetrievalStrategies() {
+    return () -> {
+      final StringBuilder buffer = new StringBuilder(1024);
+      for (final SchemaInfoMetadataRetrievalStrategy schemaInfoMetadataRetrievalStrategy :
+          SchemaInfoMetadataRetrievalStrategy.values()) {
+        final MetadataRetrievalStrategy metadataRetrievalStrategy =
+            get(schemaInfoMetadataRetrievalStrategy);
+        final String fallback;
+        if (metadataRetrievalStrategy
+            != schemaRetrievalOptions.get(schemaInfoMetadataRetrievalStrategy)) {
+          fallback = " - no data dictionary query provided";
+        } else {
+          fallback = "";
+        }
+        buffer.append(
+            String.format(
+                "-%22s: %s%s%n",
+                schemaInfoMetadataRetrievalStrategy.getKey(), metadataRetrievalStrategy, fallback));
+      }
+      return String.format("Metadata retrieval strategies%n%s", buffer);
+    };
   }
 
   Connection getConnection() {
+    TaskMetrics.recordConnections(1);
     return dataSource.get();
   }
 
+  int getMaxConnections() {
+    return dataSource.getMaxConnections();
+  }
+
   EnumDataTypeHelper getEnumDataTypeHelper() {
     return schemaRetrievalOptions.getEnumDataTypeHelper();
   }
 
+  MetadataFetchSizes getFetchSizes() {
+    return fetchSizes;
+  }
+
+  StringPool getStringPool() {
+    return stringPool;
+  }
+
   Identifiers getIdentifiers() {
     return schemaRetrievalOptions.getIdentifiers();
   }
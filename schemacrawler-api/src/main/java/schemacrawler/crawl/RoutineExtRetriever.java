@@ -76,7 +76,12 @@ final class RoutineExtRetriever extends AbstractRetriever {
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(routineDefinitionsSql, statement, getLimitMap()); ) {
+            new MetadataResultSet(
+                routineDefinitionsSql,
+                statement,
+                getLimitMap(),
+                getFetchSizes(),
+                getStringPool()); ) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("ROUTINE_CATALOG"));
         final String schemaName = normalizeSchemaName(results.getString("ROUTINE_SCHEMA"));
@@ -54,7 +54,7 @@ import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaReference;
-import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import us.fatehi.utility.scheduler.TaskMetrics;
 import us.fatehi.utility.string.StringFormat;
 
 /** A retriever uses database metadata to get the details about the database procedures. */
@@ -120,6 +120,7 @@ final class RoutineRetriever extends AbstractRetriever {
       function.addAttributes(results.getAttributes());
 
       catalog.addRoutine(function);
+      TaskMetrics.recordObjects(1);
     }
   }
 
@@ -156,6 +157,7 @@ final class RoutineRetriever extends AbstractRetriever {
       procedure.addAttributes(results.getAttributes());
 
       catalog.addRoutine(procedure);
+      TaskMetrics.recordObjects(1);
     }
   }
 
@@ -193,14 +195,12 @@ final class RoutineRetriever extends AbstractRetriever {
       throws SQLException {
     final InformationSchemaViews informationSchemaViews =
         getRetrieverConnection().getInformationSchemaViews();
-    if (!informationSchemaViews.hasQuery(FUNCTIONS)) {
-      throw new ExecutionRuntimeException("No functions SQL provided");
-    }
     final Query functionsSql = informationSchemaViews.getQuery(FUNCTIONS);
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(functionsSql, statement, getLimitMap()); ) {
+            new MetadataResultSet(
+                functionsSql, statement, getLimitMap(), getFetchSizes(), getStringPool()); ) {
       int numFunctions = 0;
       while (results.next()) {
         numFunctions = numFunctions + 1;
@@ -223,7 +223,9 @@ final class RoutineRetriever extends AbstractRetriever {
           final MetadataResultSet results =
               new MetadataResultSet(
                   connection.getMetaData().getFunctions(catalogName, schemaName, null),
-                  "DatabaseMetaData::getFunctions"); ) {
+                  "DatabaseMetaData::getFunctions",
+                  getFetchSizes(),
+                  getStringPool()); ) {
         int numFunctions = 0;
         while (results.next()) {
           numFunctions = numFunctions + 1;
@@ -271,14 +273,12 @@ final class RoutineRetriever extends AbstractRetriever {
       throws SQLException {
     final InformationSchemaViews informationSchemaViews =
         getRetrieverConnection().getInformationSchemaViews();
-    if (!informationSchemaViews.hasQuery(PROCEDURES)) {
-      throw new ExecutionRuntimeException("No procedures SQL provided");
-    }
     final Query proceduresSql = informationSchemaViews.getQuery(PROCEDURES);
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(proceduresSql, statement, getLimitMap()); ) {
+            new MetadataResultSet(
+                proceduresSql, statement, getLimitMap(), getFetchSizes(), getStringPool()); ) {
       int numProcedures = 0;
       while (results.next()) {
         numProcedures = numProcedures + 1;
@@ -302,7 +302,9 @@ final class RoutineRetriever extends AbstractRetriever {
           final MetadataResultSet results =
               new MetadataResultSet(
                   connection.getMetaData().getProcedures(catalogName, schemaName, null),
-                  "DatabaseMetaData::getProcedures"); ) {
+                  "DatabaseMetaData::getProcedures",
+                  getFetchSizes(),
+                  getStringPool()); ) {
         int numProcedures = 0;
         while (results.next()) {
           numProcedures = numProcedures + 1;
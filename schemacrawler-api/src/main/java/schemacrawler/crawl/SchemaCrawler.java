@@ -71,11 +71,19 @@ import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveTriggerInf
 import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveUserDefinedColumnDataTypes;
 import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveViewInformation;
 import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveViewTableUsage;
+import static us.fatehi.utility.Utility.isBlank;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Instant;
 import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import schemacrawler.inclusionrule.ExcludeAll;
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.DatabaseInfo;
 import schemacrawler.schema.JdbcDriverInfo;
@@ -85,7 +93,9 @@ import schemacrawler.schema.Schema;
 import schemacrawler.schema.Sequence;
 import schemacrawler.schema.Synonym;
 import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.FilterOptions;
 import schemacrawler.schemacrawler.LimitOptions;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
 import schemacrawler.schemacrawler.LoadOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaInfoLevel;
@@ -94,6 +104,7 @@ import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
 import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
 import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.scheduler.TaskDefinition.TaskRunnable;
 import us.fatehi.utility.string.StringFormat;
 
 /** SchemaCrawler uses database meta-data to get the details about the schema. */
@@ -101,6 +112,11 @@ public final class SchemaCrawler {
 
   private static final Logger LOGGER = Logger.getLogger(SchemaCrawler.class.getName());
 
+  private static final String FILTER_AND_SORT_SCHEMAS = "filterAndSortSchemas";
+  private static final String FILTER_AND_SORT_TABLES = "filterAndSortTables";
+  private static final String FILTER_AND_SORT_ROUTINES = "filterAndSortRoutines";
+  private static final String MATCH_TABLE_CONSTRAINTS = "matchTableConstraints";
+
   private final SchemaCrawlerOptions options;
   private final RetrieverConnection retrieverConnection;
   private final SchemaInfoLevel infoLevel;
@@ -132,6 +148,16 @@ public final class SchemaCrawler {
     }
   }
 
+  private SchemaCrawler(
+      final RetrieverConnection retrieverConnection, final SchemaCrawlerOptions options) {
+    this.retrieverConnection = requireNonNull(retrieverConnection, "No connection provided");
+    this.options = requireNonNull(options, "No SchemaCrawler options provided");
+
+    final LoadOptions loadOptions = options.getLoadOptions();
+    infoLevel = loadOptions.getSchemaInfoLevel();
+    maxThreads = loadOptions.getMaxThreads();
+  }
+
   /**
    * Crawls the database, to obtain database metadata.
    *
@@ -157,16 +183,21 @@ public final class SchemaCrawler {
 
       final String runId = catalog.getCrawlInfo().getRunId();
       taskRunner = new RetrievalTaskRunner(runId, infoLevel, maxThreads);
+      LOGGER.log(Level.INFO, retrieverConnection.reportRetrievalStrategies());
 
+      // Build a single graph of retrieval tasks, so that independent branches - such as routines,
+      // synonyms and sequences, and table columns - are retrieved concurrently
       crawlDatabaseInfo();
-      LOGGER.log(Level.INFO, String.format("%n%s", catalog.getCrawlInfo()));
-
       crawlSchemas();
       crawlColumnDataTypes();
       crawlTables();
       crawlRoutines();
       crawlSynonyms();
       crawlSequences();
+      taskRunner.submit();
+      catalog.getCrawlInfo().setRetrievalMetrics(taskRunner.getRetrievalMetrics());
+
+      LOGGER.log(Level.INFO, String.format("%n%s", catalog.getCrawlInfo()));
 
       return catalog;
     } catch (final RuntimeException e) {
@@ -178,20 +209,118 @@ public final class SchemaCrawler {
     } finally {
       if (taskRunner != null) {
         taskRunner.stopAndLogTime();
+        LOGGER.log(Level.INFO, retrieverConnection.getFetchSizes().report());
       }
     }
   }
 
+  /**
+   * Crawls the database incrementally, reusing tables from a catalog obtained by an earlier crawl
+   * of the same database with the same options. Only tables that are new or changed since the
+   * earlier crawl are retrieved again, along with all routines, sequences and synonyms. A full
+   * crawl is done if the database cannot tell which tables changed.
+   *
+   * @param previousCatalog Catalog from an earlier crawl
+   * @return Database metadata
+   */
+  public Catalog crawl(final Catalog previousCatalog) {
+    requireNonNull(previousCatalog, "No previous catalog provided");
+
+    final FilterOptions filterOptions = options.getFilterOptions();
+    if (!(previousCatalog instanceof MutableCatalog)
+        || filterOptions.getChildTableFilterDepth() > 0
+        || filterOptions.getParentTableFilterDepth() > 0) {
+      LOGGER.log(Level.INFO, "Cannot crawl incrementally, so doing a full crawl");
+      return crawl();
+    }
+
+    final LimitOptions limitOptions = options.getLimitOptions();
+    final Optional<Map<MutableTable, Instant>> tableChanges;
+    try {
+      final TableChangeRetriever retriever =
+          new TableChangeRetriever(retrieverConnection, (MutableCatalog) previousCatalog, options);
+      tableChanges =
+          retriever.retrieveTableChanges(
+              limitOptions.get(ruleForSchemaInclusion), limitOptions.get(ruleForTableInclusion));
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, "Could not retrieve table changes, so doing a full crawl", e);
+      return crawl();
+    }
+    if (!tableChanges.isPresent()) {
+      LOGGER.log(Level.INFO, "Cannot find table changes, so doing a full crawl");
+      return crawl();
+    }
+
+    final CatalogSplicer splicer =
+        new CatalogSplicer((MutableCatalog) previousCatalog, tableChanges.get());
+    final Collection<MutableTable> changedTables = splicer.getChangedTables();
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Retrieving %d changed tables, out of %d tables",
+            changedTables.size(), tableChanges.get().size()));
+
+    // Synonyms are retrieved after splicing, since they can refer to unchanged tables
+    final SchemaCrawlerOptions changedTablesOptions =
+        options.withLimitOptions(
+            LimitOptionsBuilder.builder()
+                .fromOptions(limitOptions)
+                .includeTables(changedTablesInclusionRule(changedTables))
+                .includeSynonyms(new ExcludeAll())
+                .toOptions());
+    catalog =
+        (MutableCatalog) new SchemaCrawler(retrieverConnection, changedTablesOptions).crawl();
+
+    final NamedObjectList<MutableTable> retrievedTables = new NamedObjectList<>();
+    for (final MutableTable table : catalog.getAllTables()) {
+      retrievedTables.add(table);
+    }
+    splicer.splice(catalog);
+
+    try {
+      relinkRetrievedTables(retrievedTables, changedTablesOptions);
+    } catch (final SQLException e) {
+      throw new DatabaseAccessException(e);
+    }
+
+    return catalog;
+  }
+
+  /**
+   * Builds an inclusion rule that matches just the changed tables. The regular expression is also
+   * used in data dictionary queries, so it only uses syntax that databases support.
+   */
+  private InclusionRule changedTablesInclusionRule(final Collection<MutableTable> changedTables) {
+    if (changedTables.isEmpty()) {
+      return new ExcludeAll();
+    }
+    final StringJoiner tablesPattern = new StringJoiner("|", "^(.*\\.)?(", ")$");
+    for (final MutableTable table : changedTables) {
+      final Schema schema = table.getSchema();
+      final String schemaName =
+          schema.getName() != null ? schema.getName() : schema.getCatalogName();
+      final StringBuilder tablePattern = new StringBuilder();
+      if (schemaName != null) {
+        tablePattern.append(quotedNamePattern(schemaName)).append("\\.");
+      }
+      tablePattern.append(quotedNamePattern(table.getName()));
+      tablesPattern.add(tablePattern);
+    }
+    return new RegularExpressionInclusionRule(tablesPattern.toString());
+  }
+
   private void crawlColumnDataTypes() throws Exception {
 
     final DataTypeRetriever retriever =
         new DataTypeRetriever(retrieverConnection, catalog, options);
 
-    taskRunner.add(retrieveColumnDataTypes, retriever::retrieveSystemColumnDataTypes).submit();
+    taskRunner
+        .after(FILTER_AND_SORT_SCHEMAS)
+        .add(retrieveColumnDataTypes, retriever::retrieveSystemColumnDataTypes);
 
     taskRunner
-        .add(retrieveUserDefinedColumnDataTypes, retriever::retrieveUserDefinedColumnDataTypes)
-        .submit();
+        .after(retrieveColumnDataTypes)
+        .add(retrieveUserDefinedColumnDataTypes, retriever::retrieveUserDefinedColumnDataTypes);
   }
 
   private void crawlDatabaseInfo() throws Exception {
@@ -208,8 +337,7 @@ public final class SchemaCrawler {
         .add(retrieveAdditionalDatabaseInfo, retriever::retrieveAdditionalDatabaseInfo)
         .add(retrieveServerInfo, retriever::retrieveServerInfo)
         .add(retrieveDatabaseUsers, retriever::retrieveDatabaseUsers)
-        .add(retrieveAdditionalJdbcDriverInfo, retriever::retrieveAdditionalJdbcDriverInfo)
-        .submit();
+        .add(retrieveAdditionalJdbcDriverInfo, retriever::retrieveAdditionalJdbcDriverInfo);
   }
 
   private void crawlRoutines() throws Exception {
@@ -229,70 +357,78 @@ public final class SchemaCrawler {
         new FunctionParameterRetriever(retrieverConnection, catalog, options);
 
     final Collection<RoutineType> routineTypes = limitOptions.getRoutineTypes();
+    final NamedObjectList<MutableRoutine> allRoutines = catalog.getAllRoutines();
 
     taskRunner
+        .after(FILTER_AND_SORT_SCHEMAS)
         .add(
             retrieveRoutines,
-            () ->
-                retriever.retrieveRoutines(routineTypes, limitOptions.get(ruleForRoutineInclusion)))
-        .submit();
-
-    final NamedObjectList<MutableRoutine> allRoutines = catalog.getAllRoutines();
-    LOGGER.log(Level.INFO, new StringFormat("Retrieved %d routines", allRoutines.size()));
-    if (allRoutines.isEmpty()) {
-      return;
-    }
+            () -> {
+              retriever.retrieveRoutines(routineTypes, limitOptions.get(ruleForRoutineInclusion));
+              LOGGER.log(Level.INFO, new StringFormat("Retrieved %d routines", allRoutines.size()));
+            });
 
     taskRunner
+        .after(retrieveUserDefinedColumnDataTypes)
         .add(
             retrieveRoutineParameters,
-            () -> {
-              LOGGER.log(Level.INFO, "Retrieving routine columns");
-              if (!limitOptions.isExcludeAll(ruleForRoutineParameterInclusion)) {
-                if (routineTypes.contains(RoutineType.procedure)) {
-                  procedureParameterRetriever.retrieveProcedureParameters(
-                      allRoutines, limitOptions.get(ruleForRoutineParameterInclusion));
-                }
-
-                if (routineTypes.contains(RoutineType.function)) {
-                  functionParameterRetriever.retrieveFunctionParameters(
-                      allRoutines, limitOptions.get(ruleForRoutineParameterInclusion));
-                }
-              }
-            })
-        .submit();
+            unlessEmpty(
+                allRoutines,
+                () -> {
+                  LOGGER.log(Level.INFO, "Retrieving routine columns");
+                  if (!limitOptions.isExcludeAll(ruleForRoutineParameterInclusion)) {
+                    if (routineTypes.contains(RoutineType.procedure)) {
+                      procedureParameterRetriever.retrieveProcedureParameters(
+                          allRoutines, limitOptions.get(ruleForRoutineParameterInclusion));
+                    }
+
+                    if (routineTypes.contains(RoutineType.function)) {
+                      functionParameterRetriever.retrieveFunctionParameters(
+                          allRoutines, limitOptions.get(ruleForRoutineParameterInclusion));
+                    }
+                  }
+                }),
+            retrieveRoutines);
 
     taskRunner
+        .after(retrieveRoutines, retrieveRoutineParameters)
         .add(
-            "filterAndSortRoutines",
-            () -> {
-              // Filter the list of routines based on grep criteria
-              catalog.reduce(Routine.class, getRoutineReducer(options));
-            })
-        .submit();
+            FILTER_AND_SORT_ROUTINES,
+            unlessEmpty(
+                allRoutines,
+                () -> {
+                  // Filter the list of routines based on grep criteria
+                  catalog.reduce(Routine.class, getRoutineReducer(options));
+                }));
 
-    taskRunner.add(retrieveRoutineInformation, retrieverExtra::retrieveRoutineInformation).submit();
+    taskRunner
+        .after(FILTER_AND_SORT_ROUTINES)
+        .add(
+            retrieveRoutineInformation,
+            unlessEmpty(allRoutines, retrieverExtra::retrieveRoutineInformation));
   }
 
   private void crawlSchemas() throws Exception {
 
     final SchemaRetriever retriever = new SchemaRetriever(retrieverConnection, catalog, options);
 
-    taskRunner
-        .add(
-            "retrieveSchemas",
-            () -> retriever.retrieveSchemas(options.getLimitOptions().get(ruleForSchemaInclusion)))
-        .submit();
+    taskRunner.add(
+        "retrieveSchemas",
+        () -> retriever.retrieveSchemas(options.getLimitOptions().get(ruleForSchemaInclusion)));
 
     taskRunner
-        .add("filterAndSortSchemas", () -> catalog.reduce(Schema.class, getSchemaReducer(options)))
-        .submit();
+        .after("retrieveSchemas")
+        .add(
+            FILTER_AND_SORT_SCHEMAS,
+            () -> {
+              catalog.reduce(Schema.class, getSchemaReducer(options));
 
-    final NamedObjectList<SchemaReference> schemas = retriever.getAllSchemas();
-    if (schemas.isEmpty()) {
-      throw new ExecutionRuntimeException("No matching schemas found");
-    }
-    LOGGER.log(Level.INFO, new StringFormat("Retrieved %d schemas", schemas.size()));
+              final NamedObjectList<SchemaReference> schemas = retriever.getAllSchemas();
+              if (schemas.isEmpty()) {
+                throw new ExecutionRuntimeException("No matching schemas found");
+              }
+              LOGGER.log(Level.INFO, new StringFormat("Retrieved %d schemas", schemas.size()));
+            });
   }
 
   private void crawlSequences() throws Exception {
@@ -308,18 +444,18 @@ public final class SchemaCrawler {
         new SequenceRetriever(retrieverConnection, catalog, options);
 
     taskRunner
+        .after(FILTER_AND_SORT_SCHEMAS)
         .add(
             retrieveSequenceInformation,
             () ->
                 retrieverExtra.retrieveSequenceInformation(
-                    limitOptions.get(ruleForSequenceInclusion)))
-        .submit();
+                    limitOptions.get(ruleForSequenceInclusion)));
 
     taskRunner
+        .after(retrieveSequenceInformation)
         .add(
             "filterAndSortSequences",
-            () -> catalog.reduce(Sequence.class, getSequenceReducer(options)))
-        .submit();
+            () -> catalog.reduce(Sequence.class, getSequenceReducer(options)));
   }
 
   private void crawlSynonyms() throws Exception {
@@ -334,18 +470,19 @@ public final class SchemaCrawler {
     final SynonymRetriever retrieverExtra =
         new SynonymRetriever(retrieverConnection, catalog, options);
 
+    // Synonyms refer to tables and routines, so wait for them to be filtered
     taskRunner
+        .after(FILTER_AND_SORT_SCHEMAS, FILTER_AND_SORT_TABLES, FILTER_AND_SORT_ROUTINES)
         .add(
             retrieveSynonymInformation,
             () ->
                 retrieverExtra.retrieveSynonymInformation(
-                    limitOptions.get(ruleForSynonymInclusion)))
-        .submit();
+                    limitOptions.get(ruleForSynonymInclusion)));
 
     taskRunner
+        .after(retrieveSynonymInformation)
         .add(
-            "filterAndSortSynonms", () -> catalog.reduce(Synonym.class, getSynonymReducer(options)))
-        .submit();
+            "filterAndSortSynonms", () -> catalog.reduce(Synonym.class, getSynonymReducer(options)));
   }
 
   private void crawlTables() throws Exception {
@@ -371,7 +508,10 @@ public final class SchemaCrawler {
         new TablePrivilegeRetriever(retrieverConnection, catalog, options);
     final IndexRetriever indexRetriever = new IndexRetriever(retrieverConnection, catalog, options);
 
+    final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
+
     taskRunner
+        .after(FILTER_AND_SORT_SCHEMAS)
         .add(
             retrieveTables,
             () -> {
@@ -380,108 +520,198 @@ public final class SchemaCrawler {
                   limitOptions.getTableNamePattern(),
                   limitOptions.getTableTypes(),
                   limitOptions.get(ruleForTableInclusion));
-            })
-        .submit();
-
-    final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
-    LOGGER.log(Level.INFO, new StringFormat("Retrieved %d tables", allTables.size()));
-    if (allTables.isEmpty()) {
-      return;
-    }
+              LOGGER.log(Level.INFO, new StringFormat("Retrieved %d tables", allTables.size()));
+            });
 
+    // Column data types need to be known before columns are retrieved
     taskRunner
+        .after(retrieveTables, retrieveUserDefinedColumnDataTypes)
         .add(
             retrieveTableColumns,
-            () -> {
-              if (!limitOptions.isExcludeAll(ruleForColumnInclusion)) {
-                columnRetriever.retrieveTableColumns(
-                    allTables, limitOptions.get(ruleForColumnInclusion));
-              }
-            })
-        .submit();
+            unlessEmpty(
+                allTables,
+                () -> {
+                  if (!limitOptions.isExcludeAll(ruleForColumnInclusion)) {
+                    columnRetriever.retrieveTableColumns(
+                        allTables, limitOptions.get(ruleForColumnInclusion));
+                  }
+                }));
 
     taskRunner
+        .after(retrieveTables, retrieveTableColumns)
         .add(
             retrievePrimaryKeys,
-            () -> pkRetriever.retrievePrimaryKeys(allTables),
+            unlessEmpty(allTables, () -> pkRetriever.retrievePrimaryKeys(allTables)),
             retrieveTableColumns)
         .add(
             retrieveForeignKeys,
-            () -> fkRetriever.retrieveForeignKeys(allTables),
+            unlessEmpty(allTables, () -> fkRetriever.retrieveForeignKeys(allTables)),
+            retrieveTableColumns)
+        .add(
+            retrieveIndexes,
+            unlessEmpty(allTables, () -> indexRetriever.retrieveIndexes(allTables)),
             retrieveTableColumns)
-        .add(retrieveIndexes, () -> indexRetriever.retrieveIndexes(allTables), retrieveTableColumns)
         .add(
             retrieveTableConstraints,
-            constraintRetriever::retrieveTableConstraints,
+            unlessEmpty(allTables, constraintRetriever::retrieveTableConstraints),
             retrieveTableColumns)
-        .add(retrieveTriggerInformation, retrieverExtra::retrieveTriggerInformation)
-        .submit();
+        .add(
+            retrieveTriggerInformation,
+            unlessEmpty(allTables, retrieverExtra::retrieveTriggerInformation));
 
     // Should be run independently, since filter and sort modifies the tables collection
     taskRunner
+        .after(
+            retrieveTables,
+            retrieveTableColumns,
+            retrievePrimaryKeys,
+            retrieveForeignKeys,
+            retrieveIndexes,
+            retrieveTableConstraints,
+            retrieveTriggerInformation)
         .add(
-            "filterAndSortTables",
-            () -> {
-              // Filter the list of tables based on grep criteria, and
-              // parent-child relationships
-              catalog.reduce(Table.class, getTableReducer(options));
-
-              // Sort the remaining tables
-              final TablesGraph tablesGraph = new TablesGraph(allTables);
-              tablesGraph.setTablesSortIndexes();
-            })
-        .submit();
+            FILTER_AND_SORT_TABLES,
+            unlessEmpty(
+                allTables,
+                () -> {
+                  // Filter the list of tables based on grep criteria, and
+                  // parent-child relationships
+                  catalog.reduce(Table.class, getTableReducer(options));
+
+                  // Sort the remaining tables
+                  final TablesGraph tablesGraph = new TablesGraph(allTables);
+                  tablesGraph.setTablesSortIndexes();
+                }));
 
     // Should be run independently, since table constraints are modified
     taskRunner
+        .after(FILTER_AND_SORT_TABLES)
         .add(
-            "matchTableConstraints",
-            () -> constraintRetriever.matchTableConstraints(allTables),
-            retrieveTableColumns)
-        .submit();
+            MATCH_TABLE_CONSTRAINTS,
+            unlessEmpty(allTables, () -> constraintRetriever.matchTableConstraints(allTables)),
+            retrieveTableColumns);
 
     taskRunner
+        .after(MATCH_TABLE_CONSTRAINTS)
         .add(
             retrieveTableConstraintDefinitions,
-            constraintRetriever::retrieveTableConstraintDefinitions,
+            unlessEmpty(allTables, constraintRetriever::retrieveTableConstraintDefinitions),
             retrieveTableConstraints)
         .add(
             retrieveTableConstraintInformation,
-            constraintRetriever::retrieveTableConstraintInformation,
+            unlessEmpty(allTables, constraintRetriever::retrieveTableConstraintInformation),
             retrieveTableConstraints)
-        .add(retrieveViewInformation, retrieverExtra::retrieveViewInformation, retrieveTables)
-        .add(retrieveViewTableUsage, retrieverExtra::retrieveViewTableUsage, retrieveTables)
+        .add(
+            retrieveViewInformation,
+            unlessEmpty(allTables, retrieverExtra::retrieveViewInformation),
+            retrieveTables)
+        .add(
+            retrieveViewTableUsage,
+            unlessEmpty(allTables, retrieverExtra::retrieveViewTableUsage),
+            retrieveTables)
         .add(
             retrieveTableDefinitionsInformation,
-            retrieverExtra::retrieveTableDefinitions,
+            unlessEmpty(allTables, retrieverExtra::retrieveTableDefinitions),
             retrieveTables)
         .add(
             retrieveIndexInformation,
-            () -> retrieverExtra.retrieveIndexInformation(),
+            unlessEmpty(allTables, retrieverExtra::retrieveIndexInformation),
             retrieveIndexes)
         .add(
             retrieveAdditionalTableAttributes,
-            () -> retrieverExtra.retrieveAdditionalTableAttributes(),
+            unlessEmpty(allTables, retrieverExtra::retrieveAdditionalTableAttributes),
             retrieveTables)
         .add(
             retrieveTablePrivileges,
-            () -> retrieverPrivilege.retrieveTablePrivileges(),
+            unlessEmpty(allTables, retrieverPrivilege::retrieveTablePrivileges),
             retrieveTables)
         .add(
             retrieveTableColumnPrivileges,
-            retrieverPrivilege::retrieveTableColumnPrivileges,
+            unlessEmpty(allTables, retrieverPrivilege::retrieveTableColumnPrivileges),
             retrieveTableColumns)
         .add(
             retrieveAdditionalColumnAttributes,
-            retrieverExtra::retrieveAdditionalColumnAttributes,
-            retrieveTableColumns)
-        .submit();
+            unlessEmpty(allTables, retrieverExtra::retrieveAdditionalColumnAttributes),
+            retrieveTableColumns);
 
     taskRunner
+        .after(
+            retrieveTableConstraintDefinitions,
+            retrieveTableConstraintInformation,
+            retrieveViewInformation,
+            retrieveViewTableUsage,
+            retrieveTableDefinitionsInformation,
+            retrieveIndexInformation,
+            retrieveAdditionalTableAttributes,
+            retrieveTablePrivileges,
+            retrieveTableColumnPrivileges,
+            retrieveAdditionalColumnAttributes)
         .add(
             retrieveAdditionalColumnMetadata,
-            retrieverExtra::retrieveAdditionalColumnMetadata,
-            retrieveTableColumns)
-        .submit();
+            unlessEmpty(allTables, retrieverExtra::retrieveAdditionalColumnMetadata),
+            retrieveTableColumns);
+  }
+
+  private String escapePattern(final String text) {
+    final StringBuilder pattern = new StringBuilder();
+    for (final char ch : text.toCharArray()) {
+      if ("\\.[]{}()*+?^$|".indexOf(ch) >= 0) {
+        pattern.append('\\');
+      }
+      pattern.append(ch);
+    }
+    return pattern.toString();
+  }
+
+  /** Matches a name, which may be quoted, escaping any regular expression characters. */
+  private String quotedNamePattern(final String name) {
+    final String quote = retrieverConnection.getIdentifiers().getIdentifierQuoteString();
+    final String quotePattern = isBlank(quote) ? "" : "(" + escapePattern(quote) + ")?";
+    return quotePattern + escapePattern(name) + quotePattern;
+  }
+
+  /**
+   * Links tables retrieved by an incremental crawl to the unchanged tables that were spliced in
+   * from the previous catalog, by retrieving foreign keys, view table usage and synonyms again.
+   */
+  private void relinkRetrievedTables(
+      final NamedObjectList<MutableTable> retrievedTables,
+      final SchemaCrawlerOptions changedTablesOptions)
+      throws SQLException {
+    final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
+
+    if (!retrievedTables.isEmpty()) {
+      if (infoLevel.is(retrieveForeignKeys)) {
+        new ForeignKeyRetriever(retrieverConnection, catalog, options)
+            .retrieveForeignKeys(retrievedTables);
+      }
+      if (infoLevel.is(retrieveViewTableUsage)) {
+        new TableExtRetriever(retrieverConnection, catalog, changedTablesOptions)
+            .retrieveViewTableUsage();
+      }
+    }
+    new TableConstraintRetriever(retrieverConnection, catalog, options)
+        .matchTableConstraints(allTables);
+    new TablesGraph(allTables).setTablesSortIndexes();
+
+    final LimitOptions limitOptions = options.getLimitOptions();
+    if (infoLevel.is(retrieveSynonymInformation)
+        && !limitOptions.isExcludeAll(ruleForSynonymInclusion)) {
+      new SynonymRetriever(retrieverConnection, catalog, options)
+          .retrieveSynonymInformation(limitOptions.get(ruleForSynonymInclusion));
+      catalog.reduce(Synonym.class, getSynonymReducer(options));
+    }
+  }
+
+  /**
+   * Skips a retrieval at run time if an earlier retrieval in the task graph found no objects to
+   * work on.
+   */
+  private TaskRunnable unlessEmpty(final NamedObjectList<?> namedObjects, final TaskRunnable task) {
+    return () -> {
+      if (!namedObjects.isEmpty()) {
+        task.run();
+      }
+    };
   }
 }
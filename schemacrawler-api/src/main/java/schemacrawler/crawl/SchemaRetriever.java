@@ -48,6 +48,7 @@ import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaReference;
+import us.fatehi.utility.scheduler.TaskMetrics;
 import us.fatehi.utility.string.StringFormat;
 
 final class SchemaRetriever extends AbstractRetriever {
@@ -106,12 +107,14 @@ final class SchemaRetriever extends AbstractRetriever {
     // reference cache
     for (final SchemaReference schemaRef : schemaRefs) {
       catalog.addSchema(schemaRef);
+      TaskMetrics.recordObjects(1);
     }
 
     // Add an empty schema reference for databases that do not support
     // neither catalogs nor schemas
     if (!supportsCatalogs && !supportsSchemas) {
       catalog.addSchema(new SchemaReference(null, null));
+      TaskMetrics.recordObjects(1);
     }
   }
 
@@ -154,7 +157,10 @@ final class SchemaRetriever extends AbstractRetriever {
       try (final Connection connection = getRetrieverConnection().getConnection();
           final MetadataResultSet results =
               new MetadataResultSet(
-                  connection.getMetaData().getSchemas(), "DatabaseMetaData::getSchemas"); ) {
+                  connection.getMetaData().getSchemas(),
+                  "DatabaseMetaData::getSchemas",
+                  getFetchSizes(),
+                  getStringPool()); ) {
         while (results.next()) {
           numSchemas = numSchemas + 1;
           final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -200,7 +206,8 @@ final class SchemaRetriever extends AbstractRetriever {
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(schemataSql, statement, getLimitMap()); ) {
+            new MetadataResultSet(
+                schemataSql, statement, getLimitMap(), getFetchSizes(), getStringPool()); ) {
       int numSchemas = 0;
       while (results.next()) {
         numSchemas = numSchemas + 1;
@@ -45,6 +45,7 @@ import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaReference;
+import us.fatehi.utility.scheduler.TaskMetrics;
 
 /**
  * A retriever that uses database metadata to get the extended details about the database sequences.
@@ -90,7 +91,12 @@ final class SequenceRetriever extends AbstractRetriever {
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(sequencesDefinitionSql, statement, getLimitMap()); ) {
+            new MetadataResultSet(
+                sequencesDefinitionSql,
+                statement,
+                getLimitMap(),
+                getFetchSizes(),
+                getStringPool()); ) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("SEQUENCE_CATALOG"));
         final String schemaName = normalizeSchemaName(results.getString("SEQUENCE_SCHEMA"));
@@ -114,6 +120,7 @@ final class SequenceRetriever extends AbstractRetriever {
 
         if (sequenceFilter.test(sequence)) {
           catalog.addSequence(sequence);
+          TaskMetrics.recordObjects(1);
         }
 
         sequence.setStartValue(startValue);
@@ -0,0 +1,78 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pool of strings read from metadata result-sets. Names of catalogs, schemas, tables and data
+ * types, as well as values such as "YES" and "NO", are repeated across a great many rows, so
+ * keeping a single instance of each saves a lot of memory for large catalogs. Long strings, such
+ * as definitions, are rarely repeated, and are not pooled.
+ */
+final class StringPool {
+
+  private static final int MAX_LENGTH = 256;
+  private static final int MAX_SIZE = 1 << 20;
+
+  private final Map<String, String> strings;
+
+  StringPool() {
+    strings = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Gets the pooled instance of a string, adding the string to the pool if it is not already
+   * there. Once the pool is full, strings that are not in the pool are returned as they are.
+   *
+   * @param value String value
+   * @return Pooled instance of the string
+   */
+  String pooled(final String value) {
+    if (value == null || value.length() > MAX_LENGTH) {
+      return value;
+    }
+    final String pooledValue = strings.get(value);
+    if (pooledValue != null) {
+      return pooledValue;
+    }
+    if (strings.size() >= MAX_SIZE) {
+      return value;
+    }
+    final String existingValue = strings.putIfAbsent(value, value);
+    if (existingValue == null) {
+      return value;
+    }
+    return existingValue;
+  }
+
+  int size() {
+    return strings.size();
+  }
+}
@@ -45,6 +45,7 @@ import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaReference;
+import us.fatehi.utility.scheduler.TaskMetrics;
 import us.fatehi.utility.string.StringFormat;
 
 /**
@@ -54,7 +55,7 @@ import us.fatehi.utility.string.StringFormat;
  */
 final class SynonymRetriever extends AbstractRetriever {
 
-  private static final class UnknownDatabaseObject extends AbstractDatabaseObject {
+  static final class UnknownDatabaseObject extends AbstractDatabaseObject {
 
     private static final long serialVersionUID = -2212843304418302122L;
 
@@ -102,7 +103,12 @@ final class SynonymRetriever extends AbstractRetriever {
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(synonymsDefinitionSql, statement, getLimitMap()); ) {
+            new MetadataResultSet(
+                synonymsDefinitionSql,
+                statement,
+                getLimitMap(),
+                getFetchSizes(),
+                getStringPool()); ) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("SYNONYM_CATALOG"));
         final String schemaName = normalizeSchemaName(results.getString("SYNONYM_SCHEMA"));
@@ -149,6 +155,7 @@ final class SynonymRetriever extends AbstractRetriever {
 
         if (synonymFilter.test(synonym)) {
           catalog.addSynonym(synonym);
+          TaskMetrics.recordObjects(1);
         }
 
         synonym.setReferencedObject(referencedObject);
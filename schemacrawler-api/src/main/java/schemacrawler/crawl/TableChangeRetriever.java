@@ -0,0 +1,139 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_CHANGES;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import schemacrawler.filter.InclusionRuleFilter;
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.Query;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaReference;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * A retriever that uses a database specific query to find when tables were last changed, so that
+ * an incremental crawl can retrieve only the tables that changed since an earlier crawl.
+ */
+final class TableChangeRetriever extends AbstractRetriever {
+
+  private static final Logger LOGGER = Logger.getLogger(TableChangeRetriever.class.getName());
+
+  TableChangeRetriever(
+      final RetrieverConnection retrieverConnection,
+      final MutableCatalog catalog,
+      final SchemaCrawlerOptions options)
+      throws SQLException {
+    super(retrieverConnection, catalog, options);
+  }
+
+  /**
+   * Retrieves all the tables that currently exist in the database, along with the time that each
+   * table was last changed. The time is null if the database cannot tell when the table was
+   * changed. The tables that are returned are not added to the catalog.
+   *
+   * @param schemaInclusionRule Schemas to consider
+   * @param tableInclusionRule Tables to consider
+   * @return Tables with the time that they were last changed, or empty if there is no change
+   *     detection query for the database, or if the database cannot tell when any table was
+   *     changed
+   */
+  Optional<Map<MutableTable, Instant>> retrieveTableChanges(
+      final InclusionRule schemaInclusionRule, final InclusionRule tableInclusionRule)
+      throws SQLException {
+
+    final InformationSchemaViews informationSchemaViews =
+        getRetrieverConnection().getInformationSchemaViews();
+    if (!informationSchemaViews.hasQuery(EXT_TABLE_CHANGES)) {
+      LOGGER.log(Level.FINE, "Table changes SQL statement was not provided");
+      return Optional.empty();
+    }
+
+    LOGGER.log(Level.INFO, "Retrieving table changes");
+
+    final InclusionRuleFilter<Schema> schemaFilter =
+        new InclusionRuleFilter<>(schemaInclusionRule, true);
+    final InclusionRuleFilter<Table> tableFilter =
+        new InclusionRuleFilter<>(tableInclusionRule, false);
+
+    final Map<MutableTable, Instant> tableChanges = new HashMap<>();
+    boolean hasChangeTimes = false;
+    final Query tableChangesSql = informationSchemaViews.getQuery(EXT_TABLE_CHANGES);
+    try (final Connection connection = getRetrieverConnection().getConnection();
+        final Statement statement = connection.createStatement();
+        final MetadataResultSet results =
+            new MetadataResultSet(
+                tableChangesSql, statement, getLimitMap(), getFetchSizes(), getStringPool()); ) {
+      while (results.next()) {
+        final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
+        final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEMA"));
+        final String tableName = results.getString("TABLE_NAME");
+        final Instant changedAt = results.getInstant("CHANGED_AT");
+
+        final Schema schema = new SchemaReference(catalogName, schemaName);
+        if (!schemaFilter.test(schema)) {
+          continue;
+        }
+        final MutableTable table = new MutableTable(schema, tableName);
+        table.withQuoting(getRetrieverConnection().getIdentifiers());
+        if (!tableFilter.test(table)) {
+          continue;
+        }
+
+        LOGGER.log(
+            Level.FINER,
+            new StringFormat("Table <%s> was last changed at <%s>", table, changedAt));
+        tableChanges.put(table, changedAt);
+        hasChangeTimes |= changedAt != null;
+      }
+    }
+
+    // For example, PostgreSQL does not know when tables were changed unless it tracks commit
+    // timestamps, and then every table would look changed
+    if (!tableChanges.isEmpty() && !hasChangeTimes) {
+      LOGGER.log(Level.INFO, "Database cannot tell when tables were changed");
+      return Optional.empty();
+    }
+
+    LOGGER.log(
+        Level.INFO, new StringFormat("Retrieved changes for %d tables", tableChanges.size()));
+    return Optional.of(tableChanges);
+  }
+}
@@ -51,12 +51,8 @@ import schemacrawler.schemacrawler.Identifiers;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
-import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
-import schemacrawler.schemacrawler.exceptions.SchemaCrawlerException;
 import schemacrawler.schemacrawler.exceptions.WrappedSQLException;
-import us.fatehi.utility.scheduler.TaskDefinition;
-import us.fatehi.utility.scheduler.TaskRunner;
-import us.fatehi.utility.scheduler.TaskRunners;
+import us.fatehi.utility.scheduler.TaskMetrics;
 import us.fatehi.utility.string.StringFormat;
 
 /** A retriever uses database metadata to get the details about the database table columns. */
@@ -178,6 +174,7 @@ final class TableColumnRetriever extends AbstractRetriever {
       } else {
         table.addColumn(column);
       }
+      TaskMetrics.recordObjects(1);
     }
   }
 
@@ -218,7 +215,8 @@ final class TableColumnRetriever extends AbstractRetriever {
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(hiddenColumnsSql, statement, getLimitMap()); ) {
+            new MetadataResultSet(
+                hiddenColumnsSql, statement, getLimitMap(), getFetchSizes(), getStringPool()); ) {
       while (results.next()) {
         // NOTE: The column names in the extension table are different
         // than the database metadata column names
@@ -249,14 +247,12 @@ final class TableColumnRetriever extends AbstractRetriever {
       throws SQLException {
     final InformationSchemaViews informationSchemaViews =
         getRetrieverConnection().getInformationSchemaViews();
-    if (!informationSchemaViews.hasQuery(TABLE_COLUMNS)) {
-      throw new ExecutionRuntimeException("No table columns SQL provided");
-    }
     final Query tableColumnsSql = informationSchemaViews.getQuery(TABLE_COLUMNS);
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(tableColumnsSql, statement, getLimitMap()); ) {
+            new MetadataResultSet(
+                tableColumnsSql, statement, getLimitMap(), getFetchSizes(), getStringPool()); ) {
       while (results.next()) {
         createTableColumn(results, allTables, columnFilter, hiddenTableColumnsLookupKeys);
       }
@@ -268,44 +264,32 @@ final class TableColumnRetriever extends AbstractRetriever {
       final InclusionRuleFilter<Column> columnFilter,
       final Set<NamedObjectKey> hiddenTableColumnsLookupKeys)
       throws SQLException {
-    try (final TaskRunner taskRunner =
-        TaskRunners.getTaskRunner("retrieve-table-columns-from-metadata", 5); ) {
-      for (final MutableTable table : allTables) {
-        taskRunner.add(
-            new TaskDefinition(
-                table.getFullName(),
-                () -> {
-                  LOGGER.log(
-                      Level.FINE, new StringFormat("Retrieving table columns for <%s>", table));
-                  try (final Connection connection = getRetrieverConnection().getConnection();
-                      final MetadataResultSet results =
-                          new MetadataResultSet(
-                              connection
-                                  .getMetaData()
-                                  .getColumns(
-                                      table.getSchema().getCatalogName(),
-                                      table.getSchema().getName(),
-                                      table.getName(),
-                                      null),
-                              "DatabaseMetaData::getColumns"); ) {
-                    while (results.next()) {
-                      createTableColumn(
-                          results, allTables, columnFilter, hiddenTableColumnsLookupKeys);
-                    }
-                  } catch (final SQLException e) {
-                    throw new WrappedSQLException(
-                        String.format(
-                            "Could not retrieve table columns for %s <%s>",
-                            table.getTableType(), table),
-                        e);
-                  }
-                }));
-      }
-      taskRunner.submit();
-    } catch (final SQLException | SchemaCrawlerException e) {
-      throw e;
-    } catch (final Exception e) {
-      throw new ExecutionRuntimeException(e.getMessage(), e);
-    }
+    retrieveForEachTable(
+        "retrieve-table-columns-from-metadata",
+        allTables,
+        (table, connection) -> {
+          LOGGER.log(Level.FINE, new StringFormat("Retrieving table columns for <%s>", table));
+          try (final MetadataResultSet results =
+              new MetadataResultSet(
+                  connection
+                      .getMetaData()
+                      .getColumns(
+                          table.getSchema().getCatalogName(),
+                          table.getSchema().getName(),
+                          table.getName(),
+                          null),
+                  "DatabaseMetaData::getColumns",
+                  getFetchSizes(),
+                  getStringPool()); ) {
+            while (results.next()) {
+              createTableColumn(results, allTables, columnFilter, hiddenTableColumnsLookupKeys);
+            }
+          } catch (final SQLException e) {
+            throw new WrappedSQLException(
+                String.format(
+                    "Could not retrieve table columns for %s <%s>", table.getTableType(), table),
+                e);
+          }
+        });
   }
 }
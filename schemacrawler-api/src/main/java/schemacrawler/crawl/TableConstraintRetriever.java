@@ -54,6 +54,7 @@ import schemacrawler.schema.TableConstraintType;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import us.fatehi.utility.scheduler.TaskMetrics;
 import us.fatehi.utility.string.StringFormat;
 
 /** A retriever uses database metadata to get the constraints on the database tables. */
@@ -103,7 +104,12 @@ final class TableConstraintRetriever extends AbstractRetriever {
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(extTableConstraintInformationSql, statement, getLimitMap()); ) {
+            new MetadataResultSet(
+                extTableConstraintInformationSql,
+                statement,
+                getLimitMap(),
+                getFetchSizes(),
+                getStringPool()); ) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("CONSTRAINT_CATALOG"));
         final String schemaName = normalizeSchemaName(results.getString("CONSTRAINT_SCHEMA"));
@@ -156,7 +162,12 @@ final class TableConstraintRetriever extends AbstractRetriever {
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(extTableConstraintsInformationSql, statement, getLimitMap()); ) {
+            new MetadataResultSet(
+                extTableConstraintsInformationSql,
+                statement,
+                getLimitMap(),
+                getFetchSizes(),
+                getStringPool()); ) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("CONSTRAINT_CATALOG"));
@@ -270,7 +281,12 @@ final class TableConstraintRetriever extends AbstractRetriever {
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(tableConstraintsInformationSql, statement, getLimitMap()); ) {
+            new MetadataResultSet(
+                tableConstraintsInformationSql,
+                statement,
+                getLimitMap(),
+                getFetchSizes(),
+                getStringPool()); ) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("CONSTRAINT_CATALOG"));
@@ -305,6 +321,7 @@ final class TableConstraintRetriever extends AbstractRetriever {
 
         // Add constraint to table
         table.addTableConstraint(tableConstraint);
+        TaskMetrics.recordObjects(1);
 
         // Add to map, since we will need this later
         final Schema schema = table.getSchema();
@@ -352,7 +369,11 @@ final class TableConstraintRetriever extends AbstractRetriever {
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
             new MetadataResultSet(
-                tableConstraintsColumnsInformationSql, statement, getLimitMap()); ) {
+                tableConstraintsColumnsInformationSql,
+                statement,
+                getLimitMap(),
+                getFetchSizes(),
+                getStringPool()); ) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("CONSTRAINT_CATALOG"));
         final String schemaName = normalizeSchemaName(results.getString("CONSTRAINT_SCHEMA"));
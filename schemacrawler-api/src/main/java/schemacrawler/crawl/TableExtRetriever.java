@@ -50,6 +50,7 @@ import schemacrawler.schema.EventManipulationType;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import us.fatehi.utility.scheduler.TaskMetrics;
 import us.fatehi.utility.string.StringFormat;
 
 /** A retriever uses database metadata to get the extended details about the database tables. */
@@ -84,7 +85,12 @@ final class TableExtRetriever extends AbstractRetriever {
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(columnAttributesSql, statement, getLimitMap()); ) {
+            new MetadataResultSet(
+                columnAttributesSql,
+                statement,
+                getLimitMap(),
+                getFetchSizes(),
+                getStringPool()); ) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -179,7 +185,8 @@ final class TableExtRetriever extends AbstractRetriever {
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(tableAttributesSql, statement, getLimitMap()); ) {
+            new MetadataResultSet(
+                tableAttributesSql, statement, getLimitMap(), getFetchSizes(), getStringPool()); ) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -226,7 +233,12 @@ final class TableExtRetriever extends AbstractRetriever {
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(extIndexesInformationSql, statement, getLimitMap()); ) {
+            new MetadataResultSet(
+                extIndexesInformationSql,
+                statement,
+                getLimitMap(),
+                getFetchSizes(),
+                getStringPool()); ) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("INDEX_CATALOG"));
@@ -291,7 +303,12 @@ final class TableExtRetriever extends AbstractRetriever {
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(tableDefinitionsInformationSql, statement, getLimitMap()); ) {
+            new MetadataResultSet(
+                tableDefinitionsInformationSql,
+                statement,
+                getLimitMap(),
+                getFetchSizes(),
+                getStringPool()); ) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -341,7 +358,12 @@ final class TableExtRetriever extends AbstractRetriever {
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(triggerInformationSql, statement, getLimitMap()); ) {
+            new MetadataResultSet(
+                triggerInformationSql,
+                statement,
+                getLimitMap(),
+                getFetchSizes(),
+                getStringPool()); ) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TRIGGER_CATALOG"));
@@ -392,6 +414,7 @@ final class TableExtRetriever extends AbstractRetriever {
 
         // Add trigger to the table
         table.addTrigger(trigger);
+        TaskMetrics.recordObjects(1);
       }
     } catch (final Exception e) {
       LOGGER.log(Level.WARNING, "Could not retrieve triggers", e);
@@ -420,7 +443,8 @@ final class TableExtRetriever extends AbstractRetriever {
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(viewInformationSql, statement, getLimitMap()); ) {
+            new MetadataResultSet(
+                viewInformationSql, statement, getLimitMap(), getFetchSizes(), getStringPool()); ) {
 
       while (results.next()) {
 
@@ -481,7 +505,8 @@ final class TableExtRetriever extends AbstractRetriever {
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(viewTableUsageSql, statement, getLimitMap()); ) {
+            new MetadataResultSet(
+                viewTableUsageSql, statement, getLimitMap(), getFetchSizes(), getStringPool()); ) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("VIEW_CATALOG"));
@@ -43,7 +43,7 @@ import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
-import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import us.fatehi.utility.scheduler.TaskMetrics;
 
 /** A retriever uses database metadata to get the extended details about the database tables. */
 final class TablePrivilegeRetriever extends AbstractRetriever {
@@ -147,6 +147,7 @@ final class TablePrivilegeRetriever extends AbstractRetriever {
       privilege.withQuoting(getRetrieverConnection().getIdentifiers());
 
       privilege.addGrant(grantor, grantee, isGrantable);
+      TaskMetrics.recordObjects(1);
 
       if (privilegesForColumn) {
         column.addPrivilege((MutablePrivilege<Column>) privilege);
@@ -159,14 +160,12 @@ final class TablePrivilegeRetriever extends AbstractRetriever {
   private void retrieveTableColumnPrivilegesFromDataDictionary() throws SQLException {
     final InformationSchemaViews informationSchemaViews =
         getRetrieverConnection().getInformationSchemaViews();
-    if (!informationSchemaViews.hasQuery(TABLE_COLUMN_PRIVILEGES)) {
-      throw new ExecutionRuntimeException("No table column privileges SQL provided");
-    }
     final Query tablePrivelegesSql = informationSchemaViews.getQuery(TABLE_COLUMN_PRIVILEGES);
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(tablePrivelegesSql, statement, getLimitMap()); ) {
+            new MetadataResultSet(
+                tablePrivelegesSql, statement, getLimitMap(), getFetchSizes(), getStringPool()); ) {
       createPrivileges(results, true);
     }
   }
@@ -176,7 +175,9 @@ final class TablePrivilegeRetriever extends AbstractRetriever {
         final MetadataResultSet results =
             new MetadataResultSet(
                 connection.getMetaData().getColumnPrivileges(null, null, null, null),
-                "DatabaseMetaData::getColumnPrivileges"); ) {
+                "DatabaseMetaData::getColumnPrivileges",
+                getFetchSizes(),
+                getStringPool()); ) {
       createPrivileges(results, true);
     } catch (final Exception e) {
       LOGGER.log(Level.WARNING, "Could not retrieve table column privileges:" + e.getMessage());
@@ -186,14 +187,12 @@ final class TablePrivilegeRetriever extends AbstractRetriever {
   private void retrieveTablePrivilegesFromDataDictionary() throws SQLException {
     final InformationSchemaViews informationSchemaViews =
         getRetrieverConnection().getInformationSchemaViews();
-    if (!informationSchemaViews.hasQuery(TABLE_PRIVILEGES)) {
-      throw new ExecutionRuntimeException("No table privileges SQL provided");
-    }
     final Query tablePrivelegesSql = informationSchemaViews.getQuery(TABLE_PRIVILEGES);
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(tablePrivelegesSql, statement, getLimitMap()); ) {
+            new MetadataResultSet(
+                tablePrivelegesSql, statement, getLimitMap(), getFetchSizes(), getStringPool()); ) {
       createPrivileges(results, false);
     }
   }
@@ -203,7 +202,9 @@ final class TablePrivilegeRetriever extends AbstractRetriever {
         final MetadataResultSet results =
             new MetadataResultSet(
                 connection.getMetaData().getTablePrivileges(null, null, null),
-                "DatabaseMetaData::getTablePrivileges"); ) {
+                "DatabaseMetaData::getTablePrivileges",
+                getFetchSizes(),
+                getStringPool()); ) {
       createPrivileges(results, false);
     } catch (final Exception e) {
       LOGGER.log(Level.WARNING, "Could not retrieve table privileges", e);
@@ -48,7 +48,7 @@ import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaReference;
-import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import us.fatehi.utility.scheduler.TaskMetrics;
 import us.fatehi.utility.string.StringFormat;
 
 /** A retriever uses database metadata to get the details about the database tables. */
@@ -143,6 +143,7 @@ final class TableRetriever extends AbstractRetriever {
       table.addAttributes(results.getAttributes());
 
       catalog.addTable(table);
+      TaskMetrics.recordObjects(1);
     }
   }
 
@@ -153,9 +154,6 @@ final class TableRetriever extends AbstractRetriever {
       throws SQLException {
     final InformationSchemaViews informationSchemaViews =
         getRetrieverConnection().getInformationSchemaViews();
-    if (!informationSchemaViews.hasQuery(TABLES)) {
-      throw new ExecutionRuntimeException("No tables SQL provided");
-    }
     final Query tablesSql = informationSchemaViews.getQuery(TABLES);
     final TableTypes supportedTableTypes = getRetrieverConnection().getTableTypes();
     final TableTypes filteredTableTypes;
@@ -167,7 +165,8 @@ final class TableRetriever extends AbstractRetriever {
     try (final Connection connection = getRetrieverConnection().getConnection();
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(tablesSql, statement, getLimitMap()); ) {
+            new MetadataResultSet(
+                tablesSql, statement, getLimitMap(), getFetchSizes(), getStringPool()); ) {
       int numTables = 0;
       while (results.next()) {
         numTables = numTables + 1;
@@ -200,7 +199,9 @@ final class TableRetriever extends AbstractRetriever {
                       .getMetaData()
                       .getTables(
                           catalogName, schemaName, tableNamePattern, filteredTableTypes.toArray()),
-                  "DatabaseMetaData::getTables"); ) {
+                  "DatabaseMetaData::getTables",
+                  getFetchSizes(),
+                  getStringPool()); ) {
         int numTables = 0;
         while (results.next()) {
           numTables = numTables + 1;
@@ -47,15 +47,25 @@ import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 public final class FilterFactory {
 
   public static Predicate<Routine> routineFilter(final SchemaCrawlerOptions options) {
-    final LimitOptions limitOptions = options.getLimitOptions();
     final Predicate<Routine> routineFilter =
-        new RoutineTypesFilter(limitOptions)
-            .and(new DatabaseObjectFilter<>(limitOptions, ruleForRoutineInclusion))
-            .and(new RoutineGrepFilter(options.getGrepOptions()));
+        routineLimitFilter(options).and(new RoutineGrepFilter(options.getGrepOptions()));
 
     return routineFilter;
   }
 
+  /**
+   * Routine filter that only uses limit options, so it can be applied before routine parameters
+   * are available.
+   *
+   * @param options SchemaCrawler options
+   * @return Routine filter
+   */
+  public static Predicate<Routine> routineLimitFilter(final SchemaCrawlerOptions options) {
+    final LimitOptions limitOptions = options.getLimitOptions();
+    return new RoutineTypesFilter(limitOptions)
+        .and(new DatabaseObjectFilter<>(limitOptions, ruleForRoutineInclusion));
+  }
+
   public static Predicate<Schema> schemaFilter(final SchemaCrawlerOptions options) {
     return new InclusionRuleFilter<>(options.getLimitOptions().get(ruleForSchemaInclusion), true);
   }
@@ -69,14 +79,24 @@ public final class FilterFactory {
   }
 
   public static Predicate<Table> tableFilter(final SchemaCrawlerOptions options) {
-    final LimitOptions limitOptions = options.getLimitOptions();
     final Predicate<Table> tableFilter =
-        new TableTypesFilter(limitOptions)
-            .and(new DatabaseObjectFilter<>(limitOptions, ruleForTableInclusion))
-            .and(new TableGrepFilter(options.getGrepOptions()));
+        tableLimitFilter(options).and(new TableGrepFilter(options.getGrepOptions()));
 
     return tableFilter;
   }
 
+  /**
+   * Table filter that only uses limit options, so it can be applied before table columns are
+   * available.
+   *
+   * @param options SchemaCrawler options
+   * @return Table filter
+   */
+  public static Predicate<Table> tableLimitFilter(final SchemaCrawlerOptions options) {
+    final LimitOptions limitOptions = options.getLimitOptions();
+    return new TableTypesFilter(limitOptions)
+        .and(new DatabaseObjectFilter<>(limitOptions, ruleForTableInclusion));
+  }
+
   private FilterFactory() {}
 }
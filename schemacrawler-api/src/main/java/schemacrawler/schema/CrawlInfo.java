@@ -30,8 +30,10 @@ package schemacrawler.schema;
 
 import java.io.Serializable;
 import java.time.Instant;
+import java.util.List;
 
 import schemacrawler.ProductVersion;
+import us.fatehi.utility.scheduler.TaskMetrics;
 
 public interface CrawlInfo extends Serializable {
 
@@ -77,6 +79,14 @@ public interface CrawlInfo extends Serializable {
    */
   ProductVersion getOperatingSystemVersion();
 
+  /**
+   * Gets the work done by each retrieval during the crawl, such as the time taken, rows read and
+   * round trips made to the database, in the order in which the retrievals completed.
+   *
+   * @return Metrics for each retrieval
+   */
+  List<TaskMetrics> getRetrievalMetrics();
+
   /**
    * Unique identifier for each SchemaCrawler run.
    *
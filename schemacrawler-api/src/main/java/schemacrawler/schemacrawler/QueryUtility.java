@@ -42,6 +42,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.StringJoiner;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.inclusionrule.InclusionRule;
@@ -83,6 +84,44 @@ public final class QueryUtility {
     return executeSql(statement, sql);
   }
 
+  /**
+   * Executes a query that returns a single value against each of the tables in one statement, by
+   * combining the queries for each table with UNION ALL. Each row of the results has the index of
+   * the table in the list in the first column, and the value in the second column. Not all
+   * databases support this form of query, so callers need to be able to fall back to running the
+   * query against one table at a time.
+   *
+   * @param query Query that returns a single value for a table
+   * @param statement Statement to execute the query with
+   * @param tables Tables to run the query against
+   * @param identifiers Identifiers to quote table names with
+   * @return Results with the table index, and the value for that table
+   * @throws SQLException On an exception
+   */
+  public static ResultSet executeAgainstTables(
+      final Query query,
+      final Statement statement,
+      final List<? extends Table> tables,
+      final Identifiers identifiers)
+      throws SQLException {
+    requireNonNull(query, "No query provided");
+    requireNonNull(tables, "No tables provided");
+    requireNonNull(identifiers, "No identifiers provided");
+
+    final StringJoiner sql = new StringJoiner(String.format("%nUNION ALL%n"));
+    for (int i = 0; i < tables.size(); i++) {
+      final String tableSql = getQuery(query, tables.get(i), true, identifiers);
+      sql.add(
+          String.format(
+              "SELECT %d AS TABLE_INDEX, TABLE_RESULT.* FROM (%s) TABLE_RESULT", i, tableSql));
+    }
+    LOGGER.log(
+        Level.FINE,
+        new StringFormat(
+            "Executing %s against %d tables: %n%s", query.getName(), tables.size(), sql));
+    return executeSql(statement, sql.toString());
+  }
+
   public static long executeForLong(
       final Query query,
       final Connection connection,
@@ -28,25 +28,51 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.schemacrawler;
 
+import static schemacrawler.schemacrawler.InformationSchemaKey.FOREIGN_KEYS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.FUNCTIONS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.FUNCTION_COLUMNS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.INDEXES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.PRIMARY_KEYS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.PROCEDURES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.PROCEDURE_COLUMNS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_COLUMNS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_COLUMN_PRIVILEGES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_PRIVILEGES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TYPE_INFO;
+
 public enum SchemaInfoMetadataRetrievalStrategy {
-  foreignKeysRetrievalStrategy("foreignkeys"),
-  functionParametersRetrievalStrategy("functionparameters"),
-  functionsRetrievalStrategy("functions"),
-  indexesRetrievalStrategy("indexes"),
-  primaryKeysRetrievalStrategy("primarykeys"),
-  proceduresRetrievalStrategy("procedures"),
-  procedureParametersRetrievalStrategy("procedureparameters"),
-  tableColumnPrivilegesRetrievalStrategy("tablecolumnprivileges"),
-  tableColumnsRetrievalStrategy("tablecolumns"),
-  tablePrivilegesRetrievalStrategy("tableprivileges"),
-  tablesRetrievalStrategy("tables"),
-  typeInfoRetrievalStrategy("typeinfo"),
+  foreignKeysRetrievalStrategy("foreignkeys", FOREIGN_KEYS),
+  functionParametersRetrievalStrategy("functionparameters", FUNCTION_COLUMNS),
+  functionsRetrievalStrategy("functions", FUNCTIONS),
+  indexesRetrievalStrategy("indexes", INDEXES),
+  primaryKeysRetrievalStrategy("primarykeys", PRIMARY_KEYS),
+  proceduresRetrievalStrategy("procedures", PROCEDURES),
+  procedureParametersRetrievalStrategy("procedureparameters", PROCEDURE_COLUMNS),
+  tableColumnPrivilegesRetrievalStrategy("tablecolumnprivileges", TABLE_COLUMN_PRIVILEGES),
+  tableColumnsRetrievalStrategy("tablecolumns", TABLE_COLUMNS),
+  tablePrivilegesRetrievalStrategy("tableprivileges", TABLE_PRIVILEGES),
+  tablesRetrievalStrategy("tables", TABLES),
+  typeInfoRetrievalStrategy("typeinfo", TYPE_INFO),
   ;
 
   private final String key;
+  private final InformationSchemaKey informationSchemaKey;
 
-  SchemaInfoMetadataRetrievalStrategy(final String key) {
+  SchemaInfoMetadataRetrievalStrategy(
+      final String key, final InformationSchemaKey informationSchemaKey) {
     this.key = key;
+    this.informationSchemaKey = informationSchemaKey;
+  }
+
+  /**
+   * Key for the data dictionary query that retrieves metadata for all database objects together,
+   * when the data dictionary retrieval strategy is used.
+   *
+   * @return Information schema key for the data dictionary query
+   */
+  public InformationSchemaKey getInformationSchemaKey() {
+    return informationSchemaKey;
   }
 
   public String getKey() {
@@ -57,6 +57,10 @@ public final class SchemaRetrievalOptions implements Options {
   private final EnumMap<SchemaInfoMetadataRetrievalStrategy, MetadataRetrievalStrategy>
       metadataRetrievalStrategyMap;
   private final Consumer<Connection> connectionInitializer;
+  private final int fetchSize;
+  private final Map<InformationSchemaKey, Integer> informationSchemaFetchSizeMap;
+  private final Map<SchemaInfoMetadataRetrievalStrategy, Integer> metadataFetchSizeMap;
+  private final boolean adaptiveFetchSize;
 
   protected SchemaRetrievalOptions(final SchemaRetrievalOptionsBuilder builder) {
     final SchemaRetrievalOptionsBuilder bldr =
@@ -73,6 +77,12 @@ public final class SchemaRetrievalOptions implements Options {
     enumDataTypeHelper = bldr.enumDataTypeHelper;
     metadataRetrievalStrategyMap = new EnumMap<>(bldr.metadataRetrievalStrategyMap);
     connectionInitializer = bldr.connectionInitializer;
+    fetchSize = bldr.fetchSize;
+    informationSchemaFetchSizeMap = new EnumMap<>(InformationSchemaKey.class);
+    informationSchemaFetchSizeMap.putAll(bldr.informationSchemaFetchSizeMap);
+    metadataFetchSizeMap = new EnumMap<>(SchemaInfoMetadataRetrievalStrategy.class);
+    metadataFetchSizeMap.putAll(bldr.metadataFetchSizeMap);
+    adaptiveFetchSize = bldr.adaptiveFetchSize;
   }
 
   public MetadataRetrievalStrategy get(
@@ -94,6 +104,39 @@ public final class SchemaRetrievalOptions implements Options {
     return enumDataTypeHelper;
   }
 
+  /**
+   * Default number of rows fetched per round-trip for metadata result-sets.
+   *
+   * @return Fetch size
+   */
+  public int getFetchSize() {
+    return fetchSize;
+  }
+
+  /**
+   * Number of rows fetched per round-trip for a data dictionary query.
+   *
+   * @param informationSchemaKey Data dictionary query
+   * @return Fetch size, or the default fetch size if none was set for the query
+   */
+  public int getFetchSize(final InformationSchemaKey informationSchemaKey) {
+    requireNonNull(informationSchemaKey, "No information schema key provided");
+    return informationSchemaFetchSizeMap.getOrDefault(informationSchemaKey, fetchSize);
+  }
+
+  /**
+   * Number of rows fetched per round-trip for a retrieval.
+   *
+   * @param schemaInfoMetadataRetrievalStrategy Retrieval
+   * @return Fetch size, or the default fetch size if none was set for the retrieval
+   */
+  public int getFetchSize(
+      final SchemaInfoMetadataRetrievalStrategy schemaInfoMetadataRetrievalStrategy) {
+    requireNonNull(
+        schemaInfoMetadataRetrievalStrategy, "No schema info metadata retrieval strategy provided");
+    return metadataFetchSizeMap.getOrDefault(schemaInfoMetadataRetrievalStrategy, fetchSize);
+  }
+
   public String getIdentifierQuoteString() {
     return identifierQuoteString;
   }
@@ -114,6 +157,24 @@ public final class SchemaRetrievalOptions implements Options {
     return typeMap;
   }
 
+  public boolean hasFetchSize(final InformationSchemaKey informationSchemaKey) {
+    return informationSchemaFetchSizeMap.containsKey(informationSchemaKey);
+  }
+
+  public boolean hasFetchSize(
+      final SchemaInfoMetadataRetrievalStrategy schemaInfoMetadataRetrievalStrategy) {
+    return metadataFetchSizeMap.containsKey(schemaInfoMetadataRetrievalStrategy);
+  }
+
+  /**
+   * Whether the fetch size of metadata result-sets grows as rows are read.
+   *
+   * @return True if fetch sizes are adaptive
+   */
+  public boolean isAdaptiveFetchSize() {
+    return adaptiveFetchSize;
+  }
+
   public boolean isSupportsCatalogs() {
     return supportsCatalogs;
   }
@@ -128,6 +189,19 @@ public final class SchemaRetrievalOptions implements Options {
     return ObjectToString.toString(this);
   }
 
+  Map<InformationSchemaKey, Integer> getInformationSchemaFetchSizeMap() {
+    final Map<InformationSchemaKey, Integer> map = new EnumMap<>(InformationSchemaKey.class);
+    map.putAll(informationSchemaFetchSizeMap);
+    return map;
+  }
+
+  Map<SchemaInfoMetadataRetrievalStrategy, Integer> getMetadataFetchSizeMap() {
+    final Map<SchemaInfoMetadataRetrievalStrategy, Integer> map =
+        new EnumMap<>(SchemaInfoMetadataRetrievalStrategy.class);
+    map.putAll(metadataFetchSizeMap);
+    return map;
+  }
+
   Map<SchemaInfoMetadataRetrievalStrategy, MetadataRetrievalStrategy>
       getMetadataRetrievalStrategyMap() {
     return new EnumMap<>(metadataRetrievalStrategyMap);
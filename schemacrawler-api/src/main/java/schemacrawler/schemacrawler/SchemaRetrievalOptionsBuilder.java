@@ -54,6 +54,9 @@ public final class SchemaRetrievalOptionsBuilder
     return new SchemaRetrievalOptionsBuilder().fromOptions(options);
   }
 
+  /** Default number of rows fetched per round-trip for metadata result-sets. */
+  public static final int DEFAULT_FETCH_SIZE = 20;
+
   public static SchemaRetrievalOptions newSchemaRetrievalOptions() {
     return new SchemaRetrievalOptionsBuilder().toOptions();
   }
@@ -71,6 +74,10 @@ public final class SchemaRetrievalOptionsBuilder
   EnumDataTypeHelper enumDataTypeHelper;
   Map<SchemaInfoMetadataRetrievalStrategy, MetadataRetrievalStrategy> metadataRetrievalStrategyMap;
   Consumer<Connection> connectionInitializer;
+  int fetchSize;
+  Map<InformationSchemaKey, Integer> informationSchemaFetchSizeMap;
+  Map<SchemaInfoMetadataRetrievalStrategy, Integer> metadataFetchSizeMap;
+  boolean adaptiveFetchSize;
 
   private SchemaRetrievalOptionsBuilder() {
     dbServerType = DatabaseServerType.UNKNOWN;
@@ -86,6 +93,10 @@ public final class SchemaRetrievalOptionsBuilder
         TableTypes.from("TABLE", "VIEW", "SYSTEM TABLE", "GLOBAL TEMPORARY", "LOCAL TEMPORARY");
     enumDataTypeHelper = NO_OP_ENUM_DATA_TYPE_HELPER;
     connectionInitializer = connection -> {};
+    fetchSize = DEFAULT_FETCH_SIZE;
+    informationSchemaFetchSizeMap = new EnumMap<>(InformationSchemaKey.class);
+    metadataFetchSizeMap = new EnumMap<>(SchemaInfoMetadataRetrievalStrategy.class);
+    adaptiveFetchSize = false;
 
     metadataRetrievalStrategyMap = new EnumMap<>(SchemaInfoMetadataRetrievalStrategy.class);
     for (final SchemaInfoMetadataRetrievalStrategy key :
@@ -143,6 +154,10 @@ public final class SchemaRetrievalOptionsBuilder
     overridesTypeMap = Optional.empty();
     metadataRetrievalStrategyMap = options.getMetadataRetrievalStrategyMap();
     connectionInitializer = options.getConnectionInitializer();
+    fetchSize = options.getFetchSize();
+    informationSchemaFetchSizeMap = options.getInformationSchemaFetchSizeMap();
+    metadataFetchSizeMap = options.getMetadataFetchSizeMap();
+    adaptiveFetchSize = options.isAdaptiveFetchSize();
 
     return this;
   }
@@ -182,6 +197,15 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  /**
+   * Grows the fetch size of metadata result-sets as rows are read, so that large data dictionary
+   * queries need fewer round-trips to the database.
+   */
+  public SchemaRetrievalOptionsBuilder withAdaptiveFetchSize() {
+    adaptiveFetchSize = true;
+    return this;
+  }
+
   public SchemaRetrievalOptionsBuilder withConnectionInitializer(
       final Consumer<Connection> connectionInitializer) {
     if (connectionInitializer == null) {
@@ -227,6 +251,63 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  /**
+   * Sets the default number of rows fetched per round-trip for metadata result-sets.
+   *
+   * @param fetchSize Fetch size, or a non-positive number to reset to the default
+   */
+  public SchemaRetrievalOptionsBuilder withFetchSize(final int fetchSize) {
+    if (fetchSize <= 0) {
+      this.fetchSize = DEFAULT_FETCH_SIZE;
+    } else {
+      this.fetchSize = fetchSize;
+    }
+    return this;
+  }
+
+  /**
+   * Sets the number of rows fetched per round-trip for a data dictionary query. This takes
+   * precedence over the fetch size for the retrieval strategy.
+   *
+   * @param informationSchemaKey Data dictionary query
+   * @param fetchSize Fetch size, or a non-positive number to reset to the default
+   */
+  public SchemaRetrievalOptionsBuilder withFetchSize(
+      final InformationSchemaKey informationSchemaKey, final int fetchSize) {
+    if (informationSchemaKey == null) {
+      return this;
+    }
+
+    if (fetchSize <= 0) {
+      informationSchemaFetchSizeMap.remove(informationSchemaKey);
+    } else {
+      informationSchemaFetchSizeMap.put(informationSchemaKey, fetchSize);
+    }
+    return this;
+  }
+
+  /**
+   * Sets the number of rows fetched per round-trip for a retrieval, whether it uses database
+   * metadata or data dictionary queries.
+   *
+   * @param schemaInfoMetadataRetrievalStrategy Retrieval
+   * @param fetchSize Fetch size, or a non-positive number to reset to the default
+   */
+  public SchemaRetrievalOptionsBuilder withFetchSize(
+      final SchemaInfoMetadataRetrievalStrategy schemaInfoMetadataRetrievalStrategy,
+      final int fetchSize) {
+    if (schemaInfoMetadataRetrievalStrategy == null) {
+      return this;
+    }
+
+    if (fetchSize <= 0) {
+      metadataFetchSizeMap.remove(schemaInfoMetadataRetrievalStrategy);
+    } else {
+      metadataFetchSizeMap.put(schemaInfoMetadataRetrievalStrategy, fetchSize);
+    }
+    return this;
+  }
+
   /**
    * Overrides the JDBC driver provided information about the identifier quote string.
    *
@@ -249,6 +330,11 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  public SchemaRetrievalOptionsBuilder withoutAdaptiveFetchSize() {
+    adaptiveFetchSize = false;
+    return this;
+  }
+
   public SchemaRetrievalOptionsBuilder withoutIdentifierQuoteString() {
     identifierQuoteString = "";
     return this;
@@ -26,7 +26,7 @@ http://www.gnu.org/licenses/
 ========================================================================
 */
 
-package schemacrawler.tools.formatter.serialize;
+package schemacrawler.utility;
 
 import static java.util.Objects.requireNonNull;
 
@@ -43,7 +43,11 @@ import java.util.regex.Pattern;
 
 import us.fatehi.utility.string.StringFormat;
 
-final class CatalogModelInputStream extends ObjectInputStream {
+/**
+ * Object input stream that only deserializes classes from the catalog model, and the Java classes
+ * that the model uses.
+ */
+public final class CatalogModelInputStream extends ObjectInputStream {
 
   private static final Logger LOGGER = Logger.getLogger(CatalogModelInputStream.class.getName());
 
@@ -51,11 +55,12 @@ final class CatalogModelInputStream extends ObjectInputStream {
       Arrays.asList(
           Pattern.compile("schemacrawler\\.(schema(crawler)?|crawl)\\.[A-Z].*"),
           Pattern.compile("schemacrawler\\.[A-Z].*"),
+          Pattern.compile("us\\.fatehi\\.utility\\.scheduler\\.TaskMetrics"),
           Pattern.compile("(\\[L)?java\\.(lang|util)\\..*"),
           Pattern.compile("java\\.(sql|math|time|net)\\..*"),
           Pattern.compile("\\[[BC]"));
 
-  CatalogModelInputStream(final InputStream input) throws IOException {
+  public CatalogModelInputStream(final InputStream input) throws IOException {
     super(requireNonNull(input, "No input stream provided"));
   }
 
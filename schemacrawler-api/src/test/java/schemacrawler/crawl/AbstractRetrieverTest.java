@@ -0,0 +1,187 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
+import schemacrawler.test.utility.WithTestDatabase;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.datasource.DatabaseConnectionSources;
+import us.fatehi.utility.datasource.MultiUseUserCredentials;
+
+@WithTestDatabase
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class AbstractRetrieverTest {
+
+  private MutableCatalog catalog;
+  private List<String> tableNames;
+
+  @Test
+  public void failingTableRetrieval(final DatabaseConnectionInfo connectionInfo) throws Exception {
+    try (final DatabaseConnectionSource dataSource = newDataSource(connectionInfo, 1)) {
+      final AbstractRetriever retriever = newRetriever(dataSource, 4);
+
+      final SQLException exception =
+          assertThrows(
+              SQLException.class,
+              () ->
+                  retriever.retrieveForEachTable(
+                      "failingTableRetrieval",
+                      catalog.getAllTables(),
+                      (table, connection) -> {
+                        if (table.getName().equals("AUTHORS")) {
+                          throw new SQLException("Cannot retrieve " + table.getFullName());
+                        }
+                      }));
+      // The exception for the table reaches the crawl
+      assertThat(exception.getMessage(), is("Cannot retrieve PUBLIC.BOOKS.AUTHORS"));
+
+      assertConnectionsReturned(dataSource);
+    }
+  }
+
+  @BeforeAll
+  public void loadBaseCatalog(final Connection connection) {
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.minimum());
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLoadOptions(loadOptionsBuilder.toOptions());
+
+    catalog =
+        (MutableCatalog)
+            getCatalog(connection, schemaRetrievalOptionsDefault, schemaCrawlerOptions);
+
+    tableNames = new ArrayList<>();
+    for (final MutableTable table : catalog.getAllTables()) {
+      tableNames.add(table.getFullName());
+    }
+  }
+
+  @Test
+  public void threadsBoundedByConnections(final DatabaseConnectionInfo connectionInfo)
+      throws Exception {
+    try (final DatabaseConnectionSource dataSource = newDataSource(connectionInfo, 2)) {
+      final AbstractRetriever retriever = newRetriever(dataSource, 8);
+
+      final AtomicInteger running = new AtomicInteger();
+      final AtomicInteger maxRunning = new AtomicInteger();
+      final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+      final List<String> retrievedTableNames = Collections.synchronizedList(new ArrayList<>());
+      retriever.retrieveForEachTable(
+          "threadsBoundedByConnections",
+          catalog.getAllTables(),
+          (table, connection) -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            threadNames.add(Thread.currentThread().getName());
+            try {
+              Thread.sleep(5);
+            } catch (final InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            retrievedTableNames.add(table.getFullName());
+            running.decrementAndGet();
+          });
+
+      // Every table is retrieved, with no more threads than there are connections
+      assertThat(retrievedTableNames, containsInAnyOrder(tableNames.toArray()));
+      assertThat(maxRunning.get(), is(lessThanOrEqualTo(2)));
+      assertThat(threadNames.size(), is(lessThanOrEqualTo(2)));
+
+      assertConnectionsReturned(dataSource);
+    }
+  }
+
+  /** Borrows every connection, which would time out if a retrieval did not return one. */
+  private void assertConnectionsReturned(final DatabaseConnectionSource dataSource) {
+    assertTimeoutPreemptively(
+        Duration.ofSeconds(30),
+        () -> {
+          final List<Connection> connections = new ArrayList<>();
+          try {
+            for (int i = 0; i < dataSource.getMaxConnections(); i++) {
+              connections.add(dataSource.get());
+            }
+          } finally {
+            for (final Connection connection : connections) {
+              connection.close();
+            }
+          }
+        });
+  }
+
+  private DatabaseConnectionSource newDataSource(
+      final DatabaseConnectionInfo connectionInfo, final int maxConnections) {
+    return DatabaseConnectionSources.newBoundedDatabaseConnectionSource(
+        connectionInfo.getConnectionUrl(),
+        new HashMap<>(),
+        new MultiUseUserCredentials("sa", ""),
+        connection -> {},
+        maxConnections,
+        0);
+  }
+
+  private AbstractRetriever newRetriever(
+      final DatabaseConnectionSource dataSource, final int maxThreads) throws SQLException {
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder().withMaxThreads(maxThreads);
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLoadOptions(loadOptionsBuilder.toOptions());
+    final RetrieverConnection retrieverConnection =
+        new RetrieverConnection(dataSource, schemaRetrievalOptionsDefault);
+    return new AbstractRetriever(retrieverConnection, catalog, schemaCrawlerOptions) {};
+  }
+}
@@ -0,0 +1,109 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import schemacrawler.schema.DataTypeType;
+import schemacrawler.schemacrawler.SchemaReference;
+
+/**
+ * Checks the heap footprint of a synthetic catalog against a budget, so that changes that make
+ * the in-memory model larger are noticed. Large catalogs have millions of columns, so the budget is
+ * per column, including each column's share of its table.
+ */
+public class CatalogFootprintTest {
+
+  private static final int TABLES = 500;
+  private static final int COLUMNS_PER_TABLE = 40;
+  private static final long BYTES_PER_COLUMN_BUDGET = 512;
+
+  @Test
+  public void catalogFootprint() {
+    final MutableCatalog catalog = newSyntheticCatalog();
+
+    final GraphLayout layout = GraphLayout.parseInstance(catalog);
+    final long bytesPerColumn = layout.totalSize() / (TABLES * COLUMNS_PER_TABLE);
+
+    assertThat(
+        layout.toFootprint(), bytesPerColumn, is(lessThanOrEqualTo(BYTES_PER_COLUMN_BUDGET)));
+  }
+
+  /**
+   * Builds a catalog the way a crawl would, with names and attribute values read through a string
+   * pool, and with the attributes that most drivers return for columns.
+   */
+  private MutableCatalog newSyntheticCatalog() {
+    final StringPool stringPool = new StringPool();
+    final SchemaReference schema = new SchemaReference("PUBLIC", "SYNTHETIC");
+    final MutableCatalog catalog =
+        new MutableCatalog(
+            "catalog",
+            new MutableDatabaseInfo("database", "1.0", "user"),
+            new MutableJdbcDriverInfo("driver", "Driver", "1.0", 1, 0, 4, 2, true, "jdbc:driver"));
+    catalog.addSchema(schema);
+
+    final MutableColumnDataType[] columnDataTypes = {
+      new MutableColumnDataType(schema, "INTEGER", DataTypeType.system),
+      new MutableColumnDataType(schema, "VARCHAR", DataTypeType.system),
+      new MutableColumnDataType(schema, "TIMESTAMP", DataTypeType.system),
+    };
+
+    for (int t = 0; t < TABLES; t++) {
+      final MutableTable table = new MutableTable(schema, stringPool.pooled("TABLE_" + t));
+      table.setRemarks(stringPool.pooled(""));
+      for (int c = 0; c < COLUMNS_PER_TABLE; c++) {
+        final MutableColumn column = new MutableColumn(table, stringPool.pooled("COLUMN_" + c));
+        column.setOrdinalPosition(c + 1);
+        column.setColumnDataType(columnDataTypes[c % columnDataTypes.length]);
+        column.setSize(c % columnDataTypes.length == 1 ? 255 : 10);
+        column.setNullable(c > 0);
+        column.setRemarks(stringPool.pooled(""));
+
+        final Map<String, Object> attributes = new HashMap<>();
+        attributes.put(stringPool.pooled("IS_AUTOINCREMENT"), stringPool.pooled("NO"));
+        attributes.put(stringPool.pooled("IS_GENERATEDCOLUMN"), stringPool.pooled("NO"));
+        attributes.put(stringPool.pooled("SOURCE_DATA_TYPE"), null);
+        column.addAttributes(attributes);
+
+        table.addColumn(column);
+      }
+      catalog.addTable(table);
+    }
+    return catalog;
+  }
+}
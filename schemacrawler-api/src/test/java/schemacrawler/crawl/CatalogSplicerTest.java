@@ -0,0 +1,163 @@
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaReference;
+
+public class CatalogSplicerTest {
+
+  private MutableCatalog previousCatalog;
+  private SchemaReference schema;
+  private Map<MutableTable, Instant> tableChanges;
+
+  @Test
+  public void changedTables() {
+    final CatalogSplicer splicer = new CatalogSplicer(previousCatalog, tableChanges);
+
+    final List<String> changedTableNames = new ArrayList<>();
+    for (final MutableTable table : splicer.getChangedTables()) {
+      changedTableNames.add(table.getName());
+    }
+    // AUTHORS changed, NEW_TABLE is new, and the views use AUTHORS directly or indirectly
+    assertThat(
+        changedTableNames,
+        containsInAnyOrder("AUTHORS", "NEW_TABLE", "AUTHORS_VIEW", "AUTHORS_VIEW_VIEW"));
+  }
+
+  @BeforeEach
+  public void previousCatalog() {
+    schema = new SchemaReference("PUBLIC", "BOOKS");
+    previousCatalog = newCatalog();
+
+    final MutableTable authors = newTable("AUTHORS", "ID");
+    final MutableTable books = newTable("BOOKS", "AUTHOR_ID", "PUBLISHER_ID");
+    final MutableTable publishers = newTable("PUBLISHERS", "ID");
+    final MutableTable dropped = newTable("DROPPED", "ID");
+    previousCatalog.addTable(authors);
+    previousCatalog.addTable(books);
+    previousCatalog.addTable(publishers);
+    previousCatalog.addTable(dropped);
+
+    final MutableView authorsView = new MutableView(schema, "AUTHORS_VIEW");
+    authorsView.addTableUsage(authors);
+    previousCatalog.addTable(authorsView);
+    final MutableView authorsViewView = new MutableView(schema, "AUTHORS_VIEW_VIEW");
+    authorsViewView.addTableUsage(authorsView);
+    previousCatalog.addTable(authorsViewView);
+
+    addForeignKey("FK_BOOKS_AUTHORS", books, "AUTHOR_ID", authors);
+    addForeignKey("FK_BOOKS_PUBLISHERS", books, "PUBLISHER_ID", publishers);
+    addForeignKey("FK_PUBLISHERS_DROPPED", publishers, "ID", dropped);
+
+    final Instant unchanged = Instant.now().minusSeconds(3_600);
+    tableChanges = new HashMap<>();
+    tableChanges.put(new MutableTable(schema, "AUTHORS"), Instant.now());
+    tableChanges.put(new MutableTable(schema, "BOOKS"), unchanged);
+    tableChanges.put(new MutableTable(schema, "PUBLISHERS"), unchanged);
+    tableChanges.put(new MutableTable(schema, "AUTHORS_VIEW"), unchanged);
+    tableChanges.put(new MutableTable(schema, "AUTHORS_VIEW_VIEW"), unchanged);
+    tableChanges.put(new MutableTable(schema, "NEW_TABLE"), unchanged);
+  }
+
+  @Test
+  public void splice() {
+    final CatalogSplicer splicer = new CatalogSplicer(previousCatalog, tableChanges);
+
+    final MutableCatalog catalog = newCatalog();
+    final MutableTable authors = newTable("AUTHORS", "ID");
+    catalog.addTable(authors);
+
+    splicer.splice(catalog);
+
+    final List<String> tableNames = new ArrayList<>();
+    for (final Table table : catalog.getTables()) {
+      tableNames.add(table.getName());
+    }
+    assertThat(tableNames, containsInAnyOrder("AUTHORS", "BOOKS", "PUBLISHERS"));
+    assertThat(catalog.lookupTable(schema, "AUTHORS").get(), is(sameInstance(authors)));
+
+    // Only relationships between unchanged tables are kept
+    final Table books = catalog.lookupTable(schema, "BOOKS").get();
+    assertThat(books.getForeignKeys(), hasSize(1));
+    assertThat(books.getForeignKeys().iterator().next().getName(), is("FK_BOOKS_PUBLISHERS"));
+    assertThat(books.getTableConstraints(), hasSize(1));
+    assertThat(books.lookupColumn("AUTHOR_ID").get().getReferencedColumn(), is(nullValue()));
+    assertThat(
+        books.lookupColumn("PUBLISHER_ID").get().getReferencedColumn().getParent().getName(),
+        is("PUBLISHERS"));
+
+    final Table publishers = catalog.lookupTable(schema, "PUBLISHERS").get();
+    assertThat(publishers.getImportedForeignKeys(), is(empty()));
+    assertThat(publishers.getExportedForeignKeys(), hasSize(1));
+  }
+
+  @Test
+  public void spliceDoesNotModifyPreviousCatalog() {
+    final CatalogSplicer splicer = new CatalogSplicer(previousCatalog, tableChanges);
+
+    final MutableCatalog catalog = newCatalog();
+    catalog.addTable(newTable("AUTHORS", "ID"));
+
+    splicer.splice(catalog);
+
+    final Table previousBooks = previousCatalog.lookupTable(schema, "BOOKS").get();
+    assertThat(catalog.lookupTable(schema, "BOOKS").get(), is(not(sameInstance(previousBooks))));
+    assertThat(previousBooks.getForeignKeys(), hasSize(2));
+    assertThat(previousBooks.getTableConstraints(), hasSize(2));
+    assertThat(
+        previousBooks.lookupColumn("AUTHOR_ID").get().getReferencedColumn(), is(notNullValue()));
+    final Table previousPublishers = previousCatalog.lookupTable(schema, "PUBLISHERS").get();
+    assertThat(previousPublishers.getImportedForeignKeys(), hasSize(1));
+  }
+
+  private void addForeignKey(
+      final String name,
+      final MutableTable fkTable,
+      final String fkColumnName,
+      final MutableTable pkTable) {
+    final MutableColumn fkColumn = fkTable.lookupColumn(fkColumnName).get();
+    final MutableColumn pkColumn = pkTable.getAllColumns().values().get(0);
+    final MutableForeignKey foreignKey =
+        new MutableForeignKey(name, new ImmutableColumnReference(1, fkColumn, pkColumn));
+    fkColumn.setReferencedColumn(pkColumn);
+    fkTable.addForeignKey(foreignKey);
+    fkTable.addTableConstraint(foreignKey);
+    pkTable.addForeignKey(foreignKey);
+  }
+
+  private MutableCatalog newCatalog() {
+    final MutableCatalog catalog =
+        new MutableCatalog(
+            "catalog",
+            new MutableDatabaseInfo("database", "1.0", "user"),
+            new MutableJdbcDriverInfo("driver", "Driver", "1.0", 1, 0, 4, 2, true, "jdbc:driver"));
+    catalog.addSchema(schema);
+    return catalog;
+  }
+
+  private MutableTable newTable(final String tableName, final String... columnNames) {
+    final MutableTable table = new MutableTable(schema, tableName);
+    for (final String columnName : columnNames) {
+      table.addColumn(new MutableColumn(table, columnName));
+    }
+    return table;
+  }
+}
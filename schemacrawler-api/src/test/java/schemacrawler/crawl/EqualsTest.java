@@ -28,6 +28,9 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.crawl;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
@@ -43,6 +46,7 @@ import schemacrawler.schema.TableType;
 import schemacrawler.schemacrawler.SchemaInfoLevel;
 import schemacrawler.schemacrawler.SchemaReference;
 import us.fatehi.utility.graph.DirectedEdge;
+import us.fatehi.utility.graph.DirectedGraph;
 import us.fatehi.utility.graph.Vertex;
 
 public class EqualsTest {
@@ -73,13 +77,16 @@ public class EqualsTest {
 
     EqualsVerifier.forClass(TestDatabaseObject.class)
         .suppress(Warning.STRICT_INHERITANCE)
-        .withIgnoredFields("key", "attributeMap")
+        .withIgnoredFields("key", "attributes")
         .verify();
   }
 
   @Test
   public void directedEdge() {
-    EqualsVerifier.forClass(DirectedEdge.class).verify();
+    final DirectedGraph<String> graph = new DirectedGraph<>("graph");
+    EqualsVerifier.forClass(DirectedEdge.class)
+        .withPrefabValues(Vertex.class, graph.addVertex("vertex1"), graph.addVertex("vertex2"))
+        .verify();
   }
 
   @Test
@@ -119,7 +126,7 @@ public class EqualsTest {
   @Test
   public void namedObjectWithAttributes() {
     EqualsVerifier.forClass(AbstractNamedObjectWithAttributes.class)
-        .withIgnoredFields("key", "attributeMap")
+        .withIgnoredFields("key", "attributes")
         .suppress(Warning.STRICT_INHERITANCE)
         .verify();
   }
@@ -130,7 +137,7 @@ public class EqualsTest {
     final Table table2 = new MutableTable(new SchemaReference("catalog", "schema"), "table2");
 
     EqualsVerifier.forClass(MutablePrivilege.class)
-        .withIgnoredFields("key", "grants", "parent", "attributeMap")
+        .withIgnoredFields("key", "grants", "parent", "attributes")
         .withPrefabValues(
             DatabaseObjectReference.class, new TablePointer(table1), new TablePointer(table2))
         .suppress(Warning.STRICT_INHERITANCE)
@@ -161,6 +168,13 @@ public class EqualsTest {
 
   @Test
   public void vertex() {
-    EqualsVerifier.forClass(Vertex.class).withIgnoredFields("attributes").verify();
+    final DirectedGraph<String> graph = new DirectedGraph<>("graph");
+    graph.addEdge("vertex1", "vertex2");
+    graph.addEdge("vertex2", "vertex3");
+    final List<DirectedEdge<String>> edges = new ArrayList<>(graph.edgeSet());
+    EqualsVerifier.forClass(Vertex.class)
+        .withPrefabValues(DirectedEdge.class, edges.get(0), edges.get(1))
+        .withIgnoredFields("attributes", "index", "outgoingEdges")
+        .verify();
   }
 }
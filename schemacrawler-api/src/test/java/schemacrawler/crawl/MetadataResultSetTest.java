@@ -34,6 +34,7 @@ import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.ByteArrayInputStream;
@@ -46,6 +47,7 @@ import java.sql.Statement;
 import java.time.DayOfWeek;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiConsumer;
 
 import org.junit.jupiter.api.DisplayName;
@@ -54,6 +56,8 @@ import org.junit.jupiter.api.TestInstance;
 
 import schemacrawler.schema.ColumnDataType;
 import schemacrawler.schema.ResultsColumns;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
 import schemacrawler.test.utility.ResolveTestContext;
 import schemacrawler.test.utility.WithTestDatabase;
 import schemacrawler.utility.BinaryData;
@@ -99,6 +103,11 @@ public class MetadataResultSetTest {
           assertThat(row, hasSize(1));
           assertThat(row.get(0), is("A"));
 
+          final Object[] columnData = new Object[1];
+          assertThat(results.row(columnData), is(columnData));
+          assertThat(columnData[0], is("A"));
+          assertThrows(IllegalArgumentException.class, () -> results.row(new Object[2]));
+
           final String[] columnNames = results.getColumnNames();
           assertThat(columnNames, arrayWithSize(1));
           assertThat(columnNames[0], is(columnName));
@@ -110,6 +119,75 @@ public class MetadataResultSetTest {
     }
   }
 
+  @Test
+  @DisplayName("Grow fetch size while reading results")
+  public void adaptiveFetchSize(final Connection connection) throws Exception {
+
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder()
+            .withFetchSize(2)
+            .withAdaptiveFetchSize()
+            .toOptions();
+    final MetadataFetchSizes fetchSizes = new MetadataFetchSizes(schemaRetrievalOptions);
+
+    assertThat(fetchSizes.fetchSize("adaptiveFetchSize"), is(2));
+    assertThat(fetchSizes.nextFetchSize(2, 10), is(4));
+    assertThat(
+        fetchSizes.nextFetchSize(MetadataFetchSizes.MAX_FETCH_SIZE, 10),
+        is(MetadataFetchSizes.MAX_FETCH_SIZE));
+
+    try (final Statement statement = connection.createStatement(); ) {
+      final String sql =
+          "SELECT * FROM (VALUES(0), (1), (2), (3), (4), (5), (6), (7), (8), (9)) AS T(COLUMN1)";
+      try (final MetadataResultSet results =
+          new MetadataResultSet(
+              DatabaseUtility.executeSql(statement, sql),
+              "adaptiveFetchSize",
+              fetchSizes,
+              new StringPool())) {
+        int rows = 0;
+        while (results.next()) {
+          rows++;
+        }
+        assertThat(rows, is(10));
+      }
+    }
+
+    // Fetch sizes 2, 4, 8 read all the rows
+    final String report = fetchSizes.report().get();
+    assertThat(report, containsString("Metadata fetch - 10 rows in 3 round-trips"));
+    assertThat(report, containsString("<adaptiveFetchSize>"));
+    // Next time, start with a fetch size that reads all rows in a single round-trip
+    assertThat(fetchSizes.fetchSize("adaptiveFetchSize"), is(10));
+  }
+
+  @Test
+  @DisplayName("Retrieve unread columns as attributes")
+  public void attributes(final Connection connection) throws Exception {
+
+    try (final Statement statement = connection.createStatement(); ) {
+      final String sql =
+          "SELECT 'A' AS COLUMN1, 1 AS COLUMN2, 'C' AS COLUMN3 FROM (VALUES(0), (1))";
+      try (final MetadataResultSet results =
+          new MetadataResultSet(DatabaseUtility.executeSql(statement, sql), "attributes")) {
+        int rows = 0;
+        while (results.next()) {
+          rows++;
+          // Column lookup is case-insensitive
+          assertThat(results.getString("column1"), is("A"));
+          assertThat(results.getInt("Column2", 0), is(1));
+          assertThat(results.getString("NO_COLUMN"), is(nullValue()));
+
+          // Read columns are reset for every row
+          final Map<String, Object> attributes = results.getAttributes();
+          assertThat(attributes.size(), is(1));
+          assertThat(attributes.get("COLUMN3"), is("C"));
+        }
+        assertThat(rows, is(2));
+      }
+    }
+  }
+
   @Test
   @DisplayName("Retrieve boolean values from results")
   public void booleanValues(final Connection connection) throws Exception {
@@ -29,7 +29,16 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -37,11 +46,106 @@ import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
 import schemacrawler.schema.TableType;
 import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.utility.CatalogModelInputStream;
 
 public class NamedObjectTest {
 
   public static final TableType TABLE = new TableType("TABLE");
 
+  @Test
+  public void attributesSerialization() throws Exception {
+    final MutableTable table = new MutableTable(new SchemaReference("CATALOG", "SCHEMA"), "A");
+    table.setTableType(TABLE);
+    table.setRemarks("Remarks");
+    table.setAttribute("attribute", 1);
+
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(table);
+    }
+    final MutableTable deserializedTable;
+    try (final CatalogModelInputStream in =
+        new CatalogModelInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      deserializedTable = (MutableTable) in.readObject();
+    }
+
+    assertThat(deserializedTable.getRemarks(), is("Remarks"));
+    assertThat(deserializedTable.getAttribute("attribute"), is(1));
+    assertThat(deserializedTable.getAttributes(), is(table.getAttributes()));
+
+    // Attributes are serialized in the same form as earlier versions
+    final ObjectStreamClass objectStreamClass =
+        ObjectStreamClass.lookup(AbstractNamedObjectWithAttributes.class);
+    assertThat(objectStreamClass.getSerialVersionUID(), is(-1486322887991472729L));
+    assertThat(objectStreamClass.getFields().length, is(1));
+    assertThat(objectStreamClass.getField("attributeMap"), notNullValue());
+    assertThat(objectStreamClass.getField("attributeMap").getType(), is((Object) Map.class));
+  }
+
+  @Test
+  public void schemaValues() {
+    final Schema schema1 = new SchemaReference("CATALOG", "SCHEMA1");
+    final Schema schema2 = new SchemaReference("CATALOG", "SCHEMA2");
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    final MutableTable table1B = new MutableTable(schema1, "B");
+    final MutableTable table1A = new MutableTable(schema1, "A");
+    final MutableTable table2A = new MutableTable(schema2, "A");
+    for (final MutableTable table : new MutableTable[] {table1B, table1A, table2A}) {
+      table.setTableType(TABLE);
+      tables.add(table);
+    }
+
+    assertThat(tables.values(schema1), contains(table1A, table1B));
+    assertThat(tables.values(schema2), contains(table2A));
+    assertThat(tables.values(new SchemaReference("CATALOG", "SCHEMA3")), is(empty()));
+
+    // Filtering and resetting the filter updates the schema index
+    tables.filter(table -> !table.getSchema().equals(schema1));
+    assertThat(tables.values(schema1), is(empty()));
+    assertThat(tables.values(schema2), contains(table2A));
+    tables.resetFilter();
+    assertThat(tables.values(schema1), contains(table1A, table1B));
+
+    // Changing the sort order after objects are added re-sorts values
+    table1A.setSortIndex(2);
+    table1B.setSortIndex(1);
+    assertThat(tables.values(schema1), contains(table1B, table1A));
+  }
+
+  @Test
+  public void sortedValues() {
+    final Schema schema = new SchemaReference("CATALOG", "PUBLIC");
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    final MutableTable tableA = new MutableTable(schema, "A");
+    final MutableTable tableB = new MutableTable(schema, "B");
+    final MutableTable tableC = new MutableTable(schema, "C");
+    for (final MutableTable table : new MutableTable[] {tableC, tableA}) {
+      table.setTableType(TABLE);
+      tables.add(table);
+    }
+
+    assertThat(tables.values(), contains(tableA, tableC));
+    // Repeated calls return the same sorted values
+    assertThat(tables.values() == tables.values(), is(true));
+
+    // Adding an object re-sorts values
+    tableB.setTableType(TABLE);
+    tables.add(tableB);
+    assertThat(tables.values(), contains(tableA, tableB, tableC));
+
+    // Changing the sort order after objects are added re-sorts values
+    tableA.setSortIndex(3);
+    tableB.setSortIndex(2);
+    tableC.setSortIndex(1);
+    assertThat(tables.values(), contains(tableC, tableB, tableA));
+
+    // Filtering re-sorts values
+    tables.filter(table -> !table.getName().equals("B"));
+    assertThat(tables.values(), contains(tableC, tableA));
+    tables.resetFilter();
+    assertThat(tables.values(), contains(tableC, tableB, tableA));
+  }
+
   @Test
   public void tableNames() {
     final String[] schemaNames = new String[] {"DBO", "PUBLIC"};
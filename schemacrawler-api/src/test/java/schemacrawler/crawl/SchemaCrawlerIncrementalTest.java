@@ -0,0 +1,264 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_CHANGES;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.inclusionrule.IncludeAll;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.ResolveTestContext;
+import schemacrawler.test.utility.WithTestDatabase;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+
+@WithTestDatabase
+@ResolveTestContext
+public class SchemaCrawlerIncrementalTest {
+
+  private static final String TABLE_CHANGES_SQL =
+      "SELECT TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME, "
+          + "CASE WHEN TABLE_NAME = 'AUTHORS' THEN LOCALTIMESTAMP "
+          + "ELSE TIMESTAMP '2000-01-01 00:00:00' END AS CHANGED_AT "
+          + "FROM INFORMATION_SCHEMA.TABLES "
+          + "WHERE TABLE_SCHEMA NOT IN ('INFORMATION_SCHEMA', 'SYSTEM_LOBS') "
+          + "AND TABLE_TYPE <> 'GLOBAL TEMPORARY'";
+
+  private static final String UNKNOWN_TABLE_CHANGES_SQL =
+      "SELECT TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME, "
+          + "CAST(NULL AS TIMESTAMP) AS CHANGED_AT "
+          + "FROM INFORMATION_SCHEMA.TABLES "
+          + "WHERE TABLE_SCHEMA NOT IN ('INFORMATION_SCHEMA', 'SYSTEM_LOBS') "
+          + "AND TABLE_TYPE <> 'GLOBAL TEMPORARY'";
+
+  private final SchemaReference schema = new SchemaReference("PUBLIC", "BOOKS");
+
+  @Test
+  public void crawlIncrementally(final DatabaseConnectionSource dataSource) throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions = tableChangesRetrievalOptions();
+    final SchemaCrawlerOptions options = SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+
+    final Catalog previousCatalog =
+        new SchemaCrawler(dataSource, schemaRetrievalOptions, options).crawl();
+    final Table previousAuthors = previousCatalog.lookupTable(schema, "AUTHORS").get();
+    final Table previousBookAuthors = previousCatalog.lookupTable(schema, "BOOKAUTHORS").get();
+    previousAuthors.setAttribute("crawl", "previous");
+    previousBookAuthors.setAttribute("crawl", "previous");
+
+    final Catalog catalog =
+        new SchemaCrawler(dataSource, schemaRetrievalOptions, options).crawl(previousCatalog);
+
+    assertThat(
+        tableNames(catalog), containsInAnyOrder(tableNames(previousCatalog).toArray()));
+
+    // The changed table is retrieved again, and unchanged tables are copied
+    final Table authors = catalog.lookupTable(schema, "AUTHORS").get();
+    final Table bookAuthors = catalog.lookupTable(schema, "BOOKAUTHORS").get();
+    assertThat(authors, is(not(sameInstance(previousAuthors))));
+    assertThat(bookAuthors, is(not(sameInstance(previousBookAuthors))));
+    assertThat(authors.hasAttribute("crawl"), is(false));
+    assertThat(bookAuthors.getAttribute("crawl"), is("previous"));
+
+    // Unchanged tables are linked to the changed table again
+    final ForeignKey foreignKey = bookAuthors.lookupForeignKey("Z_FK_AUTHOR").get();
+    assertThat(foreignKey.getPrimaryKeyTable(), is(sameInstance(authors)));
+    assertThat(authors.getExportedForeignKeys(), hasItem(foreignKey));
+    assertThat(
+        bookAuthors.lookupColumn("AUTHORID").get().getReferencedColumn().getParent(),
+        is(sameInstance(authors)));
+
+    // Copied tables only refer to objects in the catalog
+    for (final Table table : catalog.getTables()) {
+      assertLinkedToCatalog(catalog, table);
+    }
+
+    // The previous catalog is not modified
+    final ForeignKey previousForeignKey =
+        previousBookAuthors.lookupForeignKey("Z_FK_AUTHOR").get();
+    assertThat(previousForeignKey.getPrimaryKeyTable(), is(sameInstance(previousAuthors)));
+    assertThat(
+        previousBookAuthors.getForeignKeys().size(), is(bookAuthors.getForeignKeys().size()));
+  }
+
+  @Test
+  public void crawlWithoutTableChanges(final DatabaseConnectionSource dataSource)
+      throws Exception {
+    final SchemaCrawlerOptions options = SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+
+    final Catalog previousCatalog =
+        new SchemaCrawler(dataSource, schemaRetrievalOptionsDefault, options).crawl();
+    final Table previousBookAuthors = previousCatalog.lookupTable(schema, "BOOKAUTHORS").get();
+    previousBookAuthors.setAttribute("crawl", "previous");
+
+    final Catalog catalog =
+        new SchemaCrawler(dataSource, schemaRetrievalOptionsDefault, options)
+            .crawl(previousCatalog);
+
+    // A full crawl is done, so no tables are reused
+    assertThat(
+        tableNames(catalog), containsInAnyOrder(tableNames(previousCatalog).toArray()));
+    final Table bookAuthors = catalog.lookupTable(schema, "BOOKAUTHORS").get();
+    assertThat(bookAuthors, is(not(sameInstance(previousBookAuthors))));
+    assertThat(bookAuthors.hasAttribute("crawl"), is(false));
+  }
+
+  @Test
+  public void crawlWithUnknownTableChanges(final DatabaseConnectionSource dataSource)
+      throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        tableChangesRetrievalOptions(UNKNOWN_TABLE_CHANGES_SQL);
+    final SchemaCrawlerOptions options = SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+
+    final Catalog previousCatalog =
+        new SchemaCrawler(dataSource, schemaRetrievalOptions, options).crawl();
+    final Table previousBookAuthors = previousCatalog.lookupTable(schema, "BOOKAUTHORS").get();
+    previousBookAuthors.setAttribute("crawl", "previous");
+
+    final Optional<Map<MutableTable, Instant>> tableChanges =
+        new TableChangeRetriever(
+                new RetrieverConnection(dataSource, schemaRetrievalOptions),
+                (MutableCatalog) previousCatalog,
+                options)
+            .retrieveTableChanges(new IncludeAll(), new IncludeAll());
+    assertThat(tableChanges.isPresent(), is(false));
+
+    final Catalog catalog =
+        new SchemaCrawler(dataSource, schemaRetrievalOptions, options).crawl(previousCatalog);
+
+    // No table has a change time, so a full crawl is done
+    assertThat(
+        tableNames(catalog), containsInAnyOrder(tableNames(previousCatalog).toArray()));
+    final Table bookAuthors = catalog.lookupTable(schema, "BOOKAUTHORS").get();
+    assertThat(bookAuthors, is(not(sameInstance(previousBookAuthors))));
+    assertThat(bookAuthors.hasAttribute("crawl"), is(false));
+  }
+
+  @Test
+  public void tableChanges(final DatabaseConnectionSource dataSource) throws Exception {
+    final RetrieverConnection retrieverConnection =
+        new RetrieverConnection(dataSource, tableChangesRetrievalOptions());
+    final SchemaCrawlerOptions options = SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+    final MutableCatalog catalog =
+        (MutableCatalog)
+            new SchemaCrawler(dataSource, tableChangesRetrievalOptions(), options).crawl();
+
+    final Optional<Map<MutableTable, Instant>> tableChanges =
+        new TableChangeRetriever(retrieverConnection, catalog, options)
+            .retrieveTableChanges(new IncludeAll(), new IncludeAll());
+
+    assertThat(tableChanges.isPresent(), is(true));
+    final List<String> tableNames = new ArrayList<>();
+    final List<String> changedTableNames = new ArrayList<>();
+    for (final Map.Entry<MutableTable, Instant> tableChange : tableChanges.get().entrySet()) {
+      final String tableName = tableChange.getKey().getFullName();
+      tableNames.add(tableName);
+      if (tableChange.getValue().isAfter(Instant.parse("2000-01-02T00:00:00Z"))) {
+        changedTableNames.add(tableName);
+      }
+    }
+    assertThat(changedTableNames, containsInAnyOrder("PUBLIC.BOOKS.AUTHORS"));
+    assertThat(tableNames, containsInAnyOrder(tableNames(catalog).toArray()));
+  }
+
+  private void assertLinkedToCatalog(final Catalog catalog, final Table table) {
+    for (final Column column : table.getColumns()) {
+      final ColumnDataType columnDataType = column.getColumnDataType();
+      assertThat(
+          catalog.lookupColumnDataType(columnDataType.getSchema(), columnDataType.getName()).get(),
+          is(sameInstance(columnDataType)));
+    }
+    for (final ForeignKey foreignKey : table.getImportedForeignKeys()) {
+      for (final ColumnReference columnReference : foreignKey.getColumnReferences()) {
+        assertLinkedToCatalog(catalog, columnReference.getForeignKeyColumn());
+        assertLinkedToCatalog(catalog, columnReference.getPrimaryKeyColumn());
+      }
+    }
+    if (table.hasPrimaryKey()) {
+      for (final Column column : table.getPrimaryKey().getConstrainedColumns()) {
+        assertLinkedToCatalog(catalog, column);
+      }
+    }
+  }
+
+  private void assertLinkedToCatalog(final Catalog catalog, final Column column) {
+    final Table table = column.getParent();
+    final Table catalogTable = catalog.lookupTable(table.getSchema(), table.getName()).get();
+    assertThat(table, is(sameInstance(catalogTable)));
+    assertThat(
+        catalogTable.lookupColumn(column.getName()).get().getColumnDataType(),
+        is(sameInstance(column.getColumnDataType())));
+  }
+
+  private List<String> tableNames(final Catalog catalog) {
+    final List<String> tableNames = new ArrayList<>();
+    for (final Table table : catalog.getTables()) {
+      tableNames.add(table.getFullName());
+    }
+    return tableNames;
+  }
+
+  private SchemaRetrievalOptions tableChangesRetrievalOptions() {
+    return tableChangesRetrievalOptions(TABLE_CHANGES_SQL);
+  }
+
+  private SchemaRetrievalOptions tableChangesRetrievalOptions(final String tableChangesSql) {
+    final InformationSchemaViews informationSchemaViews =
+        InformationSchemaViewsBuilder.builder()
+            .withSql(EXT_TABLE_CHANGES, tableChangesSql)
+            .toOptions();
+    return SchemaRetrievalOptionsBuilder.builder()
+        .withInformationSchemaViews(informationSchemaViews)
+        .toOptions();
+  }
+}
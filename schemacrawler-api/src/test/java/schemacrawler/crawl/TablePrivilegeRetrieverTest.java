@@ -33,7 +33,6 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_COLUMN_PRIVILEGES;
 import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_PRIVILEGES;
 import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
@@ -63,7 +62,6 @@ import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
-import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
 import schemacrawler.test.utility.ResolveTestContext;
 import schemacrawler.test.utility.WithTestDatabase;
 import us.fatehi.utility.datasource.DatabaseConnectionSource;
@@ -120,11 +118,19 @@ public class TablePrivilegeRetrieverTest {
 
     final SchemaCrawlerOptions options = SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
 
+    // Falls back to metadata, since no query is provided
+    final MutableCatalog testCatalog = loadCatalog(dataSource);
     final TablePrivilegeRetriever tablePrivilegeRetriever =
-        new TablePrivilegeRetriever(retrieverConnection, catalog, options);
-    assertThrows(
-        ExecutionRuntimeException.class,
-        () -> tablePrivilegeRetriever.retrieveTableColumnPrivileges());
+        new TablePrivilegeRetriever(retrieverConnection, testCatalog, options);
+    tablePrivilegeRetriever.retrieveTableColumnPrivileges();
+
+    final Schema[] schemas = testCatalog.getSchemas().toArray(new Schema[0]);
+    final Table table = testCatalog.lookupTable(schemas[0], "AUTHORS").get();
+    final Column column = table.lookupColumn("FIRSTNAME").get();
+    assertThat(
+        "HyperSQL does not support retrieving column privileges from metadata",
+        column.getPrivileges(),
+        is(empty()));
   }
 
   @Test
@@ -257,9 +263,24 @@ public class TablePrivilegeRetrieverTest {
 
     final SchemaCrawlerOptions options = SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
 
+    // Falls back to metadata, since no query is provided
+    final MutableCatalog testCatalog = loadCatalog(dataSource);
     final TablePrivilegeRetriever tablePrivilegeRetriever =
-        new TablePrivilegeRetriever(retrieverConnection, catalog, options);
-    assertThrows(
-        ExecutionRuntimeException.class, () -> tablePrivilegeRetriever.retrieveTablePrivileges());
+        new TablePrivilegeRetriever(retrieverConnection, testCatalog, options);
+    tablePrivilegeRetriever.retrieveTablePrivileges();
+
+    final Schema[] schemas = testCatalog.getSchemas().toArray(new Schema[0]);
+    final Table table = testCatalog.lookupTable(schemas[0], "AUTHORS").get();
+    assertThat(table.getPrivileges(), hasSize(6));
+  }
+
+  private MutableCatalog loadCatalog(final DatabaseConnectionSource dataSource) throws Exception {
+    try (final Connection connection = dataSource.get(); ) {
+      return (MutableCatalog)
+          getCatalog(
+              connection,
+              schemaRetrievalOptionsDefault,
+              SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions());
+    }
   }
 }
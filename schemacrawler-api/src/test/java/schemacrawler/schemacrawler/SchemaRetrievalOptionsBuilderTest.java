@@ -209,6 +209,51 @@ public class SchemaRetrievalOptionsBuilderTest {
         is(EnumDataTypeInfo.EnumDataTypeTypes.not_enumerated));
   }
 
+  @Test
+  public void fetchSize() {
+    final SchemaRetrievalOptionsBuilder builder = SchemaRetrievalOptionsBuilder.builder();
+
+    SchemaRetrievalOptions options = builder.toOptions();
+    assertThat(options.getFetchSize(), is(SchemaRetrievalOptionsBuilder.DEFAULT_FETCH_SIZE));
+    assertThat(options.getFetchSize(InformationSchemaKey.TABLE_COLUMNS), is(20));
+    assertThat(
+        options.getFetchSize(SchemaInfoMetadataRetrievalStrategy.tableColumnsRetrievalStrategy),
+        is(20));
+    assertThat(options.isAdaptiveFetchSize(), is(false));
+
+    builder
+        .withFetchSize(100)
+        .withFetchSize(InformationSchemaKey.TABLE_COLUMNS, 5000)
+        .withFetchSize(SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy, 500)
+        .withFetchSize((InformationSchemaKey) null, 10)
+        .withAdaptiveFetchSize();
+    options = builder.toOptions();
+    assertThat(options.getFetchSize(), is(100));
+    assertThat(options.hasFetchSize(InformationSchemaKey.TABLE_COLUMNS), is(true));
+    assertThat(options.getFetchSize(InformationSchemaKey.TABLE_COLUMNS), is(5000));
+    assertThat(options.hasFetchSize(InformationSchemaKey.INDEXES), is(false));
+    assertThat(options.getFetchSize(InformationSchemaKey.INDEXES), is(100));
+    assertThat(
+        options.getFetchSize(SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy),
+        is(500));
+    assertThat(options.isAdaptiveFetchSize(), is(true));
+
+    // Fetch sizes are copied from options
+    final SchemaRetrievalOptions copiedOptions =
+        SchemaRetrievalOptionsBuilder.builder(options).toOptions();
+    assertThat(copiedOptions.getFetchSize(InformationSchemaKey.TABLE_COLUMNS), is(5000));
+    assertThat(copiedOptions.isAdaptiveFetchSize(), is(true));
+
+    builder
+        .withFetchSize(0)
+        .withFetchSize(InformationSchemaKey.TABLE_COLUMNS, -1)
+        .withoutAdaptiveFetchSize();
+    options = builder.toOptions();
+    assertThat(options.getFetchSize(), is(20));
+    assertThat(options.hasFetchSize(InformationSchemaKey.TABLE_COLUMNS), is(false));
+    assertThat(options.isAdaptiveFetchSize(), is(false));
+  }
+
   @Test
   public void fromOptions() {
     final SchemaRetrievalOptions options =
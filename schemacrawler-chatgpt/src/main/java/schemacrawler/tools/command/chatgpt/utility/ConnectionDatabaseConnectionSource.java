@@ -47,6 +47,12 @@ public final class ConnectionDatabaseConnectionSource implements DatabaseConnect
     connection.close();
   }
 
+  /** All connections share the same underlying database connection. */
+  @Override
+  public int getMaxConnections() {
+    return 1;
+  }
+
   @Override
   public Connection get() {
     // Do not close this connection
@@ -31,6 +31,7 @@ package schemacrawler.tools.commandline.command;
 import static schemacrawler.tools.commandline.utility.CommandLineUtility.matchedOptionValues;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -46,6 +47,7 @@ import schemacrawler.schemacrawler.LoadOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import schemacrawler.tools.commandline.state.BaseStateHolder;
+import schemacrawler.tools.commandline.state.LoadedCatalogs;
 import schemacrawler.tools.commandline.state.ShellState;
 import schemacrawler.tools.options.Config;
 import schemacrawler.tools.utility.SchemaCrawlerUtility;
@@ -123,9 +125,27 @@ public class LoadCommand extends BaseStateHolder implements Runnable {
       final SchemaRetrievalOptions schemaRetrievalOptions = state.getSchemaRetrievalOptions();
       final SchemaCrawlerOptions schemaCrawlerOptions = state.getSchemaCrawlerOptions();
       final Config additionalConfig = state.getConfig();
+      final Map<String, Object> catalogLoaderOptions =
+          matchedOptionValues(spec.commandLine().getParseResult());
+
+      // Reduce a catalog that was loaded earlier, if it has all that is needed, instead of
+      // crawling the database again
+      final LoadedCatalogs loadedCatalogs = state.getLoadedCatalogs();
+      final Optional<Catalog> loadedCatalog =
+          loadedCatalogs.lookup(schemaCrawlerOptions, catalogLoaderOptions);
+      if (loadedCatalog.isPresent()) {
+        LOGGER.log(Level.INFO, "Reusing catalog that was loaded earlier");
+        return loadedCatalog.get();
+      }
 
-      return SchemaCrawlerUtility.getCatalog(
-          state.getDataSource(), schemaRetrievalOptions, schemaCrawlerOptions, additionalConfig);
+      final Catalog catalog =
+          SchemaCrawlerUtility.getCatalog(
+              state.getDataSource(),
+              schemaRetrievalOptions,
+              schemaCrawlerOptions,
+              additionalConfig);
+      loadedCatalogs.add(catalog, schemaCrawlerOptions, catalogLoaderOptions);
+      return catalog;
 
     } catch (final Exception e) {
       throw new ExecutionException(spec.commandLine(), "Cannot load catalog", e);
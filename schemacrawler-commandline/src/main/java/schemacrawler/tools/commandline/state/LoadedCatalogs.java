@@ -0,0 +1,304 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.commandline.state;
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForColumnInclusion;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForRoutineInclusion;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForRoutineParameterInclusion;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSchemaInclusion;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSequenceInclusion;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSynonymInclusion;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForTableInclusion;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableType;
+import schemacrawler.schema.TableTypes;
+import schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion;
+import schemacrawler.schemacrawler.FilterOptions;
+import schemacrawler.schemacrawler.GrepOptions;
+import schemacrawler.schemacrawler.LimitOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevel;
+import schemacrawler.schemacrawler.SchemaInfoRetrieval;
+import schemacrawler.utility.MetaDataUtility;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Catalogs loaded in the shell for the current database connection, kept in least recently used
+ * order. A load request is answered by reducing a loaded catalog in memory, if that catalog was
+ * crawled with at least as much detail, and with limits that are at least as wide, as the request
+ * needs.
+ */
+public final class LoadedCatalogs {
+
+  private static final class LoadedCatalog {
+
+    private final Catalog catalog;
+    private final SchemaCrawlerOptions schemaCrawlerOptions;
+    private final Map<String, Object> catalogLoaderOptions;
+    private final long estimatedSize;
+
+    LoadedCatalog(
+        final Catalog catalog,
+        final SchemaCrawlerOptions schemaCrawlerOptions,
+        final Map<String, Object> catalogLoaderOptions) {
+      this.catalog = catalog;
+      this.schemaCrawlerOptions = schemaCrawlerOptions;
+      this.catalogLoaderOptions = catalogLoaderOptions;
+      estimatedSize = estimateSize(catalog);
+    }
+
+    /**
+     * Whether the catalog has everything that a catalog crawled with the requested options
+     * would have, so that it can be reduced to what was requested.
+     */
+    boolean canAnswer(
+        final SchemaCrawlerOptions requestedOptions,
+        final Map<String, Object> requestedCatalogLoaderOptions) {
+      return Objects.equals(catalogLoaderOptions, requestedCatalogLoaderOptions)
+          && hasDetail(
+              schemaCrawlerOptions.getLoadOptions().getSchemaInfoLevel(),
+              requestedOptions.getLoadOptions().getSchemaInfoLevel())
+          && hasLimits(schemaCrawlerOptions.getLimitOptions(), requestedOptions.getLimitOptions())
+          && hasGrepAndFilter(schemaCrawlerOptions, requestedOptions);
+    }
+  }
+
+  private static final Logger LOGGER = Logger.getLogger(LoadedCatalogs.class.getName());
+
+  private static final int MAX_CATALOGS = 4;
+  // Rough heap usage for each table, column, index, foreign key, or routine
+  private static final long ESTIMATED_OBJECT_SIZE = 2_048;
+
+  private static long estimateSize(final Catalog catalog) {
+    long objectCount = catalog.getSchemas().size();
+    for (final Table table : catalog.getTables()) {
+      objectCount =
+          objectCount
+              + 1
+              + table.getColumns().size()
+              + table.getIndexes().size()
+              + table.getImportedForeignKeys().size();
+    }
+    for (final Routine routine : catalog.getRoutines()) {
+      objectCount = objectCount + 1 + routine.getParameters().size();
+    }
+    objectCount = objectCount + catalog.getSequences().size() + catalog.getSynonyms().size();
+    return objectCount * ESTIMATED_OBJECT_SIZE;
+  }
+
+  private static boolean hasDetail(
+      final SchemaInfoLevel schemaInfoLevel, final SchemaInfoLevel requestedSchemaInfoLevel) {
+    for (final SchemaInfoRetrieval schemaInfoRetrieval : SchemaInfoRetrieval.values()) {
+      if (requestedSchemaInfoLevel.is(schemaInfoRetrieval)
+          && !schemaInfoLevel.is(schemaInfoRetrieval)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean hasGrepAndFilter(
+      final SchemaCrawlerOptions schemaCrawlerOptions,
+      final SchemaCrawlerOptions requestedOptions) {
+    final GrepOptions grepOptions = schemaCrawlerOptions.getGrepOptions();
+    final FilterOptions filterOptions = schemaCrawlerOptions.getFilterOptions();
+    final boolean isUnfiltered =
+        !grepOptions.isGrepTables()
+            && !grepOptions.isGrepColumns()
+            && !grepOptions.isGrepDefinitions()
+            && !grepOptions.isGrepRoutineParameters()
+            && filterOptions.getChildTableFilterDepth() == 0
+            && filterOptions.getParentTableFilterDepth() == 0;
+    if (isUnfiltered) {
+      return true;
+    }
+    return grepOptions.toString().equals(requestedOptions.getGrepOptions().toString())
+        && filterOptions.toString().equals(requestedOptions.getFilterOptions().toString());
+  }
+
+  private static boolean hasLimits(
+      final LimitOptions limitOptions, final LimitOptions requestedLimitOptions) {
+    // Catalogs are not reduced by these, so they have to match exactly
+    for (final DatabaseObjectRuleForInclusion rule :
+        new DatabaseObjectRuleForInclusion[] {
+          ruleForColumnInclusion, ruleForRoutineParameterInclusion
+        }) {
+      if (!limitOptions.get(rule).equals(requestedLimitOptions.get(rule))) {
+        return false;
+      }
+    }
+    if (!Objects.equals(
+        limitOptions.getTableNamePattern(), requestedLimitOptions.getTableNamePattern())) {
+      return false;
+    }
+
+    // Catalogs are reduced by these, so they can be narrower than what was crawled
+    for (final DatabaseObjectRuleForInclusion rule :
+        new DatabaseObjectRuleForInclusion[] {
+          ruleForSchemaInclusion,
+          ruleForTableInclusion,
+          ruleForRoutineInclusion,
+          ruleForSequenceInclusion,
+          ruleForSynonymInclusion
+        }) {
+      if (!limitOptions.isIncludeAll(rule)
+          && !limitOptions.get(rule).equals(requestedLimitOptions.get(rule))) {
+        return false;
+      }
+    }
+
+    return limitOptions.getRoutineTypes().containsAll(requestedLimitOptions.getRoutineTypes())
+        && hasTableTypes(limitOptions.getTableTypes(), requestedLimitOptions.getTableTypes());
+  }
+
+  private static boolean hasTableTypes(
+      final TableTypes tableTypes, final TableTypes requestedTableTypes) {
+    if (tableTypes == null || tableTypes.isIncludeAll()) {
+      return true;
+    }
+    if (requestedTableTypes == null || requestedTableTypes.isIncludeAll()) {
+      return false;
+    }
+    for (final TableType tableType : requestedTableTypes) {
+      if (!tableTypes.lookupTableType(tableType.getTableType()).isPresent()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private final LinkedList<LoadedCatalog> loadedCatalogs;
+  private final int maxCatalogs;
+  private final long maxSize;
+
+  public LoadedCatalogs() {
+    this(MAX_CATALOGS, Runtime.getRuntime().maxMemory() / 4);
+  }
+
+  LoadedCatalogs(final int maxCatalogs, final long maxSize) {
+    loadedCatalogs = new LinkedList<>();
+    this.maxCatalogs = maxCatalogs;
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Keeps a newly crawled catalog. Catalogs that the new catalog can answer every request for are
+   * dropped, and then the least recently used catalogs are dropped until the rest fit.
+   *
+   * @param catalog Crawled catalog
+   * @param schemaCrawlerOptions Options that the catalog was crawled with
+   * @param catalogLoaderOptions Catalog loader options that the catalog was loaded with
+   */
+  public void add(
+      final Catalog catalog,
+      final SchemaCrawlerOptions schemaCrawlerOptions,
+      final Map<String, Object> catalogLoaderOptions) {
+    requireNonNull(catalog, "No catalog provided");
+    requireNonNull(schemaCrawlerOptions, "No SchemaCrawler options provided");
+
+    final LoadedCatalog loadedCatalog =
+        new LoadedCatalog(catalog, schemaCrawlerOptions, copy(catalogLoaderOptions));
+    loadedCatalogs.removeIf(
+        other -> loadedCatalog.canAnswer(other.schemaCrawlerOptions, other.catalogLoaderOptions));
+    loadedCatalogs.addFirst(loadedCatalog);
+
+    long size = 0;
+    int count = 0;
+    for (final Iterator<LoadedCatalog> iterator = loadedCatalogs.iterator();
+        iterator.hasNext(); ) {
+      final LoadedCatalog next = iterator.next();
+      size = size + next.estimatedSize;
+      count++;
+      // Always keep the newest catalog, since it is in use
+      if (count > 1 && (count > maxCatalogs || size > maxSize)) {
+        iterator.remove();
+      }
+    }
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Keeping %d loaded catalogs, of about %d bytes", loadedCatalogs.size(), size));
+  }
+
+  public void clear() {
+    loadedCatalogs.clear();
+  }
+
+  /**
+   * Finds a loaded catalog that can answer a load request, and reduces it to what was requested.
+   *
+   * @param schemaCrawlerOptions Requested options
+   * @param catalogLoaderOptions Requested catalog loader options
+   * @return Reduced catalog, or empty if the database needs to be crawled again
+   */
+  public Optional<Catalog> lookup(
+      final SchemaCrawlerOptions schemaCrawlerOptions,
+      final Map<String, Object> catalogLoaderOptions) {
+    requireNonNull(schemaCrawlerOptions, "No SchemaCrawler options provided");
+
+    final Map<String, Object> requestedCatalogLoaderOptions = copy(catalogLoaderOptions);
+    for (final Iterator<LoadedCatalog> iterator = loadedCatalogs.iterator();
+        iterator.hasNext(); ) {
+      final LoadedCatalog loadedCatalog = iterator.next();
+      if (loadedCatalog.canAnswer(schemaCrawlerOptions, requestedCatalogLoaderOptions)) {
+        iterator.remove();
+        loadedCatalogs.addFirst(loadedCatalog);
+
+        final Catalog catalog = loadedCatalog.catalog;
+        MetaDataUtility.reduceCatalog(catalog, schemaCrawlerOptions);
+        return Optional.of(catalog);
+      }
+    }
+    return Optional.empty();
+  }
+
+  public int size() {
+    return loadedCatalogs.size();
+  }
+
+  private Map<String, Object> copy(final Map<String, Object> catalogLoaderOptions) {
+    if (catalogLoaderOptions == null) {
+      return new HashMap<>();
+    }
+    return new HashMap<>(catalogLoaderOptions);
+  }
+}
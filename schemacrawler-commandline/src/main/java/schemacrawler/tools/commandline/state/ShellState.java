@@ -47,6 +47,7 @@ public class ShellState implements AutoCloseable {
 
   private static final Logger LOGGER = Logger.getLogger(ShellState.class.getName());
 
+  private final LoadedCatalogs loadedCatalogs = new LoadedCatalogs();
   private Config baseConfig;
   private Config commandOptions;
   private Config catalogLoaderOptions;
@@ -70,6 +71,7 @@ public class ShellState implements AutoCloseable {
       dataSource.close();
       LOGGER.log(Level.INFO, new StringFormat("Closing database connections"));
       dataSource = null;
+      loadedCatalogs.clear();
     } catch (final Exception e) {
       LOGGER.log(Level.WARNING, "Cannot close database connections");
     }
@@ -96,6 +98,16 @@ public class ShellState implements AutoCloseable {
     return lastException;
   }
 
+  /**
+   * Catalogs loaded for the current database connection, which can be reused for later load
+   * requests.
+   *
+   * @return Loaded catalogs
+   */
+  public LoadedCatalogs getLoadedCatalogs() {
+    return loadedCatalogs;
+  }
+
   public SchemaCrawlerOptions getSchemaCrawlerOptions() {
     return schemaCrawlerOptions;
   }
@@ -117,6 +129,8 @@ public class ShellState implements AutoCloseable {
   }
 
   public void setBaseConfig(final Config baseConfig) {
+    // Catalog loaders may use the configuration, so loaded catalogs cannot be reused
+    loadedCatalogs.clear();
     if (baseConfig != null) {
       this.baseConfig = baseConfig;
     } else {
@@ -145,6 +159,7 @@ public class ShellState implements AutoCloseable {
   }
 
   public void setDataSource(final DatabaseConnectionSource dataSource) {
+    loadedCatalogs.clear();
     this.dataSource = dataSource;
   }
 
@@ -161,11 +176,13 @@ public class ShellState implements AutoCloseable {
   }
 
   public void setSchemaRetrievalOptions(final SchemaRetrievalOptions schemaRetrievalOptions) {
+    loadedCatalogs.clear();
     this.schemaRetrievalOptions = schemaRetrievalOptions;
   }
 
   public void sweep() {
     catalog = null;
+    loadedCatalogs.clear();
     baseConfig = null;
     commandOptions = null;
     schemaCrawlerOptions = null;
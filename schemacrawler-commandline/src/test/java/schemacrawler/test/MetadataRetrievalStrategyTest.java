@@ -41,9 +41,6 @@ import java.util.Map;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
-import com.ginsberg.junit.exit.ExpectSystemExitWithStatus;
-import com.ginsberg.junit.exit.SystemExitPreventedException;
-
 import schemacrawler.schemacrawler.InfoLevel;
 import schemacrawler.schemacrawler.MetadataRetrievalStrategy;
 import schemacrawler.test.utility.CaptureSystemStreams;
@@ -71,7 +68,6 @@ public class MetadataRetrievalStrategyTest {
   }
 
   @Test
-  @ExpectSystemExitWithStatus(1)
   public void overrideMetadataRetrievalStrategyDataDictionary(
       final TestContext testContext,
       final DatabaseConnectionInfo connectionInfo,
@@ -90,24 +86,18 @@ public class MetadataRetrievalStrategyTest {
     final Map<String, String> argsMap = new HashMap<>();
     argsMap.put("--info-level", infoLevel.name());
 
-    // Check that System.err has an error, since the SQL for retrieving tables was not provided
-    try {
-      assertThat(
-          outputOf(
-              commandlineExecution(
-                  connectionInfo, schemaTextDetailType.name(), argsMap, config, outputFormat)),
-          hasNoContent());
-    } catch (final SystemExitPreventedException e) {
-      // Continue execution
-    }
-
+    // Tables are retrieved from metadata, since the SQL for retrieving tables was not provided
     assertThat(
-        outputOf(streams.err()),
+        outputOf(
+            commandlineExecution(
+                connectionInfo, schemaTextDetailType.name(), argsMap, config, outputFormat)),
         hasSameContentAs(
             classpathResource(
                 METADATA_RETRIEVAL_STRATEGY_OUTPUT
                     + testContext.testMethodName()
-                    + ".stderr.txt")));
+                    + ".stdout.txt")));
+
+    assertThat(outputOf(streams.err()), hasNoContent());
   }
 
   @Test
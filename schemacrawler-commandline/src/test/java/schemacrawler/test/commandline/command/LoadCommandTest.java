@@ -5,6 +5,7 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -24,6 +25,7 @@ import java.util.regex.Pattern;
 import org.junit.jupiter.api.Test;
 
 import picocli.CommandLine;
+import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.InfoLevel;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.test.utility.CaptureLogs;
@@ -115,6 +117,29 @@ public class LoadCommandTest {
         () -> CommandlineTestUtility.executeCommandInTest(optionsParser, args));
   }
 
+  @Test
+  public void executeReusesLoadedCatalog(final DatabaseConnectionSource dataSource) {
+    final ShellState state = new ShellState();
+    state.setSchemaCrawlerOptions(SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions());
+    state.setDataSource(dataSource);
+
+    final CommandLine commandLine = newCommandLine(new LoadCommand(state), null);
+    commandLine.execute("--info-level", "detailed");
+    final Catalog catalog = state.getCatalog();
+    assertThat(catalog.getTables(), hasSize(20));
+    assertThat(state.getLoadedCatalogs().size(), is(1));
+
+    // Less detail can be answered from the catalog that was already loaded
+    commandLine.execute("--info-level", "minimum");
+    assertThat(state.getCatalog(), is(sameInstance(catalog)));
+    assertThat(state.getCatalog().getTables(), hasSize(20));
+    assertThat(state.getLoadedCatalogs().size(), is(1));
+
+    // Catalogs are not reused with a new connection
+    state.setDataSource(dataSource);
+    assertThat(state.getLoadedCatalogs().size(), is(0));
+  }
+
   @Test
   public void help(final TestContext testContext) throws Exception {
     final ShellState state = new ShellState();
@@ -28,6 +28,11 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.server.db2;
 
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.foreignKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tablePrivilegesRetrievalStrategy;
+
 import schemacrawler.schemacrawler.DatabaseServerType;
 import schemacrawler.tools.databaseconnector.DatabaseConnector;
 import schemacrawler.tools.executable.commandline.PluginCommand;
@@ -41,7 +46,11 @@ public final class DB2DatabaseConnector extends DatabaseConnector {
         url -> url != null && url.startsWith("jdbc:db2:"),
         (informationSchemaViewsBuilder, connection) ->
             informationSchemaViewsBuilder.fromResourceFolder("/db2.information_schema"),
-        (schemaRetrievalOptionsBuilder, connection) -> {},
+        (schemaRetrievalOptionsBuilder, connection) ->
+            schemaRetrievalOptionsBuilder
+                .with(primaryKeysRetrievalStrategy, data_dictionary_all)
+                .with(foreignKeysRetrievalStrategy, data_dictionary_all)
+                .with(tablePrivilegesRetrievalStrategy, data_dictionary_all),
         limitOptionsBuilder -> {},
         () ->
             DatabaseConnectionSourceBuilder.builder("jdbc:db2://${host}:${port}/${database}")
@@ -1,9 +1,9 @@
 SELECT 
-  NULLIF(1, 1) AS FK.PKTABLE_CAT,
+  NULLIF(1, 1) AS PKTABLE_CAT,
   FK.PKTABLE_SCHEM,
   FK.PKTABLE_NAME,
   FK.PKCOLUMN_NAME,
-  NULLIF(1, 1) AS FK.FKTABLE_CAT,
+  NULLIF(1, 1) AS FKTABLE_CAT,
   FK.FKTABLE_SCHEM,
   FK.FKTABLE_NAME,
   FK.FKCOLUMN_NAME,
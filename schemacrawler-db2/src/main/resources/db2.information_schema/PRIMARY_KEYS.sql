@@ -0,0 +1,20 @@
+SELECT
+  NULLIF(1, 1) AS TABLE_CAT,
+  STRIP(SYSCAT.KEYCOLUSE.TABSCHEMA) AS TABLE_SCHEM,
+  STRIP(SYSCAT.KEYCOLUSE.TABNAME) AS TABLE_NAME,
+  STRIP(SYSCAT.KEYCOLUSE.COLNAME) AS COLUMN_NAME,
+  SYSCAT.KEYCOLUSE.COLSEQ AS KEY_SEQ,
+  STRIP(SYSCAT.KEYCOLUSE.CONSTNAME) AS PK_NAME
+FROM
+  SYSCAT.KEYCOLUSE
+  INNER JOIN SYSCAT.TABCONST
+    ON SYSCAT.TABCONST.TABSCHEMA = SYSCAT.KEYCOLUSE.TABSCHEMA
+      AND SYSCAT.TABCONST.TABNAME = SYSCAT.KEYCOLUSE.TABNAME
+      AND SYSCAT.TABCONST.CONSTNAME = SYSCAT.KEYCOLUSE.CONSTNAME
+WHERE
+  SYSCAT.TABCONST.TYPE = 'P'
+ORDER BY
+  SYSCAT.KEYCOLUSE.TABSCHEMA,
+  SYSCAT.KEYCOLUSE.TABNAME,
+  SYSCAT.KEYCOLUSE.COLSEQ
+WITH UR
@@ -0,0 +1,104 @@
+SELECT
+  NULLIF(1, 1) AS TABLE_CAT,
+  STRIP(TABSCHEMA) AS TABLE_SCHEM,
+  STRIP(TABNAME) AS TABLE_NAME,
+  STRIP(GRANTOR) AS GRANTOR,
+  STRIP(GRANTEE) AS GRANTEE,
+  'CONTROL' AS PRIVILEGE,
+  CASE WHEN CONTROLAUTH = 'G' THEN 'YES' ELSE 'NO' END AS IS_GRANTABLE
+FROM
+  SYSCAT.TABAUTH
+WHERE
+  CONTROLAUTH IN ('Y', 'G')
+UNION ALL
+SELECT
+  NULLIF(1, 1) AS TABLE_CAT,
+  STRIP(TABSCHEMA) AS TABLE_SCHEM,
+  STRIP(TABNAME) AS TABLE_NAME,
+  STRIP(GRANTOR) AS GRANTOR,
+  STRIP(GRANTEE) AS GRANTEE,
+  'ALTER' AS PRIVILEGE,
+  CASE WHEN ALTERAUTH = 'G' THEN 'YES' ELSE 'NO' END AS IS_GRANTABLE
+FROM
+  SYSCAT.TABAUTH
+WHERE
+  ALTERAUTH IN ('Y', 'G')
+UNION ALL
+SELECT
+  NULLIF(1, 1) AS TABLE_CAT,
+  STRIP(TABSCHEMA) AS TABLE_SCHEM,
+  STRIP(TABNAME) AS TABLE_NAME,
+  STRIP(GRANTOR) AS GRANTOR,
+  STRIP(GRANTEE) AS GRANTEE,
+  'DELETE' AS PRIVILEGE,
+  CASE WHEN DELETEAUTH = 'G' THEN 'YES' ELSE 'NO' END AS IS_GRANTABLE
+FROM
+  SYSCAT.TABAUTH
+WHERE
+  DELETEAUTH IN ('Y', 'G')
+UNION ALL
+SELECT
+  NULLIF(1, 1) AS TABLE_CAT,
+  STRIP(TABSCHEMA) AS TABLE_SCHEM,
+  STRIP(TABNAME) AS TABLE_NAME,
+  STRIP(GRANTOR) AS GRANTOR,
+  STRIP(GRANTEE) AS GRANTEE,
+  'INDEX' AS PRIVILEGE,
+  CASE WHEN INDEXAUTH = 'G' THEN 'YES' ELSE 'NO' END AS IS_GRANTABLE
+FROM
+  SYSCAT.TABAUTH
+WHERE
+  INDEXAUTH IN ('Y', 'G')
+UNION ALL
+SELECT
+  NULLIF(1, 1) AS TABLE_CAT,
+  STRIP(TABSCHEMA) AS TABLE_SCHEM,
+  STRIP(TABNAME) AS TABLE_NAME,
+  STRIP(GRANTOR) AS GRANTOR,
+  STRIP(GRANTEE) AS GRANTEE,
+  'INSERT' AS PRIVILEGE,
+  CASE WHEN INSERTAUTH = 'G' THEN 'YES' ELSE 'NO' END AS IS_GRANTABLE
+FROM
+  SYSCAT.TABAUTH
+WHERE
+  INSERTAUTH IN ('Y', 'G')
+UNION ALL
+SELECT
+  NULLIF(1, 1) AS TABLE_CAT,
+  STRIP(TABSCHEMA) AS TABLE_SCHEM,
+  STRIP(TABNAME) AS TABLE_NAME,
+  STRIP(GRANTOR) AS GRANTOR,
+  STRIP(GRANTEE) AS GRANTEE,
+  'REFERENCES' AS PRIVILEGE,
+  CASE WHEN REFAUTH = 'G' THEN 'YES' ELSE 'NO' END AS IS_GRANTABLE
+FROM
+  SYSCAT.TABAUTH
+WHERE
+  REFAUTH IN ('Y', 'G')
+UNION ALL
+SELECT
+  NULLIF(1, 1) AS TABLE_CAT,
+  STRIP(TABSCHEMA) AS TABLE_SCHEM,
+  STRIP(TABNAME) AS TABLE_NAME,
+  STRIP(GRANTOR) AS GRANTOR,
+  STRIP(GRANTEE) AS GRANTEE,
+  'SELECT' AS PRIVILEGE,
+  CASE WHEN SELECTAUTH = 'G' THEN 'YES' ELSE 'NO' END AS IS_GRANTABLE
+FROM
+  SYSCAT.TABAUTH
+WHERE
+  SELECTAUTH IN ('Y', 'G')
+UNION ALL
+SELECT
+  NULLIF(1, 1) AS TABLE_CAT,
+  STRIP(TABSCHEMA) AS TABLE_SCHEM,
+  STRIP(TABNAME) AS TABLE_NAME,
+  STRIP(GRANTOR) AS GRANTOR,
+  STRIP(GRANTEE) AS GRANTEE,
+  'UPDATE' AS PRIVILEGE,
+  CASE WHEN UPDATEAUTH = 'G' THEN 'YES' ELSE 'NO' END AS IS_GRANTABLE
+FROM
+  SYSCAT.TABAUTH
+WHERE
+  UPDATEAUTH IN ('Y', 'G')
+WITH UR
@@ -28,8 +28,9 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.tools.command.text.diagram;
 
+import static java.nio.file.Files.isReadable;
+import static java.nio.file.Files.isRegularFile;
 import static java.util.Objects.requireNonNull;
-import static us.fatehi.utility.IOUtility.isFileReadable;
 import static us.fatehi.utility.IOUtility.isFileWritable;
 
 import java.nio.file.Path;
@@ -53,7 +54,8 @@ abstract class AbstractGraphProcessExecutor implements GraphExecutor {
     this.outputFile = outputFile.normalize().toAbsolutePath();
     this.diagramOutputFormat = diagramOutputFormat;
 
-    if (!isFileReadable(this.dotFile)) {
+    // The DOT file may still be empty, if the DOT graph is written after the executor is created
+    if (!isReadable(this.dotFile) || !isRegularFile(this.dotFile)) {
       throw new IORuntimeException(String.format("Cannot read DOT file <%s>", this.dotFile));
     }
 
@@ -0,0 +1,76 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.command.text.diagram;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import schemacrawler.schema.Table;
+
+/** A group of tables from the catalog that is drawn in its own diagram. */
+final class DiagramPartition {
+
+  private final String name;
+  private final List<Table> tables;
+  private final Set<Table> tablesSet;
+
+  DiagramPartition(final String name, final Collection<Table> tables) {
+    this.name = requireNonNull(name, "No partition name provided");
+    requireNonNull(tables, "No tables provided");
+    this.tables = Collections.unmodifiableList(new ArrayList<>(tables));
+    tablesSet = new HashSet<>(tables);
+  }
+
+  public boolean contains(final Table table) {
+    return tablesSet.contains(table);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public List<Table> getTables() {
+    return tables;
+  }
+
+  public int size() {
+    return tables.size();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s (%d tables)", name, tables.size());
+  }
+}
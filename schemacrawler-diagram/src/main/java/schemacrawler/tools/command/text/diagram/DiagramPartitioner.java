@@ -0,0 +1,258 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.command.text.diagram;
+
+import static java.util.Comparator.comparingInt;
+import static java.util.Objects.requireNonNull;
+import static us.fatehi.utility.Utility.isBlank;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.tools.command.text.diagram.options.DiagramPartitionType;
+import schemacrawler.utility.NamedObjectSort;
+
+/**
+ * Splits the tables of a catalog into partitions that can be drawn in separate diagrams. Tables
+ * are grouped by schema, or by the components of the graph of foreign keys. Partitions that are
+ * larger than the maximum size are split into groups of tables that are reachable from each other
+ * through foreign keys, and small components are packed together.
+ */
+final class DiagramPartitioner {
+
+  private final DiagramPartitionType partitionType;
+  private final int maxTablesPerPartition;
+  private final Map<Table, Set<Table>> neighbors;
+
+  DiagramPartitioner(final DiagramPartitionType partitionType, final int maxTablesPerPartition) {
+    this.partitionType = requireNonNull(partitionType, "No partition type provided");
+    if (maxTablesPerPartition < 1) {
+      throw new IllegalArgumentException("Partitions need to have at least one table");
+    }
+    this.maxTablesPerPartition = maxTablesPerPartition;
+    neighbors = new HashMap<>();
+  }
+
+  List<DiagramPartition> partition(final Collection<Table> tables) {
+    requireNonNull(tables, "No tables provided");
+
+    final List<Table> sortedTables = new ArrayList<>(tables);
+    sortedTables.sort(NamedObjectSort.natural);
+    mapNeighbors(sortedTables);
+
+    final List<DiagramPartition> partitions = new ArrayList<>();
+    switch (partitionType) {
+      case schema:
+        for (final Map.Entry<Schema, List<Table>> schemaTables :
+            groupBySchema(sortedTables).entrySet()) {
+          final String schemaName = schemaTables.getKey().getFullName();
+          final List<List<Table>> parts = split(schemaTables.getValue());
+          for (final List<Table> part : parts) {
+            if (parts.size() == 1 && !isBlank(schemaName)) {
+              partitions.add(new DiagramPartition(schemaName, part));
+            } else {
+              partitions.add(newDiagramPartition(part));
+            }
+          }
+        }
+        break;
+      case component:
+        for (final List<Table> part : packComponents(findComponents(sortedTables))) {
+          partitions.add(newDiagramPartition(part));
+        }
+        break;
+      default:
+        if (!sortedTables.isEmpty()) {
+          partitions.add(new DiagramPartition("Tables", sortedTables));
+        }
+        break;
+    }
+    return partitions;
+  }
+
+  /** Finds tables that are connected through foreign keys, in the order of the given tables. */
+  private List<List<Table>> findComponents(final List<Table> tables) {
+    final List<List<Table>> components = new ArrayList<>();
+    final Set<Table> visited = new HashSet<>();
+    final Deque<Table> queue = new ArrayDeque<>();
+    for (final Table seed : tables) {
+      if (!visited.add(seed)) {
+        continue;
+      }
+      final List<Table> component = new ArrayList<>();
+      queue.add(seed);
+      while (!queue.isEmpty()) {
+        final Table table = queue.remove();
+        component.add(table);
+        for (final Table neighbor : neighbors.get(table)) {
+          if (visited.add(neighbor)) {
+            queue.add(neighbor);
+          }
+        }
+      }
+      components.add(component);
+    }
+    return components;
+  }
+
+  private Map<Schema, List<Table>> groupBySchema(final List<Table> tables) {
+    final Map<Schema, List<Table>> schemaTables = new LinkedHashMap<>();
+    for (final Table table : tables) {
+      schemaTables.computeIfAbsent(table.getSchema(), schema -> new ArrayList<>()).add(table);
+    }
+    return schemaTables;
+  }
+
+  /**
+   * Maps every table to the tables that it is related to through foreign keys, considering only
+   * the tables that are partitioned.
+   */
+  private void mapNeighbors(final List<Table> tables) {
+    neighbors.clear();
+    for (final Table table : tables) {
+      neighbors.put(table, new LinkedHashSet<>());
+    }
+    for (final Table table : tables) {
+      for (final ForeignKey foreignKey : table.getForeignKeys()) {
+        for (final ColumnReference columnRef : foreignKey) {
+          final Table pkTable = columnRef.getPrimaryKeyColumn().getParent();
+          final Table fkTable = columnRef.getForeignKeyColumn().getParent();
+          if (!pkTable.equals(fkTable)
+              && neighbors.containsKey(pkTable)
+              && neighbors.containsKey(fkTable)) {
+            neighbors.get(pkTable).add(fkTable);
+            neighbors.get(fkTable).add(pkTable);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Names a partition after its most connected table, since the other tables are usually related
+   * to it.
+   */
+  private DiagramPartition newDiagramPartition(final List<Table> tables) {
+    final Set<Table> partitionTables = new HashSet<>(tables);
+    Table hubTable = tables.get(0);
+    int hubConnections = -1;
+    for (final Table table : tables) {
+      int connections = 0;
+      for (final Table neighbor : neighbors.get(table)) {
+        if (partitionTables.contains(neighbor)) {
+          connections++;
+        }
+      }
+      if (connections > hubConnections) {
+        hubTable = table;
+        hubConnections = connections;
+      }
+    }
+    return new DiagramPartition(hubTable.getFullName(), tables);
+  }
+
+  /**
+   * Splits components that are too large, and packs small components together, so that there are
+   * not too many tiny diagrams. Larger components are placed first.
+   */
+  private List<List<Table>> packComponents(final List<List<Table>> components) {
+    final List<List<Table>> sortedComponents = new ArrayList<>(components);
+    sortedComponents.sort(comparingInt((List<Table> component) -> component.size()).reversed());
+
+    final List<List<Table>> parts = new ArrayList<>();
+    List<Table> packedComponents = new ArrayList<>();
+    for (final List<Table> component : sortedComponents) {
+      if (component.size() > maxTablesPerPartition) {
+        parts.addAll(split(component));
+        continue;
+      }
+      if (packedComponents.size() + component.size() > maxTablesPerPartition) {
+        parts.add(packedComponents);
+        packedComponents = new ArrayList<>();
+      }
+      packedComponents.addAll(component);
+    }
+    if (!packedComponents.isEmpty()) {
+      parts.add(packedComponents);
+    }
+    return parts;
+  }
+
+  /**
+   * Splits tables into groups of no more than the maximum size, by walking breadth-first along
+   * foreign keys, so that related tables are mostly kept together.
+   */
+  private List<List<Table>> split(final List<Table> tables) {
+    if (tables.size() <= maxTablesPerPartition) {
+      return Collections.singletonList(tables);
+    }
+
+    final Set<Table> unassigned = new LinkedHashSet<>(tables);
+    final List<List<Table>> parts = new ArrayList<>();
+    List<Table> part = new ArrayList<>();
+    final Deque<Table> queue = new ArrayDeque<>();
+    for (final Table seed : tables) {
+      if (!unassigned.remove(seed)) {
+        continue;
+      }
+      queue.add(seed);
+      while (!queue.isEmpty()) {
+        final Table table = queue.remove();
+        part.add(table);
+        if (part.size() == maxTablesPerPartition) {
+          parts.add(part);
+          part = new ArrayList<>();
+        }
+        for (final Table neighbor : neighbors.get(table)) {
+          if (unassigned.remove(neighbor)) {
+            queue.add(neighbor);
+          }
+        }
+      }
+    }
+    if (!part.isEmpty()) {
+      parts.add(part);
+    }
+    return parts;
+  }
+}
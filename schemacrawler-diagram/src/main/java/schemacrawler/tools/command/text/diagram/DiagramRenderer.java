@@ -28,17 +28,35 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.tools.command.text.diagram;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.createFile;
+import static java.nio.file.Files.newBufferedWriter;
 import static java.util.Objects.requireNonNull;
 import static schemacrawler.tools.command.text.diagram.options.DiagramOutputFormat.scdot;
 import static us.fatehi.utility.IOUtility.createTempFilePath;
+import static us.fatehi.utility.IOUtility.getFileExtension;
 import static us.fatehi.utility.IOUtility.readResourceFully;
+import static us.fatehi.utility.Utility.isBlank;
+import static us.fatehi.utility.html.TagOutputFormat.html;
 import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.net.URLEncoder;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
 import schemacrawler.schemacrawler.exceptions.IORuntimeException;
 import schemacrawler.schemacrawler.exceptions.SchemaCrawlerException;
 import schemacrawler.tools.command.text.diagram.options.DiagramOptions;
 import schemacrawler.tools.command.text.diagram.options.DiagramOutputFormat;
+import schemacrawler.tools.command.text.diagram.options.DiagramPartitionType;
 import schemacrawler.tools.command.text.schema.options.SchemaTextDetailType;
 import schemacrawler.tools.executable.BaseSchemaCrawlerCommand;
 import schemacrawler.tools.options.OutputOptions;
@@ -47,9 +65,16 @@ import schemacrawler.tools.text.formatter.diagram.SchemaDotFormatter;
 import schemacrawler.tools.traversal.SchemaTraversalHandler;
 import schemacrawler.tools.traversal.SchemaTraverser;
 import schemacrawler.utility.NamedObjectSort;
+import us.fatehi.utility.html.TagBuilder;
+import us.fatehi.utility.scheduler.TaskDefinition;
+import us.fatehi.utility.scheduler.TaskRunner;
+import us.fatehi.utility.scheduler.TaskRunners;
+import us.fatehi.utility.string.StringFormat;
 
 public final class DiagramRenderer extends BaseSchemaCrawlerCommand<DiagramOptions> {
 
+  private static final Logger LOGGER = Logger.getLogger(DiagramRenderer.class.getName());
+
   private DiagramOutputFormat diagramOutputFormat;
   private final GraphExecutorFactory graphExecutorFactory;
 
@@ -76,55 +101,22 @@ public final class DiagramRenderer extends BaseSchemaCrawlerCommand<DiagramOptio
             .withOutputFormatValue(diagramOutputFormat.getFormat())
             .toOptions();
 
-    // Create dot file
-    final Path dotFile;
-    try {
-      dotFile = createTempFilePath("schemacrawler.", "dot");
-    } catch (final IOException e) {
-      throw new IORuntimeException("Could not create temporary DOT file", e);
-    }
-    final OutputOptions dotFileOutputOptions;
-    if (diagramOutputFormat == scdot) {
-      dotFileOutputOptions = outputOptions;
+    final Path outputFile = outputOptions.getOutputFile(outputOptions.getOutputFormatValue());
+
+    final List<DiagramPartition> partitions = partitionCatalog();
+    if (partitions.size() > 1) {
+      renderPartitions(partitions, outputFile);
     } else {
-      dotFileOutputOptions =
-          OutputOptionsBuilder.builder(outputOptions)
-              .withOutputFormat(scdot)
-              .withOutputFile(dotFile)
-              .toOptions();
+      renderDiagram(outputOptions, outputFile, table -> true);
     }
 
-    final SchemaTraversalHandler formatter = getSchemaTraversalHandler(dotFileOutputOptions);
-
-    final SchemaTraverser traverser = new SchemaTraverser();
-    traverser.setCatalog(catalog);
-    traverser.setHandler(formatter);
-    traverser.setTablesComparator(
-        NamedObjectSort.getNamedObjectSort(commandOptions.isAlphabeticalSortForTables()));
-    traverser.setRoutinesComparator(
-        NamedObjectSort.getNamedObjectSort(commandOptions.isAlphabeticalSortForRoutines()));
-
-    traverser.traverse();
-
     // Set the format, in case we are using the default
-    final Path outputFile = outputOptions.getOutputFile(outputOptions.getOutputFormatValue());
     outputOptions =
         OutputOptionsBuilder.builder(outputOptions)
             .withOutputFormat(diagramOutputFormat)
             .withOutputFormatValue(diagramOutputFormat.getFormat())
             .withOutputFile(outputFile)
             .toOptions();
-
-    try {
-      final GraphExecutor graphExecutor =
-          graphExecutorFactory.getGraphExecutor(
-              dotFile, diagramOutputFormat, outputFile, commandOptions);
-      graphExecutor.run();
-    } catch (final Exception e) {
-      final String errorMessage = extractErrorMessage(e);
-      final String helpText = readResourceFully("/dot.error.txt");
-      throw new ExecutionRuntimeException(String.format("%s%n%n%s", errorMessage, helpText), e);
-    }
   }
 
   @Override
@@ -159,9 +151,254 @@ public final class DiagramRenderer extends BaseSchemaCrawlerCommand<DiagramOptio
     return schemaTextDetailType;
   }
 
-  private SchemaTraversalHandler getSchemaTraversalHandler(final OutputOptions outputOptions) {
+  private SchemaTraversalHandler getSchemaTraversalHandler(
+      final OutputOptions outputOptions, final Predicate<Table> tablesFilter) {
     final SchemaTextDetailType schemaTextDetailType = getSchemaTextDetailType();
 
-    return new SchemaDotFormatter(schemaTextDetailType, commandOptions, outputOptions, identifiers);
+    return new SchemaDotFormatter(
+        schemaTextDetailType, commandOptions, outputOptions, identifiers, tablesFilter);
+  }
+
+  private ExecutionRuntimeException newDiagramGenerationException(final Exception e) {
+    final String errorMessage = extractErrorMessage(e);
+    final String helpText = readResourceFully("/dot.error.txt");
+    return new ExecutionRuntimeException(String.format("%s%n%n%s", errorMessage, helpText), e);
+  }
+
+  private List<DiagramPartition> partitionCatalog() {
+    final DiagramPartitionType partitionType = commandOptions.getPartitionType();
+    if (partitionType == DiagramPartitionType.none) {
+      return Collections.emptyList();
+    }
+    final List<DiagramPartition> partitions =
+        new DiagramPartitioner(partitionType, commandOptions.getMaxTablesPerPartition())
+            .partition(catalog.getTables());
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Partitioned <%d> tables into <%d> diagrams, by <%s>",
+            catalog.getTables().size(), partitions.size(), partitionType));
+    return partitions;
+  }
+
+  /**
+   * Renders a single diagram, with the tables that match the filter.
+   *
+   * @param diagramOutputOptions Output options, used to write the DOT graph for the scdot format
+   * @param outputFile Diagram file to create
+   * @param tablesFilter Tables to draw in the diagram
+   */
+  private void renderDiagram(
+      final OutputOptions diagramOutputOptions,
+      final Path outputFile,
+      final Predicate<Table> tablesFilter) {
+
+    // Create dot file
+    final Path dotFile;
+    try {
+      dotFile = createTempFilePath("schemacrawler.", "dot");
+      createFile(dotFile);
+    } catch (final IOException e) {
+      throw new IORuntimeException("Could not create temporary DOT file", e);
+    }
+
+    final GraphExecutor graphExecutor;
+    try {
+      graphExecutor =
+          graphExecutorFactory.getGraphExecutor(
+              dotFile, diagramOutputFormat, outputFile, commandOptions);
+    } catch (final Exception e) {
+      throw newDiagramGenerationException(e);
+    }
+
+    if (diagramOutputFormat == scdot) {
+      traverse(diagramOutputOptions, tablesFilter);
+    } else {
+      // Stream the DOT graph to the graph executor if possible, so that layout can begin while the
+      // catalog is still being traversed
+      final Optional<Writer> optionalDotWriter;
+      try {
+        optionalDotWriter = graphExecutor.openDotWriter(diagramOutputOptions.getOutputCharset());
+      } catch (final Exception e) {
+        throw newDiagramGenerationException(e);
+      }
+      if (optionalDotWriter.isPresent()) {
+        try (final Writer dotWriter = optionalDotWriter.get()) {
+          traverse(
+              OutputOptionsBuilder.builder(diagramOutputOptions)
+                  .withOutputFormat(scdot)
+                  .withOutputWriter(dotWriter)
+                  .toOptions(),
+              tablesFilter);
+        } catch (final IOException e) {
+          graphExecutor.abort();
+          throw new IORuntimeException("Could not write DOT graph", e);
+        } catch (final RuntimeException e) {
+          // Do not leave the graph executor running on an incomplete DOT graph
+          graphExecutor.abort();
+          throw e;
+        }
+      } else {
+        traverse(
+            OutputOptionsBuilder.builder(diagramOutputOptions)
+                .withOutputFormat(scdot)
+                .withOutputFile(dotFile)
+                .toOptions(),
+            tablesFilter);
+      }
+    }
+
+    try {
+      graphExecutor.run();
+    } catch (final Exception e) {
+      throw newDiagramGenerationException(e);
+    }
+  }
+
+  /**
+   * Renders a diagram for each partition next to the output file, running Graphviz for several
+   * partitions at a time, and then writes an index page that links to the diagrams.
+   *
+   * @param partitions Partitions of the catalog
+   * @param outputFile Output file, used to name the diagram files and the index page
+   */
+  private void renderPartitions(final List<DiagramPartition> partitions, final Path outputFile) {
+    final Path outputDirectory = outputFile.toAbsolutePath().normalize().getParent();
+    final String fileName = outputFile.getFileName().toString();
+    final String extension = getFileExtension(outputFile);
+    final String stem;
+    if (isBlank(extension)) {
+      stem = fileName;
+    } else {
+      stem = fileName.substring(0, fileName.length() - extension.length() - 1);
+    }
+    final String partitionExtension;
+    if (isBlank(extension)) {
+      partitionExtension = diagramOutputFormat.getFormat();
+    } else {
+      partitionExtension = extension;
+    }
+
+    final List<Path> partitionFiles = new ArrayList<>();
+    try (final TaskRunner taskRunner =
+        TaskRunners.getTaskRunner(
+            "render-diagram-partitions", Runtime.getRuntime().availableProcessors())) {
+      for (int i = 0; i < partitions.size(); i++) {
+        final DiagramPartition partition = partitions.get(i);
+        final Path partitionFile =
+            outputDirectory.resolve(
+                String.format("%s-%03d.%s", stem, i + 1, partitionExtension));
+        partitionFiles.add(partitionFile);
+
+        final String title = outputOptions.getTitle();
+        final OutputOptions partitionOutputOptions =
+            OutputOptionsBuilder.builder(outputOptions)
+                .title(isBlank(title) ? partition.getName() : title + " - " + partition.getName())
+                .withOutputFile(partitionFile)
+                .toOptions();
+        taskRunner.add(
+            new TaskDefinition(
+                "render-diagram-" + (i + 1),
+                () -> renderDiagram(partitionOutputOptions, partitionFile, partition::contains)));
+      }
+      taskRunner.submit();
+    } catch (final RuntimeException e) {
+      throw e;
+    } catch (final Exception e) {
+      throw newDiagramGenerationException(e);
+    }
+
+    final Path indexFile = outputDirectory.resolve(stem + "-index.html");
+    writePartitionsIndex(indexFile, partitions, partitionFiles);
+    LOGGER.log(Level.INFO, new StringFormat("Generated diagrams index <%s>", indexFile));
+  }
+
+  private void traverse(
+      final OutputOptions dotFileOutputOptions, final Predicate<Table> tablesFilter) {
+    final SchemaTraversalHandler formatter =
+        getSchemaTraversalHandler(dotFileOutputOptions, tablesFilter);
+
+    final SchemaTraverser traverser = new SchemaTraverser();
+    traverser.setCatalog(catalog);
+    traverser.setHandler(formatter);
+    traverser.setTablesFilter(tablesFilter);
+    traverser.setTablesComparator(
+        NamedObjectSort.getNamedObjectSort(commandOptions.isAlphabeticalSortForTables()));
+    traverser.setRoutinesComparator(
+        NamedObjectSort.getNamedObjectSort(commandOptions.isAlphabeticalSortForRoutines()));
+
+    traverser.traverse();
+  }
+
+  /** Writes an HTML page that links to the diagram for each partition, with its tables. */
+  private void writePartitionsIndex(
+      final Path indexFile,
+      final List<DiagramPartition> partitions,
+      final List<Path> partitionFiles) {
+    final String title = outputOptions.getTitle();
+    try (final Writer writer = newBufferedWriter(indexFile, UTF_8)) {
+      writer
+          .append("<!DOCTYPE html>")
+          .append(System.lineSeparator())
+          .append("<html lang='en'>")
+          .append(System.lineSeparator())
+          .append("<head>")
+          .append(System.lineSeparator())
+          .append("<meta charset='utf-8'/>")
+          .append(System.lineSeparator())
+          .append("<title>Diagrams</title>")
+          .append(System.lineSeparator())
+          .append("</head>")
+          .append(System.lineSeparator())
+          .append("<body>")
+          .append(System.lineSeparator());
+      if (!isBlank(title)) {
+        writer
+            .append("<h1>")
+            .append(TagBuilder.span().withEscapedText(title).make().render(html))
+            .append("</h1>")
+            .append(System.lineSeparator());
+      }
+      writer
+          .append("<ol>")
+          .append(System.lineSeparator());
+      for (int i = 0; i < partitions.size(); i++) {
+        final DiagramPartition partition = partitions.get(i);
+        final String href =
+            URLEncoder.encode(partitionFiles.get(i).getFileName().toString(), UTF_8.name())
+                .replace("+", "%20");
+        final List<String> tableNames = new ArrayList<>();
+        for (final Table table : partition.getTables()) {
+          tableNames.add(table.getFullName());
+        }
+        writer
+            .append("<li>")
+            .append(
+                TagBuilder.anchor()
+                    .withEscapedText(partition.getName())
+                    .withHyperlink(href)
+                    .make()
+                    .render(html))
+            .append(String.format(" (%d tables)<br/>", partition.size()))
+            .append(
+                TagBuilder.span()
+                    .withEscapedText(String.join(", ", tableNames))
+                    .make()
+                    .render(html))
+            .append("</li>")
+            .append(System.lineSeparator());
+      }
+      writer
+          .append("</ol>")
+          .append(System.lineSeparator())
+          .append("</body>")
+          .append(System.lineSeparator())
+          .append("</html>")
+          .append(System.lineSeparator());
+    } catch (final UnsupportedEncodingException e) {
+      throw new IllegalStateException(e);
+    } catch (final IOException e) {
+      throw new IORuntimeException(String.format("Could not write <%s>", indexFile), e);
+    }
   }
 }
@@ -1,6 +1,33 @@
 package schemacrawler.tools.command.text.diagram;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.Optional;
+
 interface GraphExecutor extends Runnable {
 
+  /**
+   * Stops generating the diagram, if the DOT graph could not be completely written to the writer
+   * from {@link #openDotWriter(Charset)}. Any partially generated diagram is deleted. The executor
+   * must not be run after it is aborted.
+   */
+  default void abort() {
+    // Nothing is generated until the executor is run
+  }
+
   boolean canGenerate();
+
+  /**
+   * Opens a writer for the DOT graph, if the graph can be streamed to the executor while it is
+   * being written. The executor must be run after the writer is closed. Otherwise, the graph is
+   * read from the DOT file when the executor is run.
+   *
+   * @param charset Character encoding for the DOT graph
+   * @return Writer for the DOT graph, or empty if the executor reads the DOT file
+   * @throws IOException On an exception opening the writer
+   */
+  default Optional<Writer> openDotWriter(final Charset charset) throws IOException {
+    return Optional.empty();
+  }
 }
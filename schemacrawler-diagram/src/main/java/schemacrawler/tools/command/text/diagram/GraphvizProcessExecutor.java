@@ -29,14 +29,21 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.command.text.diagram;
 
 import static java.nio.file.Files.copy;
+import static java.nio.file.Files.deleteIfExists;
+import static java.nio.file.Files.newBufferedWriter;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.util.Objects.requireNonNull;
 import static schemacrawler.tools.command.text.diagram.GraphvizUtility.isGraphvizAvailable;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -48,9 +55,77 @@ import us.fatehi.utility.string.StringFormat;
 
 final class GraphvizProcessExecutor extends AbstractGraphProcessExecutor {
 
+  /**
+   * Writes the DOT graph to the standard input of Graphviz, and to the DOT file, so that the DOT
+   * file can be retained if Graphviz fails. If Graphviz stops reading its input, the rest of the
+   * graph is still written to the DOT file.
+   */
+  private static final class DotWriter extends Writer {
+
+    private final Writer processInput;
+    private final Writer dotFileWriter;
+    private boolean processInputOpen;
+
+    DotWriter(final Writer processInput, final Writer dotFileWriter) {
+      this.processInput = requireNonNull(processInput, "No process input provided");
+      this.dotFileWriter = requireNonNull(dotFileWriter, "No DOT file writer provided");
+      processInputOpen = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        closeProcessInput();
+      } finally {
+        dotFileWriter.close();
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+      if (processInputOpen) {
+        try {
+          processInput.flush();
+        } catch (final IOException e) {
+          processInputFailed(e);
+        }
+      }
+      dotFileWriter.flush();
+    }
+
+    @Override
+    public void write(final char[] cbuf, final int off, final int len) throws IOException {
+      if (processInputOpen) {
+        try {
+          processInput.write(cbuf, off, len);
+        } catch (final IOException e) {
+          processInputFailed(e);
+        }
+      }
+      dotFileWriter.write(cbuf, off, len);
+    }
+
+    private void closeProcessInput() {
+      if (processInputOpen) {
+        try {
+          processInputOpen = false;
+          processInput.close();
+        } catch (final IOException e) {
+          LOGGER.log(Level.FINE, "Could not close Graphviz input", e);
+        }
+      }
+    }
+
+    private void processInputFailed(final IOException e) {
+      LOGGER.log(Level.WARNING, "Graphviz stopped reading the DOT graph", e);
+      closeProcessInput();
+    }
+  }
+
   private static final Logger LOGGER = Logger.getLogger(GraphvizProcessExecutor.class.getName());
 
   private final List<String> graphvizOpts;
+  private ProcessExecutor streamingProcessExecutor;
 
   GraphvizProcessExecutor(
       final Path dotFile,
@@ -62,20 +137,73 @@ final class GraphvizProcessExecutor extends AbstractGraphProcessExecutor {
     this.graphvizOpts = requireNonNull(graphvizOpts, "No Graphviz options provided");
   }
 
+  /**
+   * Stops Graphviz, if the DOT graph is being streamed to it, and deletes any partially generated
+   * diagram.
+   *
+   * <p>{@inheritDoc}
+   */
+  @Override
+  public void abort() {
+    if (streamingProcessExecutor == null) {
+      return;
+    }
+
+    LOGGER.log(Level.INFO, new StringFormat("Stopping Graphviz for diagram <%s>", outputFile));
+    streamingProcessExecutor.destroy();
+    try {
+      deleteIfExists(outputFile);
+    } catch (final IOException e) {
+      LOGGER.log(Level.WARNING, "Could not delete partial diagram " + outputFile, e);
+    }
+  }
+
   @Override
   public boolean canGenerate() {
     return isGraphvizAvailable();
   }
 
+  /**
+   * Starts Graphviz reading the DOT graph from standard input, so that layout can begin while the
+   * graph is still being written.
+   *
+   * <p>{@inheritDoc}
+   */
   @Override
-  public void run() {
+  public Optional<Writer> openDotWriter(final Charset charset) throws IOException {
+    requireNonNull(charset, "No character encoding provided");
+    if (streamingProcessExecutor != null) {
+      throw new IllegalStateException("DOT graph is already being streamed to Graphviz");
+    }
 
-    final List<String> command = createDiagramCommand();
+    final List<String> command = createDiagramCommand(null);
     LOGGER.log(
-        Level.INFO, new StringFormat("Generating diagram using Graphviz:\n%s", command.toString()));
+        Level.INFO, new StringFormat("Streaming diagram to Graphviz:%n%s", command.toString()));
 
     final ProcessExecutor processExecutor = new ProcessExecutor();
     processExecutor.setCommandLine(command);
+    final Writer processInput =
+        new BufferedWriter(new OutputStreamWriter(processExecutor.start(), charset));
+    streamingProcessExecutor = processExecutor;
+
+    return Optional.of(new DotWriter(processInput, newBufferedWriter(dotFile, charset)));
+  }
+
+  @Override
+  public void run() {
+
+    final ProcessExecutor processExecutor;
+    if (streamingProcessExecutor != null) {
+      processExecutor = streamingProcessExecutor;
+    } else {
+      final List<String> command = createDiagramCommand(dotFile);
+      LOGGER.log(
+          Level.INFO,
+          new StringFormat("Generating diagram using Graphviz:\n%s", command.toString()));
+
+      processExecutor = new ProcessExecutor();
+      processExecutor.setCommandLine(command);
+    }
 
     final int exitCode = processExecutor.call();
     final boolean successful = exitCode == 0;
@@ -91,7 +219,7 @@ final class GraphvizProcessExecutor extends AbstractGraphProcessExecutor {
           Level.SEVERE,
           new StringFormat(
               "Graphviz returned exit code <%d>%nGraphviz stderr:%n%s", exitCode, processError));
-      retainDotFile(processExecutor.getCommand());
+      retainDotFile();
     } else {
       LOGGER.log(
           Level.FINE,
@@ -101,7 +229,13 @@ final class GraphvizProcessExecutor extends AbstractGraphProcessExecutor {
     }
   }
 
-  private List<String> createDiagramCommand() {
+  /**
+   * Creates the Graphviz command line.
+   *
+   * @param dotFile DOT file to read, or null to read the DOT graph from standard input
+   * @return Graphviz command line
+   */
+  private List<String> createDiagramCommand(final Path dotFile) {
     final List<String> command = new ArrayList<>();
     command.add("dot");
 
@@ -111,12 +245,14 @@ final class GraphvizProcessExecutor extends AbstractGraphProcessExecutor {
     command.add(diagramOutputFormat.getFormat());
     command.add("-o");
     command.add(outputFile.toString());
-    command.add(dotFile.toString());
+    if (dotFile != null) {
+      command.add(dotFile.toString());
+    }
 
     return command;
   }
 
-  private void retainDotFile(final List<String> command) {
+  private void retainDotFile() {
     try {
       // Find name of DOT file in local directory
       final Path parentPath = outputFile.normalize().getParent();
@@ -128,10 +264,7 @@ final class GraphvizProcessExecutor extends AbstractGraphProcessExecutor {
       copy(dotFile, movedDotFile, REPLACE_EXISTING);
 
       // Print command to run
-      command.remove(command.size() - 1);
-      command.remove(command.size() - 1);
-      command.add(outputFile.toString());
-      command.add(movedDotFile.toString());
+      final List<String> command = createDiagramCommand(movedDotFile);
 
       LOGGER.log(
           Level.SEVERE,
@@ -40,6 +40,8 @@ public final class DiagramOptions extends SchemaTextOptions {
   private final boolean isShowForeignKeyCardinality;
   private final boolean isShowPrimaryKeyCardinality;
   private final boolean isShowFilteredTables;
+  private final DiagramPartitionType partitionType;
+  private final int maxTablesPerPartition;
 
   protected DiagramOptions(final DiagramOptionsBuilder diagramOptionsBuilder) {
     super(diagramOptionsBuilder);
@@ -49,6 +51,8 @@ public final class DiagramOptions extends SchemaTextOptions {
     isShowForeignKeyCardinality = diagramOptionsBuilder.isShowForeignKeyCardinality;
     isShowPrimaryKeyCardinality = diagramOptionsBuilder.isShowPrimaryKeyCardinality;
     isShowFilteredTables = diagramOptionsBuilder.isShowFilteredTables;
+    partitionType = diagramOptionsBuilder.partitionType;
+    maxTablesPerPartition = diagramOptionsBuilder.maxTablesPerPartition;
   }
 
   public Map<String, String> getGraphvizAttributes() {
@@ -59,6 +63,25 @@ public final class DiagramOptions extends SchemaTextOptions {
     return graphvizOpts;
   }
 
+  /**
+   * Largest number of tables to draw in a single diagram, when the catalog is partitioned. Larger
+   * partitions are split into groups of tables that are connected by foreign keys.
+   *
+   * @return Maximum number of tables in a partition
+   */
+  public int getMaxTablesPerPartition() {
+    return maxTablesPerPartition;
+  }
+
+  /**
+   * How the tables of the catalog are split into separate diagrams.
+   *
+   * @return Diagram partition type
+   */
+  public DiagramPartitionType getPartitionType() {
+    return partitionType;
+  }
+
   public boolean isShowFilteredTables() {
     return isShowFilteredTables;
   }
@@ -59,6 +59,11 @@ public final class DiagramOptionsBuilder
   private static final String GRAPH_GRAPHVIZ_OPTS = SCHEMACRAWLER_GRAPH_PREFIX + "graphviz_opts";
   private static final String SC_GRAPHVIZ_OPTS = "SC_GRAPHVIZ_OPTS";
   private static final String GRAPH_GRAPHVIZ_ATTRIBUTES = SCHEMACRAWLER_GRAPH_PREFIX + "graphviz";
+  private static final String GRAPH_PARTITION = SCHEMACRAWLER_GRAPH_PREFIX + "partition";
+  private static final String GRAPH_PARTITION_MAX_TABLES =
+      SCHEMACRAWLER_GRAPH_PREFIX + "partition.max_tables";
+
+  private static final int DEFAULT_MAX_TABLES_PER_PARTITION = 250;
 
   private static final Logger LOGGER = Logger.getLogger(DiagramOptions.class.getName());
 
@@ -93,6 +98,8 @@ public final class DiagramOptionsBuilder
   protected boolean isShowForeignKeyCardinality;
   protected boolean isShowPrimaryKeyCardinality;
   protected boolean isShowFilteredTables;
+  protected DiagramPartitionType partitionType;
+  protected int maxTablesPerPartition;
 
   private DiagramOptionsBuilder() {
     // Default values
@@ -101,6 +108,8 @@ public final class DiagramOptionsBuilder
     isShowForeignKeyCardinality = true;
     isShowPrimaryKeyCardinality = true;
     isShowFilteredTables = true;
+    partitionType = DiagramPartitionType.none;
+    maxTablesPerPartition = DEFAULT_MAX_TABLES_PER_PARTITION;
   }
 
   @Override
@@ -113,6 +122,9 @@ public final class DiagramOptionsBuilder
     isShowPrimaryKeyCardinality = config.getBooleanValue(GRAPH_SHOW_PRIMARY_KEY_CARDINALITY, true);
     isShowForeignKeyCardinality = config.getBooleanValue(GRAPH_SHOW_FOREIGN_KEY_CARDINALITY, true);
     isShowFilteredTables = config.getBooleanValue(GRAPH_SHOW_FOREIGN_KEY_FILTERED_TABLES, true);
+    withPartitionType(config.getEnumValue(GRAPH_PARTITION, DiagramPartitionType.none));
+    withMaxTablesPerPartition(
+        config.getIntegerValue(GRAPH_PARTITION_MAX_TABLES, DEFAULT_MAX_TABLES_PER_PARTITION));
 
     graphvizOpts = listGraphvizOpts(readGraphvizOpts(config));
 
@@ -134,6 +146,8 @@ public final class DiagramOptionsBuilder
     isShowPrimaryKeyCardinality = options.isShowPrimaryKeyCardinality();
     isShowForeignKeyCardinality = options.isShowForeignKeyCardinality();
     isShowFilteredTables = options.isShowFilteredTables();
+    partitionType = options.getPartitionType();
+    maxTablesPerPartition = options.getMaxTablesPerPartition();
 
     graphvizOpts = options.getGraphvizOpts();
     graphvizAttributes = options.getGraphvizAttributes();
@@ -175,6 +189,8 @@ public final class DiagramOptionsBuilder
     config.put(GRAPH_SHOW_PRIMARY_KEY_CARDINALITY, isShowPrimaryKeyCardinality);
     config.put(GRAPH_SHOW_FOREIGN_KEY_CARDINALITY, isShowForeignKeyCardinality);
     config.put(GRAPH_SHOW_FOREIGN_KEY_FILTERED_TABLES, isShowFilteredTables);
+    config.put(GRAPH_PARTITION, partitionType);
+    config.put(GRAPH_PARTITION_MAX_TABLES, maxTablesPerPartition);
 
     config.put(GRAPH_GRAPHVIZ_OPTS, join(graphvizOpts, " "));
 
@@ -207,6 +223,24 @@ public final class DiagramOptionsBuilder
     return this;
   }
 
+  public DiagramOptionsBuilder withMaxTablesPerPartition(final int maxTablesPerPartition) {
+    if (maxTablesPerPartition < 1) {
+      this.maxTablesPerPartition = DEFAULT_MAX_TABLES_PER_PARTITION;
+    } else {
+      this.maxTablesPerPartition = maxTablesPerPartition;
+    }
+    return this;
+  }
+
+  public DiagramOptionsBuilder withPartitionType(final DiagramPartitionType partitionType) {
+    if (partitionType == null) {
+      this.partitionType = DiagramPartitionType.none;
+    } else {
+      this.partitionType = partitionType;
+    }
+    return this;
+  }
+
   private void graphvizAttributesToConfig(
       final Map<String, String> graphvizAttributes, final Config config) {
     for (final Entry<String, String> graphvizAttribute : graphvizAttributes.entrySet()) {
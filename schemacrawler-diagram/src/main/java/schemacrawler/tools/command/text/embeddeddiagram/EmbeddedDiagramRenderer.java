@@ -52,6 +52,8 @@ import schemacrawler.schemacrawler.exceptions.IORuntimeException;
 import schemacrawler.tools.command.text.diagram.DiagramRenderer;
 import schemacrawler.tools.command.text.diagram.GraphExecutorFactory;
 import schemacrawler.tools.command.text.diagram.options.DiagramOptions;
+import schemacrawler.tools.command.text.diagram.options.DiagramOptionsBuilder;
+import schemacrawler.tools.command.text.diagram.options.DiagramPartitionType;
 import schemacrawler.tools.command.text.schema.SchemaTextRenderer;
 import schemacrawler.tools.executable.BaseSchemaCrawlerCommand;
 import schemacrawler.tools.executable.SchemaCrawlerCommand;
@@ -162,8 +164,12 @@ public class EmbeddedDiagramRenderer extends BaseSchemaCrawlerCommand<DiagramOpt
             .withOutputFile(outputFile)
             .toOptions();
 
-    // Normally set by the command provider during instantiation
-    scCommand.setCommandOptions(commandOptions);
+    // Normally set by the command provider during instantiation, but the diagram is embedded as a
+    // single SVG, so it is not partitioned
+    scCommand.setCommandOptions(
+        DiagramOptionsBuilder.builder(commandOptions)
+            .withPartitionType(DiagramPartitionType.none)
+            .toOptions());
 
     // Set when a new command provider is initialized
     scCommand.setSchemaCrawlerOptions(schemaCrawlerOptions);
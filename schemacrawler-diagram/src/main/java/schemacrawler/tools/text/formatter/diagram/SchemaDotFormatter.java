@@ -28,6 +28,7 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.tools.text.formatter.diagram;
 
+import static java.util.Objects.requireNonNull;
 import static schemacrawler.loader.counts.TableRowCountsUtility.getRowCountMessage;
 import static schemacrawler.loader.counts.TableRowCountsUtility.hasRowCount;
 import static schemacrawler.schema.TableConstraintType.foreign_key;
@@ -50,6 +51,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 import schemacrawler.crawl.NotLoadedException;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.ColumnDataType;
@@ -79,6 +81,7 @@ import us.fatehi.utility.html.Tag;
 public final class SchemaDotFormatter extends BaseDotFormatter implements SchemaTraversalHandler {
 
   private final int tableColspan;
+  private final Predicate<Table> diagramTablesFilter;
 
   /**
    * Text formatting of schema.
@@ -93,9 +96,30 @@ public final class SchemaDotFormatter extends BaseDotFormatter implements Schema
       final DiagramOptions options,
       final OutputOptions outputOptions,
       final Identifiers identifiers) {
+    this(schemaTextDetailType, options, outputOptions, identifiers, table -> true);
+  }
+
+  /**
+   * Text formatting of a part of the schema. Foreign keys to tables that are not in the diagram
+   * are shown in the same way as foreign keys to filtered tables.
+   *
+   * @param schemaTextDetailType Types for text formatting of schema
+   * @param options Options for text formatting of schema
+   * @param outputOptions Options for text formatting of schema
+   * @param identifierQuoteString Quote character for database objects
+   * @param diagramTablesFilter Tables that are drawn in the diagram
+   */
+  public SchemaDotFormatter(
+      final SchemaTextDetailType schemaTextDetailType,
+      final DiagramOptions options,
+      final OutputOptions outputOptions,
+      final Identifiers identifiers,
+      final Predicate<Table> diagramTablesFilter) {
     super(schemaTextDetailType, options, outputOptions, identifiers);
 
     tableColspan = options.isShowOrdinalNumbers() ? 4 : 3;
+    this.diagramTablesFilter =
+        requireNonNull(diagramTablesFilter, "No diagram tables filter provided");
   }
 
   @Override
@@ -278,6 +302,11 @@ public final class SchemaDotFormatter extends BaseDotFormatter implements Schema
     return portIds;
   }
 
+  @Override
+  protected boolean isTableFiltered(final Table table) {
+    return super.isTableFiltered(table) || !diagramTablesFilter.test(table);
+  }
+
   private void printAlternateKeys(final Table table) {
     if (table == null || options.is(hideAlternateKeys)) {
       return;
@@ -0,0 +1,165 @@
+package schemacrawler.tools.command.text.diagram;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static schemacrawler.tools.utility.SchemaCrawlerUtility.getCatalog;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.TestUtility;
+import schemacrawler.test.utility.WithTestDatabase;
+import schemacrawler.tools.command.text.diagram.options.DiagramPartitionType;
+import schemacrawler.tools.options.Config;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+
+@WithTestDatabase
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class DiagramPartitionerTest {
+
+  private Catalog catalog;
+
+  @Test
+  public void componentPartitions() {
+    final List<DiagramPartition> partitions =
+        new DiagramPartitioner(DiagramPartitionType.component, 1_000)
+            .partition(catalog.getTables());
+
+    // All components fit into one partition
+    assertThat(partitions, hasSize(1));
+    assertPartitionsCoverTables(partitions);
+  }
+
+  @Test
+  public void componentPartitionsKeepRelatedTablesTogether() {
+    final List<DiagramPartition> partitions =
+        new DiagramPartitioner(DiagramPartitionType.component, 5).partition(catalog.getTables());
+
+    assertThat(partitions.size(), is(greaterThan(1)));
+    assertPartitionsCoverTables(partitions);
+    assertPartitionSizes(partitions, 5);
+
+    // Related tables are only split up when a component does not fit in a partition, so one of the
+    // partitions is full
+    final Map<Table, DiagramPartition> tablePartitions = mapTablePartitions(partitions);
+    for (final Table table : catalog.getTables()) {
+      for (final ForeignKey foreignKey : table.getImportedForeignKeys()) {
+        for (final ColumnReference columnRef : foreignKey) {
+          final DiagramPartition fkPartition = tablePartitions.get(table);
+          final DiagramPartition pkPartition =
+              tablePartitions.get(columnRef.getPrimaryKeyColumn().getParent());
+          if (pkPartition != null && pkPartition != fkPartition) {
+            assertThat(Math.max(fkPartition.size(), pkPartition.size()), is(5));
+          }
+        }
+      }
+    }
+  }
+
+  @BeforeAll
+  public void loadCatalog(final DatabaseConnectionSource dataSource) throws Exception {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionExclusionRule(".*\\.SYSTEM_LOBS|.*\\.FOR_LINT"));
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions())
+            .withLoadOptions(loadOptionsBuilder.toOptions());
+
+    catalog =
+        getCatalog(
+            dataSource,
+            TestUtility.newSchemaRetrievalOptions(),
+            schemaCrawlerOptions,
+            new Config());
+  }
+
+  @Test
+  public void schemaPartitions() {
+    final List<DiagramPartition> partitions =
+        new DiagramPartitioner(DiagramPartitionType.schema, 1_000).partition(catalog.getTables());
+
+    assertPartitionsCoverTables(partitions);
+
+    final List<String> partitionNames = new ArrayList<>();
+    final Set<Schema> schemas = new HashSet<>();
+    for (final Table table : catalog.getTables()) {
+      schemas.add(table.getSchema());
+    }
+    for (final DiagramPartition partition : partitions) {
+      partitionNames.add(partition.getName());
+      final Set<Schema> partitionSchemas = new HashSet<>();
+      for (final Table table : partition.getTables()) {
+        partitionSchemas.add(table.getSchema());
+      }
+      assertThat(partitionSchemas, hasSize(1));
+    }
+    assertThat(partitions, hasSize(schemas.size()));
+    final List<String> schemaNames = new ArrayList<>();
+    for (final Schema schema : schemas) {
+      schemaNames.add(schema.getFullName());
+    }
+    assertThat(partitionNames, containsInAnyOrder(schemaNames.toArray()));
+  }
+
+  @Test
+  public void schemaPartitionsWithMaximumSize() {
+    final List<DiagramPartition> partitions =
+        new DiagramPartitioner(DiagramPartitionType.schema, 3).partition(catalog.getTables());
+
+    assertPartitionsCoverTables(partitions);
+    assertPartitionSizes(partitions, 3);
+  }
+
+  private void assertPartitionSizes(final List<DiagramPartition> partitions, final int maxTables) {
+    for (final DiagramPartition partition : partitions) {
+      assertThat(partition.size(), is(greaterThan(0)));
+      assertThat(partition.size(), is(lessThanOrEqualTo(maxTables)));
+    }
+  }
+
+  private void assertPartitionsCoverTables(final List<DiagramPartition> partitions) {
+    final List<Table> partitionedTables = new ArrayList<>();
+    for (final DiagramPartition partition : partitions) {
+      partitionedTables.addAll(partition.getTables());
+    }
+    // Every table is in exactly one partition
+    assertThat(partitionedTables, containsInAnyOrder(catalog.getTables().toArray()));
+  }
+
+  private Map<Table, DiagramPartition> mapTablePartitions(
+      final List<DiagramPartition> partitions) {
+    final Map<Table, DiagramPartition> tablePartitions = new HashMap<>();
+    for (final DiagramPartition partition : partitions) {
+      for (final Table table : partition.getTables()) {
+        tablePartitions.put(table, partition);
+      }
+    }
+    return tablePartitions;
+  }
+}
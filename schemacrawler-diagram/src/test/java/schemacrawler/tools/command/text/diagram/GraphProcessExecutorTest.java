@@ -1,5 +1,6 @@
 package schemacrawler.tools.command.text.diagram;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -11,6 +12,7 @@ import static schemacrawler.test.utility.FileHasContent.hasNoContent;
 import static schemacrawler.test.utility.FileHasContent.outputOf;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -99,4 +101,68 @@ public class GraphProcessExecutorTest {
     assertThat(contentsOf(streams.err()), containsString("syntax error in line 1 near 'hello'"));
     assertThat(outputOf(streams.out()), hasNoContent());
   }
+
+  @Test
+  @OnlyRunWithGraphviz
+  public void graphvizProcessExecutorStreaming() throws IOException {
+
+    final Path dotFile = Files.createTempFile("", "");
+    final Path outputFile = IOUtility.createTempFilePath("", "");
+
+    final GraphvizProcessExecutor processExecutor =
+        new GraphvizProcessExecutor(
+            dotFile, outputFile, DiagramOutputFormat.svg, Collections.emptyList());
+    try (final Writer dotWriter = processExecutor.openDotWriter(UTF_8).get()) {
+      dotWriter.write("digraph { a -> b }");
+    }
+    processExecutor.run();
+
+    final Path retainedDotFile = outputFile.resolveSibling(outputFile.getFileName() + ".dot");
+    assertThat(new String(Files.readAllBytes(outputFile), UTF_8), containsString("<svg"));
+    assertThat(Files.exists(retainedDotFile), is(false));
+  }
+
+  @Test
+  @OnlyRunWithGraphviz
+  public void graphvizProcessExecutorStreamingError(final CapturedSystemStreams streams)
+      throws IOException {
+
+    final Path dotFile = Files.createTempFile("", "");
+    final Path outputFile = IOUtility.createTempFilePath("", "");
+
+    // Graphviz error due to bad input, with the DOT file retained
+    final GraphvizProcessExecutor processExecutor =
+        new GraphvizProcessExecutor(
+            dotFile, outputFile, DiagramOutputFormat.png, Collections.emptyList());
+    try (final Writer dotWriter = processExecutor.openDotWriter(UTF_8).get()) {
+      dotWriter.write("hello, world");
+    }
+    processExecutor.run();
+
+    assertThat(contentsOf(streams.err()), containsString("syntax error in line 1 near 'hello'"));
+    final Path retainedDotFile = outputFile.resolveSibling(outputFile.getFileName() + ".dot");
+    final String retainedDot = new String(Files.readAllBytes(retainedDotFile), UTF_8);
+    assertThat(retainedDot, is("hello, world"));
+  }
+
+  @Test
+  @OnlyRunWithGraphviz
+  public void graphvizProcessExecutorStreamingAbort() throws IOException {
+
+    final Path dotFile = Files.createTempFile("", "");
+    final Path outputFile = IOUtility.createTempFilePath("", "");
+
+    // Partial DOT graph, as if traversal failed part way through
+    final GraphvizProcessExecutor processExecutor =
+        new GraphvizProcessExecutor(
+            dotFile, outputFile, DiagramOutputFormat.svg, Collections.emptyList());
+    try (final Writer dotWriter = processExecutor.openDotWriter(UTF_8).get()) {
+      dotWriter.write("digraph { a -> b }");
+    }
+    processExecutor.abort();
+
+    final Path retainedDotFile = outputFile.resolveSibling(outputFile.getFileName() + ".dot");
+    assertThat(Files.exists(outputFile), is(false));
+    assertThat(Files.exists(retainedDotFile), is(false));
+  }
 }
@@ -29,7 +29,9 @@ http://www.gnu.org/licenses/
 package schemacrawler.server.hsqldb;
 
 import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
 import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tableColumnPrivilegesRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tablePrivilegesRetrievalStrategy;
 
 import schemacrawler.schemacrawler.DatabaseServerType;
 import schemacrawler.tools.databaseconnector.DatabaseConnector;
@@ -45,8 +47,10 @@ public final class HyperSQLDatabaseConnector extends DatabaseConnector {
         (informationSchemaViewsBuilder, connection) ->
             informationSchemaViewsBuilder.fromResourceFolder("/hsqldb.information_schema"),
         (schemaRetrievalOptionsBuilder, connection) ->
-            schemaRetrievalOptionsBuilder.with(
-                tableColumnPrivilegesRetrievalStrategy, data_dictionary_all),
+            schemaRetrievalOptionsBuilder
+                .with(primaryKeysRetrievalStrategy, data_dictionary_all)
+                .with(tablePrivilegesRetrievalStrategy, data_dictionary_all)
+                .with(tableColumnPrivilegesRetrievalStrategy, data_dictionary_all),
         limitOptionsBuilder -> {},
         () ->
             DatabaseConnectionSourceBuilder.builder(
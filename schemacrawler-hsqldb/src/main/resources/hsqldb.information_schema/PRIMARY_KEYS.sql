@@ -0,0 +1,20 @@
+SELECT
+  KCU.TABLE_CATALOG AS TABLE_CAT,
+  KCU.TABLE_SCHEMA AS TABLE_SCHEM,
+  KCU.TABLE_NAME,
+  KCU.COLUMN_NAME,
+  KCU.ORDINAL_POSITION AS KEY_SEQ,
+  KCU.CONSTRAINT_NAME AS PK_NAME
+FROM
+  INFORMATION_SCHEMA.TABLE_CONSTRAINTS TC
+  INNER JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE KCU
+    ON KCU.CONSTRAINT_CATALOG = TC.CONSTRAINT_CATALOG
+      AND KCU.CONSTRAINT_SCHEMA = TC.CONSTRAINT_SCHEMA
+      AND KCU.CONSTRAINT_NAME = TC.CONSTRAINT_NAME
+WHERE
+  TC.CONSTRAINT_TYPE = 'PRIMARY KEY'
+ORDER BY
+  KCU.TABLE_CATALOG,
+  KCU.TABLE_SCHEMA,
+  KCU.TABLE_NAME,
+  KCU.ORDINAL_POSITION
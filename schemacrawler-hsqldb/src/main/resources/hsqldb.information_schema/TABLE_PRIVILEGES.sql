@@ -0,0 +1,17 @@
+SELECT
+  TABLE_CATALOG AS TABLE_CAT,
+  TABLE_SCHEMA AS TABLE_SCHEM,
+  TABLE_NAME,
+  GRANTOR,
+  GRANTEE,
+  PRIVILEGE_TYPE AS PRIVILEGE,
+  IS_GRANTABLE
+FROM
+  INFORMATION_SCHEMA.TABLE_PRIVILEGES
+ORDER BY
+  TABLE_CATALOG,
+  TABLE_SCHEMA,
+  TABLE_NAME,
+  PRIVILEGE_TYPE,
+  GRANTOR,
+  GRANTEE
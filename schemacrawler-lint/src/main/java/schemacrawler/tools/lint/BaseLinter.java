@@ -120,6 +120,18 @@ public abstract class BaseLinter extends Linter {
     return table != null && tableInclusionRule.test(table.getFullName());
   }
 
+  /**
+   * Whether lints for a table depend only on that table. Such linters do not use the connection
+   * while linting a table, and do not collect state across tables, so tables can be linted
+   * concurrently. Linters that only read state that was set up in {@link #start(Connection)} can
+   * also be table-local. Can be overridden.
+   *
+   * @return True if tables can be linted concurrently
+   */
+  protected boolean isTableLocal() {
+    return false;
+  }
+
   protected abstract void lint(Table table, Connection connection);
 
   protected final void setTableTypesFilter(final TableTypesFilter tableTypesFilter) {
@@ -145,20 +157,30 @@ public abstract class BaseLinter extends Linter {
 
   @Override
   final void lint(final Catalog catalog, final Connection connection) {
-    this.catalog = requireNonNull(catalog, "No catalog provided");
-
-    start(connection);
+    startLint(catalog, connection);
     for (final Table table : catalog.getTables()) {
-      if (tableInclusionRule.test(table.getFullName()) && tableTypesFilter.test(table)) {
-        lint(table, connection);
-      } else {
-        LOGGER.log(
-            Level.FINE,
-            new StringFormat("Excluding table <%s> for lint <%s>", table, getLinterId()));
-      }
+      lintTable(table, connection);
     }
+    endLint(connection);
+  }
+
+  final void endLint(final Connection connection) {
     end(connection);
-    this.catalog = null;
+    catalog = null;
+  }
+
+  final void lintTable(final Table table, final Connection connection) {
+    if (tableInclusionRule.test(table.getFullName()) && tableTypesFilter.test(table)) {
+      lint(table, connection);
+    } else {
+      LOGGER.log(
+          Level.FINE, new StringFormat("Excluding table <%s> for lint <%s>", table, getLinterId()));
+    }
+  }
+
+  final void startLint(final Catalog catalog, final Connection connection) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    start(connection);
   }
 
   private final void setColumnInclusionRule(final InclusionRule columnInclusionRule) {
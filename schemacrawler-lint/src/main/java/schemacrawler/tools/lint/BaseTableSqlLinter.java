@@ -0,0 +1,293 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.lint;
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.QueryUtility.executeAgainstTable;
+import static schemacrawler.schemacrawler.QueryUtility.executeAgainstTables;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.Identifiers;
+import schemacrawler.schemacrawler.IdentifiersBuilder;
+import schemacrawler.schemacrawler.Query;
+import schemacrawler.tools.options.Config;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.scheduler.TaskDefinition;
+import us.fatehi.utility.scheduler.TaskRunner;
+import us.fatehi.utility.scheduler.TaskRunners;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Lints tables with the result of a SQL query that returns a single value for each table. Queries
+ * are run after all tables have been seen, with a timeout for each query. If a database connection
+ * source is available, queries for tables are run concurrently, each on its own connection.
+ * Optionally, queries for several tables are combined into a single statement with UNION ALL, for
+ * databases that support it. Needs to be overridden by custom linters.
+ */
+public abstract class BaseTableSqlLinter extends BaseLinter {
+
+  private static final Logger LOGGER = Logger.getLogger(BaseTableSqlLinter.class.getName());
+
+  private final List<Table> tables;
+  private final AtomicBoolean isBatched;
+  private DatabaseConnectionSource dataSource;
+  private int maxThreads;
+  private int queryTimeout;
+  private int batchSize;
+  private Identifiers identifiers;
+
+  protected BaseTableSqlLinter() {
+    tables = new ArrayList<>();
+    isBatched = new AtomicBoolean();
+    maxThreads = 1;
+    batchSize = 1;
+  }
+
+  /**
+   * Allows subclasses to configure themselves with custom parameters. Subclasses that override
+   * this need to call this method, to read the query timeout in seconds from "query-timeout", and
+   * the number of tables to query in a single statement from "batch-size".
+   *
+   * @param config Custom configuration
+   */
+  @Override
+  protected void configure(final Config config) {
+    requireNonNull(config, "No configuration provided");
+
+    queryTimeout = Math.max(0, config.getIntegerValue("query-timeout", 0));
+    batchSize = Math.max(1, config.getIntegerValue("batch-size", 1));
+  }
+
+  @Override
+  protected void end(final Connection connection) {
+    final Query query = getTableQuery();
+    if (query != null && !tables.isEmpty()) {
+      queryTables(query, connection);
+    }
+    tables.clear();
+
+    super.end(connection);
+  }
+
+  /**
+   * Query that returns a single value for a table, or null if the linter is not configured to run a
+   * query.
+   *
+   * @return Query to run against each table
+   */
+  protected abstract Query getTableQuery();
+
+  /**
+   * Lints a table with the value that was returned by the query for the table. Tables for which
+   * the query could not be run are not linted. May be called from multiple threads at the same
+   * time.
+   *
+   * @param table Table that was queried
+   * @param queryResult Value returned by the query, which may be null
+   */
+  protected abstract void lintQueryResult(Table table, Object queryResult);
+
+  @Override
+  protected final void lint(final Table table, final Connection connection) {
+    requireNonNull(table, "No table provided");
+    // Only collect tables here, so that queries can be run together at the end
+    tables.add(table);
+  }
+
+  @Override
+  protected void start(final Connection connection) {
+    super.start(connection);
+
+    tables.clear();
+    if (getTableQuery() != null) {
+      requireNonNull(connection, "No connection provided");
+      identifiers = IdentifiersBuilder.builder().fromConnection(connection).toOptions();
+      isBatched.set(batchSize > 1);
+    }
+  }
+
+  /**
+   * Sets the source for additional connections, so that tables can be queried concurrently.
+   *
+   * @param dataSource Database connection source, or null to query tables one at a time on the
+   *     connection passed in for linting
+   * @param maxThreads Maximum number of tables to query at the same time
+   */
+  final void setDataSource(final DatabaseConnectionSource dataSource, final int maxThreads) {
+    this.dataSource = dataSource;
+    this.maxThreads = Math.max(1, maxThreads);
+  }
+
+  private Statement createStatement(final Connection connection) throws SQLException {
+    final Statement statement = connection.createStatement();
+    if (queryTimeout > 0) {
+      statement.setQueryTimeout(queryTimeout);
+    }
+    return statement;
+  }
+
+  private void queryBatch(final Query query, final List<Table> batch, final Connection connection) {
+    if (batch.size() > 1 && isBatched.get()) {
+      try {
+        queryBatchInOneStatement(query, batch, connection);
+        return;
+      } catch (final SQLException e) {
+        // Do not try to batch queries again, since the database does not support it
+        if (isBatched.getAndSet(false)) {
+          LOGGER.log(
+              Level.INFO,
+              e,
+              new StringFormat(
+                  "Could not combine queries for tables, so running queries one at a time, for "
+                      + "<%s>",
+                  getLinterInstanceId()));
+        }
+      }
+    }
+
+    for (final Table table : batch) {
+      queryTable(query, table, connection);
+    }
+  }
+
+  private void queryBatchInOneStatement(
+      final Query query, final List<Table> batch, final Connection connection)
+      throws SQLException {
+    final Object[] queryResults = new Object[batch.size()];
+    final boolean[] hasQueryResult = new boolean[batch.size()];
+    try (final Statement statement = createStatement(connection);
+        final ResultSet results = executeAgainstTables(query, statement, batch, identifiers); ) {
+      if (results.getMetaData().getColumnCount() != 2) {
+        throw new SQLException("Too many columns of data returned");
+      }
+      while (results.next()) {
+        final int tableIndex = results.getInt(1);
+        if (hasQueryResult[tableIndex]) {
+          throw new SQLException(
+              String.format(
+                  "Too many rows of data returned for table <%s>", batch.get(tableIndex)));
+        }
+        hasQueryResult[tableIndex] = true;
+        queryResults[tableIndex] = results.getObject(2);
+        if (results.wasNull()) {
+          queryResults[tableIndex] = null;
+        }
+      }
+    }
+
+    for (int i = 0; i < batch.size(); i++) {
+      lintQueryResult(batch.get(i), queryResults[i]);
+    }
+  }
+
+  private void queryTable(final Query query, final Table table, final Connection connection) {
+    try (final Statement statement = createStatement(connection);
+        final ResultSet results =
+            executeAgainstTable(query, statement, table, true, identifiers); ) {
+      if (results.getMetaData().getColumnCount() != 1) {
+        throw new SQLException("Too many columns of data returned");
+      }
+      Object queryResult = null;
+      if (results.next()) {
+        queryResult = results.getObject(1);
+        if (results.wasNull()) {
+          queryResult = null;
+        }
+      }
+      if (results.next()) {
+        throw new SQLException("Too many rows of data returned");
+      }
+      lintQueryResult(table, queryResult);
+    } catch (final SQLException e) {
+      LOGGER.log(
+          Level.WARNING,
+          e,
+          new StringFormat("Could not execute SQL for table lints, for table <%s>", table));
+    }
+  }
+
+  private void queryTables(final Query query, final Connection connection) {
+    final List<List<Table>> batches = new ArrayList<>();
+    for (int i = 0; i < tables.size(); i = i + batchSize) {
+      batches.add(new ArrayList<>(tables.subList(i, Math.min(i + batchSize, tables.size()))));
+    }
+
+    // The connection passed in for linting stays in use while linting, so leave it out of the
+    // connections available from the connection source
+    final int threads;
+    if (dataSource == null) {
+      threads = 1;
+    } else {
+      threads = Math.min(maxThreads, dataSource.getMaxConnections() - 1);
+    }
+    LOGGER.log(
+        Level.CONFIG,
+        new StringFormat(
+            "Running <%s> against <%d> tables in <%d> batches with up to <%d> threads",
+            getLinterInstanceId(), tables.size(), batches.size(), threads));
+
+    if (threads <= 1) {
+      for (final List<Table> batch : batches) {
+        queryBatch(query, batch, connection);
+      }
+      return;
+    }
+
+    try (final TaskRunner taskRunner = TaskRunners.getTaskRunner(getLinterInstanceId(), threads)) {
+      for (int i = 0; i < batches.size(); i++) {
+        final List<Table> batch = batches.get(i);
+        taskRunner.add(
+            new TaskDefinition(
+                "lintTables" + i,
+                () -> {
+                  try (final Connection batchConnection = dataSource.get()) {
+                    queryBatch(query, batch, batchConnection);
+                  }
+                }));
+      }
+      taskRunner.submit();
+    } catch (final Exception e) {
+      LOGGER.log(
+          Level.WARNING,
+          e,
+          new StringFormat(
+              "Could not execute SQL for table lints, for <%s>", getLinterInstanceId()));
+    }
+  }
+}
@@ -38,6 +38,10 @@ import java.util.List;
 import schemacrawler.schema.AttributedObject;
 import schemacrawler.schema.NamedObject;
 
+/**
+ * Collects lints, and attaches them to the objects that they are for. Lints can be added from
+ * multiple threads.
+ */
 public final class LintCollector {
 
   private static final String LINT_KEY = "schemacrawler.lint";
@@ -48,7 +52,7 @@ public final class LintCollector {
     lints = new ArrayList<>();
   }
 
-  public <N extends NamedObject & AttributedObject> void addLint(
+  public synchronized <N extends NamedObject & AttributedObject> void addLint(
       final N namedObject, final Lint<?> lint) {
     if (namedObject != null
         && lint != null
@@ -61,12 +65,12 @@ public final class LintCollector {
     }
   }
 
-  public Collection<Lint<? extends Serializable>> getLints() {
+  public synchronized Collection<Lint<? extends Serializable>> getLints() {
     lints.sort(naturalOrder());
     return new ArrayList<>(lints);
   }
 
-  public int size() {
+  public synchronized int size() {
     return lints.size();
   }
 }
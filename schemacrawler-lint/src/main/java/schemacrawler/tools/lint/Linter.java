@@ -31,6 +31,7 @@ package schemacrawler.tools.lint;
 import static us.fatehi.utility.IOUtility.readResourceFully;
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.schema.AttributedObject;
@@ -51,15 +52,16 @@ public abstract class Linter {
   private LintCollector collector;
   private LintSeverity severity;
   private int threshold;
-  private int lintCount;
+  private final AtomicInteger lintCount;
 
   protected Linter() {
     severity = LintSeverity.medium; // default value
     threshold = Integer.MAX_VALUE; // default value
+    lintCount = new AtomicInteger();
   }
 
   public final boolean exceedsThreshold() {
-    return lintCount > threshold;
+    return lintCount.get() > threshold;
   }
 
   /**
@@ -86,7 +88,7 @@ public abstract class Linter {
    * @return Lint counts
    */
   public final int getLintCount() {
-    return lintCount;
+    return lintCount.get();
   }
 
   /**
@@ -143,7 +145,7 @@ public abstract class Linter {
               message,
               value);
       collector.addLint(namedObject, lint);
-      lintCount = lintCount + 1;
+      lintCount.incrementAndGet();
     }
   }
 
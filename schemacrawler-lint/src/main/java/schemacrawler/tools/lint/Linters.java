@@ -36,12 +36,18 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
 import schemacrawler.tools.lint.config.LinterConfig;
 import schemacrawler.tools.lint.config.LinterConfigs;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.scheduler.TaskDefinition;
+import us.fatehi.utility.scheduler.TaskRunner;
+import us.fatehi.utility.scheduler.TaskRunners;
 import us.fatehi.utility.string.StringFormat;
 
 public final class Linters implements Iterable<Linter> {
@@ -97,6 +103,24 @@ public final class Linters implements Iterable<Linter> {
     }
   }
 
+  /**
+   * Runs linters that were already created and configured, instead of linters from the linter
+   * registry.
+   *
+   * @param linters Linters to run
+   */
+  Linters(final List<Linter> linters) {
+    requireNonNull(linters, "No linters provided");
+
+    this.linters = new ArrayList<>(linters);
+    collector = new LintCollector();
+    registry = new LinterRegistry();
+
+    for (final Linter linter : this.linters) {
+      linter.setLintCollector(collector);
+    }
+  }
+
   public boolean exceedsThreshold() {
     for (final Linter linter : linters) {
       if (linter.exceedsThreshold()) {
@@ -168,16 +192,98 @@ public final class Linters implements Iterable<Linter> {
     return linters.iterator();
   }
 
+  /**
+   * Lints the catalog with all configured linters. Table-local linters share a single pass over
+   * the tables, and tables are linted concurrently. All other linters, such as linters that run
+   * SQL, or that look across tables, run one after another, alongside the pass over the tables.
+   *
+   * @param catalog Catalog to lint
+   * @param connection Connection for linters that need to query the database
+   */
   public void lint(final Catalog catalog, final Connection connection) {
+    lint(catalog, connection, null, 1);
+  }
+
+  /**
+   * Lints the catalog with all configured linters. Linters that run SQL against each table can
+   * borrow additional connections from the database connection source, to query tables
+   * concurrently.
+   *
+   * @param catalog Catalog to lint
+   * @param connection Connection for linters that need to query the database
+   * @param dataSource Source of additional connections, which may be null
+   * @param maxThreads Maximum number of tables that a linter can query at the same time
+   */
+  public void lint(
+      final Catalog catalog,
+      final Connection connection,
+      final DatabaseConnectionSource dataSource,
+      final int maxThreads) {
+    requireNonNull(catalog, "No catalog provided");
+
+    for (final Linter linter : linters) {
+      if (linter instanceof BaseTableSqlLinter) {
+        ((BaseTableSqlLinter) linter).setDataSource(dataSource, maxThreads);
+      }
+    }
+
+    final List<BaseLinter> tableLinters = new ArrayList<>();
+    final List<Linter> serialLinters = new ArrayList<>();
     for (final Linter linter : linters) {
+      if (linter instanceof BaseLinter && ((BaseLinter) linter).isTableLocal()) {
+        tableLinters.add((BaseLinter) linter);
+      } else {
+        serialLinters.add(linter);
+      }
+    }
+
+    if (tableLinters.isEmpty()) {
+      lintSerially(serialLinters, catalog, connection);
+      return;
+    }
+
+    final List<BaseLinter> startedLinters = new ArrayList<>();
+    for (final BaseLinter linter : tableLinters) {
       LOGGER.log(Level.CONFIG, new StringFormat("Linting with <%s>", linter.getLinterInstanceId()));
       try {
-        linter.lint(catalog, connection);
+        linter.startLint(catalog, connection);
+        startedLinters.add(linter);
       } catch (final Exception e) {
-        LOGGER.log(
-            Level.WARNING,
-            e,
-            new StringFormat("Could not run linter <%s>", linter.getLinterInstanceId()));
+        logLinterFailure(linter, e);
+      }
+    }
+
+    // Linters that fail on any table are not run on the remaining tables
+    final Set<Linter> failedLinters = ConcurrentHashMap.newKeySet();
+    final List<Table> tables = new ArrayList<>(catalog.getTables());
+    final int lintThreads = Runtime.getRuntime().availableProcessors();
+    // Use a few more batches than threads, so that threads are not left idle when some tables
+    // take longer to lint than others
+    final int batchSize = Math.max(1, tables.size() / (lintThreads * 4) + 1);
+    try (final TaskRunner taskRunner = TaskRunners.getTaskRunner("lint", lintThreads)) {
+      taskRunner.add(
+          new TaskDefinition(
+              "lintSerially", () -> lintSerially(serialLinters, catalog, connection)));
+      for (int i = 0; i < tables.size(); i = i + batchSize) {
+        final List<Table> batch = tables.subList(i, Math.min(i + batchSize, tables.size()));
+        taskRunner.add(
+            new TaskDefinition(
+                "lintTables" + i,
+                () -> lintTables(batch, startedLinters, failedLinters, connection)));
+      }
+      taskRunner.submit();
+    } catch (final Exception e) {
+      LOGGER.log(Level.WARNING, "Could not lint tables", e);
+    }
+
+    for (final BaseLinter linter : startedLinters) {
+      if (failedLinters.contains(linter)) {
+        continue;
+      }
+      try {
+        linter.endLint(connection);
+      } catch (final Exception e) {
+        logLinterFailure(linter, e);
       }
     }
   }
@@ -196,6 +302,46 @@ public final class Linters implements Iterable<Linter> {
     return linters.toString();
   }
 
+  private void lintSerially(
+      final List<Linter> serialLinters, final Catalog catalog, final Connection connection) {
+    for (final Linter linter : serialLinters) {
+      LOGGER.log(Level.CONFIG, new StringFormat("Linting with <%s>", linter.getLinterInstanceId()));
+      try {
+        linter.lint(catalog, connection);
+      } catch (final Exception e) {
+        logLinterFailure(linter, e);
+      }
+    }
+  }
+
+  private void lintTables(
+      final List<Table> tables,
+      final List<BaseLinter> tableLinters,
+      final Set<Linter> failedLinters,
+      final Connection connection) {
+    for (final Table table : tables) {
+      for (final BaseLinter linter : tableLinters) {
+        if (failedLinters.contains(linter)) {
+          continue;
+        }
+        try {
+          linter.lintTable(table, connection);
+        } catch (final Exception e) {
+          if (failedLinters.add(linter)) {
+            logLinterFailure(linter, e);
+          }
+        }
+      }
+    }
+  }
+
+  private void logLinterFailure(final Linter linter, final Exception e) {
+    LOGGER.log(
+        Level.WARNING,
+        e,
+        new StringFormat("Could not run linter <%s>", linter.getLinterInstanceId()));
+  }
+
   private Linter newLinter(final String linterId) {
     final Linter linter = registry.newLinter(linterId);
     if (linter != null) {
@@ -53,6 +53,11 @@ public class LinterForeignKeyMismatch extends BaseLinter {
     return "foreign key data type different from primary key";
   }
 
+  @Override
+  protected boolean isTableLocal() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connections) {
     requireNonNull(table, "No table provided");
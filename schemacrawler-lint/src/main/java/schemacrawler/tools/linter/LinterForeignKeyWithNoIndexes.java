@@ -55,6 +55,11 @@ public class LinterForeignKeyWithNoIndexes extends BaseLinter {
     return "foreign key with no index";
   }
 
+  @Override
+  protected boolean isTableLocal() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
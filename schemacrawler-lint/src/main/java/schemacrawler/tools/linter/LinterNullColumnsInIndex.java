@@ -48,6 +48,11 @@ public class LinterNullColumnsInIndex extends BaseLinter {
     return "unique index with nullable columns";
   }
 
+  @Override
+  protected boolean isTableLocal() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
@@ -57,6 +57,11 @@ public class LinterRedundantIndexes extends BaseLinter {
     return "redundant index";
   }
 
+  @Override
+  protected boolean isTableLocal() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
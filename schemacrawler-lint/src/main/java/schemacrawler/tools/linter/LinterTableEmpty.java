@@ -29,21 +29,16 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.linter;
 
 import static java.util.Objects.requireNonNull;
-import static schemacrawler.schemacrawler.QueryUtility.executeForLong;
-import java.sql.Connection;
-import java.sql.SQLException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.filter.TableTypesFilter;
 import schemacrawler.schema.Table;
-import schemacrawler.schemacrawler.Identifiers;
-import schemacrawler.schemacrawler.IdentifiersBuilder;
 import schemacrawler.schemacrawler.Query;
-import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.BaseTableSqlLinter;
 import schemacrawler.tools.lint.LintSeverity;
 import us.fatehi.utility.string.StringFormat;
 
-public class LinterTableEmpty extends BaseLinter {
+public class LinterTableEmpty extends BaseTableSqlLinter {
 
   private static final Logger LOGGER = Logger.getLogger(LinterTableEmpty.class.getName());
 
@@ -58,20 +53,20 @@ public class LinterTableEmpty extends BaseLinter {
   }
 
   @Override
-  protected void lint(final Table table, final Connection connection) {
+  protected Query getTableQuery() {
+    return new Query("Count", "SELECT COUNT(*) FROM ${table}");
+  }
+
+  @Override
+  protected void lintQueryResult(final Table table, final Object queryResult) {
     requireNonNull(table, "No table provided");
-    requireNonNull(connection, "No connection provided");
 
-    final Query query = new Query("Count", "SELECT COUNT(*) FROM ${table}");
-    try {
-      final Identifiers identifiers =
-          IdentifiersBuilder.builder().fromConnection(connection).toOptions();
-      final long count = executeForLong(query, connection, table, identifiers);
-      if (count == 0) {
-        addTableLint(table, getSummary());
-      }
-    } catch (final SQLException e) {
-      LOGGER.log(Level.WARNING, e, new StringFormat("Could not get count for table, ", table));
+    if (!(queryResult instanceof Number)) {
+      LOGGER.log(Level.WARNING, new StringFormat("Could not get count for table <%s>", table));
+      return;
+    }
+    if (((Number) queryResult).longValue() == 0) {
+      addTableLint(table, getSummary());
     }
   }
 }
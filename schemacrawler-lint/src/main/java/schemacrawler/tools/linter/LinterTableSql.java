@@ -29,26 +29,15 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.linter;
 
 import static java.util.Objects.requireNonNull;
-import static schemacrawler.schemacrawler.QueryUtility.executeForScalar;
 import static us.fatehi.utility.Utility.isBlank;
 import static us.fatehi.utility.Utility.requireNotBlank;
 
-import java.sql.Connection;
-import java.sql.SQLException;
-import java.util.logging.Level;
-import java.util.logging.Logger;
-
 import schemacrawler.schema.Table;
-import schemacrawler.schemacrawler.Identifiers;
-import schemacrawler.schemacrawler.IdentifiersBuilder;
 import schemacrawler.schemacrawler.Query;
-import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.BaseTableSqlLinter;
 import schemacrawler.tools.options.Config;
-import us.fatehi.utility.string.StringFormat;
-
-public class LinterTableSql extends BaseLinter {
 
-  private static final Logger LOGGER = Logger.getLogger(LinterTableSql.class.getName());
+public class LinterTableSql extends BaseTableSqlLinter {
 
   private String message;
   private String sql;
@@ -65,7 +54,7 @@ public class LinterTableSql extends BaseLinter {
 
   @Override
   protected void configure(final Config config) {
-    requireNonNull(config, "No configuration provided");
+    super.configure(config);
 
     message = config.getStringValue("message", "");
     requireNotBlank(message, "No message provided");
@@ -75,27 +64,19 @@ public class LinterTableSql extends BaseLinter {
   }
 
   @Override
-  protected void lint(final Table table, final Connection connection) {
+  protected Query getTableQuery() {
     if (isBlank(sql)) {
-      return;
+      return null;
     }
+    return new Query(message, sql);
+  }
 
+  @Override
+  protected void lintQueryResult(final Table table, final Object queryResult) {
     requireNonNull(table, "No table provided");
-    requireNonNull(connection, "No connection provided");
-
-    final Query query = new Query(message, sql);
-    try {
-      final Identifiers identifiers =
-          IdentifiersBuilder.builder().fromConnection(connection).toOptions();
-      final Object queryResult = executeForScalar(query, connection, table, identifiers);
-      if (queryResult != null) {
-        addTableLint(table, getSummary() + " " + queryResult);
-      }
-    } catch (final SQLException e) {
-      LOGGER.log(
-          Level.WARNING,
-          e,
-          new StringFormat("Could not execute SQL for table lints, for table", table));
+
+    if (queryResult != null) {
+      addTableLint(table, getSummary() + " " + queryResult);
     }
   }
 }
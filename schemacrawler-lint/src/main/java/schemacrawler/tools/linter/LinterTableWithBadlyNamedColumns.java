@@ -60,6 +60,11 @@ public class LinterTableWithBadlyNamedColumns extends BaseLinter {
     columnNames = inclusionRuleLookup.orElse(new IncludeAll());
   }
 
+  @Override
+  protected boolean isTableLocal() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
@@ -78,6 +78,11 @@ public class LinterTableWithIncrementingColumns extends BaseLinter {
     return "incrementing columns";
   }
 
+  @Override
+  protected boolean isTableLocal() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
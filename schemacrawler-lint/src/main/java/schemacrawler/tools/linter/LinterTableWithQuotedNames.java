@@ -40,18 +40,22 @@ import schemacrawler.tools.lint.BaseLinter;
 
 public class LinterTableWithQuotedNames extends BaseLinter {
 
+  private Identifiers identifiers;
+
   @Override
   public String getSummary() {
     return "spaces in name, or reserved word";
   }
 
+  @Override
+  protected boolean isTableLocal() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
 
-    final Identifiers identifiers =
-        IdentifiersBuilder.builder().fromConnection(connection).toOptions();
-
     final String tableName = table.getName();
     if (identifiers.isToBeQuoted(tableName)) {
       addTableLint(table, getSummary());
@@ -64,6 +68,14 @@ public class LinterTableWithQuotedNames extends BaseLinter {
     }
   }
 
+  @Override
+  protected void start(final Connection connection) {
+    super.start(connection);
+
+    // Look up identifiers once, so that the connection is not used while linting tables
+    identifiers = IdentifiersBuilder.builder().fromConnection(connection).toOptions();
+  }
+
   private List<String> findColumnsWithQuotedNames(
       final List<Column> columns, final Identifiers identifiers) {
     final List<String> columnsWithQuotedNames = new ArrayList<>();
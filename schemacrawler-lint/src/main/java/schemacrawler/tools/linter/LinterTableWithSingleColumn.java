@@ -44,6 +44,11 @@ public class LinterTableWithSingleColumn extends BaseLinter {
     return "single column";
   }
 
+  @Override
+  protected boolean isTableLocal() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
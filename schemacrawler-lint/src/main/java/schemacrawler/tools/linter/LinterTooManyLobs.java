@@ -63,6 +63,11 @@ public class LinterTooManyLobs extends BaseLinter {
     maxLargeObjectsInTable = config.getIntegerValue("max-large-objects", 1);
   }
 
+  @Override
+  protected boolean isTableLocal() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
@@ -28,13 +28,50 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.test;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
 import static schemacrawler.test.utility.LintTestUtility.executableLint;
+import static schemacrawler.tools.utility.SchemaCrawlerUtility.getCatalog;
 
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.test.utility.AssertNoSystemErrOutput;
 import schemacrawler.test.utility.AssertNoSystemOutOutput;
 import schemacrawler.test.utility.WithTestDatabase;
+import schemacrawler.tools.lint.Lint;
+import schemacrawler.tools.lint.Linters;
+import schemacrawler.tools.lint.config.LinterConfig;
+import schemacrawler.tools.lint.config.LinterConfigs;
+import schemacrawler.tools.options.Config;
 import us.fatehi.utility.datasource.DatabaseConnectionSource;
 
 @WithTestDatabase
@@ -42,9 +79,236 @@ import us.fatehi.utility.datasource.DatabaseConnectionSource;
 @AssertNoSystemOutOutput
 public class LintSqlTest {
 
+  /**
+   * Lends connections from the test database, and records how they are used. Statements that
+   * combine queries for tables with UNION ALL can be made to fail.
+   */
+  private static final class RecordingConnectionSource implements DatabaseConnectionSource {
+
+    private final DatabaseConnectionSource dataSource;
+    private final int maxConnections;
+    private final boolean failCombinedQueries;
+    private final AtomicInteger borrowed = new AtomicInteger();
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final AtomicInteger maxInUse = new AtomicInteger();
+    private final AtomicInteger failedCombinedQueries = new AtomicInteger();
+    private final Set<Integer> queryTimeouts = ConcurrentHashMap.newKeySet();
+    private final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+    RecordingConnectionSource(
+        final DatabaseConnectionSource dataSource,
+        final int maxConnections,
+        final boolean failCombinedQueries) {
+      this.dataSource = dataSource;
+      this.maxConnections = maxConnections;
+      this.failCombinedQueries = failCombinedQueries;
+    }
+
+    @Override
+    public void close() {
+      // Connections belong to the test database
+    }
+
+    @Override
+    public Connection get() {
+      borrowed.incrementAndGet();
+      maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+      threadNames.add(Thread.currentThread().getName());
+      return record(dataSource.get(), true);
+    }
+
+    @Override
+    public int getMaxConnections() {
+      return maxConnections;
+    }
+
+    @Override
+    public boolean releaseConnection(final Connection connection) {
+      return false;
+    }
+
+    @Override
+    public void setFirstConnectionInitializer(final Consumer<Connection> connectionInitializer) {
+      // Not needed for tests
+    }
+
+    /** Records the use of a connection, which is counted as returned when it is closed. */
+    Connection record(final Connection connection, final boolean isBorrowed) {
+      return proxy(
+          Connection.class,
+          connection,
+          (proxy, method, args) -> {
+            if (isBorrowed && method.getName().equals("close")) {
+              inUse.decrementAndGet();
+            }
+            final Object result = invoke(connection, method, args);
+            if (method.getName().equals("createStatement")) {
+              return recordStatement((Statement) result);
+            }
+            return result;
+          });
+    }
+
+    private Statement recordStatement(final Statement statement) {
+      return proxy(
+          Statement.class,
+          statement,
+          (proxy, method, args) -> {
+            if (method.getName().equals("setQueryTimeout")) {
+              queryTimeouts.add((Integer) args[0]);
+            }
+            if (failCombinedQueries
+                && method.getName().startsWith("execute")
+                && args != null
+                && String.valueOf(args[0]).contains("UNION ALL")) {
+              failedCombinedQueries.incrementAndGet();
+              throw new SQLException("Cannot combine queries");
+            }
+            return invoke(statement, method, args);
+          });
+    }
+  }
+
+  private static Object invoke(
+      final Object target, final Method method, final Object[] args)
+      throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (final InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  private static <T> T proxy(
+      final Class<T> type, final T target, final InvocationHandler invocationHandler) {
+    return type.cast(
+        Proxy.newProxyInstance(
+            LintSqlTest.class.getClassLoader(), new Class<?>[] {type}, invocationHandler));
+  }
+
+  private Catalog catalog;
+
+  @Test
+  public void concurrentTableQueries(final DatabaseConnectionSource dataSource) throws Exception {
+    final List<String> expectedLints = lintTables(dataSource, null, 1, tableSqlConfig(1, 0));
+
+    final RecordingConnectionSource connectionSource =
+        new RecordingConnectionSource(dataSource, 4, false);
+    final List<String> lints = lintTables(dataSource, connectionSource, 8, tableSqlConfig(1, 0));
+
+    // Tables are queried on connections borrowed from the source, and all of them are returned
+    assertThat(expectedLints.size(), is(catalog.getTables().size()));
+    assertThat(lints, is(expectedLints));
+    assertThat(connectionSource.borrowed.get(), is(catalog.getTables().size()));
+    assertThat(connectionSource.inUse.get(), is(0));
+    // One connection is left for linting, so at most three tables are queried at the same time
+    assertThat(connectionSource.maxInUse.get(), is(lessThanOrEqualTo(3)));
+    assertThat(connectionSource.threadNames.size(), is(lessThanOrEqualTo(3)));
+  }
+
+  @Test
+  public void combinedQueriesFallBack(final DatabaseConnectionSource dataSource) throws Exception {
+    final List<String> expectedLints = lintTables(dataSource, null, 1, tableSqlConfig(1, 0));
+
+    final RecordingConnectionSource connectionSource =
+        new RecordingConnectionSource(dataSource, 1, true);
+    final List<String> lints = lintTables(dataSource, connectionSource, 1, tableSqlConfig(3, 0));
+
+    // The combined query is tried once, and then tables are queried one at a time
+    assertThat(lints, is(expectedLints));
+    assertThat(connectionSource.failedCombinedQueries.get(), is(1));
+  }
+
+  @Test
+  public void queryTimeout(final DatabaseConnectionSource dataSource) throws Exception {
+    final RecordingConnectionSource connectionSource =
+        new RecordingConnectionSource(dataSource, 3, false);
+    final List<String> lints = lintTables(dataSource, connectionSource, 2, tableSqlConfig(2, 7));
+
+    assertThat(lints, is(not(empty())));
+    assertThat(connectionSource.borrowed.get(), is(greaterThan(0)));
+    assertThat(connectionSource.queryTimeouts, contains(7));
+
+    // Without a timeout, none is set on statements
+    final RecordingConnectionSource noTimeoutConnectionSource =
+        new RecordingConnectionSource(dataSource, 3, false);
+    lintTables(dataSource, noTimeoutConnectionSource, 2, tableSqlConfig(2, 0));
+    assertThat(noTimeoutConnectionSource.queryTimeouts, is(empty()));
+  }
+
   @Test
   public void executableLintSQLReport(final DatabaseConnectionSource dataSource) throws Exception {
     executableLint(
         dataSource, "/schemacrawler-linter-configs-sql.yaml", null, "executableLintSQLReport");
   }
+
+  @Test
+  public void executableLintSQLReportBatched(final DatabaseConnectionSource dataSource)
+      throws Exception {
+    // Combining queries for tables gives the same lints as running them one at a time
+    executableLint(
+        dataSource,
+        "/schemacrawler-linter-configs-sql-batched.yaml",
+        null,
+        "executableLintSQLReport");
+  }
+
+  @BeforeEach
+  public void loadCatalog(final DatabaseConnectionSource dataSource) throws Exception {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionInclusionRule(".*\\.BOOKS"));
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions());
+    catalog =
+        getCatalog(dataSource, schemaRetrievalOptionsDefault, schemaCrawlerOptions, new Config());
+  }
+
+  private List<String> lintTables(
+      final DatabaseConnectionSource dataSource,
+      final RecordingConnectionSource connectionSource,
+      final int maxThreads,
+      final Map<String, Object> config)
+      throws Exception {
+    final LinterConfigs linterConfigs = new LinterConfigs(new Config());
+    linterConfigs.add(
+        new LinterConfig(
+            "schemacrawler.tools.linter.LinterTableSql",
+            true,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            config));
+    final Linters linters = new Linters(linterConfigs, false);
+
+    try (final Connection connection = dataSource.get()) {
+      final Connection lintConnection;
+      if (connectionSource == null) {
+        lintConnection = connection;
+      } else {
+        lintConnection = connectionSource.record(connection, false);
+      }
+      linters.lint(catalog, lintConnection, connectionSource, maxThreads);
+    }
+
+    final List<String> lints = new ArrayList<>();
+    for (final Lint<?> lint : linters.getCollector().getLints()) {
+      lints.add(lint.getObjectName() + ": " + lint.getMessage() + " " + lint.getValueAsString());
+    }
+    Collections.sort(lints);
+    return lints;
+  }
+
+  private Map<String, Object> tableSqlConfig(final int batchSize, final int queryTimeout) {
+    final Map<String, Object> config = new HashMap<>();
+    config.put("message", "table sql");
+    config.put("sql", "SELECT COUNT(*) FROM ${table}");
+    config.put("batch-size", batchSize);
+    config.put("query-timeout", queryTimeout);
+    return config;
+  }
 }
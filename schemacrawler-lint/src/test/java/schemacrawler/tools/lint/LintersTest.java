@@ -0,0 +1,182 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.lint;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
+import static schemacrawler.tools.utility.SchemaCrawlerUtility.getCatalog;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.test.utility.WithTestDatabase;
+import schemacrawler.tools.options.Config;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+
+@WithTestDatabase
+public class LintersTest {
+
+  private static class RecordingLinter extends BaseLinter {
+
+    private final boolean tableLocal;
+    private final String failOnTableName;
+    private final AtomicInteger startCount = new AtomicInteger();
+    private final AtomicInteger endCount = new AtomicInteger();
+    private final List<String> tableNames = Collections.synchronizedList(new ArrayList<>());
+    private final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+    RecordingLinter(final boolean tableLocal, final String failOnTableName) {
+      this.tableLocal = tableLocal;
+      this.failOnTableName = failOnTableName;
+    }
+
+    @Override
+    public String getSummary() {
+      return "Records linted tables";
+    }
+
+    @Override
+    protected void end(final Connection connection) {
+      endCount.incrementAndGet();
+    }
+
+    @Override
+    protected boolean isTableLocal() {
+      return tableLocal;
+    }
+
+    @Override
+    protected void lint(final Table table, final Connection connection) {
+      tableNames.add(table.getFullName());
+      threadNames.add(Thread.currentThread().getName());
+      if (table.getName().equals(failOnTableName)) {
+        throw new RuntimeException("Failing on " + table);
+      }
+      addTableLint(table, "linted");
+    }
+
+    @Override
+    protected void start(final Connection connection) {
+      startCount.incrementAndGet();
+    }
+  }
+
+  private Catalog catalog;
+  private List<String> catalogTableNames;
+
+  @BeforeEach
+  public void loadCatalog(final DatabaseConnectionSource dataSource) throws Exception {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionInclusionRule(".*\\.BOOKS"));
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions());
+    catalog =
+        getCatalog(dataSource, schemaRetrievalOptionsDefault, schemaCrawlerOptions, new Config());
+
+    catalogTableNames = new ArrayList<>();
+    for (final Table table : catalog.getTables()) {
+      catalogTableNames.add(table.getFullName());
+    }
+  }
+
+  @Test
+  public void lintLanes(final DatabaseConnectionSource dataSource) throws Exception {
+    final RecordingLinter tableLocalLinter = new RecordingLinter(true, null);
+    final RecordingLinter serialLinter = new RecordingLinter(false, null);
+    final Linters linters = new Linters(Arrays.asList(tableLocalLinter, serialLinter));
+
+    try (final Connection connection = dataSource.get()) {
+      linters.lint(catalog, connection);
+    }
+
+    // Table-local linters are started once, and lint every table once, in any order
+    assertThat(tableLocalLinter.startCount.get(), is(1));
+    assertThat(tableLocalLinter.endCount.get(), is(1));
+    assertThat(tableLocalLinter.tableNames, containsInAnyOrder(catalogTableNames.toArray()));
+
+    // Other linters lint every table in order, on a single thread
+    assertThat(serialLinter.startCount.get(), is(1));
+    assertThat(serialLinter.endCount.get(), is(1));
+    assertThat(serialLinter.tableNames, contains(catalogTableNames.toArray()));
+    assertThat(serialLinter.threadNames, hasSize(1));
+
+    assertThat(linters.getCollector().size(), is(catalogTableNames.size() * 2));
+  }
+
+  @Test
+  public void linterFailure(final DatabaseConnectionSource dataSource) throws Exception {
+    final RecordingLinter failingTableLocalLinter = new RecordingLinter(true, "AUTHORS");
+    final RecordingLinter tableLocalLinter = new RecordingLinter(true, null);
+    final RecordingLinter failingSerialLinter = new RecordingLinter(false, "AUTHORS");
+    final RecordingLinter serialLinter = new RecordingLinter(false, null);
+    final Linters linters =
+        new Linters(
+            Arrays.asList(
+                failingTableLocalLinter, tableLocalLinter, failingSerialLinter, serialLinter));
+
+    try (final Connection connection = dataSource.get()) {
+      linters.lint(catalog, connection);
+    }
+
+    // Failing linters stop, and their lints so far are kept
+    final int tablesCount = catalogTableNames.size();
+    assertThat(failingTableLocalLinter.endCount.get(), is(0));
+    assertThat(failingTableLocalLinter.getLintCount(), is(lessThan(tablesCount)));
+    assertThat(failingSerialLinter.endCount.get(), is(0));
+    assertThat(failingSerialLinter.getLintCount(), is(lessThan(tablesCount)));
+
+    // Other linters lint all tables
+    assertThat(tableLocalLinter.endCount.get(), is(1));
+    assertThat(tableLocalLinter.getLintCount(), is(tablesCount));
+    assertThat(serialLinter.endCount.get(), is(1));
+    assertThat(serialLinter.getLintCount(), is(tablesCount));
+  }
+}
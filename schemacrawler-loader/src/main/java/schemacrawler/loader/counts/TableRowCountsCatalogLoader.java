@@ -51,6 +51,8 @@ public class TableRowCountsCatalogLoader extends BaseCatalogLoader {
 
   private static final String OPTION_NO_EMPTY_TABLES = "no-empty-tables";
   private static final String OPTION_LOAD_ROW_COUNTS = "load-row-counts";
+  private static final String OPTION_ESTIMATE_ROW_COUNTS = "estimate-row-counts";
+  private static final String OPTION_ROW_COUNTS_TIMEOUT = "row-counts-timeout";
 
   public TableRowCountsCatalogLoader() {
     super(new CommandDescription("countsloader", "Loader for table row counts"), 2);
@@ -69,6 +71,17 @@ public class TableRowCountsCatalogLoader extends BaseCatalogLoader {
             "Loads row counts for each table",
             "This can be a time consuming operation",
             "Optional, defaults to false")
+        .addOption(
+            OPTION_ESTIMATE_ROW_COUNTS,
+            Boolean.class,
+            "Uses database statistics to estimate row counts",
+            "Estimates may be out of date",
+            "Optional, defaults to false")
+        .addOption(
+            OPTION_ROW_COUNTS_TIMEOUT,
+            Integer.class,
+            "Query timeout in seconds to count rows of a table",
+            "Optional, defaults to no timeout")
         .addOption(
             OPTION_NO_EMPTY_TABLES,
             Boolean.class,
@@ -87,15 +100,29 @@ public class TableRowCountsCatalogLoader extends BaseCatalogLoader {
     LOGGER.log(Level.INFO, "Retrieving table row counts");
     try (final TaskRunner taskRunner = TaskRunners.getTaskRunner("loadTableRowCounts", 1); ) {
       final Catalog catalog = getCatalog();
-      final TableRowCountsRetriever rowCountsRetriever =
-          new TableRowCountsRetriever(getDataSource(), catalog);
       final Config config = getAdditionalConfiguration();
+      final TableRowCountsRetriever rowCountsRetriever =
+          new TableRowCountsRetriever(
+              getDataSource(),
+              catalog,
+              getSchemaCrawlerOptions().getLoadOptions().getMaxThreads(),
+              config.getIntegerValue(OPTION_ROW_COUNTS_TIMEOUT, 0));
       taskRunner.add(
           new TaskDefinition(
               "retrieveTableRowCounts",
               () -> {
                 final boolean loadRowCounts = config.getBooleanValue(OPTION_LOAD_ROW_COUNTS, false);
                 if (loadRowCounts) {
+                  // Estimate row counts where possible, and count the rest
+                  if (config.getBooleanValue(OPTION_ESTIMATE_ROW_COUNTS, false)) {
+                    rowCountsRetriever.retrieveEstimatedTableRowCounts(
+                        getSchemaRetrievalOptions().getInformationSchemaViews());
+                    // Statistics may be out of date, so count tables that are estimated to be
+                    // empty before they are filtered out
+                    if (config.getBooleanValue(OPTION_NO_EMPTY_TABLES, false)) {
+                      rowCountsRetriever.retrieveEmptyTableRowCounts();
+                    }
+                  }
                   rowCountsRetriever.retrieveTableRowCounts();
                 } else {
                   LOGGER.log(
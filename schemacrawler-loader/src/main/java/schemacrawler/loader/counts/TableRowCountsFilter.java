@@ -40,7 +40,8 @@ public class TableRowCountsFilter implements Predicate<Table> {
   }
 
   /**
-   * Check for table limiting rules.
+   * Check for table limiting rules. Tables are only removed as empty if their rows were counted,
+   * since an estimated row count from statistics may be out of date.
    *
    * @param table Table to check
    * @return Whether the table should be included
@@ -50,7 +51,7 @@ public class TableRowCountsFilter implements Predicate<Table> {
     final boolean hideTable;
     if (noEmptyTables) {
       final long count = TableRowCountsUtility.getRowCount(table);
-      hideTable = count == 0;
+      hideTable = count == 0 && !TableRowCountsUtility.isRowCountEstimated(table);
     } else {
       hideTable = false;
     }
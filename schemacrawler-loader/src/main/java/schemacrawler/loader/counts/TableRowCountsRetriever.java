@@ -29,22 +29,39 @@ http://www.gnu.org/licenses/
 package schemacrawler.loader.counts;
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.loader.counts.TableRowCountsUtility.addEstimatedRowCountToTable;
 import static schemacrawler.loader.counts.TableRowCountsUtility.addRowCountToTable;
+import static schemacrawler.loader.counts.TableRowCountsUtility.getRowCount;
+import static schemacrawler.loader.counts.TableRowCountsUtility.hasRowCount;
+import static schemacrawler.loader.counts.TableRowCountsUtility.isRowCountEstimated;
 import static schemacrawler.schemacrawler.IdentifierQuotingStrategy.quote_all;
-import static schemacrawler.schemacrawler.QueryUtility.executeForLong;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_ROW_COUNTS;
+import static schemacrawler.schemacrawler.QueryUtility.executeAgainstSchema;
+import static schemacrawler.schemacrawler.QueryUtility.executeAgainstTable;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.Identifiers;
 import schemacrawler.schemacrawler.IdentifiersBuilder;
+import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.Retriever;
 import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.scheduler.TaskDefinition;
+import us.fatehi.utility.scheduler.TaskRunner;
+import us.fatehi.utility.scheduler.TaskRunners;
 import us.fatehi.utility.string.StringFormat;
 
 @Retriever
@@ -54,14 +71,135 @@ public final class TableRowCountsRetriever {
 
   private final DatabaseConnectionSource dataSource;
   private final Catalog catalog;
+  private final int maxThreads;
+  private final int queryTimeout;
 
   public TableRowCountsRetriever(final DatabaseConnectionSource dataSource, final Catalog catalog)
       throws SQLException {
+    this(dataSource, catalog, 1, 0);
+  }
+
+  /**
+   * Retrieves table row counts.
+   *
+   * @param dataSource Database connection source
+   * @param catalog Catalog with tables to count rows for
+   * @param maxThreads Maximum number of tables to count at the same time, which is also limited by
+   *     the number of connections available from the connection source
+   * @param queryTimeout Query timeout in seconds for counting rows in a table, or zero for no
+   *     timeout
+   */
+  public TableRowCountsRetriever(
+      final DatabaseConnectionSource dataSource,
+      final Catalog catalog,
+      final int maxThreads,
+      final int queryTimeout)
+      throws SQLException {
     this.dataSource = requireNonNull(dataSource, "No database connection source provided");
     this.catalog = requireNonNull(catalog, "No catalog provided");
+    this.maxThreads = Math.max(1, Math.min(maxThreads, dataSource.getMaxConnections()));
+    this.queryTimeout = Math.max(0, queryTimeout);
+  }
+
+  /**
+   * Uses database statistics to estimate row counts for tables, if the database plugin provides a
+   * query for statistics. Estimates may be out of date, so they are marked as estimated. Tables
+   * without statistics are left without a row count.
+   *
+   * @param informationSchemaViews Database specific queries
+   */
+  public void retrieveEstimatedTableRowCounts(final InformationSchemaViews informationSchemaViews) {
+    requireNonNull(informationSchemaViews, "No information schema views provided");
+    if (!informationSchemaViews.hasQuery(TABLE_ROW_COUNTS)) {
+      LOGGER.log(Level.INFO, "Table row count estimates SQL statement was not provided");
+      return;
+    }
+
+    final Map<List<String>, List<Table>> tablesByName = new HashMap<>();
+    for (final Table table : catalog.getTables()) {
+      tablesByName
+          .computeIfAbsent(
+              Arrays.asList(table.getSchema().getName(), table.getName()),
+              key -> new ArrayList<>())
+          .add(table);
+    }
+
+    final Query query = informationSchemaViews.getQuery(TABLE_ROW_COUNTS);
+    int estimatedTablesCount = 0;
+    try (final Connection connection = dataSource.get();
+        final Statement statement = connection.createStatement();
+        final ResultSet results = executeAgainstSchema(query, statement, new HashMap<>()); ) {
+      while (results != null && results.next()) {
+        final String catalogName = results.getString("TABLE_CATALOG");
+        final String schemaName = results.getString("TABLE_SCHEMA");
+        final String tableName = results.getString("TABLE_NAME");
+        final long rowCount = results.getLong("ROW_COUNT");
+        if (results.wasNull() || rowCount < 0) {
+          continue;
+        }
+
+        final List<Table> tables =
+            tablesByName.getOrDefault(
+                Arrays.asList(schemaName, tableName), Collections.emptyList());
+        for (final Table table : tables) {
+          final String tableCatalogName = table.getSchema().getCatalogName();
+          if (catalogName == null
+              || tableCatalogName == null
+              || catalogName.equals(tableCatalogName)) {
+            addEstimatedRowCountToTable(table, rowCount);
+            estimatedTablesCount++;
+          }
+        }
+      }
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, "Could not get table row count estimates", e);
+    }
+
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat("Estimated row counts for %d tables", estimatedTablesCount));
+  }
+
+  /**
+   * Counts rows for tables that have an estimated row count of zero. Statistics may be out of date,
+   * so a table should not be treated as empty only because its estimate is zero.
+   */
+  public void retrieveEmptyTableRowCounts() {
+    retrieveTableRowCounts(table -> isRowCountEstimated(table) && getRowCount(table) == 0);
   }
 
+  /**
+   * Counts rows for tables that do not already have a row count, running counts for tables
+   * concurrently.
+   */
   public void retrieveTableRowCounts() {
+    retrieveTableRowCounts(table -> !hasRowCount(table));
+  }
+
+  private void retrieveTableRowCount(
+      final Query query, final Table table, final Identifiers identifiers) {
+    try (final Connection connection = dataSource.get();
+        final Statement statement = connection.createStatement(); ) {
+      if (queryTimeout > 0) {
+        statement.setQueryTimeout(queryTimeout);
+      }
+      try (final ResultSet results =
+          executeAgainstTable(query, statement, table, true, identifiers); ) {
+        if (results != null && results.next()) {
+          addRowCountToTable(table, results.getLong(1));
+        }
+      }
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, e, new StringFormat("Could not get count for table <%s>", table));
+    }
+  }
+
+  /**
+   * Counts rows for tables, running counts for tables concurrently.
+   *
+   * @param countTable Tables to count rows for
+   */
+  private void retrieveTableRowCounts(final Predicate<Table> countTable) {
 
     Identifiers identifiers;
     try (Connection connection = dataSource.get(); ) {
@@ -77,20 +215,32 @@ public final class TableRowCountsRetriever {
       return;
     }
 
-    try (Connection connection = dataSource.get(); ) {
-      final Query query =
-          new Query("schemacrawler.table.row_counts", "SELECT COUNT(*) FROM ${table}");
-      final List<Table> allTables = new ArrayList<>(catalog.getTables());
-      for (final Table table : allTables) {
-        try {
-          final long count = executeForLong(query, connection, table, identifiers);
-          addRowCountToTable(table, count);
-        } catch (final SQLException e) {
-          LOGGER.log(
-              Level.WARNING, e, new StringFormat("Could not get count for table <%s>", table));
-        }
+    final List<Table> tables = new ArrayList<>();
+    for (final Table table : catalog.getTables()) {
+      if (countTable.test(table)) {
+        tables.add(table);
       }
-    } catch (final SQLException e) {
+    }
+    if (tables.isEmpty()) {
+      return;
+    }
+
+    LOGGER.log(
+        Level.CONFIG,
+        new StringFormat(
+            "Counting rows for <%d> tables with up to <%d> threads", tables.size(), maxThreads));
+
+    final Query query =
+        new Query("schemacrawler.table.row_counts", "SELECT COUNT(*) FROM ${table}");
+    try (final TaskRunner taskRunner =
+        TaskRunners.getTaskRunner("retrieveTableRowCounts", maxThreads); ) {
+      for (final Table table : tables) {
+        taskRunner.add(
+            new TaskDefinition(
+                table.getFullName(), () -> retrieveTableRowCount(query, table, identifiers)));
+      }
+      taskRunner.submit();
+    } catch (final Exception e) {
       LOGGER.log(Level.WARNING, "Could not get table row counts", e);
     }
   }
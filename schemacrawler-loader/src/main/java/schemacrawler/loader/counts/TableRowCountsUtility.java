@@ -37,6 +37,8 @@ public final class TableRowCountsUtility {
 
   private static final int UNKNOWN_TABLE_ROW_COUNT = -1;
   private static final String TABLE_ROW_COUNT_KEY = "schemacrawler.table.row_count";
+  private static final String TABLE_ROW_COUNT_ESTIMATED_KEY =
+      "schemacrawler.table.row_count_estimated";
 
   public static long getRowCount(final Table table) {
     if (table == null) {
@@ -62,16 +64,47 @@ public final class TableRowCountsUtility {
     }
   }
 
+  /**
+   * Message for the row count of a table, which notes if the row count is an estimate from
+   * database statistics.
+   *
+   * @param table Table with a row count
+   * @return Message for the row count
+   */
   public static String getRowCountMessage(final Table table) {
-    return getRowCountMessage(getRowCount(table));
+    final String rowCountMessage = getRowCountMessage(getRowCount(table));
+    if (isRowCountEstimated(table)) {
+      return rowCountMessage + " (estimated)";
+    } else {
+      return rowCountMessage;
+    }
   }
 
   public static boolean hasRowCount(final Table table) {
     return table != null && table.hasAttribute(TABLE_ROW_COUNT_KEY);
   }
 
+  /**
+   * Checks if the row count of a table is an estimate from database statistics, rather than a
+   * count of the rows.
+   *
+   * @param table Table with a row count
+   * @return Whether the row count is estimated
+   */
+  public static boolean isRowCountEstimated(final Table table) {
+    return hasRowCount(table) && table.getAttribute(TABLE_ROW_COUNT_ESTIMATED_KEY, false);
+  }
+
+  static void addEstimatedRowCountToTable(final Table table, final long rowCount) {
+    addRowCountToTable(table, rowCount);
+    if (hasRowCount(table)) {
+      table.setAttribute(TABLE_ROW_COUNT_ESTIMATED_KEY, true);
+    }
+  }
+
   static void addRowCountToTable(final Table table, final long rowCount) {
     if (table != null) {
+      table.removeAttribute(TABLE_ROW_COUNT_ESTIMATED_KEY);
       if (rowCount >= 0) {
         table.setAttribute(TABLE_ROW_COUNT_KEY, rowCount);
       } else {
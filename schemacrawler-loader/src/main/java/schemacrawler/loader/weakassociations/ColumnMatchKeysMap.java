@@ -30,20 +30,44 @@ package schemacrawler.loader.weakassociations;
 
 import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.Utility.isBlank;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.Table;
 import us.fatehi.utility.Multimap;
 
 final class ColumnMatchKeysMap {
 
+  private static final Pattern ID_SUFFIX = Pattern.compile("_?id$");
+
+  /**
+   * Gets the name of the Java SQL type of a column, which is what data types are compared on when
+   * matching columns, or null if the data type is not known.
+   *
+   * @param column Column to get the data type for
+   * @return Name of the Java SQL type, or null
+   */
+  static String dataTypeKey(final Column column) {
+    if (column == null || !column.isColumnDataTypeKnown()) {
+      return null;
+    }
+    return column.getColumnDataType().getJavaSqlType().getName();
+  }
+
   private final Multimap<String, Column> columnsForMatchKey;
   private final Multimap<Column, String> matchKeysForColumn;
+  // Match keys to columns, for each data type, so that only columns that could be associated
+  // need to be looked at
+  private final Map<String, Multimap<String, Column>> columnsForDataTypeAndMatchKey;
 
   ColumnMatchKeysMap(final List<Table> tables) {
     requireNonNull(tables, "No tables provided");
     columnsForMatchKey = new Multimap<>();
     matchKeysForColumn = new Multimap<>();
+    columnsForDataTypeAndMatchKey = new HashMap<>();
 
     for (final Table table : tables) {
       mapColumnNameMatches(table);
@@ -66,6 +90,22 @@ final class ColumnMatchKeysMap {
     return columnsForMatchKey.get(matchKey);
   }
 
+  /**
+   * Gets columns for a match key, which have the same data type as the given column.
+   *
+   * @param matchKey Column match key
+   * @param column Column to match data type with
+   * @return Columns matching the key and the data type, or an empty list if there are none
+   */
+  public List<Column> getWithSameDataType(final String matchKey, final Column column) {
+    final Multimap<String, Column> dataTypeColumns =
+        columnsForDataTypeAndMatchKey.get(dataTypeKey(column));
+    if (dataTypeColumns == null || !dataTypeColumns.containsKey(matchKey)) {
+      return Collections.emptyList();
+    }
+    return dataTypeColumns.get(matchKey);
+  }
+
   @Override
   public String toString() {
     return columnsForMatchKey.toString();
@@ -74,10 +114,17 @@ final class ColumnMatchKeysMap {
   private void mapColumnNameMatches(final Table table) {
     for (final Column column : table.getColumns()) {
       final String columnName = column.getName().toLowerCase();
-      final String matchColumnName = columnName.replaceAll("_?id$", "");
+      final String matchColumnName = ID_SUFFIX.matcher(columnName).replaceAll("");
       if (!isBlank(matchColumnName)) {
         columnsForMatchKey.add(matchColumnName, column);
         matchKeysForColumn.add(column, matchColumnName);
+
+        final String dataTypeKey = dataTypeKey(column);
+        if (dataTypeKey != null) {
+          columnsForDataTypeAndMatchKey
+              .computeIfAbsent(dataTypeKey, key -> new Multimap<>())
+              .add(matchColumnName, column);
+        }
       }
     }
   }
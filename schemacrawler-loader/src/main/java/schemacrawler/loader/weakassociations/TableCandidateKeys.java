@@ -30,8 +30,8 @@ package schemacrawler.loader.weakassociations;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 import schemacrawler.schema.Column;
@@ -48,7 +48,7 @@ final class TableCandidateKeys implements Iterable<Column> {
 
   TableCandidateKeys(final Table table) {
     this.table = requireNonNull(table, "No table provided");
-    tableKeys = new HashSet<>();
+    tableKeys = new LinkedHashSet<>();
     listTableKeys(table);
   }
 
@@ -33,7 +33,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -42,26 +42,50 @@ import java.util.logging.Logger;
 
 import schemacrawler.schema.Column;
 import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import us.fatehi.utility.scheduler.TaskDefinition;
+import us.fatehi.utility.scheduler.TaskRunner;
+import us.fatehi.utility.scheduler.TaskRunners;
 import us.fatehi.utility.string.StringFormat;
 
+/**
+ * Finds columns that look like they reference the primary key or a unique key of another table,
+ * from the names of tables and columns. Columns are indexed on their name match keys and data
+ * types once, so every candidate key is only compared with columns that could reference it.
+ * Tables are analyzed in partitions, in parallel, and the results are returned in table order.
+ */
 public final class WeakAssociationsAnalyzer {
 
   private static final Logger LOGGER = Logger.getLogger(WeakAssociationsAnalyzer.class.getName());
 
   private final List<Table> tables;
   private final Predicate<ProposedWeakAssociation> weakAssociationRule;
-  private final Collection<ProposedWeakAssociation> weakAssociations;
+  private final int maxThreads;
 
   public WeakAssociationsAnalyzer(
       final Collection<Table> tables,
       final Predicate<ProposedWeakAssociation> weakAssociationRule) {
+    this(tables, weakAssociationRule, 1);
+  }
+
+  /**
+   * Analyzer for weak associations between tables.
+   *
+   * @param tables Tables to analyze
+   * @param weakAssociationRule Rule for accepting a proposed weak association, which needs to be
+   *     safe to call from multiple threads
+   * @param maxThreads Number of threads to analyze tables with
+   */
+  public WeakAssociationsAnalyzer(
+      final Collection<Table> tables,
+      final Predicate<ProposedWeakAssociation> weakAssociationRule,
+      final int maxThreads) {
     requireNonNull(tables, "No tables provided");
     this.tables = new ArrayList<>(tables);
     Collections.sort(this.tables);
 
     this.weakAssociationRule = requireNonNull(weakAssociationRule, "No rules provided");
-
-    weakAssociations = new ArrayList<>();
+    this.maxThreads = Math.max(1, maxThreads);
   }
 
   public Collection<ProposedWeakAssociation> analyzeTables() {
@@ -69,12 +93,6 @@ public final class WeakAssociationsAnalyzer {
       return Collections.emptySet();
     }
 
-    findWeakAssociations(tables);
-
-    return weakAssociations;
-  }
-
-  private void findWeakAssociations(final List<Table> tables) {
     LOGGER.log(Level.INFO, "Finding weak associations");
     final ColumnMatchKeysMap columnMatchKeysMap = new ColumnMatchKeysMap(tables);
     final TableMatchKeys tableMatchKeys = new TableMatchKeys(tables);
@@ -83,11 +101,52 @@ public final class WeakAssociationsAnalyzer {
       LOGGER.log(Level.FINER, new StringFormat("Column match keys <%s>", columnMatchKeysMap));
       LOGGER.log(Level.FINER, new StringFormat("Table match keys <%s>", tableMatchKeys));
     }
+
+    // Use a few more partitions than threads, so that threads are not left idle when some tables
+    // have more candidate keys than others
+    final int partitionSize = tables.size() / (maxThreads * 4) + 1;
+    final List<List<ProposedWeakAssociation>> partitionedWeakAssociations = new ArrayList<>();
+    try (final TaskRunner taskRunner =
+        TaskRunners.getTaskRunner("findWeakAssociations", maxThreads)) {
+      for (int i = 0; i < tables.size(); i = i + partitionSize) {
+        final List<Table> partition = tables.subList(i, Math.min(i + partitionSize, tables.size()));
+        final List<ProposedWeakAssociation> weakAssociations = new ArrayList<>();
+        partitionedWeakAssociations.add(weakAssociations);
+        taskRunner.add(
+            new TaskDefinition(
+                "findWeakAssociations" + i,
+                () ->
+                    findWeakAssociations(
+                        partition, columnMatchKeysMap, tableMatchKeys, weakAssociations)));
+      }
+      taskRunner.submit();
+    } catch (final Exception e) {
+      throw new ExecutionRuntimeException("Exception finding weak associations", e);
+    }
+
+    final List<ProposedWeakAssociation> weakAssociations = new ArrayList<>();
+    for (final List<ProposedWeakAssociation> partitionWeakAssociations :
+        partitionedWeakAssociations) {
+      weakAssociations.addAll(partitionWeakAssociations);
+    }
+    return weakAssociations;
+  }
+
+  private void findWeakAssociations(
+      final List<Table> tables,
+      final ColumnMatchKeysMap columnMatchKeysMap,
+      final TableMatchKeys tableMatchKeys,
+      final Collection<ProposedWeakAssociation> weakAssociations) {
     for (final Table table : tables) {
       final TableCandidateKeys tableCandidateKeys = new TableCandidateKeys(table);
       LOGGER.log(Level.FINER, new StringFormat("Table candidate keys <%s>", tableCandidateKeys));
       for (final Column pkColumn : tableCandidateKeys) {
-        final Set<String> fkColumnMatchKeys = new HashSet<>();
+        // Columns with unknown data types cannot be matched
+        if (!pkColumn.isColumnDataTypeKnown()) {
+          continue;
+        }
+
+        final Set<String> fkColumnMatchKeys = new LinkedHashSet<>();
         // Look for all columns matching this table match key
         if (pkColumn.isPartOfPrimaryKey()) {
           fkColumnMatchKeys.addAll(tableMatchKeys.get(table));
@@ -97,11 +156,10 @@ public final class WeakAssociationsAnalyzer {
           fkColumnMatchKeys.addAll(columnMatchKeysMap.get(pkColumn));
         }
 
-        final Set<Column> fkColumns = new HashSet<>();
+        // Only look at columns with the same data type, since no others can be associated
+        final Set<Column> fkColumns = new LinkedHashSet<>();
         for (final String fkColumnMatchKey : fkColumnMatchKeys) {
-          if (columnMatchKeysMap.containsKey(fkColumnMatchKey)) {
-            fkColumns.addAll(columnMatchKeysMap.get(fkColumnMatchKey));
-          }
+          fkColumns.addAll(columnMatchKeysMap.getWithSameDataType(fkColumnMatchKey, pkColumn));
         }
 
         for (final Column fkColumn : fkColumns) {
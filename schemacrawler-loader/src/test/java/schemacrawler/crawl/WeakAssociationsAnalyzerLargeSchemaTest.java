@@ -0,0 +1,129 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.loader.weakassociations.ProposedWeakAssociation;
+import schemacrawler.loader.weakassociations.WeakAssociationsAnalyzer;
+import schemacrawler.schema.DataTypeType;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.utility.JavaSqlTypes;
+
+/**
+ * Analyzes a synthetic schema the size of a large data warehouse. Every table has an integer
+ * primary key, an integer column that references an earlier table, and a character column with
+ * the same match key, which cannot be a reference since the data types do not match.
+ */
+public class WeakAssociationsAnalyzerLargeSchemaTest {
+
+  private static final int TABLES = 50_000;
+
+  @Test
+  public void largeSchema() {
+    final List<Table> tables = makeTables();
+
+    final Collection<ProposedWeakAssociation> weakAssociations =
+        new WeakAssociationsAnalyzer(tables, proposedWeakAssociation -> true, 4).analyzeTables();
+
+    assertThat(weakAssociations, hasSize(TABLES - 1));
+    assertThat(
+        weakAssociations.stream()
+            .map(
+                weakAssociation ->
+                    weakAssociation.getForeignKeyColumn().getColumnDataType().getName())
+            .collect(Collectors.toList()),
+        everyItem(equalTo("INTEGER")));
+
+    // Results do not depend on the number of threads
+    final Collection<ProposedWeakAssociation> weakAssociationsSingleThreaded =
+        new WeakAssociationsAnalyzer(tables, proposedWeakAssociation -> true).analyzeTables();
+    assertThat(toStrings(weakAssociations), is(equalTo(toStrings(weakAssociationsSingleThreaded))));
+  }
+
+  private MutableColumn addColumn(
+      final MutableTable table, final String columnName, final MutableColumnDataType dataType) {
+    final MutableColumn column = new MutableColumn(table, columnName);
+    column.setColumnDataType(dataType);
+    column.setOrdinalPosition(table.getColumns().size() + 1);
+    table.addColumn(column);
+    return column;
+  }
+
+  private List<Table> makeTables() {
+    final SchemaReference schema = new SchemaReference("CATALOG", "SCHEMA");
+    final JavaSqlTypes javaSqlTypes = new JavaSqlTypes();
+    final MutableColumnDataType integerDataType =
+        new MutableColumnDataType(schema, "INTEGER", DataTypeType.system);
+    integerDataType.setJavaSqlType(javaSqlTypes.getFromJavaSqlTypeName("INTEGER"));
+    final MutableColumnDataType varcharDataType =
+        new MutableColumnDataType(schema, "VARCHAR", DataTypeType.system);
+    varcharDataType.setJavaSqlType(javaSqlTypes.getFromJavaSqlTypeName("VARCHAR"));
+
+    final Random random = new Random(TABLES);
+    final List<MutableTable> tables = new ArrayList<>();
+    for (int i = 0; i < TABLES; i++) {
+      final MutableTable table = new MutableTable(schema, String.format("ENTITY%05d", i));
+
+      final MutableColumn idColumn = addColumn(table, "ID", integerDataType);
+      idColumn.markAsPartOfPrimaryKey();
+      final MutablePrimaryKey primaryKey =
+          MutablePrimaryKey.newPrimaryKey(table, table.getName() + "_PK");
+      primaryKey.addColumn(new MutableTableConstraintColumn(primaryKey, idColumn));
+      table.setPrimaryKey(primaryKey);
+
+      if (i > 0) {
+        final String referencedTableName = tables.get(random.nextInt(i)).getName();
+        addColumn(table, referencedTableName + "_ID", integerDataType);
+        addColumn(table, referencedTableName + "ID", varcharDataType);
+      }
+      addColumn(table, "NAME", varcharDataType);
+
+      tables.add(table);
+    }
+    return new ArrayList<>(tables);
+  }
+
+  private List<String> toStrings(final Collection<ProposedWeakAssociation> weakAssociations) {
+    return weakAssociations.stream().map(Object::toString).collect(Collectors.toList());
+  }
+}
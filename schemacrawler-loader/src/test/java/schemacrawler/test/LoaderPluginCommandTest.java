@@ -50,6 +50,8 @@ public class LoaderPluginCommandTest {
         is(
             "PluginCommand[name='countsloader', options=["
                 + "PluginCommandOption[name='load-row-counts', valueClass=java.lang.Boolean], "
+                + "PluginCommandOption[name='estimate-row-counts', valueClass=java.lang.Boolean], "
+                + "PluginCommandOption[name='row-counts-timeout', valueClass=java.lang.Integer], "
                 + "PluginCommandOption[name='no-empty-tables', valueClass=java.lang.Boolean]"
                 + "]]"));
 
@@ -30,14 +30,19 @@ package schemacrawler.test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static schemacrawler.loader.counts.TableRowCountsUtility.getRowCount;
 import static schemacrawler.loader.counts.TableRowCountsUtility.getRowCountMessage;
 import static schemacrawler.loader.counts.TableRowCountsUtility.hasRowCount;
+import static schemacrawler.loader.counts.TableRowCountsUtility.isRowCountEstimated;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_ROW_COUNTS;
 import static schemacrawler.test.utility.FileHasContent.classpathResource;
 import static schemacrawler.test.utility.FileHasContent.hasSameContentAs;
 import static schemacrawler.test.utility.FileHasContent.outputOf;
 
 import java.util.Arrays;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -47,12 +52,15 @@ import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
 import schemacrawler.schemacrawler.LimitOptionsBuilder;
 import schemacrawler.schemacrawler.LoadOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
 import schemacrawler.test.utility.ResolveTestContext;
 import schemacrawler.test.utility.TestContext;
 import schemacrawler.test.utility.TestUtility;
@@ -128,6 +136,144 @@ public class TableRowCountsTest {
         outputOf(testout), hasSameContentAs(classpathResource(testContext.testMethodFullName())));
   }
 
+  @Test
+  public void noEmptyTablesWithStaleEstimates(final DatabaseConnectionSource dataSource)
+      throws Exception {
+    // Statistics are out of date, and say that every table is empty
+    final SchemaRetrievalOptions testSchemaRetrievalOptions =
+        TestUtility.newSchemaRetrievalOptions();
+    final InformationSchemaViews informationSchemaViews =
+        InformationSchemaViewsBuilder.builder()
+            .fromOptions(testSchemaRetrievalOptions.getInformationSchemaViews())
+            .withSql(
+                TABLE_ROW_COUNTS,
+                "SELECT TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME, 0 AS ROW_COUNT "
+                    + "FROM INFORMATION_SCHEMA.TABLES")
+            .toOptions();
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder(testSchemaRetrievalOptions)
+            .withInformationSchemaViews(informationSchemaViews)
+            .toOptions();
+
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions());
+
+    final Config additionalConfig = new Config();
+    additionalConfig.put("load-row-counts", true);
+    additionalConfig.put("estimate-row-counts", true);
+    additionalConfig.put("no-empty-tables", true);
+
+    final Catalog estimatedCatalog =
+        SchemaCrawlerUtility.getCatalog(
+            dataSource, schemaRetrievalOptions, schemaCrawlerOptions, additionalConfig);
+    int nonEmptyTablesCount = 0;
+    for (final Table table : catalog.getTables()) {
+      final Optional<Table> estimatedTable =
+          estimatedCatalog.lookupTable(table.getSchema(), table.getName());
+      if (getRowCount(table) == 0) {
+        assertThat(
+            String.format("Empty table <%s> should be removed", table),
+            estimatedTable.isPresent(),
+            is(false));
+      } else {
+        nonEmptyTablesCount++;
+        assertThat(
+            String.format("Table <%s> with rows should not be removed", table),
+            estimatedTable.isPresent(),
+            is(true));
+        assertThat(getRowCount(estimatedTable.get()), is(getRowCount(table)));
+        assertThat(isRowCountEstimated(estimatedTable.get()), is(false));
+      }
+    }
+    assertThat(nonEmptyTablesCount, is(greaterThan(0)));
+    assertThat(estimatedCatalog.getTables().size(), is(nonEmptyTablesCount));
+  }
+
+  @Test
+  public void rowCountsWithEstimates(final DatabaseConnectionSource dataSource) throws Exception {
+    // Statistics are only available for the AUTHORS table, and are out of date
+    final SchemaRetrievalOptions testSchemaRetrievalOptions =
+        TestUtility.newSchemaRetrievalOptions();
+    final InformationSchemaViews informationSchemaViews =
+        InformationSchemaViewsBuilder.builder()
+            .fromOptions(testSchemaRetrievalOptions.getInformationSchemaViews())
+            .withSql(
+                TABLE_ROW_COUNTS,
+                "SELECT TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME, "
+                    + "CASE WHEN TABLE_NAME = 'AUTHORS' THEN 1000 END AS ROW_COUNT "
+                    + "FROM INFORMATION_SCHEMA.TABLES")
+            .toOptions();
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder(testSchemaRetrievalOptions)
+            .withInformationSchemaViews(informationSchemaViews)
+            .toOptions();
+
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions());
+
+    final Config additionalConfig = new Config();
+    additionalConfig.put("load-row-counts", true);
+    additionalConfig.put("estimate-row-counts", true);
+
+    final Catalog estimatedCatalog =
+        SchemaCrawlerUtility.getCatalog(
+            dataSource, schemaRetrievalOptions, schemaCrawlerOptions, additionalConfig);
+    for (final Table table : catalog.getTables()) {
+      final Table estimatedTable =
+          estimatedCatalog.lookupTable(table.getSchema(), table.getName()).get();
+      if (table.getName().equals("AUTHORS")) {
+        assertThat(getRowCount(estimatedTable), is(1000L));
+        assertThat(isRowCountEstimated(estimatedTable), is(true));
+        assertThat(getRowCountMessage(estimatedTable), is("1,000 rows (estimated)"));
+      } else {
+        assertThat(
+            String.format("Table <%s> row count does not match", table),
+            getRowCount(estimatedTable),
+            is(getRowCount(table)));
+        assertThat(isRowCountEstimated(estimatedTable), is(false));
+      }
+    }
+  }
+
+  @Test
+  public void rowCountsWithoutEstimates(final DatabaseConnectionSource dataSource)
+      throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions = TestUtility.newSchemaRetrievalOptions();
+
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions());
+
+    // The test database has no statistics query, so all rows are counted
+    final Config additionalConfig = new Config();
+    additionalConfig.put("load-row-counts", true);
+    additionalConfig.put("estimate-row-counts", true);
+    additionalConfig.put("row-counts-timeout", 10);
+
+    final Catalog estimatedCatalog =
+        SchemaCrawlerUtility.getCatalog(
+            dataSource, schemaRetrievalOptions, schemaCrawlerOptions, additionalConfig);
+    for (final Table table : catalog.getTables()) {
+      final Table estimatedTable =
+          estimatedCatalog.lookupTable(table.getSchema(), table.getName()).get();
+      assertThat(
+          String.format("Table <%s> row count does not match", table),
+          getRowCount(estimatedTable),
+          is(getRowCount(table)));
+    }
+  }
+
   @Test
   public void rowCounts(final TestContext testContext) throws Exception {
     final TestWriter testout = new TestWriter();
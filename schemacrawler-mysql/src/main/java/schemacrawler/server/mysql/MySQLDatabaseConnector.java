@@ -28,6 +28,9 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.server.mysql;
 
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
+
 import java.util.regex.Pattern;
 import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
 import schemacrawler.schemacrawler.DatabaseServerType;
@@ -44,7 +47,9 @@ public final class MySQLDatabaseConnector extends DatabaseConnector {
         (informationSchemaViewsBuilder, connection) ->
             informationSchemaViewsBuilder.fromResourceFolder("/mysql.information_schema"),
         (schemaRetrievalOptionsBuilder, connection) ->
-            schemaRetrievalOptionsBuilder.withEnumDataTypeHelper(new MySQLEnumDataTypeHelper()),
+            schemaRetrievalOptionsBuilder
+                .withEnumDataTypeHelper(new MySQLEnumDataTypeHelper())
+                .with(primaryKeysRetrievalStrategy, data_dictionary_all),
         limitOptionsBuilder ->
             limitOptionsBuilder.includeSchemas(new RegularExpressionExclusionRule("sys|mysql")),
         () ->
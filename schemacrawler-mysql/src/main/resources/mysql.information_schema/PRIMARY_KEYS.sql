@@ -0,0 +1,15 @@
+SELECT
+  TABLE_SCHEMA AS TABLE_CAT,
+  NULL AS TABLE_SCHEM,
+  TABLE_NAME,
+  COLUMN_NAME,
+  ORDINAL_POSITION AS KEY_SEQ,
+  CONSTRAINT_NAME AS PK_NAME
+FROM
+  INFORMATION_SCHEMA.KEY_COLUMN_USAGE
+WHERE
+  CONSTRAINT_NAME = 'PRIMARY'
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME,
+  ORDINAL_POSITION
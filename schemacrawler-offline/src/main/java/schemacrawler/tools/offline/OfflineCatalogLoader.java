@@ -1,21 +1,23 @@
 package schemacrawler.tools.offline;
 
 import static java.nio.file.Files.newInputStream;
+import static schemacrawler.tools.formatter.serialize.BinarySerializedCatalog.isBinarySerializedCatalog;
 import static schemacrawler.utility.MetaDataUtility.reduceCatalog;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.zip.GZIPInputStream;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
 import schemacrawler.schemacrawler.exceptions.IORuntimeException;
 import schemacrawler.tools.catalogloader.BaseCatalogLoader;
 import schemacrawler.tools.executable.CommandDescription;
+import schemacrawler.tools.formatter.serialize.BinarySerializedCatalog;
 import schemacrawler.tools.formatter.serialize.JavaSerializedCatalog;
 import schemacrawler.tools.offline.jdbc.OfflineConnection;
+import us.fatehi.utility.zip.ChunkedGzipInputStream;
 
 public final class OfflineCatalogLoader extends BaseCatalogLoader {
 
@@ -50,15 +52,25 @@ public final class OfflineCatalogLoader extends BaseCatalogLoader {
         dbConnection = (OfflineConnection) connection;
       }
 
+      final SchemaCrawlerOptions schemaCrawlerOptions = getSchemaCrawlerOptions();
       final Path offlineDatabasePath = dbConnection.getOfflineDatabasePath();
-      try (final InputStream inputFileStream =
-          new GZIPInputStream(newInputStream(offlineDatabasePath)); ) {
-        final JavaSerializedCatalog deserializedCatalog =
-            new JavaSerializedCatalog(inputFileStream);
-        catalog = deserializedCatalog.getCatalog();
+      if (isBinarySerializedCatalog(offlineDatabasePath)) {
+        // Compact binary catalogs are not compressed, so they can be memory-mapped, and only
+        // objects that are included by the options are loaded
+        catalog =
+            new BinarySerializedCatalog(offlineDatabasePath, schemaCrawlerOptions).getCatalog();
+      } else {
+        // Chunked snapshots are inflated concurrently, and plain gzip files can still be read
+        try (final InputStream inputFileStream =
+            new ChunkedGzipInputStream(
+                newInputStream(offlineDatabasePath),
+                schemaCrawlerOptions.getLoadOptions().getMaxThreads()); ) {
+          final JavaSerializedCatalog deserializedCatalog =
+              new JavaSerializedCatalog(inputFileStream);
+          catalog = deserializedCatalog.getCatalog();
+        }
       }
 
-      final SchemaCrawlerOptions schemaCrawlerOptions = getSchemaCrawlerOptions();
       reduceCatalog(catalog, schemaCrawlerOptions);
 
     } catch (final IOException e) {
@@ -0,0 +1,20 @@
+SELECT
+  NULL AS TABLE_CATALOG,
+  OBJECTS.OWNER AS TABLE_SCHEMA,
+  OBJECTS.OBJECT_NAME AS TABLE_NAME,
+  CAST(OBJECTS.LAST_DDL_TIME AS TIMESTAMP) AS CHANGED_AT
+FROM
+  ${catalogscope}_OBJECTS OBJECTS
+  INNER JOIN ${catalogscope}_USERS USERS
+    ON OBJECTS.OWNER = USERS.USERNAME
+      AND USERS.ORACLE_MAINTAINED = 'N'
+      AND NOT REGEXP_LIKE(USERS.USERNAME, '^APEX_[0-9]{6}$')
+      AND NOT REGEXP_LIKE(USERS.USERNAME, '^FLOWS_[0-9]{5}$')
+WHERE
+  REGEXP_LIKE(OBJECTS.OWNER, '${schema-inclusion-rule}')
+  AND REGEXP_LIKE(OBJECTS.OWNER || '.' || OBJECTS.OBJECT_NAME, '${table-inclusion-rule}')
+  AND OBJECTS.OBJECT_TYPE IN ('TABLE', 'VIEW', 'MATERIALIZED VIEW')
+  AND OBJECTS.OBJECT_NAME NOT LIKE 'BIN$%'
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME
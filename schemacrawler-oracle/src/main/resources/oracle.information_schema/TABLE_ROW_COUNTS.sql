@@ -0,0 +1,18 @@
+SELECT
+  NULL AS TABLE_CATALOG,
+  TABLES.OWNER AS TABLE_SCHEMA,
+  TABLES.TABLE_NAME,
+  TABLES.NUM_ROWS AS ROW_COUNT
+FROM
+  ${catalogscope}_TABLES TABLES
+  INNER JOIN ${catalogscope}_USERS USERS
+    ON TABLES.OWNER = USERS.USERNAME
+      AND USERS.ORACLE_MAINTAINED = 'N'
+      AND NOT REGEXP_LIKE(USERS.USERNAME, '^APEX_[0-9]{6}$')
+      AND NOT REGEXP_LIKE(USERS.USERNAME, '^FLOWS_[0-9]{5}$')
+WHERE
+  TABLES.NUM_ROWS IS NOT NULL
+  AND TABLES.TABLE_NAME NOT LIKE 'BIN$%'
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME
@@ -28,6 +28,11 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.server.postgresql;
 
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tableColumnPrivilegesRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tablePrivilegesRetrievalStrategy;
+
 import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
 import schemacrawler.schemacrawler.DatabaseServerType;
 import schemacrawler.tools.databaseconnector.DatabaseConnector;
@@ -43,8 +48,11 @@ public final class PostgreSQLDatabaseConnector extends DatabaseConnector {
         (informationSchemaViewsBuilder, connection) ->
             informationSchemaViewsBuilder.fromResourceFolder("/postgresql.information_schema"),
         (schemaRetrievalOptionsBuilder, connection) ->
-            schemaRetrievalOptionsBuilder.withEnumDataTypeHelper(
-                new PostgreSQLEnumDataTypeHelper()),
+            schemaRetrievalOptionsBuilder
+                .withEnumDataTypeHelper(new PostgreSQLEnumDataTypeHelper())
+                .with(primaryKeysRetrievalStrategy, data_dictionary_all)
+                .with(tablePrivilegesRetrievalStrategy, data_dictionary_all)
+                .with(tableColumnPrivilegesRetrievalStrategy, data_dictionary_all),
         limitOptionsBuilder ->
             limitOptionsBuilder.includeSchemas(
                 new RegularExpressionExclusionRule("pg_catalog|information_schema")),
@@ -0,0 +1,54 @@
+SELECT
+  NULL AS TABLE_CATALOG,
+  NSP.NSPNAME AS TABLE_SCHEMA,
+  CLS.RELNAME AS TABLE_NAME,
+  CASE
+    WHEN CURRENT_SETTING('track_commit_timestamp') = 'on'
+      THEN GREATEST(
+        PG_XACT_COMMIT_TIMESTAMP(CLS.XMIN),
+        (
+          SELECT MAX(PG_XACT_COMMIT_TIMESTAMP(ATT.XMIN))
+          FROM PG_CATALOG.PG_ATTRIBUTE ATT
+          WHERE ATT.ATTRELID = CLS.OID
+        ),
+        (
+          SELECT
+            MAX(
+              GREATEST(
+                PG_XACT_COMMIT_TIMESTAMP(IDX.XMIN),
+                PG_XACT_COMMIT_TIMESTAMP(IDXCLS.XMIN)
+              )
+            )
+          FROM PG_CATALOG.PG_INDEX IDX
+            INNER JOIN PG_CATALOG.PG_CLASS IDXCLS
+              ON IDX.INDEXRELID = IDXCLS.OID
+          WHERE IDX.INDRELID = CLS.OID
+        ),
+        (
+          SELECT MAX(PG_XACT_COMMIT_TIMESTAMP(CON.XMIN))
+          FROM PG_CATALOG.PG_CONSTRAINT CON
+          WHERE CON.CONRELID = CLS.OID OR CON.CONFRELID = CLS.OID
+        ),
+        (
+          SELECT MAX(PG_XACT_COMMIT_TIMESTAMP(TRG.XMIN))
+          FROM PG_CATALOG.PG_TRIGGER TRG
+          WHERE TRG.TGRELID = CLS.OID
+        ),
+        (
+          SELECT MAX(PG_XACT_COMMIT_TIMESTAMP(DSC.XMIN))
+          FROM PG_CATALOG.PG_DESCRIPTION DSC
+          WHERE DSC.OBJOID = CLS.OID AND DSC.CLASSOID = 'pg_catalog.pg_class'::REGCLASS
+        )
+      )
+  END AS CHANGED_AT
+FROM
+  PG_CATALOG.PG_CLASS CLS
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NSP
+    ON CLS.RELNAMESPACE = NSP.OID
+WHERE
+  CLS.RELKIND IN ('r', 'v', 'm', 'p', 'f')
+  AND NSP.NSPNAME NOT IN ('pg_catalog', 'information_schema')
+  AND NSP.NSPNAME NOT LIKE 'pg_toast%'
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME
@@ -0,0 +1,23 @@
+SELECT
+  NULL AS TABLE_CAT,
+  PG_NAMESPACE.NSPNAME AS TABLE_SCHEM,
+  PG_CLASS.RELNAME AS TABLE_NAME,
+  PG_ATTRIBUTE.ATTNAME AS COLUMN_NAME,
+  KEY_COLUMNS.KEY_SEQ,
+  PG_CONSTRAINT.CONNAME AS PK_NAME
+FROM
+  PG_CATALOG.PG_CONSTRAINT
+  INNER JOIN PG_CATALOG.PG_CLASS
+    ON PG_CLASS.OID = PG_CONSTRAINT.CONRELID
+  INNER JOIN PG_CATALOG.PG_NAMESPACE
+    ON PG_NAMESPACE.OID = PG_CLASS.RELNAMESPACE
+  CROSS JOIN LATERAL UNNEST(PG_CONSTRAINT.CONKEY) WITH ORDINALITY AS KEY_COLUMNS(ATTNUM, KEY_SEQ)
+  INNER JOIN PG_CATALOG.PG_ATTRIBUTE
+    ON PG_ATTRIBUTE.ATTRELID = PG_CLASS.OID
+      AND PG_ATTRIBUTE.ATTNUM = KEY_COLUMNS.ATTNUM
+WHERE
+  PG_CONSTRAINT.CONTYPE = 'p'
+ORDER BY
+  PG_NAMESPACE.NSPNAME,
+  PG_CLASS.RELNAME,
+  KEY_COLUMNS.KEY_SEQ
@@ -0,0 +1,52 @@
+SELECT
+  NULL AS TABLE_CAT,
+  NSP.NSPNAME AS TABLE_SCHEM,
+  CLS.RELNAME AS TABLE_NAME,
+  ATT.ATTNAME AS COLUMN_NAME,
+  PG_CATALOG.PG_GET_USERBYID(ACL.GRANTOR) AS GRANTOR,
+  CASE
+    WHEN ACL.GRANTEE = 0 THEN 'PUBLIC'
+    ELSE PG_CATALOG.PG_GET_USERBYID(ACL.GRANTEE)
+  END AS GRANTEE,
+  ACL.PRIVILEGE_TYPE AS PRIVILEGE,
+  CASE WHEN ACL.IS_GRANTABLE THEN 'YES' ELSE 'NO' END AS IS_GRANTABLE
+FROM
+  PG_CATALOG.PG_CLASS CLS
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NSP
+    ON CLS.RELNAMESPACE = NSP.OID
+  INNER JOIN PG_CATALOG.PG_ATTRIBUTE ATT
+    ON ATT.ATTRELID = CLS.OID
+  CROSS JOIN LATERAL (
+    SELECT
+      TBLACL.GRANTOR,
+      TBLACL.GRANTEE,
+      TBLACL.PRIVILEGE_TYPE,
+      TBLACL.IS_GRANTABLE
+    FROM
+      PG_CATALOG.ACLEXPLODE(
+        COALESCE(CLS.RELACL, PG_CATALOG.ACLDEFAULT('r', CLS.RELOWNER))
+      ) TBLACL
+    WHERE
+      TBLACL.PRIVILEGE_TYPE IN ('SELECT', 'INSERT', 'UPDATE', 'REFERENCES')
+    UNION
+    SELECT
+      COLACL.GRANTOR,
+      COLACL.GRANTEE,
+      COLACL.PRIVILEGE_TYPE,
+      COLACL.IS_GRANTABLE
+    FROM
+      PG_CATALOG.ACLEXPLODE(ATT.ATTACL) COLACL
+  ) ACL
+WHERE
+  CLS.RELKIND IN ('r', 'v', 'm', 'p', 'f')
+  AND NSP.NSPNAME NOT IN ('pg_catalog', 'information_schema')
+  AND NSP.NSPNAME NOT LIKE 'pg_toast%'
+  AND ATT.ATTNUM > 0
+  AND NOT ATT.ATTISDROPPED
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  COLUMN_NAME,
+  PRIVILEGE,
+  GRANTOR,
+  GRANTEE
@@ -0,0 +1,28 @@
+SELECT
+  NULL AS TABLE_CAT,
+  NSP.NSPNAME AS TABLE_SCHEM,
+  CLS.RELNAME AS TABLE_NAME,
+  PG_CATALOG.PG_GET_USERBYID(ACL.GRANTOR) AS GRANTOR,
+  CASE
+    WHEN ACL.GRANTEE = 0 THEN 'PUBLIC'
+    ELSE PG_CATALOG.PG_GET_USERBYID(ACL.GRANTEE)
+  END AS GRANTEE,
+  ACL.PRIVILEGE_TYPE AS PRIVILEGE,
+  CASE WHEN ACL.IS_GRANTABLE THEN 'YES' ELSE 'NO' END AS IS_GRANTABLE
+FROM
+  PG_CATALOG.PG_CLASS CLS
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NSP
+    ON CLS.RELNAMESPACE = NSP.OID
+  CROSS JOIN LATERAL PG_CATALOG.ACLEXPLODE(
+    COALESCE(CLS.RELACL, PG_CATALOG.ACLDEFAULT('r', CLS.RELOWNER))
+  ) ACL
+WHERE
+  CLS.RELKIND IN ('r', 'v', 'm', 'p', 'f')
+  AND NSP.NSPNAME NOT IN ('pg_catalog', 'information_schema')
+  AND NSP.NSPNAME NOT LIKE 'pg_toast%'
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  PRIVILEGE,
+  GRANTOR,
+  GRANTEE
@@ -0,0 +1,16 @@
+SELECT
+  NULL AS TABLE_CATALOG,
+  NSP.NSPNAME AS TABLE_SCHEMA,
+  CLS.RELNAME AS TABLE_NAME,
+  CAST(CLS.RELTUPLES AS BIGINT) AS ROW_COUNT
+FROM
+  PG_CATALOG.PG_CLASS CLS
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NSP
+    ON CLS.RELNAMESPACE = NSP.OID
+WHERE
+  CLS.RELKIND IN ('r', 'm')
+  AND CLS.RELTUPLES >= 0
+  AND NSP.NSPNAME NOT IN ('pg_catalog', 'information_schema')
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME
@@ -55,7 +55,7 @@ public class BundledDistributionTest {
             .toOptions()
             .getInformationSchemaViews()
             .size(),
-        is(12));
+        is(17));
   }
 
   @Test
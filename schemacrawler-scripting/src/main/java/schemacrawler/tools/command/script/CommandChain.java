@@ -79,6 +79,7 @@ public final class CommandChain extends BaseSchemaCrawlerCommand<LanguageOptions
 
     setCatalog(scCommand.getCatalog());
     setConnection(scCommand.getConnection());
+    setDataSource(scCommand.getDataSource());
     setIdentifiers(scCommand.getIdentifiers());
   }
 
@@ -131,6 +132,7 @@ public final class CommandChain extends BaseSchemaCrawlerCommand<LanguageOptions
 
       scCommand.setCatalog(catalog);
       scCommand.setConnection(connection);
+      scCommand.setDataSource(dataSource);
       scCommand.setIdentifiers(identifiers);
 
       scCommands.add(scCommand);
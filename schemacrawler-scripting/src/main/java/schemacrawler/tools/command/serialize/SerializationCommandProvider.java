@@ -41,6 +41,7 @@ import schemacrawler.tools.options.OutputOptions;
 public class SerializationCommandProvider extends BaseCommandProvider {
 
   private static final String DESCRIPTION_HEADER = "Create an offline catalog snapshot";
+  private static final String FAST_COMPRESSION = "schemacrawler.serialize.fast_compression";
 
   public SerializationCommandProvider() {
     super(new CommandDescription(SerializationCommand.COMMAND, DESCRIPTION_HEADER));
@@ -79,7 +80,9 @@ public class SerializationCommandProvider extends BaseCommandProvider {
   @Override
   public SerializationCommand newSchemaCrawlerCommand(final String command, final Config config) {
     final SerializationCommand scCommand = new SerializationCommand();
-    scCommand.setCommandOptions(new SerializationOptions());
+    final boolean fastCompression =
+        config != null && config.getBooleanValue(FAST_COMPRESSION, false);
+    scCommand.setCommandOptions(new SerializationOptions(fastCompression));
     return scCommand;
   }
 
@@ -50,6 +50,15 @@ public enum SerializationFormat implements OutputFormat {
       "Compact JavaScript Object Notation (JSON) serialization format",
       "schemacrawler.tools.formatter.serialize.CompactSerializedCatalog",
       false),
+  bin(
+      "Compact binary serialization format, which can be loaded from a memory-mapped file",
+      "schemacrawler.tools.formatter.serialize.BinarySerializedCatalog",
+      true,
+      false),
+  streaming_json(
+      "Streaming JavaScript Object Notation (JSON) serialization format, for large catalogs",
+      "schemacrawler.tools.formatter.serialize.StreamingJsonSerializedCatalog",
+      false),
   ;
 
   private static final Logger LOGGER = Logger.getLogger(SerializationFormat.class.getName());
@@ -94,12 +103,22 @@ public enum SerializationFormat implements OutputFormat {
   private final OutputFormatState outputFormatState;
   private final String serializerClassName;
   private final boolean isBinaryFormat;
+  private final boolean isCompressed;
 
   SerializationFormat(
       final String description, final String serializerClassName, final boolean isBinaryFormat) {
+    this(description, serializerClassName, isBinaryFormat, isBinaryFormat);
+  }
+
+  SerializationFormat(
+      final String description,
+      final String serializerClassName,
+      final boolean isBinaryFormat,
+      final boolean isCompressed) {
     outputFormatState = new OutputFormatState(name(), description);
     this.serializerClassName = serializerClassName;
     this.isBinaryFormat = isBinaryFormat;
+    this.isCompressed = isCompressed;
   }
 
   @Override
@@ -130,6 +149,16 @@ public enum SerializationFormat implements OutputFormat {
     return isBinaryFormat;
   }
 
+  /**
+   * Binary formats are compressed when they are saved, unless they need to be read directly from
+   * the file.
+   *
+   * @return True if the output file is compressed
+   */
+  public boolean isCompressed() {
+    return isCompressed;
+  }
+
   @Override
   public String toString() {
     return outputFormatState.toString();
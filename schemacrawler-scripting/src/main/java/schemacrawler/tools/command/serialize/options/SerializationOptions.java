@@ -30,4 +30,25 @@ package schemacrawler.tools.command.serialize.options;
 
 import schemacrawler.tools.executable.CommandOptions;
 
-public class SerializationOptions implements CommandOptions {}
+public class SerializationOptions implements CommandOptions {
+
+  private final boolean fastCompression;
+
+  public SerializationOptions() {
+    this(false);
+  }
+
+  public SerializationOptions(final boolean fastCompression) {
+    this.fastCompression = fastCompression;
+  }
+
+  /**
+   * Whether compressed snapshots are written with the fastest compression level, trading a
+   * slightly larger file for less time spent compressing.
+   *
+   * @return Whether to use fast compression
+   */
+  public boolean isFastCompression() {
+    return fastCompression;
+  }
+}
@@ -40,9 +40,8 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.util.Arrays;
-import java.util.List;
+import java.util.HashSet;
 import java.util.Set;
-import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -76,9 +75,16 @@ public abstract class BaseJacksonSerializedCatalog implements CatalogSerializer
 
   private static class IgnoreExceptionBeanPropertyFilter extends SimpleBeanPropertyFilter {
 
-    private static final List<String> PARTIAL_PROPERTIES =
-        Arrays.asList(
-            "name", "short-name", "full-name", "attributes", "parent-partial", "remarks", "schema");
+    private static final Set<String> PARTIAL_PROPERTIES =
+        new HashSet<>(
+            Arrays.asList(
+                "name",
+                "short-name",
+                "full-name",
+                "attributes",
+                "parent-partial",
+                "remarks",
+                "schema"));
 
     @Override
     public void serializeAsField(
@@ -118,16 +124,23 @@ public abstract class BaseJacksonSerializedCatalog implements CatalogSerializer
       Logger.getLogger(BaseJacksonSerializedCatalog.class.getName());
 
   private final Catalog catalog;
-  private final SortedSet<Column> allTableColumns;
 
   public BaseJacksonSerializedCatalog(final Catalog catalog) {
     this.catalog = requireNonNull(catalog, "No catalog provided");
-    allTableColumns = new TreeSet<>();
-    loadAllTableColumns();
   }
 
+  /**
+   * Gets all table columns, sorted. Columns are collected only when they are serialized, rather
+   * than being held for the lifetime of the serializer.
+   *
+   * @return All table columns
+   */
   public Set<Column> getAllTableColumns() {
-    return new TreeSet<>(allTableColumns);
+    final Set<Column> allTableColumns = new TreeSet<>();
+    for (final Table table : catalog.getTables()) {
+      allTableColumns.addAll(table.getColumns());
+    }
+    return allTableColumns;
   }
 
   @Override
@@ -156,14 +169,6 @@ public abstract class BaseJacksonSerializedCatalog implements CatalogSerializer
 
   protected abstract ObjectMapper newObjectMapper();
 
-  private void loadAllTableColumns() {
-    for (final Table table : catalog.getTables()) {
-      for (final Column column : table.getColumns()) {
-        allTableColumns.add(column);
-      }
-    }
-  }
-
   private ObjectMapper newConfiguredObjectMapper() {
 
     @JsonIgnoreProperties({
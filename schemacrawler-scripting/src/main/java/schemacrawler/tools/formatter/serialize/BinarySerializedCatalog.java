@@ -0,0 +1,192 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.formatter.serialize;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import schemacrawler.crawl.BinaryCatalogReader;
+import schemacrawler.crawl.BinaryCatalogWriter;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.schemacrawler.exceptions.IORuntimeException;
+
+/**
+ * Decorates a database to allow for serialization to and from a compact binary format. The binary
+ * format is not compressed, so that it can be loaded from a memory-mapped file.
+ */
+public final class BinarySerializedCatalog implements CatalogSerializer {
+
+  /**
+   * Checks whether a file holds a catalog serialized in the compact binary format.
+   *
+   * @param path File to check
+   * @return True if the file is a compact binary catalog
+   */
+  public static boolean isBinarySerializedCatalog(final Path path) {
+    requireNonNull(path, "No file provided");
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      // Only the fixed size header is needed to identify the format
+      final ByteBuffer header = ByteBuffer.allocate(Integer.BYTES * 3);
+      while (header.hasRemaining()) {
+        if (channel.read(header) == -1) {
+          return false;
+        }
+      }
+      // Call through Buffer, since ByteBuffer does not override flip on Java 8
+      ((Buffer) header).flip();
+      return BinaryCatalogReader.isBinaryCatalog(header);
+    } catch (final IOException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Maps a binary catalog file into memory. Offsets in a binary catalog are ints, so files of 2 GB
+   * or more cannot be read.
+   *
+   * @param channel File channel
+   * @return Buffer with the contents of the file
+   * @throws IOException If the file is too large, or cannot be mapped
+   */
+  private static MappedByteBuffer map(final FileChannel channel) throws IOException {
+    final long size = channel.size();
+    if (size > Integer.MAX_VALUE) {
+      throw new IOException(
+          String.format(
+              "Cannot read binary catalog of <%d> bytes, since it must be smaller than 2 GB",
+              size));
+    }
+    return channel.map(MapMode.READ_ONLY, 0, size);
+  }
+
+  private static Catalog readCatalog(final ByteBuffer buffer) throws IOException {
+    return new BinaryCatalogReader(buffer).read();
+  }
+
+  private static Catalog readCatalog(final Path path, final SchemaCrawlerOptions options) {
+    requireNonNull(path, "No file provided");
+    requireNonNull(options, "No SchemaCrawler options provided");
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return new BinaryCatalogReader(map(channel)).read(options);
+    } catch (final IOException e) {
+      throw new ExecutionRuntimeException("Cannot deserialize catalog", e);
+    }
+  }
+
+  private static Catalog readCatalog(final InputStream in) {
+    requireNonNull(in, "No input stream provided");
+    try (final InputStream binaryIn = in) {
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      final byte[] buffer = new byte[64 * 1024];
+      int count;
+      while ((count = binaryIn.read(buffer)) != -1) {
+        bytes.write(buffer, 0, count);
+      }
+      return readCatalog(ByteBuffer.wrap(bytes.toByteArray()));
+    } catch (final IOException e) {
+      throw new ExecutionRuntimeException("Cannot deserialize catalog", e);
+    }
+  }
+
+  private static Catalog readCatalog(final Path path) {
+    requireNonNull(path, "No file provided");
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      // The mapping remains valid after the channel is closed
+      return readCatalog(map(channel));
+    } catch (final IOException e) {
+      throw new ExecutionRuntimeException("Cannot deserialize catalog", e);
+    }
+  }
+
+  private final Catalog catalog;
+
+  public BinarySerializedCatalog(final Catalog catalog) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+  }
+
+  public BinarySerializedCatalog(final InputStream in) {
+    this(readCatalog(in));
+  }
+
+  /**
+   * Loads a catalog from a memory-mapped file, without reading the whole file into memory first.
+   *
+   * @param path File with a compact binary catalog
+   */
+  public BinarySerializedCatalog(final Path path) {
+    this(readCatalog(path));
+  }
+
+  /**
+   * Loads a catalog from a memory-mapped file, only loading the schemas, tables, routines,
+   * sequences and synonyms that are included by the options, along with objects that they refer
+   * to. The loaded catalog still needs to be reduced with the same options.
+   *
+   * @param path File with a compact binary catalog
+   * @param options SchemaCrawler options with limit and grep rules
+   */
+  public BinarySerializedCatalog(final Path path, final SchemaCrawlerOptions options) {
+    this(readCatalog(path, options));
+  }
+
+  @Override
+  public Catalog getCatalog() {
+    return catalog;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void save(final OutputStream out) {
+    requireNonNull(out, "No output stream provided");
+    try (final OutputStream binaryOut = out) {
+      new BinaryCatalogWriter(catalog).write(binaryOut);
+    } catch (final IOException e) {
+      throw new IORuntimeException("Could not serialize catalog", e);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void save(final Writer out) {
+    throw new UnsupportedOperationException("Cannot serialize binary format using character data");
+  }
+}
@@ -39,6 +39,7 @@ import java.io.Writer;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
 import schemacrawler.schemacrawler.exceptions.IORuntimeException;
+import schemacrawler.utility.CatalogModelInputStream;
 
 /** Decorates a database to allow for serialization to and from plain Java serialization. */
 public final class JavaSerializedCatalog implements CatalogSerializer {
@@ -0,0 +1,507 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.formatter.serialize;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Grant;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.PrimaryKey;
+import schemacrawler.schema.Privilege;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineParameter;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.TableReference;
+import schemacrawler.schema.Trigger;
+import schemacrawler.schema.WeakAssociation;
+import schemacrawler.schemacrawler.exceptions.IORuntimeException;
+import us.fatehi.utility.scheduler.TaskMetrics;
+
+/**
+ * Serializes a catalog to JSON as it walks schemas, tables and columns, without building an object
+ * graph in memory first. Every object is written once, with an "@id" that other objects use to
+ * refer to it, and output is flushed to the writer after every schema. Each schema has its tables,
+ * routines, sequences and synonyms. Attribute values are written as strings.
+ */
+public final class StreamingJsonSerializedCatalog implements CatalogSerializer {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private final Catalog catalog;
+
+  public StreamingJsonSerializedCatalog(final Catalog catalog) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+  }
+
+  @Override
+  public Catalog getCatalog() {
+    return catalog;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void save(final OutputStream out) {
+    requireNonNull(out, "No output stream provided");
+    save(new OutputStreamWriter(out, UTF_8));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void save(final Writer out) {
+    requireNonNull(out, "No writer provided");
+    try (final JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+      writeCatalog(generator);
+    } catch (final IOException e) {
+      throw new IORuntimeException("Could not serialize catalog", e);
+    }
+  }
+
+  private void writeAttributes(final JsonGenerator generator, final Map<String, Object> attributes)
+      throws IOException {
+    if (attributes.isEmpty()) {
+      return;
+    }
+    generator.writeObjectFieldStart("attributes");
+    for (final Entry<String, Object> attribute : attributes.entrySet()) {
+      generator.writeStringField(attribute.getKey(), String.valueOf(attribute.getValue()));
+    }
+    generator.writeEndObject();
+  }
+
+  private void writeCatalog(final JsonGenerator generator) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("name", catalog.getName());
+    writeCrawlInfo(generator, catalog.getCrawlInfo());
+    writeAttributes(generator, catalog.getAttributes());
+
+    generator.writeArrayFieldStart("column-data-types");
+    // System column data types are included with all the column data types
+    writeColumnDataTypes(generator, catalog.getColumnDataTypes());
+    generator.writeEndArray();
+
+    generator.writeArrayFieldStart("schemas");
+    for (final Schema schema : catalog.getSchemas()) {
+      generator.writeStartObject();
+      generator.writeStringField("@id", id(schema));
+      generator.writeStringField("catalog-name", schema.getCatalogName());
+      generator.writeStringField("name", schema.getName());
+      writeRemarks(generator, schema.getRemarks());
+      generator.writeArrayFieldStart("tables");
+      for (final Table table : catalog.getTables(schema)) {
+        writeTable(generator, table);
+      }
+      generator.writeEndArray();
+      generator.writeArrayFieldStart("routines");
+      for (final Routine routine : catalog.getRoutines(schema)) {
+        writeRoutine(generator, routine);
+      }
+      generator.writeEndArray();
+      generator.writeArrayFieldStart("sequences");
+      for (final Sequence sequence : catalog.getSequences(schema)) {
+        writeSequence(generator, sequence);
+      }
+      generator.writeEndArray();
+      generator.writeArrayFieldStart("synonyms");
+      for (final Synonym synonym : catalog.getSynonyms(schema)) {
+        writeSynonym(generator, synonym);
+      }
+      generator.writeEndArray();
+      generator.writeEndObject();
+      // Write out each schema as soon as it is done, rather than holding on to it
+      generator.flush();
+    }
+    generator.writeEndArray();
+
+    generator.writeEndObject();
+  }
+
+  private void writeColumn(final JsonGenerator generator, final Column column) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("@id", id(column));
+    generator.writeStringField("name", column.getName());
+    generator.writeNumberField("ordinal-position", column.getOrdinalPosition());
+    if (column.isColumnDataTypeKnown()) {
+      generator.writeStringField("column-data-type", id(column.getColumnDataType()));
+    }
+    generator.writeNumberField("size", column.getSize());
+    generator.writeNumberField("decimal-digits", column.getDecimalDigits());
+    generator.writeBooleanField("nullable", column.isNullable());
+    generator.writeBooleanField("auto-incremented", column.isAutoIncremented());
+    generator.writeBooleanField("generated", column.isGenerated());
+    generator.writeBooleanField("hidden", column.isHidden());
+    generator.writeBooleanField("part-of-primary-key", column.isPartOfPrimaryKey());
+    generator.writeBooleanField("part-of-foreign-key", column.isPartOfForeignKey());
+    if (column.getDefaultValue() != null) {
+      generator.writeStringField("default-value", column.getDefaultValue());
+    }
+    writeRemarks(generator, column.getRemarks());
+    writePrivileges(generator, column.getPrivileges());
+    writeAttributes(generator, column.getAttributes());
+    generator.writeEndObject();
+  }
+
+  private void writeColumnDataTypes(
+      final JsonGenerator generator, final Collection<ColumnDataType> columnDataTypes)
+      throws IOException {
+    for (final ColumnDataType columnDataType : columnDataTypes) {
+      generator.writeStartObject();
+      generator.writeStringField("@id", id(columnDataType));
+      generator.writeStringField("name", columnDataType.getName());
+      generator.writeStringField("java-sql-type", columnDataType.getJavaSqlType().getName());
+      generator.writeStringField("type", String.valueOf(columnDataType.getType()));
+      generator.writeEndObject();
+    }
+  }
+
+  private void writeColumnIds(
+      final JsonGenerator generator,
+      final String fieldName,
+      final Collection<? extends Column> columns)
+      throws IOException {
+    generator.writeArrayFieldStart(fieldName);
+    for (final Column column : columns) {
+      generator.writeString(id(column));
+    }
+    generator.writeEndArray();
+  }
+
+  private void writeColumnReferences(
+      final JsonGenerator generator, final TableReference tableReference) throws IOException {
+    generator.writeArrayFieldStart("column-references");
+    for (final ColumnReference columnReference : tableReference.getColumnReferences()) {
+      generator.writeStartObject();
+      generator.writeStringField("foreign-key-column", id(columnReference.getForeignKeyColumn()));
+      generator.writeStringField("primary-key-column", id(columnReference.getPrimaryKeyColumn()));
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+  }
+
+  private void writeCrawlInfo(final JsonGenerator generator, final CrawlInfo crawlInfo)
+      throws IOException {
+    if (crawlInfo == null) {
+      return;
+    }
+    generator.writeObjectFieldStart("crawl-info");
+    generator.writeStringField("crawl-timestamp", crawlInfo.getCrawlTimestamp());
+    generator.writeStringField("run-id", crawlInfo.getRunId());
+    generator.writeStringField("database-version", String.valueOf(crawlInfo.getDatabaseVersion()));
+    generator.writeStringField(
+        "jdbc-driver-version", String.valueOf(crawlInfo.getJdbcDriverVersion()));
+    generator.writeStringField(
+        "schema-crawler-version", String.valueOf(crawlInfo.getSchemaCrawlerVersion()));
+    generator.writeArrayFieldStart("retrieval-metrics");
+    for (final TaskMetrics metrics : crawlInfo.getRetrievalMetrics()) {
+      generator.writeStartObject();
+      generator.writeStringField("task-name", metrics.getTaskName());
+      generator.writeNumberField("duration-millis", metrics.getDuration().toMillis());
+      generator.writeNumberField("rows", metrics.getRows());
+      generator.writeNumberField("round-trips", metrics.getRoundTrips());
+      generator.writeNumberField("connections", metrics.getConnections());
+      generator.writeNumberField("lob-characters", metrics.getLobCharacters());
+      generator.writeNumberField("objects", metrics.getObjects());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+    generator.writeEndObject();
+  }
+
+  private void writeDefinition(final JsonGenerator generator, final String definition)
+      throws IOException {
+    if (definition != null && !definition.isEmpty()) {
+      generator.writeStringField("definition", definition);
+    }
+  }
+
+  private void writeForeignKey(final JsonGenerator generator, final ForeignKey foreignKey)
+      throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("name", foreignKey.getName());
+    generator.writeStringField("update-rule", String.valueOf(foreignKey.getUpdateRule()));
+    generator.writeStringField("delete-rule", String.valueOf(foreignKey.getDeleteRule()));
+    writeColumnReferences(generator, foreignKey);
+    generator.writeEndObject();
+  }
+
+  private void writeNumber(
+      final JsonGenerator generator, final String fieldName, final BigInteger value)
+      throws IOException {
+    if (value != null) {
+      generator.writeFieldName(fieldName);
+      generator.writeNumber(value);
+    }
+  }
+
+  private void writePrivileges(
+      final JsonGenerator generator, final Collection<? extends Privilege<?>> privileges)
+      throws IOException {
+    if (privileges.isEmpty()) {
+      return;
+    }
+    generator.writeArrayFieldStart("privileges");
+    for (final Privilege<?> privilege : privileges) {
+      generator.writeStartObject();
+      generator.writeStringField("name", privilege.getName());
+      generator.writeArrayFieldStart("grants");
+      for (final Grant<?> grant : privilege.getGrants()) {
+        generator.writeStartObject();
+        generator.writeStringField("grantor", grant.getGrantor());
+        generator.writeStringField("grantee", grant.getGrantee());
+        generator.writeBooleanField("grantable", grant.isGrantable());
+        generator.writeEndObject();
+      }
+      generator.writeEndArray();
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+  }
+
+  private void writeRemarks(final JsonGenerator generator, final String remarks)
+      throws IOException {
+    if (remarks != null && !remarks.isEmpty()) {
+      generator.writeStringField("remarks", remarks);
+    }
+  }
+
+  private void writeRoutine(final JsonGenerator generator, final Routine routine)
+      throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("@id", id(routine));
+    generator.writeStringField("name", routine.getName());
+    generator.writeStringField("specific-name", routine.getSpecificName());
+    generator.writeStringField("routine-type", String.valueOf(routine.getRoutineType()));
+    generator.writeStringField("return-type", String.valueOf(routine.getReturnType()));
+    generator.writeStringField("body-type", String.valueOf(routine.getRoutineBodyType()));
+    writeRemarks(generator, routine.getRemarks());
+    writeDefinition(generator, routine.getDefinition());
+
+    generator.writeArrayFieldStart("parameters");
+    for (final RoutineParameter<? extends Routine> parameter : routine.getParameters()) {
+      generator.writeStartObject();
+      generator.writeStringField("name", parameter.getName());
+      generator.writeNumberField("ordinal-position", parameter.getOrdinalPosition());
+      generator.writeStringField("parameter-mode", String.valueOf(parameter.getParameterMode()));
+      if (parameter.isColumnDataTypeKnown()) {
+        generator.writeStringField("column-data-type", id(parameter.getColumnDataType()));
+      }
+      generator.writeNumberField("size", parameter.getSize());
+      generator.writeNumberField("precision", parameter.getPrecision());
+      generator.writeNumberField("decimal-digits", parameter.getDecimalDigits());
+      generator.writeBooleanField("nullable", parameter.isNullable());
+      writeRemarks(generator, parameter.getRemarks());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+
+    writeAttributes(generator, routine.getAttributes());
+    generator.writeEndObject();
+  }
+
+  private void writeSequence(final JsonGenerator generator, final Sequence sequence)
+      throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("@id", id(sequence));
+    generator.writeStringField("name", sequence.getName());
+    generator.writeNumberField("increment", sequence.getIncrement());
+    writeNumber(generator, "start-value", sequence.getStartValue());
+    writeNumber(generator, "minimum-value", sequence.getMinimumValue());
+    writeNumber(generator, "maximum-value", sequence.getMaximumValue());
+    generator.writeBooleanField("cycle", sequence.isCycle());
+    writeRemarks(generator, sequence.getRemarks());
+    writeAttributes(generator, sequence.getAttributes());
+    generator.writeEndObject();
+  }
+
+  private void writeSynonym(final JsonGenerator generator, final Synonym synonym)
+      throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("@id", id(synonym));
+    generator.writeStringField("name", synonym.getName());
+    final DatabaseObject referencedObject = synonym.getReferencedObject();
+    if (referencedObject != null) {
+      generator.writeStringField("referenced-object", id(referencedObject));
+    }
+    writeRemarks(generator, synonym.getRemarks());
+    writeAttributes(generator, synonym.getAttributes());
+    generator.writeEndObject();
+  }
+
+  private void writeTable(final JsonGenerator generator, final Table table) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("@id", id(table));
+    generator.writeStringField("name", table.getName());
+    generator.writeStringField("table-type", String.valueOf(table.getTableType()));
+    writeRemarks(generator, table.getRemarks());
+    writeDefinition(generator, table.getDefinition());
+
+    generator.writeArrayFieldStart("columns");
+    for (final Column column : table.getColumns()) {
+      writeColumn(generator, column);
+    }
+    generator.writeEndArray();
+
+    final PrimaryKey primaryKey = table.getPrimaryKey();
+    if (primaryKey != null) {
+      generator.writeObjectFieldStart("primary-key");
+      generator.writeStringField("name", primaryKey.getName());
+      writeColumnIds(generator, "columns", primaryKey.getConstrainedColumns());
+      generator.writeEndObject();
+    }
+
+    generator.writeArrayFieldStart("indexes");
+    for (final Index index : table.getIndexes()) {
+      generator.writeStartObject();
+      generator.writeStringField("name", index.getName());
+      generator.writeBooleanField("unique", index.isUnique());
+      generator.writeStringField("index-type", String.valueOf(index.getIndexType()));
+      writeColumnIds(generator, "columns", index.getColumns());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+
+    // Foreign keys are written with the table that they are imported into, so that each one is
+    // written only once
+    generator.writeArrayFieldStart("foreign-keys");
+    for (final ForeignKey foreignKey : table.getImportedForeignKeys()) {
+      writeForeignKey(generator, foreignKey);
+    }
+    generator.writeEndArray();
+
+    // Weak associations are also written only with their foreign key table
+    generator.writeArrayFieldStart("weak-associations");
+    for (final WeakAssociation weakAssociation : table.getWeakAssociations()) {
+      if (!weakAssociation.getForeignKeyTable().equals(table)) {
+        continue;
+      }
+      generator.writeStartObject();
+      generator.writeStringField("name", weakAssociation.getName());
+      writeColumnReferences(generator, weakAssociation);
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+
+    generator.writeArrayFieldStart("table-constraints");
+    for (final TableConstraint tableConstraint : table.getTableConstraints()) {
+      generator.writeStartObject();
+      generator.writeStringField("name", tableConstraint.getName());
+      generator.writeStringField("constraint-type", String.valueOf(tableConstraint.getType()));
+      generator.writeBooleanField("deferrable", tableConstraint.isDeferrable());
+      generator.writeBooleanField("initially-deferred", tableConstraint.isInitiallyDeferred());
+      writeColumnIds(generator, "columns", tableConstraint.getConstrainedColumns());
+      writeDefinition(generator, tableConstraint.getDefinition());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+
+    generator.writeArrayFieldStart("triggers");
+    for (final Trigger trigger : table.getTriggers()) {
+      generator.writeStartObject();
+      generator.writeStringField("name", trigger.getName());
+      generator.writeStringField(
+          "event-manipulation-type", String.valueOf(trigger.getEventManipulationType()));
+      generator.writeStringField("condition-timing", String.valueOf(trigger.getConditionTiming()));
+      generator.writeStringField(
+          "action-orientation", String.valueOf(trigger.getActionOrientation()));
+      generator.writeNumberField("action-order", trigger.getActionOrder());
+      if (trigger.getActionCondition() != null) {
+        generator.writeStringField("action-condition", trigger.getActionCondition());
+      }
+      if (trigger.getActionStatement() != null) {
+        generator.writeStringField("action-statement", trigger.getActionStatement());
+      }
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+
+    writePrivileges(generator, table.getPrivileges());
+    writeAttributes(generator, table.getAttributes());
+    generator.writeEndObject();
+  }
+
+  /**
+   * Creates an id that is unique in the catalog. Full names are not unique, since a table, a
+   * routine, a sequence and a synonym can share a name, so the id is prefixed with the object type.
+   * Overloaded routines also share a name, so routines are identified by their specific name.
+   *
+   * @param namedObject Object to identify
+   * @return Id of the object
+   */
+  private String id(final NamedObject namedObject) {
+    final String type;
+    final String name;
+    if (namedObject instanceof Routine) {
+      final Routine routine = (Routine) namedObject;
+      type = "routine";
+      name = routine.getSchema().getFullName() + "." + routine.getSpecificName();
+    } else {
+      if (namedObject instanceof Column) {
+        type = "column";
+      } else if (namedObject instanceof Table) {
+        type = "table";
+      } else if (namedObject instanceof Sequence) {
+        type = "sequence";
+      } else if (namedObject instanceof Synonym) {
+        type = "synonym";
+      } else if (namedObject instanceof ColumnDataType) {
+        type = "column-data-type";
+      } else if (namedObject instanceof Schema) {
+        type = "schema";
+      } else {
+        type = "object";
+      }
+      name = namedObject.getFullName();
+    }
+    return type + ":" + name;
+  }
+}
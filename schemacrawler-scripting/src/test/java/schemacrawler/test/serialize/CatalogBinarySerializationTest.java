@@ -0,0 +1,214 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test.serialize;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
+import static schemacrawler.test.utility.TestUtility.fileHeaderOf;
+import static schemacrawler.tools.utility.SchemaCrawlerUtility.getCatalog;
+import static schemacrawler.utility.MetaDataUtility.reduceCatalog;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.test.utility.DatabaseTestUtility;
+import schemacrawler.test.utility.WithTestDatabase;
+import schemacrawler.tools.formatter.serialize.BinarySerializedCatalog;
+import schemacrawler.tools.options.Config;
+import us.fatehi.utility.IOUtility;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+
+@WithTestDatabase
+public class CatalogBinarySerializationTest {
+
+  @Test
+  public void catalogSerializationWithBinary(final DatabaseConnectionSource dataSource)
+      throws Exception {
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
+
+    final Catalog catalog =
+        getCatalog(dataSource, schemaRetrievalOptionsDefault, schemaCrawlerOptions, new Config());
+    assertThat("Could not obtain catalog", catalog, notNullValue());
+    assertThat("Could not find any schemas", catalog.getSchemas(), not(empty()));
+
+    final Schema schema = catalog.lookupSchema("PUBLIC.BOOKS").orElse(null);
+    assertThat("Could not obtain schema", schema, notNullValue());
+    assertThat("Unexpected number of tables in the schema", catalog.getTables(schema), hasSize(11));
+
+    final Path testOutputFile = IOUtility.createTempFilePath("sc_binary_serialization", "bin");
+    try (final OutputStream out = Files.newOutputStream(testOutputFile)) {
+      new BinarySerializedCatalog(catalog).save(out);
+    }
+    assertThat("Catalog was not serialized", Files.size(testOutputFile), greaterThan(0L));
+    assertThat(fileHeaderOf(testOutputFile), is("5343"));
+    assertThat(BinarySerializedCatalog.isBinarySerializedCatalog(testOutputFile), is(true));
+
+    final Catalog catalogDeserialized = new BinarySerializedCatalog(testOutputFile).getCatalog();
+
+    final Schema schemaDeserialized = catalogDeserialized.lookupSchema("PUBLIC.BOOKS").orElse(null);
+    assertThat("Could not obtain schema", schemaDeserialized, notNullValue());
+    assertThat(
+        "Unexpected number of tables in the schema",
+        catalogDeserialized.getTables(schemaDeserialized),
+        hasSize(11));
+
+    for (final Table table : catalog.getTables(schema)) {
+      final Table tableDeserialized =
+          catalogDeserialized.lookupTable(schemaDeserialized, table.getName()).orElse(null);
+      assertThat("Could not find table", tableDeserialized, notNullValue());
+      assertThat(
+          "Unexpected number of columns",
+          tableDeserialized.getColumns(),
+          hasSize(table.getColumns().size()));
+      assertThat(
+          "Unexpected number of foreign keys",
+          tableDeserialized.getForeignKeys(),
+          hasSize(table.getForeignKeys().size()));
+      assertThat(
+          "Unexpected number of indexes",
+          tableDeserialized.getIndexes(),
+          hasSize(table.getIndexes().size()));
+    }
+  }
+
+  @Test
+  public void catalogSerializationWithBinaryFiltered(final DatabaseConnectionSource dataSource)
+      throws Exception {
+    final Catalog catalog =
+        getCatalog(
+            dataSource,
+            schemaRetrievalOptionsDefault,
+            DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel,
+            new Config());
+
+    final Path testOutputFile = IOUtility.createTempFilePath("sc_binary_serialization", "bin");
+    try (final OutputStream out = Files.newOutputStream(testOutputFile)) {
+      new BinarySerializedCatalog(catalog).save(out);
+    }
+
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(
+                LimitOptionsBuilder.builder()
+                    .includeSchemas(new RegularExpressionInclusionRule("PUBLIC.BOOKS"))
+                    .toOptions());
+    final Catalog catalogFiltered =
+        new BinarySerializedCatalog(testOutputFile, schemaCrawlerOptions).getCatalog();
+    reduceCatalog(catalogFiltered, schemaCrawlerOptions);
+
+    assertThat(catalogFiltered.getSchemas(), hasSize(1));
+    final Schema schemaFiltered = catalogFiltered.lookupSchema("PUBLIC.BOOKS").orElse(null);
+    assertThat("Could not obtain schema", schemaFiltered, notNullValue());
+    assertThat(
+        "Unexpected number of tables in the schema",
+        catalogFiltered.getTables(schemaFiltered),
+        hasSize(11));
+    assertThat(catalogFiltered.getTables(), hasSize(11));
+
+    final Schema schema = catalog.lookupSchema("PUBLIC.BOOKS").get();
+    for (final Table table : catalog.getTables(schema)) {
+      final Table tableFiltered =
+          catalogFiltered.lookupTable(schemaFiltered, table.getName()).orElse(null);
+      assertThat("Could not find table", tableFiltered, notNullValue());
+      assertThat(
+          "Unexpected number of foreign keys",
+          tableFiltered.getImportedForeignKeys(),
+          hasSize(table.getImportedForeignKeys().size()));
+    }
+  }
+
+  @Test
+  public void corruptSectionIndex(final DatabaseConnectionSource dataSource) throws Exception {
+    final Catalog catalog =
+        getCatalog(
+            dataSource,
+            schemaRetrievalOptionsDefault,
+            DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel,
+            new Config());
+
+    final Path testOutputFile = IOUtility.createTempFilePath("sc_binary_serialization", "bin");
+    try (final OutputStream out = Files.newOutputStream(testOutputFile)) {
+      new BinarySerializedCatalog(catalog).save(out);
+    }
+    final byte[] bytes = Files.readAllBytes(testOutputFile);
+
+    // Negative section count, after the magic number and version
+    final ByteBuffer negativeCount = ByteBuffer.wrap(bytes.clone());
+    negativeCount.putInt(2 * Integer.BYTES, -1);
+    assertCorrupt(negativeCount.array(), "Corrupt binary catalog, with <-1> sections");
+
+    // Negative length of the first section, after its type, schema id and offset
+    final ByteBuffer negativeLength = ByteBuffer.wrap(bytes.clone());
+    negativeLength.putInt(5 * Integer.BYTES + Long.BYTES, -1);
+    assertCorrupt(negativeLength.array(), "Corrupt binary catalog section index");
+
+    // Negative offset of the first section
+    final ByteBuffer negativeOffset = ByteBuffer.wrap(bytes.clone());
+    negativeOffset.putLong(5 * Integer.BYTES, -1L);
+    assertCorrupt(negativeOffset.array(), "Corrupt binary catalog section index");
+  }
+
+  @Test
+  public void textFileIsNotBinarySerializedCatalog() throws Exception {
+    final Path testOutputFile = IOUtility.createTempFilePath("sc_binary_serialization", "txt");
+    Files.write(testOutputFile, "not a catalog".getBytes());
+    assertThat(BinarySerializedCatalog.isBinarySerializedCatalog(testOutputFile), is(false));
+  }
+
+  private void assertCorrupt(final byte[] bytes, final String message) throws IOException {
+    final Path corruptFile = IOUtility.createTempFilePath("sc_binary_serialization", "bin");
+    Files.write(corruptFile, bytes);
+    final ExecutionRuntimeException exception =
+        assertThrows(
+            ExecutionRuntimeException.class, () -> new BinarySerializedCatalog(corruptFile));
+    assertThat(exception.getCause().getMessage(), startsWith(message));
+  }
+}
@@ -41,6 +41,7 @@ import static schemacrawler.tools.utility.SchemaCrawlerUtility.getCatalog;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -53,6 +54,7 @@ import schemacrawler.tools.formatter.serialize.JavaSerializedCatalog;
 import schemacrawler.tools.options.Config;
 import us.fatehi.utility.IOUtility;
 import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.scheduler.TaskMetrics;
 
 @WithTestDatabase
 public class CatalogJavaSerializationTest {
@@ -71,6 +73,12 @@ public class CatalogJavaSerializationTest {
     final Schema schema = catalog.lookupSchema("PUBLIC.BOOKS").orElse(null);
     assertThat("Could not obtain schema", schema, notNullValue());
     assertThat("Unexpected number of tables in the schema", catalog.getTables(schema), hasSize(11));
+    assertThat(catalog.getCrawlInfo().getRetrievalMetrics(), not(empty()));
+    final long objects =
+        catalog.getCrawlInfo().getRetrievalMetrics().stream()
+            .mapToLong(TaskMetrics::getObjects)
+            .sum();
+    assertThat("Retrievers did not count objects", objects, greaterThan(0L));
 
     final Path testOutputFile = IOUtility.createTempFilePath("sc_java_serialization", "ser");
     final JavaSerializedCatalog javaSerializedCatalogForSave = new JavaSerializedCatalog(catalog);
@@ -88,5 +96,20 @@ public class CatalogJavaSerializationTest {
         "Unexpected number of tables in the schema",
         catalogDeserialized.getTables(schemaDeserialized),
         hasSize(11));
+    // Retrieval metrics are serialized with the catalog
+    final List<TaskMetrics> retrievalMetrics = catalog.getCrawlInfo().getRetrievalMetrics();
+    final List<TaskMetrics> retrievalMetricsDeserialized =
+        catalogDeserialized.getCrawlInfo().getRetrievalMetrics();
+    assertThat(retrievalMetricsDeserialized, hasSize(retrievalMetrics.size()));
+    for (int i = 0; i < retrievalMetrics.size(); i++) {
+      final TaskMetrics metrics = retrievalMetrics.get(i);
+      final TaskMetrics metricsDeserialized = retrievalMetricsDeserialized.get(i);
+      assertThat(metricsDeserialized.getTaskName(), is(metrics.getTaskName()));
+      assertThat(metricsDeserialized.getDuration(), is(metrics.getDuration()));
+      assertThat(metricsDeserialized.getRows(), is(metrics.getRows()));
+      assertThat(metricsDeserialized.getObjects(), is(metrics.getObjects()));
+    }
+    assertThat(
+        catalogDeserialized.getCrawlInfo().getRunId(), is(catalog.getCrawlInfo().getRunId()));
   }
 }
@@ -0,0 +1,181 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test.serialize;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static schemacrawler.tools.utility.SchemaCrawlerUtility.getCatalog;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.test.utility.DatabaseTestUtility;
+import schemacrawler.test.utility.TestUtility;
+import schemacrawler.test.utility.WithTestDatabase;
+import schemacrawler.tools.formatter.serialize.CatalogSerializer;
+import schemacrawler.tools.formatter.serialize.StreamingJsonSerializedCatalog;
+import schemacrawler.tools.options.Config;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+
+@WithTestDatabase
+public class CatalogStreamingJsonSerializationTest {
+
+  @Test
+  public void catalogSerializationWithStreamingJson(final DatabaseConnectionSource dataSource)
+      throws Exception {
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel.withLimitOptions(
+            LimitOptionsBuilder.builder()
+                .includeAllRoutines()
+                .includeAllSequences()
+                .includeAllSynonyms()
+                .toOptions());
+
+    final Catalog catalog =
+        getCatalog(
+            dataSource,
+            TestUtility.newSchemaRetrievalOptions(),
+            schemaCrawlerOptions,
+            new Config());
+    final CatalogSerializer serializedCatalog = new StreamingJsonSerializedCatalog(catalog);
+
+    final StringWriter out = new StringWriter();
+    serializedCatalog.save(out);
+
+    final JsonNode catalogNode = new ObjectMapper().readTree(out.toString());
+    assertThat(catalogNode.get("name").asText(), is(catalog.getName()));
+
+    int tableCount = 0;
+    int columnCount = 0;
+    int foreignKeyCount = 0;
+    int tableConstraintCount = 0;
+    int triggerCount = 0;
+    int tablePrivilegeCount = 0;
+    int viewDefinitionCount = 0;
+    int routineCount = 0;
+    int sequenceCount = 0;
+    int synonymCount = 0;
+    for (final JsonNode schemaNode : catalogNode.get("schemas")) {
+      routineCount = routineCount + schemaNode.get("routines").size();
+      sequenceCount = sequenceCount + schemaNode.get("sequences").size();
+      synonymCount = synonymCount + schemaNode.get("synonyms").size();
+      for (final JsonNode tableNode : schemaNode.get("tables")) {
+        tableCount++;
+        tableConstraintCount = tableConstraintCount + tableNode.get("table-constraints").size();
+        triggerCount = triggerCount + tableNode.get("triggers").size();
+        if (tableNode.has("privileges")) {
+          tablePrivilegeCount = tablePrivilegeCount + tableNode.get("privileges").size();
+        }
+        final boolean isView = tableNode.get("table-type").asText().equalsIgnoreCase("view");
+        if (isView && tableNode.has("definition")) {
+          viewDefinitionCount++;
+        }
+        // Every object is written once, and referred to by id everywhere else
+        final Set<String> columnIds = new HashSet<>();
+        for (final JsonNode columnNode : tableNode.get("columns")) {
+          columnCount++;
+          columnIds.add(columnNode.get("@id").asText());
+          assertThat(columnNode.has("column-data-type"), is(true));
+        }
+        for (final JsonNode foreignKeyNode : tableNode.get("foreign-keys")) {
+          foreignKeyCount++;
+          for (final JsonNode columnReferenceNode : foreignKeyNode.get("column-references")) {
+            assertThat(columnIds, hasItem(columnReferenceNode.get("foreign-key-column").asText()));
+          }
+        }
+      }
+    }
+
+    int expectedColumnCount = 0;
+    int expectedForeignKeyCount = 0;
+    int expectedTableConstraintCount = 0;
+    int expectedTriggerCount = 0;
+    int expectedTablePrivilegeCount = 0;
+    for (final Table table : catalog.getTables()) {
+      expectedColumnCount = expectedColumnCount + table.getColumns().size();
+      expectedForeignKeyCount = expectedForeignKeyCount + table.getImportedForeignKeys().size();
+      expectedTableConstraintCount =
+          expectedTableConstraintCount + table.getTableConstraints().size();
+      expectedTriggerCount = expectedTriggerCount + table.getTriggers().size();
+      expectedTablePrivilegeCount = expectedTablePrivilegeCount + table.getPrivileges().size();
+    }
+    assertThat(tableCount, is(catalog.getTables().size()));
+    assertThat(columnCount, is(expectedColumnCount));
+    assertThat(foreignKeyCount, is(expectedForeignKeyCount));
+    assertThat(tableConstraintCount, is(expectedTableConstraintCount));
+    assertThat(triggerCount, is(expectedTriggerCount));
+    assertThat(tablePrivilegeCount, is(expectedTablePrivilegeCount));
+    assertThat(viewDefinitionCount, is(greaterThan(0)));
+    assertThat(routineCount, is(catalog.getRoutines().size()));
+    assertThat(sequenceCount, is(catalog.getSequences().size()));
+    assertThat(synonymCount, is(catalog.getSynonyms().size()));
+    assertThat(routineCount, is(greaterThan(0)));
+    assertThat(sequenceCount, is(greaterThan(0)));
+    assertThat(triggerCount, is(greaterThan(0)));
+
+    // Every id is unique, including ids of overloaded routines, and of objects with the same name
+    final List<String> ids = new ArrayList<>();
+    collectIds(catalogNode, ids);
+    final Set<String> uniqueIds = new HashSet<>(ids);
+    assertThat(ids.size(), is(greaterThan(0)));
+    assertThat(uniqueIds.size(), is(ids.size()));
+    for (final JsonNode schemaNode : catalogNode.get("schemas")) {
+      for (final JsonNode synonymNode : schemaNode.get("synonyms")) {
+        if (synonymNode.has("referenced-object")) {
+          assertThat(uniqueIds, hasItem(synonymNode.get("referenced-object").asText()));
+        }
+      }
+    }
+  }
+
+  private void collectIds(final JsonNode node, final List<String> ids) {
+    if (node.has("@id")) {
+      ids.add(node.get("@id").asText());
+    }
+    for (final JsonNode childNode : node) {
+      if (childNode.isContainerNode()) {
+        collectIds(childNode, ids);
+      }
+    }
+  }
+}
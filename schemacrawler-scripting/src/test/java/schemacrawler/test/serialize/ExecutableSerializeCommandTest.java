@@ -86,6 +86,14 @@ public class ExecutableSerializeCommandTest {
         is(oneOf("7B0D", "7B0A")));
   }
 
+  @Test
+  public void executableSerializeStreamingJson(final DatabaseConnectionSource dataSource)
+      throws Exception {
+    assertThat(
+        fileHeaderOf(executeSerialize(dataSource, SerializationFormat.streaming_json)),
+        is("7B22"));
+  }
+
   @Test
   public void executableSerializeYaml(final DatabaseConnectionSource dataSource) throws Exception {
     assertThat(fileHeaderOf(executeSerialize(dataSource, SerializationFormat.yaml)), is("2D2D"));
@@ -28,6 +28,10 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.tools.sqlite;
 
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.none;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tableColumnPrivilegesRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tablePrivilegesRetrievalStrategy;
+
 import schemacrawler.schemacrawler.DatabaseServerType;
 import schemacrawler.tools.databaseconnector.DatabaseConnector;
 import schemacrawler.tools.executable.commandline.PluginCommand;
@@ -41,8 +45,12 @@ public final class SQLiteDatabaseConnector extends DatabaseConnector {
         url -> url != null && url.startsWith("jdbc:sqlite:"),
         (informationSchemaViewsBuilder, connection) ->
             informationSchemaViewsBuilder.fromResourceFolder("/sqlite.information_schema"),
+        // SQLite does not have privileges, so do not retrieve them
         (schemaRetrievalOptionsBuilder, connection) ->
-            schemaRetrievalOptionsBuilder.withIdentifierQuoteString("\""),
+            schemaRetrievalOptionsBuilder
+                .withIdentifierQuoteString("\"")
+                .with(tablePrivilegesRetrievalStrategy, none)
+                .with(tableColumnPrivilegesRetrievalStrategy, none),
         limitOptionsBuilder -> {},
         () ->
             DatabaseConnectionSourceBuilder.builder("jdbc:sqlite:${database}")
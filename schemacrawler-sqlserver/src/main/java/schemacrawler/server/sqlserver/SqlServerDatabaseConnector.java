@@ -28,6 +28,9 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.server.sqlserver;
 
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
+
 import schemacrawler.inclusionrule.RegularExpressionRule;
 import schemacrawler.schemacrawler.DatabaseServerType;
 import schemacrawler.tools.databaseconnector.DatabaseConnector;
@@ -42,7 +45,9 @@ public final class SqlServerDatabaseConnector extends DatabaseConnector {
         url -> url != null && url.startsWith("jdbc:sqlserver:"),
         (informationSchemaViewsBuilder, connection) ->
             informationSchemaViewsBuilder.fromResourceFolder("/sqlserver.information_schema"),
-        (schemaRetrievalOptionsBuilder, connection) -> {},
+        (schemaRetrievalOptionsBuilder, connection) ->
+            schemaRetrievalOptionsBuilder
+                .with(primaryKeysRetrievalStrategy, data_dictionary_all),
         limitOptionsBuilder ->
             limitOptionsBuilder.includeSchemas(
                 new RegularExpressionRule(
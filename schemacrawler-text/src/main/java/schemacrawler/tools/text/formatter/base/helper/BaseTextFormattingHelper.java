@@ -31,17 +31,13 @@ package schemacrawler.tools.text.formatter.base.helper;
 import static us.fatehi.utility.ObjectToString.arrayToList;
 import static us.fatehi.utility.Utility.isBlank;
 import static us.fatehi.utility.html.TagBuilder.anchor;
-import static us.fatehi.utility.html.TagBuilder.tableCell;
-import static us.fatehi.utility.html.TagBuilder.tableHeaderCell;
-import static us.fatehi.utility.html.TagBuilder.tableRow;
 import java.io.PrintWriter;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import schemacrawler.tools.command.text.schema.options.TextOutputFormat;
 import schemacrawler.utility.BinaryData;
 import us.fatehi.utility.html.Alignment;
-import us.fatehi.utility.html.Tag;
-import us.fatehi.utility.html.TagBuilder;
+import us.fatehi.utility.html.TableRowWriter;
 import us.fatehi.utility.html.TagOutputFormat;
 
 /** Methods to format entire rows of output as HTML. */
@@ -83,10 +79,19 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
   protected final PrintWriter out;
 
   private final TextOutputFormat outputFormat;
+  private final TableRowWriter rowWriter;
+  private final TableRowWriter dataRowWriter;
 
   public BaseTextFormattingHelper(final PrintWriter out, final TextOutputFormat outputFormat) {
     this.out = out;
     this.outputFormat = outputFormat;
+
+    final TagOutputFormat tagOutputFormat = TagOutputFormat.valueOf(outputFormat.name());
+    rowWriter = new TableRowWriter(out, tagOutputFormat);
+    // Data rows are not padded in plain text, so they are written as tab-separated values
+    dataRowWriter =
+        new TableRowWriter(
+            out, tagOutputFormat == TagOutputFormat.text ? TagOutputFormat.tsv : tagOutputFormat);
   }
 
   @Override
@@ -114,10 +119,16 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
   /** {@inheritDoc} */
   @Override
   public void writeDescriptionRow(final String description) {
-    final Tag row = tableRow().make();
-    row.addInnerTag(tableCell().withStyleClass("spacer").make());
-    row.addInnerTag(tableCell().withEscapedText(description).withColumnSpan(2).make());
-    out.println(row.render(TagOutputFormat.valueOf(outputFormat.name())));
+    rowWriter
+        .startRow()
+        .cell()
+        .withStyleClass("spacer")
+        .add()
+        .cell()
+        .withEscapedText(description)
+        .withColumnSpan(2)
+        .add()
+        .endRow();
   }
 
   /** {@inheritDoc} */
@@ -144,31 +155,26 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
       text3Sytle = "";
     }
 
-    final Tag row = tableRow().make();
+    rowWriter.startRow();
     if (isBlank(text1)) {
-      row.addInnerTag(tableCell().withStyleClass("spacer").make());
+      rowWriter.cell().withStyleClass("spacer").add();
     } else {
-      row.addInnerTag(
-          tableCell().withEscapedText(text1).withWidth(2).withStyleClass("spacer").make());
+      rowWriter.cell().withEscapedText(text1).withWidth(2).withStyleClass("spacer").add();
     }
-
-    row.addInnerTag(
-        tableCell()
-            .withEscapedText(text2, escapeText)
-            .withWidth(text2Width)
-            .withEmphasis(emphasize)
-            .withStyleClass("minwidth")
-            .make());
-
-    row.addInnerTag(
-        tableCell()
-            .withEscapedText(text3)
-            .withWidth(text3Width)
-            .withAlignment(Alignment.inherit)
-            .withStyleClass("minwidth" + text3Sytle)
-            .make());
-
-    out.println(row.render(TagOutputFormat.valueOf(outputFormat.name())));
+    rowWriter
+        .cell()
+        .withEscapedText(text2, escapeText)
+        .withWidth(text2Width)
+        .withEmphasis(emphasize)
+        .withStyleClass("minwidth")
+        .add()
+        .cell()
+        .withEscapedText(text3)
+        .withWidth(text3Width)
+        .withAlignment(Alignment.inherit)
+        .withStyleClass("minwidth" + text3Sytle)
+        .add()
+        .endRow();
   }
 
   /**
@@ -178,9 +184,7 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
    */
   @Override
   public void writeEmptyRow() {
-    final Tag tableRow = tableRow().make();
-    tableRow.addInnerTag(tableCell().withColumnSpan(3).make());
-    out.println(tableRow.render(TagOutputFormat.valueOf(outputFormat.name())));
+    rowWriter.startRow().cell().withColumnSpan(3).add().endRow();
   }
 
   /**
@@ -203,23 +207,21 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
       nameWidth = Math.max(name.length(), nameWidth - (description.length() - descriptionWidth));
     }
 
-    final Tag row = tableRow().make();
-    row.addInnerTag(
-        tableCell()
-            .withEscapedText(name)
-            .withWidth(nameWidth)
-            .withStyleClass("name")
-            .withColumnSpan(2)
-            .make());
-    row.addInnerTag(
-        tableCell()
-            .withEscapedText(description)
-            .withWidth(descriptionWidth)
-            .withAlignment(Alignment.right)
-            .withStyleClass("description right")
-            .make());
-
-    out.println(row.render(TagOutputFormat.valueOf(outputFormat.name())));
+    rowWriter
+        .startRow()
+        .cell()
+        .withEscapedText(name)
+        .withWidth(nameWidth)
+        .withStyleClass("name")
+        .withColumnSpan(2)
+        .add()
+        .cell()
+        .withEscapedText(description)
+        .withWidth(descriptionWidth)
+        .withAlignment(Alignment.right)
+        .withStyleClass("description right")
+        .add()
+        .endRow();
   }
 
   /**
@@ -237,22 +239,20 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
     final String valueStyle =
         "property_value" + (alignmentForValue == Alignment.inherit ? "" : " right");
 
-    final Tag row = tableRow().make();
-    row.addInnerTag(
-        tableCell()
-            .withEscapedText(name)
-            .withWidth(nameWidth)
-            .withStyleClass("property_name")
-            .make());
-    row.addInnerTag(
-        tableCell()
-            .withEscapedText(value)
-            .withWidth(valueWidth)
-            .withAlignment(alignmentForValue)
-            .withStyleClass(valueStyle)
-            .make());
-
-    out.println(row.render(TagOutputFormat.valueOf(outputFormat.name())));
+    rowWriter
+        .startRow()
+        .cell()
+        .withEscapedText(name)
+        .withWidth(nameWidth)
+        .withStyleClass("property_name")
+        .add()
+        .cell()
+        .withEscapedText(value)
+        .withWidth(valueWidth)
+        .withAlignment(alignmentForValue)
+        .withStyleClass(valueStyle)
+        .add()
+        .endRow();
   }
 
   /**
@@ -262,13 +262,9 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
    */
   @Override
   public void writeRow(final Object... columnData) {
-    TextOutputFormat outputFormat = this.outputFormat;
-    if (outputFormat == TextOutputFormat.text) {
-      outputFormat = TextOutputFormat.tsv;
-    }
-    final Tag row = tableRow().make();
+    dataRowWriter.startRow();
     for (final Object element : columnData) {
-      final TagBuilder tableCell = tableCell().withEscapedText(toString(element));
+      final TableRowWriter.Cell tableCell = dataRowWriter.cell().withEscapedText(toString(element));
       if (element == null) {
         tableCell.withStyleClass("data_null");
       } else if (element instanceof BinaryData) {
@@ -276,10 +272,9 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
       } else if (element instanceof Number) {
         tableCell.withStyleClass("data_number");
       }
-      row.addInnerTag(tableCell.make());
+      tableCell.add();
     }
-
-    out.println(row.render(TagOutputFormat.valueOf(outputFormat.name())));
+    dataRowWriter.endRow();
   }
 
   /**
@@ -289,24 +284,22 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
    */
   @Override
   public void writeRowHeader(final String... columnNames) {
-    TextOutputFormat outputFormat = this.outputFormat;
-    if (outputFormat == TextOutputFormat.text) {
-      outputFormat = TextOutputFormat.tsv;
-    }
-    final Tag row = tableRow().make();
+    dataRowWriter.startRow();
     for (final String columnName : columnNames) {
-      final Tag headerCell = tableHeaderCell().withText(columnName).make();
-      row.addInnerTag(headerCell);
+      dataRowWriter.headerCell().withText(columnName).add();
     }
-
-    out.println(row.render(TagOutputFormat.valueOf(outputFormat.name())));
+    dataRowWriter.endRow();
   }
 
   @Override
   public void writeWideRow(final String definition, final String style) {
-    final Tag row = tableRow().make();
-    row.addInnerTag(
-        tableCell().withEscapedText(definition).withStyleClass(style).withColumnSpan(3).make());
-    out.println(row.render(TagOutputFormat.valueOf(outputFormat.name())));
+    rowWriter
+        .startRow()
+        .cell()
+        .withEscapedText(definition)
+        .withStyleClass(style)
+        .withColumnSpan(3)
+        .add()
+        .endRow();
   }
 }
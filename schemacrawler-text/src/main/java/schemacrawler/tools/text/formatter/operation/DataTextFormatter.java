@@ -35,7 +35,6 @@ import static schemacrawler.tools.command.text.schema.options.SchemaTextDetailTy
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
-import java.util.List;
 
 import schemacrawler.crawl.MetadataResultSet;
 import schemacrawler.schema.Table;
@@ -175,10 +174,10 @@ public final class DataTextFormatter extends BaseTabularFormatter<OperationOptio
   }
 
   private void iterateRows(final MetadataResultSet dataRows) throws SQLException {
+    // The same array is reused for every row, since rows are written out as soon as they are read
+    final Object[] columnData = new Object[dataRows.getColumnNames().length];
     while (dataRows.next()) {
-      final List<Object> currentRow = dataRows.row();
-      final Object[] columnData = currentRow.toArray(new Object[currentRow.size()]);
-      formattingHelper.writeRow(columnData);
+      formattingHelper.writeRow(dataRows.row(columnData));
     }
   }
 
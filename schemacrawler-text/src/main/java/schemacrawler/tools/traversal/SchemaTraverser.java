@@ -34,6 +34,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Predicate;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.ColumnDataType;
@@ -50,10 +51,12 @@ public class SchemaTraverser {
   private SchemaTraversalHandler handler;
   private Comparator<NamedObject> tablesComparator;
   private Comparator<NamedObject> routinesComparator;
+  private Predicate<Table> tablesFilter;
 
   public SchemaTraverser() {
     tablesComparator = NamedObjectSort.natural;
     routinesComparator = NamedObjectSort.natural;
+    tablesFilter = table -> true;
   }
 
   public Catalog getCatalog() {
@@ -72,6 +75,10 @@ public class SchemaTraverser {
     return tablesComparator;
   }
 
+  public Predicate<Table> getTablesFilter() {
+    return tablesFilter;
+  }
+
   public void setCatalog(final Catalog catalog) {
     this.catalog = requireNonNull(catalog, "No catalog provided");
   }
@@ -88,10 +95,25 @@ public class SchemaTraverser {
     this.tablesComparator = requireNonNull(tablesComparator, "No tables comparator provided");
   }
 
+  /**
+   * Traverses only the tables of the catalog that match the filter, for example to format a part
+   * of a large catalog. All tables are traversed by default.
+   *
+   * @param tablesFilter Filter for tables to traverse
+   */
+  public void setTablesFilter(final Predicate<Table> tablesFilter) {
+    this.tablesFilter = requireNonNull(tablesFilter, "No tables filter provided");
+  }
+
   public final void traverse() {
 
     final Collection<ColumnDataType> columnDataTypes = catalog.getColumnDataTypes();
-    final Collection<Table> tables = catalog.getTables();
+    final List<Table> tables = new ArrayList<>();
+    for (final Table table : catalog.getTables()) {
+      if (tablesFilter.test(table)) {
+        tables.add(table);
+      }
+    }
     final Collection<Routine> routines = catalog.getRoutines();
     final Collection<Synonym> synonyms = catalog.getSynonyms();
     final Collection<Sequence> sequences = catalog.getSequences();
@@ -106,9 +128,8 @@ public class SchemaTraverser {
 
       handler.handleTablesStart();
 
-      final List<? extends Table> tablesList = new ArrayList<>(tables);
-      tablesList.sort(tablesComparator);
-      for (final Table table : tablesList) {
+      tables.sort(tablesComparator);
+      for (final Table table : tables) {
         handler.handle(table);
       }
 
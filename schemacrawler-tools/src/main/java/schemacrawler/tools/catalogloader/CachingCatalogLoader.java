@@ -0,0 +1,282 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.catalogloader;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSchemaInclusion;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForTableInclusion;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_CHANGES;
+import static schemacrawler.schemacrawler.QueryUtility.executeAgainstSchema;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.Version;
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.LimitOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.exceptions.InternalRuntimeException;
+import schemacrawler.tools.executable.CommandDescription;
+import schemacrawler.tools.executable.commandline.PluginCommandOption;
+import schemacrawler.tools.options.Config;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+
+/**
+ * Loads catalogs from a local disk cache, and only crawls the database with the chain of catalog
+ * loaders when there is no cached catalog. Catalogs are cached by a fingerprint of the database
+ * connection, the SchemaCrawler options, the schema retrieval options, and the catalog loader
+ * options. Where the database plugin provides a table changes query, it is used as a cheap probe
+ * to find if the database has changed since the catalog was cached.
+ */
+public final class CachingCatalogLoader extends BaseCatalogLoader {
+
+  private static final Logger LOGGER = Logger.getLogger(CachingCatalogLoader.class.getName());
+
+  private static final String CATALOG_CACHE = "schemacrawler.catalog_cache.enabled";
+  private static final String CATALOG_CACHE_DIRECTORY = "schemacrawler.catalog_cache.directory";
+  private static final String CATALOG_CACHE_TTL = "schemacrawler.catalog_cache.ttl_seconds";
+  private static final String CATALOG_CACHE_MAX_SIZE = "schemacrawler.catalog_cache.max_size_mb";
+  private static final String CATALOG_CACHE_PROBE = "schemacrawler.catalog_cache.probe";
+
+  private static final int DEFAULT_TTL_SECONDS = 3_600;
+  private static final int DEFAULT_MAX_SIZE_MB = 256;
+
+  private final ChainedCatalogLoader chainedCatalogLoader;
+
+  public CachingCatalogLoader(final ChainedCatalogLoader chainedCatalogLoader) {
+    super(
+        new CommandDescription(
+            "cacheloader", "Loads catalogs from a local cache, or with the chain of loaders"),
+        Integer.MIN_VALUE);
+    this.chainedCatalogLoader =
+        requireNonNull(chainedCatalogLoader, "No chained catalog loader provided");
+  }
+
+  @Override
+  public void loadCatalog() {
+    final Config config = getConfig();
+    final DatabaseConnectionSource dataSource = getDataSource();
+    if (!config.getBooleanValue(CATALOG_CACHE, false) || dataSource == null) {
+      loadCatalogFromDatabase();
+      return;
+    }
+
+    final Path cacheDirectory =
+        Paths.get(
+            config.getStringValue(
+                CATALOG_CACHE_DIRECTORY,
+                Paths.get(System.getProperty("user.home"), ".schemacrawler", "catalog-cache")
+                    .toString()));
+    final Duration timeToLive =
+        Duration.ofSeconds(config.getIntegerValue(CATALOG_CACHE_TTL, DEFAULT_TTL_SECONDS));
+    final long maxSize =
+        config.getIntegerValue(CATALOG_CACHE_MAX_SIZE, DEFAULT_MAX_SIZE_MB) * 1024L * 1024L;
+    final CatalogCache catalogCache = new CatalogCache(cacheDirectory, timeToLive, maxSize);
+
+    final String fingerprint;
+    final String probe;
+    try (final Connection connection = dataSource.get()) {
+      fingerprint = fingerprint(connection);
+      if (config.getBooleanValue(CATALOG_CACHE_PROBE, true)) {
+        probe = probe(connection);
+      } else {
+        probe = null;
+      }
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, "Could not look up catalog in cache", e);
+      loadCatalogFromDatabase();
+      return;
+    }
+
+    final Optional<Catalog> cachedCatalog = catalogCache.get(fingerprint, probe);
+    if (cachedCatalog.isPresent()) {
+      setCatalog(cachedCatalog.get());
+      return;
+    }
+
+    loadCatalogFromDatabase();
+    final Catalog catalog = getCatalog();
+    if (catalog != null) {
+      catalogCache.put(fingerprint, probe, catalog);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "CachingCatalogLoader [" + chainedCatalogLoader + "]";
+  }
+
+  /**
+   * Fingerprints everything that changes the catalog that is loaded, but not the options for any
+   * command that uses the catalog, so that different commands can share cached catalogs.
+   */
+  private String fingerprint(final Connection connection) throws SQLException {
+    final DatabaseMetaData databaseMetaData = connection.getMetaData();
+    final SchemaCrawlerOptions schemaCrawlerOptions = getSchemaCrawlerOptions();
+    final SchemaRetrievalOptions schemaRetrievalOptions = getSchemaRetrievalOptions();
+
+    final StringBuilder buffer = new StringBuilder(4096);
+    buffer.append(Version.version().getProductVersion()).append('\n');
+    buffer.append(databaseMetaData.getURL()).append('\n');
+    buffer.append(databaseMetaData.getUserName()).append('\n');
+
+    buffer.append(schemaCrawlerOptions.getLimitOptions()).append('\n');
+    buffer.append(schemaCrawlerOptions.getFilterOptions()).append('\n');
+    buffer.append(schemaCrawlerOptions.getGrepOptions()).append('\n');
+    buffer.append(schemaCrawlerOptions.getLoadOptions().getSchemaInfoLevel()).append('\n');
+
+    // Schema retrieval options hold connection initializers and helpers, that cannot be
+    // fingerprinted, so use only the values that change what is retrieved
+    buffer.append(schemaRetrievalOptions.getDatabaseServerType()).append('\n');
+    buffer.append(schemaRetrievalOptions.getIdentifierQuoteString()).append('\n');
+    buffer.append(schemaRetrievalOptions.isSupportsCatalogs()).append('\n');
+    buffer.append(schemaRetrievalOptions.isSupportsSchemas()).append('\n');
+    buffer.append(schemaRetrievalOptions.getTableTypes()).append('\n');
+    buffer.append(schemaRetrievalOptions.getInformationSchemaViews()).append('\n');
+    for (final SchemaInfoMetadataRetrievalStrategy strategy :
+        SchemaInfoMetadataRetrievalStrategy.values()) {
+      buffer.append(strategy).append('=').append(schemaRetrievalOptions.get(strategy));
+      buffer.append('\n');
+    }
+
+    final Config config = getConfig();
+    for (final CatalogLoader catalogLoader : chainedCatalogLoader) {
+      for (final PluginCommandOption option : catalogLoader.getCommandLineCommand()) {
+        final String optionName = option.getName();
+        buffer.append(optionName).append('=').append(config.getStringValue(optionName, null));
+        buffer.append('\n');
+      }
+    }
+
+    return digest(buffer.toString());
+  }
+
+  private Config getConfig() {
+    final Config config = getAdditionalConfiguration();
+    if (config == null) {
+      return new Config();
+    }
+    return config;
+  }
+
+  private void loadCatalogFromDatabase() {
+    chainedCatalogLoader.setCatalog(getCatalog());
+    chainedCatalogLoader.setDataSource(getDataSource());
+    chainedCatalogLoader.setSchemaCrawlerOptions(getSchemaCrawlerOptions());
+    chainedCatalogLoader.setSchemaRetrievalOptions(getSchemaRetrievalOptions());
+    chainedCatalogLoader.setAdditionalConfiguration(getAdditionalConfiguration());
+
+    chainedCatalogLoader.loadCatalog();
+
+    setCatalog(chainedCatalogLoader.getCatalog());
+  }
+
+  /**
+   * Runs the table changes query for the database, which lists every table along with the time
+   * that it was last changed, and digests the results. The digest changes when a table is added,
+   * dropped, or changed.
+   *
+   * @return Digest of the table changes, or null if the database cannot be probed, or cannot tell
+   *     when any table was changed
+   */
+  private String probe(final Connection connection) {
+    final InformationSchemaViews informationSchemaViews =
+        getSchemaRetrievalOptions().getInformationSchemaViews();
+    if (!informationSchemaViews.hasQuery(EXT_TABLE_CHANGES)) {
+      LOGGER.log(Level.INFO, "No staleness probe for the catalog cache, so using time-to-live");
+      return null;
+    }
+
+    final LimitOptions limitOptions = getSchemaCrawlerOptions().getLimitOptions();
+    final Map<String, InclusionRule> limitMap = new HashMap<>();
+    limitMap.put("schema-inclusion-rule", limitOptions.get(ruleForSchemaInclusion));
+    limitMap.put("table-inclusion-rule", limitOptions.get(ruleForTableInclusion));
+
+    final StringBuilder buffer = new StringBuilder(4096);
+    boolean hasChangeTimes = false;
+    try (final Statement statement = connection.createStatement();
+        final ResultSet results =
+            executeAgainstSchema(
+                informationSchemaViews.getQuery(EXT_TABLE_CHANGES), statement, limitMap)) {
+      final int columnCount = results.getMetaData().getColumnCount();
+      final int changedAtColumn = results.findColumn("CHANGED_AT");
+      while (results.next()) {
+        hasChangeTimes |= results.getObject(changedAtColumn) != null;
+        for (int i = 1; i <= columnCount; i++) {
+          buffer.append(results.getString(i)).append('\t');
+        }
+        buffer.append('\n');
+      }
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, "Could not probe database for changes", e);
+      return null;
+    }
+    if (buffer.length() > 0 && !hasChangeTimes) {
+      LOGGER.log(
+          Level.INFO,
+          "Database cannot tell when tables were changed, so using time-to-live for the catalog"
+              + " cache");
+      return null;
+    }
+
+    return digest(buffer.toString());
+  }
+
+  private String digest(final String text) {
+    try {
+      final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+      final byte[] digest = messageDigest.digest(text.getBytes(UTF_8));
+      final StringBuilder buffer = new StringBuilder(digest.length * 2);
+      for (final byte b : digest) {
+        buffer.append(String.format("%02x", b));
+      }
+      return buffer.toString();
+    } catch (final NoSuchAlgorithmException e) {
+      throw new InternalRuntimeException("Could not fingerprint catalog", e);
+    }
+  }
+}
@@ -0,0 +1,310 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.catalogloader;
+
+import static java.nio.file.Files.newInputStream;
+import static java.nio.file.Files.newOutputStream;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.utility.CatalogModelInputStream;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Stores crawled catalogs in a local directory, one file for each fingerprint of the connection
+ * and options that the catalog was crawled with. Entries expire after a time-to-live, and the
+ * oldest entries are removed when the cache grows beyond its maximum size. Cached catalogs are
+ * deserialized when they are loaded, so on file systems that support POSIX permissions, the cache
+ * directory is only used if it is private to the owner.
+ */
+final class CatalogCache {
+
+  private static final Logger LOGGER = Logger.getLogger(CatalogCache.class.getName());
+
+  private static final String CACHE_FILE_EXTENSION = ".catalog";
+  private static final String TEMP_FILE_EXTENSION = ".tmp";
+  /** Temporary files are left behind by runs that stopped while saving a catalog. */
+  private static final Duration TEMP_FILE_MAX_AGE = Duration.ofHours(1);
+  private static final Set<PosixFilePermission> OWNER_ONLY =
+      PosixFilePermissions.fromString("rwx------");
+
+  private static FileTime lastModifiedTime(final Path cacheFile) {
+    try {
+      return Files.getLastModifiedTime(cacheFile);
+    } catch (final IOException e) {
+      return FileTime.fromMillis(0);
+    }
+  }
+
+  private final Path cacheDirectory;
+  private final Duration timeToLive;
+  private final long maxSize;
+
+  CatalogCache(final Path cacheDirectory, final Duration timeToLive, final long maxSize) {
+    this.cacheDirectory = requireNonNull(cacheDirectory, "No cache directory provided");
+    this.timeToLive = requireNonNull(timeToLive, "No time-to-live provided");
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Gets a cached catalog, if there is one that has not expired.
+   *
+   * @param fingerprint Fingerprint of the connection and options
+   * @param probe Result of the staleness probe for the database, or null if there is no probe
+   * @return Cached catalog, or empty if there is no usable cached catalog
+   */
+  Optional<Catalog> get(final String fingerprint, final String probe) {
+    final Path cacheFile = cacheFile(fingerprint);
+    if (!Files.isRegularFile(cacheFile)) {
+      LOGGER.log(Level.INFO, "No cached catalog found");
+      return Optional.empty();
+    }
+    if (!isPrivate(cacheDirectory)) {
+      LOGGER.log(
+          Level.WARNING,
+          new StringFormat(
+              "Not loading cached catalog, since <%s> can be accessed by other users",
+              cacheDirectory));
+      return Optional.empty();
+    }
+
+    try {
+      if (isExpired(cacheFile)) {
+        LOGGER.log(Level.INFO, "Cached catalog has expired");
+        Files.deleteIfExists(cacheFile);
+        return Optional.empty();
+      }
+
+      try (final ObjectInputStream in =
+          new CatalogModelInputStream(
+              new GZIPInputStream(new BufferedInputStream(newInputStream(cacheFile))))) {
+        final String cachedProbe = in.readUTF();
+        if (probe != null && !probe.equals(cachedProbe)) {
+          LOGGER.log(Level.INFO, "Database has changed since the catalog was cached");
+          return Optional.empty();
+        }
+        final Catalog catalog = (Catalog) in.readObject();
+        LOGGER.log(Level.INFO, new StringFormat("Loaded cached catalog from <%s>", cacheFile));
+        return Optional.of(catalog);
+      }
+    } catch (final IOException | ClassNotFoundException | ClassCastException e) {
+      LOGGER.log(
+          Level.WARNING,
+          e,
+          new StringFormat("Could not read cached catalog from <%s>", cacheFile));
+      deleteQuietly(cacheFile);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Saves a catalog to the cache, and evicts entries that have expired, or that do not fit into
+   * the cache.
+   *
+   * @param fingerprint Fingerprint of the connection and options
+   * @param probe Result of the staleness probe for the database, or null if there is no probe
+   * @param catalog Catalog to cache
+   */
+  void put(final String fingerprint, final String probe, final Catalog catalog) {
+    requireNonNull(catalog, "No catalog provided");
+
+    final Path cacheFile = cacheFile(fingerprint);
+    Path tempFile = null;
+    try {
+      createCacheDirectory();
+      // Write to a temporary file first, so that concurrent runs never read a partial catalog
+      tempFile = Files.createTempFile(cacheDirectory, fingerprint, TEMP_FILE_EXTENSION);
+      try (final ObjectOutputStream out =
+          new ObjectOutputStream(
+              new GZIPOutputStream(new BufferedOutputStream(newOutputStream(tempFile))))) {
+        out.writeUTF(probe == null ? "" : probe);
+        out.writeObject(catalog);
+      }
+      try {
+        Files.move(tempFile, cacheFile, ATOMIC_MOVE, REPLACE_EXISTING);
+      } catch (final AtomicMoveNotSupportedException e) {
+        Files.move(tempFile, cacheFile, REPLACE_EXISTING);
+      }
+      LOGGER.log(Level.INFO, new StringFormat("Saved catalog to cache <%s>", cacheFile));
+    } catch (final IOException e) {
+      LOGGER.log(
+          Level.WARNING, e, new StringFormat("Could not save catalog to cache <%s>", cacheFile));
+      if (tempFile != null) {
+        deleteQuietly(tempFile);
+      }
+    }
+
+    evict();
+  }
+
+  /**
+   * Removes expired entries, and then the oldest entries until the cache fits its size. Temporary
+   * files that are too old to still be written to are also removed.
+   */
+  void evict() {
+    if (!Files.isDirectory(cacheDirectory)) {
+      return;
+    }
+
+    try (final DirectoryStream<Path> directoryStream =
+        Files.newDirectoryStream(cacheDirectory, "*" + TEMP_FILE_EXTENSION)) {
+      for (final Path tempFile : directoryStream) {
+        if (isStaleTempFile(tempFile)) {
+          LOGGER.log(
+              Level.INFO, new StringFormat("Removing stale temporary file <%s>", tempFile));
+          deleteQuietly(tempFile);
+        }
+      }
+    } catch (final IOException e) {
+      LOGGER.log(Level.WARNING, "Could not remove temporary files from cache", e);
+    }
+
+    final List<Path> cacheFiles = new ArrayList<>();
+    try (final DirectoryStream<Path> directoryStream =
+        Files.newDirectoryStream(cacheDirectory, "*" + CACHE_FILE_EXTENSION)) {
+      for (final Path cacheFile : directoryStream) {
+        if (isExpired(cacheFile)) {
+          deleteQuietly(cacheFile);
+        } else {
+          cacheFiles.add(cacheFile);
+        }
+      }
+
+      cacheFiles.sort(Comparator.comparing(CatalogCache::lastModifiedTime).reversed());
+      long size = 0;
+      for (final Path cacheFile : cacheFiles) {
+        size = size + Files.size(cacheFile);
+        if (size > maxSize) {
+          LOGGER.log(
+              Level.INFO, new StringFormat("Evicting cached catalog <%s>", cacheFile));
+          deleteQuietly(cacheFile);
+        }
+      }
+    } catch (final IOException e) {
+      LOGGER.log(Level.WARNING, "Could not evict catalogs from cache", e);
+    }
+  }
+
+  private Path cacheFile(final String fingerprint) {
+    requireNonNull(fingerprint, "No fingerprint provided");
+    return cacheDirectory.resolve(fingerprint + CACHE_FILE_EXTENSION);
+  }
+
+  /**
+   * Creates the cache directory, so that only the owner can access it, or makes an existing cache
+   * directory private, where the file system supports POSIX permissions.
+   */
+  private void createCacheDirectory() throws IOException {
+    if (!isPosix()) {
+      Files.createDirectories(cacheDirectory);
+      return;
+    }
+
+    if (Files.isDirectory(cacheDirectory)) {
+      if (!isPrivate(cacheDirectory)) {
+        Files.setPosixFilePermissions(cacheDirectory, OWNER_ONLY);
+      }
+    } else {
+      final Path parent = cacheDirectory.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      // Set permissions again, since the umask may have removed some
+      Files.createDirectory(cacheDirectory, PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+      Files.setPosixFilePermissions(cacheDirectory, OWNER_ONLY);
+    }
+  }
+
+  private void deleteQuietly(final Path cacheFile) {
+    try {
+      Files.deleteIfExists(cacheFile);
+    } catch (final IOException e) {
+      LOGGER.log(Level.FINE, e, new StringFormat("Could not delete <%s>", cacheFile));
+    }
+  }
+
+  private boolean isExpired(final Path cacheFile) {
+    final Instant expiresAt = lastModifiedTime(cacheFile).toInstant().plus(timeToLive);
+    return Instant.now().isAfter(expiresAt);
+  }
+
+  private boolean isStaleTempFile(final Path tempFile) {
+    final Instant staleAt = lastModifiedTime(tempFile).toInstant().plus(TEMP_FILE_MAX_AGE);
+    return Instant.now().isAfter(staleAt);
+  }
+
+  private boolean isPosix() {
+    return cacheDirectory.getFileSystem().supportedFileAttributeViews().contains("posix");
+  }
+
+  /**
+   * Checks if a directory can only be accessed by its owner, or if the file system does not
+   * support POSIX permissions.
+   */
+  private boolean isPrivate(final Path directory) {
+    if (Files.isSymbolicLink(directory)) {
+      return false;
+    }
+    if (!isPosix()) {
+      return true;
+    }
+    try {
+      return OWNER_ONLY.containsAll(Files.getPosixFilePermissions(directory));
+    } catch (final IOException e) {
+      LOGGER.log(Level.FINE, e, new StringFormat("Could not check permissions of <%s>", directory));
+      return false;
+    }
+  }
+}
@@ -39,6 +39,7 @@ import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.options.OutputOptionsBuilder;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
 
 /** A SchemaCrawler tools executable unit. */
 public abstract class BaseSchemaCrawlerCommand<C extends CommandOptions>
@@ -48,6 +49,7 @@ public abstract class BaseSchemaCrawlerCommand<C extends CommandOptions>
   protected C commandOptions;
   protected Catalog catalog;
   protected Connection connection;
+  protected DatabaseConnectionSource dataSource;
   protected Identifiers identifiers;
   protected OutputOptions outputOptions;
   protected SchemaCrawlerOptions schemaCrawlerOptions;
@@ -84,6 +86,11 @@ public abstract class BaseSchemaCrawlerCommand<C extends CommandOptions>
     return connection;
   }
 
+  @Override
+  public DatabaseConnectionSource getDataSource() {
+    return dataSource;
+  }
+
   @Override
   public Identifiers getIdentifiers() {
     return identifiers;
@@ -121,6 +128,11 @@ public abstract class BaseSchemaCrawlerCommand<C extends CommandOptions>
     this.connection = connection;
   }
 
+  @Override
+  public void setDataSource(final DatabaseConnectionSource dataSource) {
+    this.dataSource = dataSource;
+  }
+
   @Override
   public void setIdentifiers(final Identifiers identifiers) {
     this.identifiers = identifiers;
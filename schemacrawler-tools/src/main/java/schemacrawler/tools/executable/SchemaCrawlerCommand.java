@@ -34,6 +34,7 @@ import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.Identifiers;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.tools.options.OutputOptions;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
 
 /** A SchemaCrawler tools executable unit. */
 public interface SchemaCrawlerCommand<C extends CommandOptions> {
@@ -57,6 +58,14 @@ public interface SchemaCrawlerCommand<C extends CommandOptions> {
 
   Connection getConnection();
 
+  /**
+   * Source of additional database connections, for commands that can use more than one connection
+   * at the same time. May be null.
+   *
+   * @return Database connection source
+   */
+  DatabaseConnectionSource getDataSource();
+
   Identifiers getIdentifiers();
 
   OutputOptions getOutputOptions();
@@ -72,6 +81,8 @@ public interface SchemaCrawlerCommand<C extends CommandOptions> {
 
   void setConnection(Connection connection);
 
+  void setDataSource(DatabaseConnectionSource dataSource);
+
   void setIdentifiers(Identifiers identifiers);
 
   void setOutputOptions(OutputOptions outputOptions);
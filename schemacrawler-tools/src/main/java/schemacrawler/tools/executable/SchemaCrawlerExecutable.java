@@ -128,6 +128,7 @@ public final class SchemaCrawlerExecutable {
           throw new SchemaCrawlerException("No database connection provided");
         }
         scCommand.setConnection(connection);
+        scCommand.setDataSource(dataSource);
       }
 
       // Execute
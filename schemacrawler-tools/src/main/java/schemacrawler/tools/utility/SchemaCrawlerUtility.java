@@ -49,6 +49,7 @@ import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
 import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
 import schemacrawler.schemacrawler.exceptions.InternalRuntimeException;
+import schemacrawler.tools.catalogloader.CachingCatalogLoader;
 import schemacrawler.tools.catalogloader.CatalogLoader;
 import schemacrawler.tools.catalogloader.CatalogLoaderRegistry;
 import schemacrawler.tools.databaseconnector.DatabaseConnector;
@@ -99,7 +100,8 @@ public final class SchemaCrawlerUtility {
     updateConnectionDataSource(dataSource, schemaRetrievalOptions);
 
     final CatalogLoaderRegistry catalogLoaderRegistry = new CatalogLoaderRegistry();
-    final CatalogLoader catalogLoader = catalogLoaderRegistry.newChainedCatalogLoader();
+    final CatalogLoader catalogLoader =
+        new CachingCatalogLoader(catalogLoaderRegistry.newChainedCatalogLoader());
 
     LOGGER.log(Level.CONFIG, new StringFormat("Catalog loader: %s", catalogLoader));
 
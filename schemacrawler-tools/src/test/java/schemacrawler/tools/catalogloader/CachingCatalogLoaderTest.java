@@ -0,0 +1,192 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.catalogloader;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.test.utility.WithTestDatabase;
+import schemacrawler.tools.options.Config;
+import schemacrawler.tools.utility.SchemaCrawlerUtility;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+
+@WithTestDatabase
+public class CachingCatalogLoaderTest {
+
+  @TempDir private Path cacheDirectory;
+
+  @Test
+  public void cachedCatalog(final DatabaseConnectionSource dataSource) throws Exception {
+    final Config config = new Config();
+    config.put("schemacrawler.catalog_cache.enabled", true);
+    config.put("schemacrawler.catalog_cache.directory", cacheDirectory.toString());
+
+    final Catalog catalog = getCatalog(dataSource, config);
+    assertThat(cacheFiles(), arrayWithSize(1));
+
+    final Catalog cachedCatalog = getCatalog(dataSource, config);
+    assertThat(cacheFiles(), arrayWithSize(1));
+    assertThat(cachedCatalog, is(not(sameInstance(catalog))));
+    assertThat(cachedCatalog.getTables().size(), is(catalog.getTables().size()));
+    assertThat(cachedCatalog.getSchemas().size(), is(catalog.getSchemas().size()));
+  }
+
+  @Test
+  public void changedOptions(final DatabaseConnectionSource dataSource) throws Exception {
+    final Config config = new Config();
+    config.put("schemacrawler.catalog_cache.enabled", true);
+    config.put("schemacrawler.catalog_cache.directory", cacheDirectory.toString());
+
+    getCatalog(dataSource, config);
+    SchemaCrawlerUtility.getCatalog(
+        dataSource,
+        schemaRetrievalOptionsDefault,
+        newSchemaCrawlerOptions()
+            .withLimitOptions(
+                LimitOptionsBuilder.builder()
+                    .includeSchemas(Pattern.compile(".*\\.BOOKS"))
+                    .toOptions()),
+        config);
+    assertThat(cacheFiles(), arrayWithSize(2));
+  }
+
+  @Test
+  public void disabledCache(final DatabaseConnectionSource dataSource) throws Exception {
+    final Config config = new Config();
+    config.put("schemacrawler.catalog_cache.directory", cacheDirectory.toString());
+
+    getCatalog(dataSource, config);
+    assertThat(cacheFiles(), arrayWithSize(0));
+  }
+
+  @Test
+  public void eviction(final DatabaseConnectionSource dataSource) throws Exception {
+    final Catalog catalog = getCatalog(dataSource, new Config());
+
+    final CatalogCache catalogCache = new CatalogCache(cacheDirectory, Duration.ofHours(1), 0);
+    catalogCache.put("fingerprint", null, catalog);
+    // Nothing fits into an empty cache
+    assertThat(cacheFiles(), arrayWithSize(0));
+    assertThat(catalogCache.get("fingerprint", null), is(Optional.empty()));
+  }
+
+  @Test
+  public void expiry(final DatabaseConnectionSource dataSource) throws Exception {
+    final Catalog catalog = getCatalog(dataSource, new Config());
+
+    final CatalogCache catalogCache =
+        new CatalogCache(cacheDirectory, Duration.ofHours(1), Long.MAX_VALUE);
+    catalogCache.put("fingerprint", "probe", catalog);
+    assertThat(catalogCache.get("fingerprint", "probe").isPresent(), is(true));
+    // Cached catalog is stale when the database has changed
+    assertThat(catalogCache.get("fingerprint", "changed").isPresent(), is(false));
+    // Cached catalog can be used when the database cannot be probed
+    assertThat(catalogCache.get("fingerprint", null).isPresent(), is(true));
+
+    final Path cacheFile = cacheFiles()[0];
+    Files.setLastModifiedTime(cacheFile, FileTime.from(Instant.now().minusSeconds(7_200)));
+    assertThat(catalogCache.get("fingerprint", "probe").isPresent(), is(false));
+    assertThat(cacheFiles(), arrayWithSize(0));
+  }
+
+  @Test
+  public void privateCacheDirectory(final DatabaseConnectionSource dataSource) throws Exception {
+    assumeTrue(cacheDirectory.getFileSystem().supportedFileAttributeViews().contains("posix"));
+
+    final Catalog catalog = getCatalog(dataSource, new Config());
+
+    final Path newCacheDirectory = cacheDirectory.resolve("new").resolve("cache");
+    new CatalogCache(newCacheDirectory, Duration.ofHours(1), Long.MAX_VALUE)
+        .put("fingerprint", null, catalog);
+    assertThat(
+        PosixFilePermissions.toString(Files.getPosixFilePermissions(newCacheDirectory)),
+        is("rwx------"));
+
+    final CatalogCache catalogCache =
+        new CatalogCache(cacheDirectory, Duration.ofHours(1), Long.MAX_VALUE);
+    catalogCache.put("fingerprint", null, catalog);
+    assertThat(catalogCache.get("fingerprint", null).isPresent(), is(true));
+
+    // Cached catalogs are not loaded from a directory that other users can write to
+    Files.setPosixFilePermissions(cacheDirectory, PosixFilePermissions.fromString("rwxrwxrwx"));
+    assertThat(catalogCache.get("fingerprint", null).isPresent(), is(false));
+
+    // Saving a catalog makes the directory private again
+    catalogCache.put("fingerprint", null, catalog);
+    assertThat(
+        PosixFilePermissions.toString(Files.getPosixFilePermissions(cacheDirectory)),
+        is("rwx------"));
+    assertThat(catalogCache.get("fingerprint", null).isPresent(), is(true));
+  }
+
+  @Test
+  public void staleTempFiles() throws Exception {
+    final Path staleTempFile = Files.createTempFile(cacheDirectory, "fingerprint", ".tmp");
+    Files.setLastModifiedTime(staleTempFile, FileTime.from(Instant.now().minusSeconds(7_200)));
+    final Path tempFile = Files.createTempFile(cacheDirectory, "fingerprint", ".tmp");
+
+    new CatalogCache(cacheDirectory, Duration.ofHours(1), Long.MAX_VALUE).evict();
+
+    // Temporary files from runs that stopped are removed, but not ones that may still be written
+    assertThat(Files.exists(staleTempFile), is(false));
+    assertThat(Files.exists(tempFile), is(true));
+  }
+
+  private Path[] cacheFiles() throws Exception {
+    try (final Stream<Path> files = Files.list(cacheDirectory)) {
+      return files.filter(file -> file.toString().endsWith(".catalog")).toArray(Path[]::new);
+    }
+  }
+
+  private Catalog getCatalog(final DatabaseConnectionSource dataSource, final Config config) {
+    return SchemaCrawlerUtility.getCatalog(
+        dataSource, schemaRetrievalOptionsDefault, newSchemaCrawlerOptions(), config);
+  }
+}
@@ -134,8 +134,7 @@ public class Inflection {
     }
 
     for (final Inflection inflection : singular) {
-      // System.out.println(word + " matches " + inflection.pattern +
-      // "? (ignore case: " + inflection.ignoreCase + ")");
+      // System.out.println(word + " matches " + inflection.pattern + "?");
       if (inflection.match(word)) {
         // System.out.println("match!");
         return inflection.replace(word);
@@ -161,12 +160,10 @@ public class Inflection {
     uncountable.add(word);
   }
 
-  private final String pattern;
+  private final Pattern pattern;
 
   private final String replacement;
 
-  private final boolean ignoreCase;
-
   public Inflection(final String pattern) {
     this(pattern, null, true);
   }
@@ -176,9 +173,12 @@ public class Inflection {
   }
 
   public Inflection(final String pattern, final String replacement, final boolean ignoreCase) {
-    this.pattern = pattern;
+    int flags = 0;
+    if (ignoreCase) {
+      flags = flags | Pattern.CASE_INSENSITIVE;
+    }
+    this.pattern = Pattern.compile(pattern, flags);
     this.replacement = replacement;
-    this.ignoreCase = ignoreCase;
   }
 
   /**
@@ -188,11 +188,7 @@ public class Inflection {
    * @return True if it matches the inflection pattern
    */
   public boolean match(final String word) {
-    int flags = 0;
-    if (ignoreCase) {
-      flags = flags | Pattern.CASE_INSENSITIVE;
-    }
-    return Pattern.compile(pattern, flags).matcher(word).find();
+    return pattern.matcher(word).find();
   }
 
   /**
@@ -202,10 +198,6 @@ public class Inflection {
    * @return The result
    */
   public String replace(final String word) {
-    int flags = 0;
-    if (ignoreCase) {
-      flags = flags | Pattern.CASE_INSENSITIVE;
-    }
-    return Pattern.compile(pattern, flags).matcher(word).replaceAll(replacement);
+    return pattern.matcher(word).replaceAll(replacement);
   }
 }
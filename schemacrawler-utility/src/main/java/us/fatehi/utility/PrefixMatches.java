@@ -29,13 +29,15 @@ http://www.gnu.org/licenses/
 package us.fatehi.utility;
 
 import static java.util.Objects.requireNonNull;
-import static us.fatehi.utility.Utility.commonPrefix;
 import static us.fatehi.utility.Utility.isBlank;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.SortedMap;
@@ -87,53 +89,76 @@ public final class PrefixMatches {
   }
 
   /**
-   * Finds key prefixes. Prefixes are separated by a separator character.
+   * Finds key prefixes. Prefixes are separated by a separator character. Prefixes are counted over
+   * all pairs of keys that have a common prefix, but pairs are counted from sorted keys, so keys
+   * do not have to be compared with every other key.
    *
    * @param keys Keys
    * @return Key name prefixes
    */
   private Collection<String> findPrefixes(final List<String> keys) {
-    final SortedMap<String, Integer> prefixesMap = new TreeMap<>();
-    for (int i = 0; i < keys.size(); i++) {
-      for (int j = i + 1; j < keys.size(); j++) {
-        final String key1 = keys.get(i);
-        final String key2 = keys.get(j);
-        final String commonPrefix = commonPrefix(key1, key2);
-        if (isBlank(commonPrefix)) {
-          continue;
-        }
+    // Identical keys have no common prefix, so count each distinct key once, with its multiplicity
+    final SortedMap<String, Integer> keyCounts = new TreeMap<>();
+    for (final String key : keys) {
+      if (key != null) {
+        keyCounts.merge(key, 1, Integer::sum);
+      }
+    }
+    final List<String> sortedKeys = new ArrayList<>(keyCounts.keySet());
+    final int size = sortedKeys.size();
+
+    // In sorted order, the common prefix of any two keys is the shortest common prefix of
+    // adjacent keys between them
+    final int[] commonPrefixLengths = new int[size];
+    final long[] cumulativeKeyCounts = new long[size + 1];
+    for (int i = 0; i < size; i++) {
+      if (i > 0) {
+        commonPrefixLengths[i] = commonPrefixLength(sortedKeys.get(i - 1), sortedKeys.get(i));
+      }
+      cumulativeKeyCounts[i + 1] = cumulativeKeyCounts[i] + keyCounts.get(sortedKeys.get(i));
+    }
 
-        final List<String> splitCommonPrefixes = new ArrayList<>();
-        final String[] splitPrefix = commonPrefix.split(keySeparator);
-        if (splitPrefix != null && splitPrefix.length > 0) {
-          for (int k = 0; k < splitPrefix.length; k++) {
-            final StringBuilder buffer = new StringBuilder(1024);
-            for (int l = 0; l < k; l++) {
-              buffer.append(splitPrefix[l]).append(keySeparator);
-            }
-            if (buffer.length() > 0) {
-              splitCommonPrefixes.add(buffer.toString());
-            }
-          }
-        }
-        if (commonPrefix.endsWith(keySeparator)) {
-          splitCommonPrefixes.add(commonPrefix);
-        }
+    // For every adjacent pair, find the range of keys that it is the shortest common prefix for,
+    // with ties going to the leftmost pair
+    final int[] firstKeys = new int[size];
+    final int[] lastKeys = new int[size];
+    final Deque<Integer> stack = new ArrayDeque<>();
+    for (int i = 1; i < size; i++) {
+      while (!stack.isEmpty() && commonPrefixLengths[stack.peek()] > commonPrefixLengths[i]) {
+        stack.pop();
+      }
+      firstKeys[i] = stack.isEmpty() ? 0 : stack.peek();
+      stack.push(i);
+    }
+    stack.clear();
+    for (int i = size - 1; i > 0; i--) {
+      while (!stack.isEmpty() && commonPrefixLengths[stack.peek()] >= commonPrefixLengths[i]) {
+        stack.pop();
+      }
+      lastKeys[i] = stack.isEmpty() ? size - 1 : stack.peek() - 1;
+      stack.push(i);
+    }
 
-        for (final String splitCommonPrefix : splitCommonPrefixes) {
-          final int prevCount;
-          if (prefixesMap.containsKey(splitCommonPrefix)) {
-            prevCount = prefixesMap.get(splitCommonPrefix);
-          } else {
-            prevCount = 0;
-          }
-          prefixesMap.put(splitCommonPrefix, prevCount + 1);
-        }
+    final SortedMap<String, Long> prefixesMap = new TreeMap<>();
+    for (int i = 1; i < size; i++) {
+      if (commonPrefixLengths[i] < 1) {
+        continue;
+      }
+      final String commonPrefix =
+          sortedKeys.get(i).substring(0, commonPrefixLengths[i]).toLowerCase();
+      if (isBlank(commonPrefix)) {
+        continue;
+      }
+      final long pairs =
+          (cumulativeKeyCounts[i] - cumulativeKeyCounts[firstKeys[i]])
+              * (cumulativeKeyCounts[lastKeys[i] + 1] - cumulativeKeyCounts[i]);
+      for (final String splitCommonPrefix : splitCommonPrefixes(commonPrefix)) {
+        prefixesMap.merge(splitCommonPrefix, pairs, Long::sum);
       }
     }
 
     // Sort prefixes by the number of keys using them, in descending order
-    final List<Map.Entry<String, Integer>> prefixesList = new ArrayList<>(prefixesMap.entrySet());
+    final List<Map.Entry<String, Long>> prefixesList = new ArrayList<>(prefixesMap.entrySet());
     Collections.sort(
         prefixesList, (entry1, entry2) -> entry1.getValue().compareTo(entry2.getValue()));
 
@@ -151,18 +176,64 @@ public final class PrefixMatches {
     return prefixes;
   }
 
+  private int commonPrefixLength(final String key1, final String key2) {
+    final int length = Math.min(key1.length(), key2.length());
+    for (int i = 0; i < length; i++) {
+      if (key1.charAt(i) != key2.charAt(i)) {
+        return i;
+      }
+    }
+    return length;
+  }
+
   private void mapPrefixes(final List<String> keys, final Collection<String> prefixes) {
+    final Map<String, Integer> prefixPositions = new HashMap<>();
+    for (final String prefix : prefixes) {
+      prefixPositions.putIfAbsent(prefix, prefixPositions.size());
+    }
+
     for (final String key : keys) {
-      for (final String prefix : prefixes) {
-        String matchKeyName = key.toLowerCase();
-        if (matchKeyName.startsWith(prefix)) {
-          matchKeyName = matchKeyName.substring(prefix.length());
-          matchKeyName = Inflection.singularize(matchKeyName);
-          if (!isBlank(matchKeyName)) {
-            keyPrefixes.add(key, matchKeyName);
-          }
+      final String lowerCaseKey = key.toLowerCase();
+      // Every prefix ends with a separator, so only look up the prefixes of the key that do, and
+      // keep them in the order of the prefixes
+      final SortedMap<Integer, String> keyPrefixPositions = new TreeMap<>();
+      keyPrefixPositions.put(prefixPositions.get(""), "");
+      int index = lowerCaseKey.indexOf(keySeparator);
+      while (index >= 0) {
+        final String prefix = lowerCaseKey.substring(0, index + keySeparator.length());
+        if (prefixPositions.containsKey(prefix)) {
+          keyPrefixPositions.put(prefixPositions.get(prefix), prefix);
+        }
+        index = lowerCaseKey.indexOf(keySeparator, index + 1);
+      }
+
+      for (final String prefix : keyPrefixPositions.values()) {
+        String matchKeyName = lowerCaseKey.substring(prefix.length());
+        matchKeyName = Inflection.singularize(matchKeyName);
+        if (!isBlank(matchKeyName)) {
+          keyPrefixes.add(key, matchKeyName);
         }
       }
     }
   }
+
+  private List<String> splitCommonPrefixes(final String commonPrefix) {
+    final List<String> splitCommonPrefixes = new ArrayList<>();
+    final String[] splitPrefix = commonPrefix.split(keySeparator);
+    if (splitPrefix != null && splitPrefix.length > 0) {
+      for (int k = 0; k < splitPrefix.length; k++) {
+        final StringBuilder buffer = new StringBuilder(1024);
+        for (int l = 0; l < k; l++) {
+          buffer.append(splitPrefix[l]).append(keySeparator);
+        }
+        if (buffer.length() > 0) {
+          splitCommonPrefixes.add(buffer.toString());
+        }
+      }
+    }
+    if (commonPrefix.endsWith(keySeparator)) {
+      splitCommonPrefixes.add(commonPrefix);
+    }
+    return splitCommonPrefixes;
+  }
 }
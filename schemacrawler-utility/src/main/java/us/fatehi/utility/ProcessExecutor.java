@@ -31,10 +31,13 @@ package us.fatehi.utility;
 import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.IOUtility.createTempFilePath;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -48,27 +51,25 @@ public class ProcessExecutor implements Callable<Integer> {
   private Path processOutput;
   private Path processError;
   private int exitCode;
+  private Process process;
 
+  /**
+   * Runs the command, if it has not already been started, and waits for it to complete.
+   *
+   * @return Exit code of the process, or null if there is no command to run
+   */
   @Override
   public Integer call() {
 
     try {
-      requireNonNull(command, "No command provided");
-
-      processOutput = createTempFilePath("temp", "stdout");
-      processError = createTempFilePath("temp", "stderr");
-
-      if (command.isEmpty()) {
-        return null;
+      if (process == null) {
+        final OutputStream processInput = start();
+        if (processInput == null) {
+          return null;
+        }
+        processInput.close();
       }
 
-      LOGGER.log(Level.CONFIG, new StringFormat("Executing:%n%s", command));
-
-      final ProcessBuilder processBuilder = new ProcessBuilder(command);
-      processBuilder.redirectOutput(processOutput.toFile());
-      processBuilder.redirectError(processError.toFile());
-
-      final Process process = processBuilder.start();
       exitCode = process.waitFor();
     } catch (final Throwable t) {
       if (exitCode == 0) {
@@ -80,6 +81,29 @@ public class ProcessExecutor implements Callable<Integer> {
     return exitCode;
   }
 
+  /**
+   * Stops a process that has been started, and waits for it to exit, so that it no longer writes
+   * any output. Does nothing if the process has not been started.
+   */
+  public void destroy() {
+    if (process == null) {
+      return;
+    }
+
+    process.destroyForcibly();
+    try {
+      if (!process.waitFor(10, TimeUnit.SECONDS)) {
+        LOGGER.log(Level.WARNING, new StringFormat("Process did not stop:%n%s", command));
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOGGER.log(Level.WARNING, "Interrupted while stopping process", e);
+    }
+    if (!process.isAlive()) {
+      exitCode = process.exitValue();
+    }
+  }
+
   public List<String> getCommand() {
     return command;
   }
@@ -99,4 +123,35 @@ public class ProcessExecutor implements Callable<Integer> {
   public void setCommandLine(final List<String> args) {
     command = new ArrayList<>(args);
   }
+
+  /**
+   * Starts the command without waiting for it to complete, so that input can be streamed to the
+   * process while it runs. Close the returned stream, and then call {@link #call()} to wait for the
+   * process to complete.
+   *
+   * @return Standard input of the process, or null if there is no command to run
+   * @throws IOException On an exception starting the process
+   */
+  public OutputStream start() throws IOException {
+    requireNonNull(command, "No command provided");
+    if (process != null) {
+      throw new IllegalStateException("Process has already been started");
+    }
+
+    processOutput = createTempFilePath("temp", "stdout");
+    processError = createTempFilePath("temp", "stderr");
+
+    if (command.isEmpty()) {
+      return null;
+    }
+
+    LOGGER.log(Level.CONFIG, new StringFormat("Executing:%n%s", command));
+
+    final ProcessBuilder processBuilder = new ProcessBuilder(command);
+    processBuilder.redirectOutput(processOutput.toFile());
+    processBuilder.redirectError(processError.toFile());
+
+    process = processBuilder.start();
+    return process.getOutputStream();
+  }
 }
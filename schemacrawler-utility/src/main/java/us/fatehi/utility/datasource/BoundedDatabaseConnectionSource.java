@@ -0,0 +1,327 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+
+package us.fatehi.utility.datasource;
+
+import static java.util.Objects.requireNonNull;
+import static us.fatehi.utility.Utility.isBlank;
+import static us.fatehi.utility.Utility.requireNotBlank;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import us.fatehi.utility.SQLRuntimeException;
+import us.fatehi.utility.scheduler.TaskDefinition;
+import us.fatehi.utility.scheduler.TaskRunner;
+import us.fatehi.utility.scheduler.TaskRunners;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Connection pool with an upper bound on the number of connections that can be open at the same
+ * time. Some connections can be opened in parallel when the pool is created, and the rest are
+ * opened as they are needed. Idle connections are kept in a concurrent deque, so borrowing and
+ * returning a connection does not take a lock, and callers only wait when all connections are in
+ * use. Connections are only validated when they have been idle for a while.
+ */
+final class BoundedDatabaseConnectionSource extends AbstractDatabaseConnectionSource {
+
+  private static final class IdleConnection {
+    private final Connection connection;
+    private final long idleSince;
+
+    IdleConnection(final Connection connection) {
+      this.connection = connection;
+      idleSince = System.nanoTime();
+    }
+  }
+
+  private static final Logger LOGGER =
+      Logger.getLogger(BoundedDatabaseConnectionSource.class.getName());
+
+  private static final Duration BORROW_TIMEOUT = Duration.ofMinutes(5);
+  private static final Duration VALIDATION_INTERVAL = Duration.ofSeconds(30);
+  private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+  private final String connectionUrl;
+  private final Properties jdbcConnectionProperties;
+  private final int maxConnections;
+  private final Semaphore availableConnections;
+  private final ConcurrentLinkedDeque<IdleConnection> idleConnections;
+  private final Set<Connection> usedConnections;
+  private final LongAdder borrowCount;
+  private final LongAdder borrowWaitCount;
+  private final LongAdder borrowWaitNanos;
+  private final AtomicLong maxBorrowWaitNanos;
+  private final LongAdder openedConnections;
+
+  BoundedDatabaseConnectionSource(
+      final String connectionUrl,
+      final Map<String, String> connectionProperties,
+      final UserCredentials userCredentials,
+      final Consumer<Connection> connectionInitializer,
+      final int maxConnections,
+      final int warmUpConnections) {
+
+    super(connectionInitializer);
+    this.connectionUrl = requireNotBlank(connectionUrl, "No database connection URL provided");
+    requireNonNull(userCredentials, "No user credentials provided");
+    if (maxConnections < 1) {
+      throw new IllegalArgumentException("At least one connection needs to be allowed");
+    }
+    this.maxConnections = maxConnections;
+
+    final String user = userCredentials.getUser();
+    final String password = userCredentials.getPassword();
+    if (isBlank(user)) {
+      LOGGER.log(Level.WARNING, "Database user is not provided");
+    }
+    if (isBlank(password)) {
+      LOGGER.log(Level.WARNING, "Database password is not provided");
+    }
+
+    jdbcConnectionProperties =
+        createConnectionProperties(connectionUrl, connectionProperties, user, password);
+
+    availableConnections = new Semaphore(maxConnections);
+    idleConnections = new ConcurrentLinkedDeque<>();
+    usedConnections = ConcurrentHashMap.newKeySet();
+    borrowCount = new LongAdder();
+    borrowWaitCount = new LongAdder();
+    borrowWaitNanos = new LongAdder();
+    maxBorrowWaitNanos = new AtomicLong();
+    openedConnections = new LongAdder();
+
+    warmUp(Math.min(warmUpConnections, maxConnections));
+  }
+
+  @Override
+  public void close() throws Exception {
+
+    LOGGER.log(Level.INFO, new StringFormat("%s", this));
+
+    if (!usedConnections.isEmpty()) {
+      LOGGER.log(Level.SEVERE, "Abnormal termination - not all database connections are closed");
+    }
+
+    IdleConnection idleConnection;
+    while ((idleConnection = idleConnections.pollFirst()) != null) {
+      closeConnection(idleConnection.connection);
+    }
+    for (final Connection connection : usedConnections) {
+      closeConnection(connection);
+    }
+    usedConnections.clear();
+  }
+
+  @Override
+  public Connection get() {
+    borrowCount.increment();
+    if (!availableConnections.tryAcquire()) {
+      waitForConnection();
+    }
+
+    final Connection connection;
+    try {
+      connection = nextConnection();
+    } catch (final RuntimeException e) {
+      availableConnections.release();
+      throw e;
+    }
+    usedConnections.add(connection);
+
+    try {
+      connectionInitializer.accept(connection);
+    } catch (final RuntimeException e) {
+      // The connection may be left in an unknown state, so it is not reused
+      usedConnections.remove(connection);
+      closeConnection(connection);
+      availableConnections.release();
+      throw e;
+    }
+    LOGGER.log(
+        Level.FINE,
+        new StringFormat(
+            "Initialized database connection <%s> with <%s>", connection, connectionInitializer));
+
+    return PooledConnectionUtility.newPooledConnection(connection, this);
+  }
+
+  /** No more connections than this can be open at the same time. */
+  @Override
+  public int getMaxConnections() {
+    return maxConnections;
+  }
+
+  @Override
+  public boolean releaseConnection(final Connection connection) {
+    if (connection == null) {
+      return false;
+    }
+
+    Connection unwrappedConnection = connection;
+    if (connection instanceof DatabaseConnectionSourceConnection) {
+      try {
+        unwrappedConnection = connection.unwrap(Connection.class);
+      } catch (final SQLException e) {
+        LOGGER.log(Level.WARNING, "Cannot unwrap connection - " + e.getMessage());
+        return false;
+      }
+    }
+
+    // Only return connections that were borrowed, and only once
+    if (!usedConnections.remove(unwrappedConnection)) {
+      return false;
+    }
+    idleConnections.offerFirst(new IdleConnection(unwrappedConnection));
+    availableConnections.release();
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    final long borrows = borrowCount.sum();
+    final long waits = borrowWaitCount.sum();
+    return String.format(
+        "Connection pool for <%s> with up to %d connections - opened %d connections, "
+            + "borrowed %d times, waited %d times for a total of %d ms, and at most %d ms",
+        connectionUrl,
+        maxConnections,
+        openedConnections.sum(),
+        borrows,
+        waits,
+        TimeUnit.NANOSECONDS.toMillis(borrowWaitNanos.sum()),
+        TimeUnit.NANOSECONDS.toMillis(maxBorrowWaitNanos.get()));
+  }
+
+  private void closeConnection(final Connection connection) {
+    try {
+      connection.close();
+      LOGGER.log(Level.INFO, new StringFormat("Closed database connection <%s>", connection));
+    } catch (final Exception e) {
+      LOGGER.log(Level.WARNING, "Cannot close connection", e);
+    }
+  }
+
+  private boolean isValid(final IdleConnection idleConnection) {
+    final long idleNanos = System.nanoTime() - idleConnection.idleSince;
+    if (idleNanos < VALIDATION_INTERVAL.toNanos()) {
+      return true;
+    }
+    try {
+      return idleConnection.connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+    } catch (final SQLException e) {
+      LOGGER.log(Level.FINE, "Cannot validate idle connection", e);
+      return false;
+    }
+  }
+
+  /**
+   * Gets an idle connection, or opens a new one. Should only be called with a permit, so that the
+   * number of open connections stays within bounds.
+   */
+  private Connection nextConnection() {
+    IdleConnection idleConnection;
+    while ((idleConnection = idleConnections.pollFirst()) != null) {
+      if (isValid(idleConnection)) {
+        return idleConnection.connection;
+      }
+      LOGGER.log(
+          Level.INFO,
+          new StringFormat(
+              "Discarding idle database connection <%s> that is no longer valid",
+              idleConnection.connection));
+      closeConnection(idleConnection.connection);
+    }
+    return openConnection();
+  }
+
+  private Connection openConnection() {
+    final Connection connection = getConnection(connectionUrl, jdbcConnectionProperties);
+    openedConnections.increment();
+    return connection;
+  }
+
+  private void waitForConnection() {
+    borrowWaitCount.increment();
+    final long start = System.nanoTime();
+    final boolean acquired;
+    try {
+      acquired = availableConnections.tryAcquire(BORROW_TIMEOUT.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLRuntimeException("Interrupted while waiting for a database connection", e);
+    }
+    final long waitNanos = System.nanoTime() - start;
+    borrowWaitNanos.add(waitNanos);
+    maxBorrowWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    if (!acquired) {
+      throw new SQLRuntimeException(
+          String.format(
+              "Timed out waiting for a database connection, since all %d connections are in use",
+              maxConnections));
+    }
+  }
+
+  /** Opens connections in parallel, since logging in to some databases is slow. */
+  private void warmUp(final int warmUpConnections) {
+    if (warmUpConnections < 1) {
+      return;
+    }
+    try (final TaskRunner taskRunner =
+        TaskRunners.getTaskRunner("warm-up-connections", warmUpConnections)) {
+      for (int i = 0; i < warmUpConnections; i++) {
+        taskRunner.add(
+            new TaskDefinition(
+                "open-connection-" + (i + 1),
+                () -> idleConnections.offerFirst(new IdleConnection(openConnection()))));
+      }
+      taskRunner.submit();
+    } catch (final Exception e) {
+      IdleConnection idleConnection;
+      while ((idleConnection = idleConnections.pollFirst()) != null) {
+        closeConnection(idleConnection.connection);
+      }
+      if (e instanceof RuntimeException) {
+        throw (RuntimeException) e;
+      }
+      throw new SQLRuntimeException("Could not open database connections", e);
+    }
+  }
+}
@@ -34,6 +34,16 @@ import java.util.function.Supplier;
 
 public interface DatabaseConnectionSource extends AutoCloseable, Supplier<Connection> {
 
+  /**
+   * Maximum number of connections that can be in use at the same time. Callers that fan out work
+   * across threads use this to bound their concurrency.
+   *
+   * @return Maximum number of concurrent connections.
+   */
+  default int getMaxConnections() {
+    return Integer.MAX_VALUE;
+  }
+
   boolean releaseConnection(Connection connection);
 
   void setFirstConnectionInitializer(Consumer<Connection> connectionInitializer);
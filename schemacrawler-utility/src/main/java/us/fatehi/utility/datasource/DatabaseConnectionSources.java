@@ -38,6 +38,8 @@ import java.util.logging.Logger;
 
 import javax.sql.DataSource;
 
+import us.fatehi.utility.string.StringFormat;
+
 public class DatabaseConnectionSources {
 
   private static final Logger LOGGER = Logger.getLogger(DatabaseConnectionSources.class.getName());
@@ -46,6 +48,39 @@ public class DatabaseConnectionSources {
     return new DataSourceConnectionSource(dataSource);
   }
 
+  /**
+   * Creates a connection pool that never has more than a maximum number of connections open, and
+   * opens some of them in parallel up-front.
+   *
+   * @param connectionUrl Database connection URL
+   * @param connectionProperties Additional JDBC connection properties
+   * @param userCredentials Database user credentials
+   * @param connectionInitializer Initializer that is run each time a connection is borrowed
+   * @param maxConnections Maximum number of connections that can be open at the same time
+   * @param warmUpConnections Number of connections to open when the pool is created
+   * @return Database connection source
+   */
+  public static DatabaseConnectionSource newBoundedDatabaseConnectionSource(
+      final String connectionUrl,
+      final Map<String, String> connectionProperties,
+      final UserCredentials userCredentials,
+      final Consumer<Connection> connectionInitializer,
+      final int maxConnections,
+      final int warmUpConnections) {
+    LOGGER.log(
+        Level.CONFIG,
+        new StringFormat(
+            "Loading database schema using multiple threads, with up to <%d> connections",
+            maxConnections));
+    return new BoundedDatabaseConnectionSource(
+        connectionUrl,
+        connectionProperties,
+        userCredentials,
+        connectionInitializer,
+        maxConnections,
+        warmUpConnections);
+  }
+
   public static DatabaseConnectionSource newDatabaseConnectionSource(
       final String connectionUrl,
       final Map<String, String> connectionProperties,
@@ -55,10 +90,19 @@ public class DatabaseConnectionSources {
     final boolean isSingleThreaded =
         Boolean.valueOf(
             getSystemConfigurationProperty("SC_SINGLE_THREADED", Boolean.FALSE.toString()));
+    final int maxConnections = getConnectionsProperty("SC_MAX_CONNECTIONS");
     if (isSingleThreaded) {
       LOGGER.log(Level.CONFIG, "Loading database schema in the main thread");
       return new SingleDatabaseConnectionSource(
           connectionUrl, connectionProperties, userCredentials, connectionInitializer);
+    } else if (maxConnections > 0) {
+      return newBoundedDatabaseConnectionSource(
+          connectionUrl,
+          connectionProperties,
+          userCredentials,
+          connectionInitializer,
+          maxConnections,
+          getConnectionsProperty("SC_MIN_CONNECTIONS"));
     } else {
       LOGGER.log(Level.CONFIG, "Loading database schema using multiple threads");
       return new SimpleDatabaseConnectionSource(
@@ -71,6 +115,18 @@ public class DatabaseConnectionSources {
     return newDatabaseConnectionSource(connectionUrl, null, userCredentials, connection -> {});
   }
 
+  private static int getConnectionsProperty(final String propertyName) {
+    final String value = getSystemConfigurationProperty(propertyName, "0");
+    try {
+      return Integer.parseInt(value.trim());
+    } catch (final NumberFormatException e) {
+      LOGGER.log(
+          Level.WARNING,
+          new StringFormat("Ignoring <%s>, since <%s> is not a number", propertyName, value));
+      return 0;
+    }
+  }
+
   private DatabaseConnectionSources() {
     // Prevent instantiation
   }
@@ -67,6 +67,12 @@ final class SingleDatabaseConnectionSource extends AbstractDatabaseConnectionSou
     connection.close();
   }
 
+  /** All connections share the same underlying database connection. */
+  @Override
+  public int getMaxConnections() {
+    return 1;
+  }
+
   @Override
   public Connection get() {
     connectionInitializer.accept(connection);
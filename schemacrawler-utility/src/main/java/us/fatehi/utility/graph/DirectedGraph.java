@@ -28,21 +28,30 @@ http://www.gnu.org/licenses/
 
 package us.fatehi.utility.graph;
 
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
+/**
+ * Simple directed graph. Each vertex keeps a list of its outgoing edges, so graph algorithms can
+ * walk the graph in time proportional to the number of vertices and edges.
+ */
 public class DirectedGraph<T extends Comparable<? super T>> {
 
   private final Set<DirectedEdge<T>> edges;
   private final String name;
   private final Map<T, Vertex<T>> verticesMap;
+  private final List<Vertex<T>> vertices;
 
   public DirectedGraph(final String name) {
     this.name = name;
-    verticesMap = new LinkedHashMap<>();
+    verticesMap = new HashMap<>();
+    vertices = new ArrayList<>();
     edges = new LinkedHashSet<>();
   }
 
@@ -55,7 +64,10 @@ public class DirectedGraph<T extends Comparable<? super T>> {
    */
   public void addEdge(final T from, final T to) {
     if (!from.equals(to)) {
-      edges.add(new DirectedEdge<>(addVertex(from), addVertex(to)));
+      final DirectedEdge<T> edge = new DirectedEdge<>(addVertex(from), addVertex(to));
+      if (edges.add(edge)) {
+        edge.getFrom().addOutgoingEdge(edge);
+      }
     }
   }
 
@@ -66,12 +78,11 @@ public class DirectedGraph<T extends Comparable<? super T>> {
    * @return The newly added vertex
    */
   public Vertex<T> addVertex(final T value) {
-    final Vertex<T> vertex;
-    if (verticesMap.containsKey(value)) {
-      vertex = verticesMap.get(value);
-    } else {
-      vertex = new Vertex<>(value);
+    Vertex<T> vertex = verticesMap.get(value);
+    if (vertex == null) {
+      vertex = new Vertex<>(value, vertices.size());
       verticesMap.put(value, vertex);
+      vertices.add(vertex);
     }
     return vertex;
   }
@@ -90,13 +101,11 @@ public class DirectedGraph<T extends Comparable<? super T>> {
   public Set<DirectedEdge<T>> getOutgoingEdges(final Vertex<T> vertexFrom) {
     Objects.requireNonNull(vertexFrom, "No vertex provided");
 
-    final Set<DirectedEdge<T>> outgoingEdges = new LinkedHashSet<>();
-    for (final DirectedEdge<T> edge : edges) {
-      if (edge.getFrom().equals(vertexFrom)) {
-        outgoingEdges.add(edge);
-      }
+    final Vertex<T> vertex = verticesMap.get(vertexFrom.getValue());
+    if (vertex == null) {
+      return new LinkedHashSet<>();
     }
-    return outgoingEdges;
+    return new LinkedHashSet<>(vertex.getOutgoingEdges());
   }
 
   @Override
@@ -106,7 +115,7 @@ public class DirectedGraph<T extends Comparable<? super T>> {
     if (name != null && !name.isEmpty()) {
       writer.append(String.format("  [label=\"%s\"]%n", name));
     }
-    for (final Vertex<T> vertex : verticesMap.values()) {
+    for (final Vertex<T> vertex : vertices) {
       writer.append("  ").append(vertex);
       if (vertex.hasAttribute("fillcolor")) {
         writer.append(
@@ -122,6 +131,35 @@ public class DirectedGraph<T extends Comparable<? super T>> {
   }
 
   public Set<Vertex<T>> vertexSet() {
-    return new LinkedHashSet<>(verticesMap.values());
+    return new LinkedHashSet<>(vertices);
+  }
+
+  /**
+   * Indexes of the vertices at the end of the outgoing edges of each vertex, by vertex index.
+   * Graph algorithms use this to walk the graph with primitive arrays.
+   *
+   * @return Successor indexes for each vertex
+   */
+  int[][] successorIndexes() {
+    final int[][] successorIndexes = new int[vertices.size()][];
+    for (final Vertex<T> vertex : vertices) {
+      final List<DirectedEdge<T>> outgoingEdges = vertex.getOutgoingEdges();
+      final int[] successors = new int[outgoingEdges.size()];
+      for (int i = 0; i < successors.length; i++) {
+        successors[i] = outgoingEdges.get(i).getTo().getIndex();
+      }
+      successorIndexes[vertex.getIndex()] = successors;
+    }
+    return successorIndexes;
+  }
+
+  /**
+   * Vertices in the order in which they were added, so that the position of each vertex is its
+   * index.
+   *
+   * @return Vertices, by vertex index
+   */
+  List<Vertex<T>> vertices() {
+    return Collections.unmodifiableList(vertices);
   }
 }
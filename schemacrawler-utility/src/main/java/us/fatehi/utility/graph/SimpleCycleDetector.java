@@ -28,29 +28,13 @@ http://www.gnu.org/licenses/
 
 package us.fatehi.utility.graph;
 
-import java.util.Collection;
 import java.util.Objects;
 
 public class SimpleCycleDetector<T extends Comparable<? super T>> {
 
-  enum TraversalState {
-    notStarted("white"),
-    inProgress("lightgray"),
-    marked("red"),
-    complete("gray");
-
-    private final String color;
-
-    TraversalState(final String color) {
-      this.color = color;
-    }
-
-    public String getColor() {
-      return color;
-    }
-  }
-
-  private static final String ATTRIBUTE_TRAVERSAL_STATE = "traversalstate";
+  private static final byte NOT_STARTED = 0;
+  private static final byte IN_PROGRESS = 1;
+  private static final byte COMPLETE = 2;
 
   private final DirectedGraph<T> graph;
 
@@ -59,48 +43,47 @@ public class SimpleCycleDetector<T extends Comparable<? super T>> {
   }
 
   /**
-   * Checks if the diagram contains a cycle.
+   * Checks if the diagram contains a cycle, with a depth-first search that visits each vertex and
+   * edge once.
    *
    * @return true if the diagram contains a cycle, false otherwise
    */
   public boolean containsCycle() {
-    final Collection<Vertex<T>> vertices = clearTraversalStates();
-    for (final Vertex<T> vertex : vertices) {
-      if ((vertex.getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.notStarted)
-          && visitForCyles(vertex)) {
-        return true;
+    final int[][] successorIndexes = graph.successorIndexes();
+    final int size = successorIndexes.length;
+
+    final byte[] traversalStates = new byte[size];
+    // Depth-first search with an explicit stack, so that deep graphs do not overflow the call stack
+    final int[] stack = new int[size];
+    final int[] nextSuccessors = new int[size];
+    for (int start = 0; start < size; start++) {
+      if (traversalStates[start] != NOT_STARTED) {
+        continue;
       }
-    }
 
-    return false;
-  }
-
-  private Collection<Vertex<T>> clearTraversalStates() {
-    final Collection<Vertex<T>> vertices = graph.vertexSet();
-    for (final Vertex<T> vertex : vertices) {
-      vertex.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.notStarted);
-    }
-    return vertices;
-  }
-
-  private boolean visitForCyles(final Vertex<T> vertex) {
-    vertex.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.inProgress);
-
-    for (final DirectedEdge<T> edge : graph.edgeSet()) {
-      if (edge.isFrom(vertex)) {
-        final Vertex<T> to = edge.getTo();
-        if (to.getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.inProgress) {
-          to.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.marked);
-          return true;
-        } else if ((to.getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.notStarted)
-            && visitForCyles(to)) {
-          return true;
+      int top = 0;
+      stack[top] = start;
+      traversalStates[start] = IN_PROGRESS;
+      while (top >= 0) {
+        final int vertex = stack[top];
+        final int[] successors = successorIndexes[vertex];
+        if (nextSuccessors[vertex] < successors.length) {
+          final int to = successors[nextSuccessors[vertex]];
+          nextSuccessors[vertex]++;
+          if (traversalStates[to] == IN_PROGRESS) {
+            return true;
+          } else if (traversalStates[to] == NOT_STARTED) {
+            traversalStates[to] = IN_PROGRESS;
+            top++;
+            stack[top] = to;
+          }
+        } else {
+          traversalStates[vertex] = COMPLETE;
+          top--;
         }
       }
     }
 
-    vertex.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.complete);
-
     return false;
   }
 }
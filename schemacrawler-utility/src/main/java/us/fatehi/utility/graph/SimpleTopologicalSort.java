@@ -31,8 +31,6 @@ package us.fatehi.utility.graph;
 import static java.util.Comparator.naturalOrder;
 
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 
@@ -44,84 +42,66 @@ public class SimpleTopologicalSort<T extends Comparable<? super T>> {
     this.graph = Objects.requireNonNull(graph, "No diagram provided");
   }
 
+  /**
+   * Sorts vertex values level by level. Each level has the vertices that have no incoming edges
+   * from vertices that are not yet sorted, in natural order.
+   *
+   * @return Sorted vertex values
+   * @throws GraphException If the graph contains a cycle
+   */
   public List<T> topologicalSort() throws GraphException {
-    if (containsCycle()) {
-      throw new GraphException("Graph contains a cycle, so cannot be topologically sorted");
-    }
-
-    final Collection<Vertex<T>> vertices = graph.vertexSet();
-    final int collectionSize = vertices.size();
-
-    final Collection<DirectedEdge<T>> edges = new ArrayList<>(graph.edgeSet());
-    final List<T> sortedValues = new ArrayList<>(collectionSize);
-
-    while (!vertices.isEmpty()) {
-
-      final List<T> nodesAtLevel = new ArrayList<>(collectionSize);
-
-      // Remove unattached nodes
-      for (final Iterator<Vertex<T>> iterator = vertices.iterator(); iterator.hasNext(); ) {
-        final Vertex<T> vertex = iterator.next();
-        if (isUnattachedNode(vertex, edges)) {
-          nodesAtLevel.add(vertex.getValue());
-          iterator.remove();
-        }
+    final List<Vertex<T>> vertices = graph.vertices();
+    final int[][] successorIndexes = graph.successorIndexes();
+    final int size = successorIndexes.length;
+
+    final int[] inDegrees = new int[size];
+    for (final int[] successors : successorIndexes) {
+      for (final int to : successors) {
+        inDegrees[to]++;
       }
+    }
 
-      // Find all nodes at the current level
-      final List<Vertex<T>> startNodes = new ArrayList<>(collectionSize);
-      for (final Vertex<T> vertex : vertices) {
-        if (isStartNode(vertex, edges)) {
-          startNodes.add(vertex);
-        }
+    int[] level = new int[size];
+    int levelSize = 0;
+    for (int vertex = 0; vertex < size; vertex++) {
+      if (inDegrees[vertex] == 0) {
+        level[levelSize] = vertex;
+        levelSize++;
       }
+    }
 
-      for (final Vertex<T> vertex : startNodes) {
-        // Save the vertex value
-        nodesAtLevel.add(vertex.getValue());
+    final List<T> sortedValues = new ArrayList<>(size);
+    int[] nextLevel = new int[size];
+    while (levelSize > 0) {
+      final List<T> nodesAtLevel = new ArrayList<>(levelSize);
+      int nextLevelSize = 0;
+      for (int i = 0; i < levelSize; i++) {
+        final int vertex = level[i];
+        nodesAtLevel.add(vertices.get(vertex).getValue());
         // Remove all out edges
-        dropOutEdges(vertex, edges);
-        // Remove the vertex itself
-        vertices.remove(vertex);
+        for (final int to : successorIndexes[vertex]) {
+          inDegrees[to]--;
+          if (inDegrees[to] == 0) {
+            nextLevel[nextLevelSize] = to;
+            nextLevelSize++;
+          }
+        }
       }
 
       nodesAtLevel.sort(naturalOrder());
       sortedValues.addAll(nodesAtLevel);
-    }
 
-    return sortedValues;
-  }
-
-  private boolean containsCycle() {
-    final SimpleCycleDetector<T> cycleDetector = new SimpleCycleDetector<>(graph);
-    return cycleDetector.containsCycle();
-  }
-
-  private void dropOutEdges(final Vertex<T> vertex, final Collection<DirectedEdge<T>> edges) {
-    for (final Iterator<DirectedEdge<T>> iterator = edges.iterator(); iterator.hasNext(); ) {
-      final DirectedEdge<T> edge = iterator.next();
-      if (edge.isFrom(vertex)) {
-        iterator.remove();
-      }
+      final int[] sortedLevel = level;
+      level = nextLevel;
+      levelSize = nextLevelSize;
+      nextLevel = sortedLevel;
     }
-  }
 
-  private boolean isStartNode(final Vertex<T> vertex, final Collection<DirectedEdge<T>> edges) {
-    for (final DirectedEdge<T> edge : edges) {
-      if (edge.isTo(vertex)) {
-        return false;
-      }
+    // Vertices on a cycle never run out of incoming edges, so they are left unsorted
+    if (sortedValues.size() < size) {
+      throw new GraphException("Graph contains a cycle, so cannot be topologically sorted");
     }
-    return true;
-  }
 
-  private boolean isUnattachedNode(
-      final Vertex<T> vertex, final Collection<DirectedEdge<T>> edges) {
-    for (final DirectedEdge<T> edge : edges) {
-      if (edge.isTo(vertex) || edge.isFrom(vertex)) {
-        return false;
-      }
-    }
-    return true;
+    return sortedValues;
   }
 }
@@ -28,9 +28,8 @@ http://www.gnu.org/licenses/
 
 package us.fatehi.utility.graph;
 
-import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -45,68 +44,98 @@ import java.util.Objects;
  */
 public class TarjanStronglyConnectedComponentFinder<T extends Comparable<? super T>> {
 
-  private static final String ATTRIBUTE_INDEX = "index";
-  private static final String ATTRIBUTE_LOWLINK = "lowlink";
+  private static final int NOT_VISITED = -1;
+
   private final DirectedGraph<T> graph;
-  private final Deque<Vertex<T>> stack;
-  private final Collection<List<T>> stronglyConnectedComponents;
 
   public TarjanStronglyConnectedComponentFinder(final DirectedGraph<T> graph) {
     this.graph = Objects.requireNonNull(graph, "No diagram provided");
-
-    stronglyConnectedComponents = new HashSet<>();
-    stack = new ArrayDeque<>();
   }
 
   /**
-   * Calculates the sets of strongly connected vertices.
+   * Calculates the sets of strongly connected vertices, visiting each vertex and edge once.
    *
    * @return Set of strongly connected components (sets of vertices)
    */
   public Collection<List<T>> detectCycles() {
-    for (final Vertex<T> vertex : graph.vertexSet()) {
-      if (!vertex.hasAttribute(ATTRIBUTE_INDEX)) {
-        strongConnect(vertex, 0);
+    final List<Vertex<T>> vertices = graph.vertices();
+    final int[][] successorIndexes = graph.successorIndexes();
+    final int size = successorIndexes.length;
+
+    final Collection<List<T>> stronglyConnectedComponents = new HashSet<>();
+
+    final int[] indexes = new int[size];
+    Arrays.fill(indexes, NOT_VISITED);
+    final int[] lowlinks = new int[size];
+    final boolean[] isOnStack = new boolean[size];
+    final int[] stack = new int[size];
+    int stackSize = 0;
+    // Depth-first search with an explicit call stack, so that deep graphs do not overflow the
+    // thread's stack
+    final int[] callStack = new int[size];
+    final int[] nextSuccessors = new int[size];
+    int index = 0;
+
+    for (int root = 0; root < size; root++) {
+      if (indexes[root] != NOT_VISITED) {
+        continue;
       }
-    }
-    return stronglyConnectedComponents;
-  }
 
-  private void strongConnect(final Vertex<T> vertexFrom, final int index) {
-    vertexFrom.putAttribute(ATTRIBUTE_INDEX, index);
-    vertexFrom.putAttribute(ATTRIBUTE_LOWLINK, index);
-    stack.push(vertexFrom);
-
-    for (final DirectedEdge<T> edge : graph.getOutgoingEdges(vertexFrom)) {
-      final Vertex<T> vertexTo = edge.getTo();
-      if (!vertexTo.hasAttribute(ATTRIBUTE_INDEX)) {
-        // Successor vertex has not yet been visited; recurse on it
-        strongConnect(vertexTo, index + 1);
-        vertexFrom.putAttribute(
-            ATTRIBUTE_LOWLINK,
-            Math.min(
-                vertexFrom.getAttribute(ATTRIBUTE_LOWLINK),
-                vertexTo.getAttribute(ATTRIBUTE_LOWLINK)));
-      } else if (stack.contains(vertexTo)) {
-        // Successor vertex is on stack, hence in the current SCC
-        vertexFrom.putAttribute(
-            ATTRIBUTE_LOWLINK,
-            Math.min(
-                vertexFrom.getAttribute(ATTRIBUTE_LOWLINK),
-                vertexTo.getAttribute(ATTRIBUTE_INDEX)));
+      int depth = 0;
+      callStack[depth] = root;
+      indexes[root] = index;
+      lowlinks[root] = index;
+      index++;
+      stack[stackSize] = root;
+      stackSize++;
+      isOnStack[root] = true;
+
+      while (depth >= 0) {
+        final int vertexFrom = callStack[depth];
+        final int[] successors = successorIndexes[vertexFrom];
+        if (nextSuccessors[vertexFrom] < successors.length) {
+          final int vertexTo = successors[nextSuccessors[vertexFrom]];
+          nextSuccessors[vertexFrom]++;
+          if (indexes[vertexTo] == NOT_VISITED) {
+            // Successor vertex has not yet been visited; recurse on it
+            indexes[vertexTo] = index;
+            lowlinks[vertexTo] = index;
+            index++;
+            stack[stackSize] = vertexTo;
+            stackSize++;
+            isOnStack[vertexTo] = true;
+            depth++;
+            callStack[depth] = vertexTo;
+          } else if (isOnStack[vertexTo]) {
+            // Successor vertex is on stack, hence in the current SCC
+            lowlinks[vertexFrom] = Math.min(lowlinks[vertexFrom], indexes[vertexTo]);
+          }
+          continue;
+        }
+
+        if (lowlinks[vertexFrom] == indexes[vertexFrom]) {
+          final LinkedList<T> scc = new LinkedList<>();
+          int sccVertex;
+          do {
+            stackSize--;
+            sccVertex = stack[stackSize];
+            isOnStack[sccVertex] = false;
+            scc.addFirst(vertices.get(sccVertex).getValue());
+          } while (sccVertex != vertexFrom);
+          if (scc.size() > 1) {
+            stronglyConnectedComponents.add(scc);
+          }
+        }
+
+        // Return from the recursion, and update the caller's lowlink
+        depth--;
+        if (depth >= 0) {
+          final int caller = callStack[depth];
+          lowlinks[caller] = Math.min(lowlinks[caller], lowlinks[vertexFrom]);
+        }
       }
     }
 
-    if (vertexFrom.getAttribute(ATTRIBUTE_LOWLINK) == vertexFrom.getAttribute(ATTRIBUTE_INDEX)) {
-      final LinkedList<T> scc = new LinkedList<>();
-      Vertex<T> sccVertex;
-      do {
-        sccVertex = stack.pop();
-        scc.addFirst(sccVertex.getValue());
-      } while (!vertexFrom.equals(sccVertex));
-      if (scc.size() > 1) {
-        stronglyConnectedComponents.add(scc);
-      }
-    }
+    return stronglyConnectedComponents;
   }
 }
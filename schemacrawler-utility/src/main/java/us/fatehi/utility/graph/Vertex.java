@@ -28,7 +28,10 @@ http://www.gnu.org/licenses/
 
 package us.fatehi.utility.graph;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /** Vertex in a graph. */
@@ -36,10 +39,14 @@ public final class Vertex<T> {
 
   private final Map<String, Object> attributes;
   private final T value;
+  private final int index;
+  private final List<DirectedEdge<T>> outgoingEdges;
 
-  Vertex(final T value) {
+  Vertex(final T value, final int index) {
     this.value = value;
+    this.index = index;
     attributes = new HashMap<>();
+    outgoingEdges = new ArrayList<>();
   }
 
   @Override
@@ -78,10 +85,33 @@ public final class Vertex<T> {
     return value.toString();
   }
 
+  void addOutgoingEdge(final DirectedEdge<T> edge) {
+    outgoingEdges.add(edge);
+  }
+
   <V> V getAttribute(final String key) {
     return (V) attributes.get(key);
   }
 
+  /**
+   * Position of the vertex in the graph, in the order in which vertices were added. Graph
+   * algorithms use this to keep their state in arrays.
+   *
+   * @return Index of the vertex in the graph
+   */
+  int getIndex() {
+    return index;
+  }
+
+  /**
+   * Edges that start at this vertex, in the order in which they were added.
+   *
+   * @return Outgoing edges
+   */
+  List<DirectedEdge<T>> getOutgoingEdges() {
+    return Collections.unmodifiableList(outgoingEdges);
+  }
+
   boolean hasAttribute(final String key) {
     return attributes.containsKey(key);
   }
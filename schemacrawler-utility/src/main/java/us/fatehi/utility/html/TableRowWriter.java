@@ -0,0 +1,238 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package us.fatehi.utility.html;
+
+import static java.util.Objects.requireNonNull;
+import static us.fatehi.utility.html.Tag.appendClassOrAlignment;
+import static us.fatehi.utility.html.Tag.appendHtmlText;
+import static us.fatehi.utility.html.Tag.appendPaddedText;
+import static us.fatehi.utility.html.TagOutputFormat.html;
+import static us.fatehi.utility.html.TagOutputFormat.tsv;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes table rows directly to a writer, with the same output as rendering a row tag with cell
+ * tags, but without building tags. Cells are described with a cell that is reused for every cell,
+ * and rendered into a buffer that is reused for every row. The row is written out in one piece
+ * when it ends.
+ */
+public final class TableRowWriter {
+
+  /**
+   * A table cell, with the same settings as {@link TagBuilder}. The cell is reused, so settings
+   * only apply until the cell is added to the row.
+   */
+  public final class Cell {
+
+    private String tagName;
+    private String text;
+    private boolean escapeText;
+    private int characterWidth;
+    private Alignment align;
+    private boolean emphasizeText;
+    private String styleClass;
+    private int columnSpan;
+
+    private Cell() {
+      reset("td");
+    }
+
+    /**
+     * Adds the cell to the current row.
+     *
+     * @return Row writer
+     */
+    public TableRowWriter add() {
+      try {
+        appendCell(this);
+      } catch (final IOException e) {
+        // Not thrown when appending to a string builder
+        throw new UncheckedIOException(e);
+      }
+      return TableRowWriter.this;
+    }
+
+    public Cell withAlignment(final Alignment align) {
+      this.align = align;
+      return this;
+    }
+
+    public Cell withColumnSpan(final int columnSpan) {
+      this.columnSpan = columnSpan;
+      return this;
+    }
+
+    public Cell withEmphasis(final boolean emphasizeText) {
+      this.emphasizeText = emphasizeText;
+      return this;
+    }
+
+    public Cell withEscapedText(final String text) {
+      return withEscapedText(text, true);
+    }
+
+    public Cell withEscapedText(final String text, final boolean escapeText) {
+      this.text = text;
+      this.escapeText = escapeText;
+      return this;
+    }
+
+    public Cell withStyleClass(final String styleClass) {
+      this.styleClass = styleClass;
+      return this;
+    }
+
+    public Cell withText(final String text) {
+      return withEscapedText(text, false);
+    }
+
+    public Cell withWidth(final int characterWidth) {
+      this.characterWidth = characterWidth;
+      return this;
+    }
+
+    private Cell reset(final String tagName) {
+      this.tagName = tagName;
+      text = "";
+      escapeText = false;
+      characterWidth = 0;
+      align = null;
+      emphasizeText = false;
+      styleClass = null;
+      columnSpan = 0;
+      return this;
+    }
+  }
+
+  private static final String LINE_SEPARATOR = System.lineSeparator();
+
+  private final PrintWriter out;
+  private final TagOutputFormat tagOutputFormat;
+  private final StringBuilder buffer;
+  private final Cell cell;
+  private char[] chars;
+  private int cellCount;
+
+  public TableRowWriter(final PrintWriter out, final TagOutputFormat tagOutputFormat) {
+    this.out = requireNonNull(out, "No writer provided");
+    this.tagOutputFormat = requireNonNull(tagOutputFormat, "No output format provided");
+    buffer = new StringBuilder(1024);
+    cell = new Cell();
+    chars = new char[1024];
+  }
+
+  /**
+   * Starts a table cell, to add to the current row once it is described.
+   *
+   * @return Cell, which is reused for every cell
+   */
+  public Cell cell() {
+    return cell.reset("td");
+  }
+
+  /** Ends the current row, and writes it out on a line of its own. */
+  public void endRow() {
+    if (tagOutputFormat == html) {
+      buffer.append("\t</tr>");
+    }
+    buffer.append(LINE_SEPARATOR);
+
+    final int length = buffer.length();
+    if (chars.length < length) {
+      chars = new char[Math.max(length, chars.length * 2)];
+    }
+    buffer.getChars(0, length, chars, 0);
+    out.write(chars, 0, length);
+
+    buffer.setLength(0);
+    cellCount = 0;
+  }
+
+  /**
+   * Starts a table header cell, to add to the current row once it is described.
+   *
+   * @return Cell, which is reused for every cell
+   */
+  public Cell headerCell() {
+    return cell.reset("th");
+  }
+
+  /**
+   * Starts a new row. Any row that was not ended is discarded.
+   *
+   * @return This row writer
+   */
+  public TableRowWriter startRow() {
+    buffer.setLength(0);
+    cellCount = 0;
+    if (tagOutputFormat == html) {
+      buffer.append("\t<tr>").append(LINE_SEPARATOR);
+    }
+    return this;
+  }
+
+  private void appendCell(final Cell cell) throws IOException {
+    final String text = cell.text == null ? "" : cell.text;
+    switch (tagOutputFormat) {
+      case html:
+        buffer.append("\t\t<").append(cell.tagName);
+        if (cell.columnSpan > 0) {
+          buffer.append(" colspan='").append(cell.columnSpan).append("'");
+        }
+        appendClassOrAlignment(cell.styleClass, cell.align, buffer);
+        buffer.append(">");
+        if (cell.emphasizeText) {
+          buffer.append("<b><i>");
+        }
+        appendHtmlText(text, cell.escapeText, buffer);
+        if (cell.emphasizeText) {
+          buffer.append("</i></b>");
+        }
+        buffer.append("</").append(cell.tagName).append(">").append(LINE_SEPARATOR);
+        break;
+      case tsv:
+        if (cellCount > 0) {
+          buffer.append("\t");
+        }
+        buffer.append(text);
+        break;
+      case text:
+      default:
+        if (cellCount > 0) {
+          buffer.append("  ");
+        }
+        appendPaddedText(text, cell.characterWidth, cell.align, buffer);
+        break;
+    }
+    cellCount++;
+  }
+}
@@ -33,6 +33,8 @@ import static us.fatehi.utility.Utility.isBlank;
 import static us.fatehi.utility.html.TagOutputFormat.html;
 import static us.fatehi.utility.html.TagOutputFormat.tsv;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +44,81 @@ import us.fatehi.utility.Color;
 
 public class Tag {
 
+  /**
+   * Appends the class of a tag, or its alignment if it has no class, as HTML attributes.
+   *
+   * @param styleClass HTML style class
+   * @param align Alignment
+   * @param out Output to append the attribute to
+   */
+  static void appendClassOrAlignment(
+      final String styleClass, final Alignment align, final Appendable out) throws IOException {
+    if (!isBlank(styleClass)) {
+      out.append(" class='").append(styleClass).append("'");
+    } else if (align != null && align != Alignment.inherit) {
+      out.append(" align='").append(align.name()).append("'");
+    }
+  }
+
+  /**
+   * Appends text, escaping the characters in text for use in HTML if needed.
+   *
+   * @param text Text to append
+   * @param escapeText Whether to escape the text
+   * @param out Output to append text to
+   */
+  static void appendHtmlText(final String text, final boolean escapeText, final Appendable out)
+      throws IOException {
+    if (!escapeText) {
+      out.append(text);
+      return;
+    }
+    for (int i = 0; i < text.length(); i++) {
+      final char ch = text.charAt(i);
+      switch (ch) {
+        case 62:
+          out.append("&gt;");
+          break;
+        case 38:
+          out.append("&amp;");
+          break;
+        case 60:
+          out.append("&lt;");
+          break;
+        default:
+          out.append(ch);
+          break;
+      }
+    }
+  }
+
+  /**
+   * Appends text, padded with spaces to the character width.
+   *
+   * @param text Text to append
+   * @param characterWidth Width to pad the text to, or 0 for no padding
+   * @param align Alignment of the text, with right alignment padding on the left
+   * @param out Output to append text to
+   */
+  static void appendPaddedText(
+      final String text, final int characterWidth, final Alignment align, final Appendable out)
+      throws IOException {
+    final int padding = characterWidth - text.length();
+    if (padding > 0 && align == Alignment.right) {
+      appendSpaces(padding, out);
+    }
+    out.append(text);
+    if (padding > 0 && align != Alignment.right) {
+      appendSpaces(padding, out);
+    }
+  }
+
+  private static void appendSpaces(final int count, final Appendable out) throws IOException {
+    for (int i = 0; i < count; i++) {
+      out.append(' ');
+    }
+  }
+
   private final String tagName;
   private final String styleClass;
   private final int characterWidth;
@@ -117,14 +194,37 @@ public class Tag {
    * @return HTML
    */
   public String render(final TagOutputFormat tagOutputFormat) {
+    final StringBuilder buffer = new StringBuilder(1024);
+    try {
+      render(tagOutputFormat, buffer);
+    } catch (final IOException e) {
+      // Not thrown when appending to a string builder
+      throw new UncheckedIOException(e);
+    }
+    return buffer.toString();
+  }
+
+  /**
+   * Renders the tag, appending it to the output, so that the output can be reused for many tags.
+   *
+   * @param tagOutputFormat Output format
+   * @param out Output to append the rendered tag to
+   * @throws IOException On an exception appending to the output
+   */
+  public void render(final TagOutputFormat tagOutputFormat, final Appendable out)
+      throws IOException {
+    requireNonNull(out, "No output provided");
     switch (tagOutputFormat) {
       case text:
-        return toPlainTextString();
+        renderPlainText(out);
+        break;
       case tsv:
-        return toTsvString();
+        renderTsv(out);
+        break;
       case html:
       default:
-        return toHtmlString();
+        renderHtml(out);
+        break;
     }
   }
 
@@ -134,148 +234,97 @@ public class Tag {
   }
 
   /**
-   * Escapes the characters in text for use in HTML.
-   *
-   * @param text Text to escape.
-   * @return HTML-escaped text
-   */
-  private String escapeHtml(final String text) {
-    final StringBuilder buffer = new StringBuilder(text.length() * 2);
-    for (int i = 0; i < text.length(); i++) {
-      final char ch = text.charAt(i);
-      switch (ch) {
-        case 62:
-          buffer.append("&gt;");
-          break;
-        case 38:
-          buffer.append("&amp;");
-          break;
-        case 60:
-          buffer.append("&lt;");
-          break;
-        default:
-          buffer.append(ch);
-          break;
-      }
-    }
-    return buffer.toString();
-  }
-
-  /**
-   * Converts the tag to HTML.
+   * Renders the tag as HTML.
    *
-   * @return HTML
+   * @param out Output to append HTML to
    */
-  private String toHtmlString() {
-    final StringBuilder buffer = new StringBuilder(1024);
+  private void renderHtml(final Appendable out) throws IOException {
     if (indent) {
-      buffer.append("\t");
+      out.append("\t");
     }
-    buffer.append("<").append(getTagName());
+    out.append("<").append(getTagName());
     for (final Entry<String, String> attribute : attributes.entrySet()) {
-      buffer
-          .append(" ")
+      out.append(" ")
           .append(attribute.getKey())
           .append("='")
           .append(attribute.getValue())
           .append("'");
     }
     if (bgColor != null && !bgColor.equals(Color.white)) {
-      buffer.append(" bgcolor='").append(bgColor).append("'");
+      out.append(" bgcolor='").append(bgColor.toString()).append("'");
     }
-    if (!isBlank(styleClass)) {
-      buffer.append(" class='").append(styleClass).append("'");
-    } else if (align != null && align != Alignment.inherit) {
-      buffer.append(" align='").append(align).append("'");
-    }
-    buffer.append(">");
+    appendClassOrAlignment(styleClass, align, out);
+    out.append(">");
     if (emphasizeText) {
-      buffer.append("<b><i>");
+      out.append("<b><i>");
     }
 
     if (innerTags.isEmpty()) {
       if (indent) {
-        buffer.append(System.lineSeparator());
+        out.append(System.lineSeparator());
       }
-      buffer.append(escapeText ? escapeHtml(text) : text);
+      appendHtmlText(text, escapeText, out);
     } else {
-      buffer.append(System.lineSeparator());
+      out.append(System.lineSeparator());
       for (final Tag innerTag : innerTags) {
         if (indent) {
-          buffer.append("\t");
+          out.append("\t");
         }
-        buffer.append("\t").append(innerTag.render(html)).append(System.lineSeparator());
+        out.append("\t");
+        innerTag.render(html, out);
+        out.append(System.lineSeparator());
       }
     }
 
     if (emphasizeText) {
-      buffer.append("</i></b>");
+      out.append("</i></b>");
     }
     if (indent) {
-      buffer.append("\t");
+      out.append("\t");
     }
-    buffer.append("</").append(getTagName()).append(">");
-
-    return buffer.toString();
-  }
-
-  private String toInnerTagsPlainTextString() {
-    return toInnerTagsPlainTextString(TagOutputFormat.text, "  ");
+    out.append("</").append(getTagName()).append(">");
   }
 
   /**
-   * Converts the table row to text.
+   * Renders the inner tags as text, separated by a field separator.
    *
-   * @return Text
+   * @param out Output to append text to
    */
-  private String toInnerTagsPlainTextString(
-      final TagOutputFormat tagOutputFormat, final String fieldSeparator) {
-    final StringBuilder buffer = new StringBuilder(1024);
-
+  private void renderInnerTags(
+      final TagOutputFormat tagOutputFormat, final String fieldSeparator, final Appendable out)
+      throws IOException {
     for (int i = 0; i < innerTags.size(); i++) {
       final Tag cell = innerTags.get(i);
       if (i > 0) {
-        buffer.append(fieldSeparator);
+        out.append(fieldSeparator);
       }
-      buffer.append(cell.render(tagOutputFormat));
+      cell.render(tagOutputFormat, out);
     }
-
-    return buffer.toString();
-  }
-
-  private String toInnerTagsTsvString() {
-    return toInnerTagsPlainTextString(tsv, "\t");
   }
 
   /**
-   * Converts the tag to text.
+   * Renders the tag as text, padded to the character width.
    *
-   * @return Text
+   * @param out Output to append text to
    */
-  private String toPlainTextString() {
+  private void renderPlainText(final Appendable out) throws IOException {
     if (innerTags.isEmpty()) {
-      if (characterWidth > 0) {
-        final String format =
-            String.format("%%%s%ds", align == Alignment.right ? "" : "-", characterWidth);
-        return String.format(format, text);
-      } else {
-        return text;
-      }
+      appendPaddedText(text, characterWidth, align, out);
     } else {
-      return toInnerTagsPlainTextString();
+      renderInnerTags(TagOutputFormat.text, "  ", out);
     }
   }
 
   /**
-   * Converts the tag to TSV.
+   * Renders the tag as TSV.
    *
-   * @return Text
+   * @param out Output to append text to
    */
-  private String toTsvString() {
+  private void renderTsv(final Appendable out) throws IOException {
     if (innerTags.isEmpty()) {
-      return text;
+      out.append(text);
     } else {
-      return toInnerTagsTsvString();
+      renderInnerTags(tsv, "\t", out);
     }
   }
 }
@@ -38,7 +38,9 @@ import java.time.Duration;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.function.BiFunction;
@@ -79,6 +81,15 @@ abstract class AbstractTaskRunner implements TaskRunner {
     return id;
   }
 
+  @Override
+  public final List<TaskMetrics> getTaskMetrics() {
+    final List<TaskMetrics> taskMetrics = new ArrayList<>();
+    for (final TimedTaskResult taskResult : taskResults) {
+      taskMetrics.add(taskResult.getMetrics());
+    }
+    return taskMetrics;
+  }
+
   @Override
   public abstract boolean isStopped();
 
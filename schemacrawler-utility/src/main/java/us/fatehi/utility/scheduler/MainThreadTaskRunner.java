@@ -32,6 +32,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 final class MainThreadTaskRunner extends AbstractTaskRunner {
@@ -59,9 +61,10 @@ final class MainThreadTaskRunner extends AbstractTaskRunner {
       return Collections.emptyList();
     }
 
+    final Set<String> failedTasks = new HashSet<>();
     final Collection<TimedTaskResult> runTaskResults = new CopyOnWriteArrayList<>();
-    for (final TaskDefinition taskDefinition : taskDefinitions) {
-      final TimedTaskResult taskResult = new TimedTask(taskDefinition).call();
+    for (final TaskDefinition taskDefinition : TaskDependencies.sort(taskDefinitions)) {
+      final TimedTaskResult taskResult = new TimedTask(taskDefinition, failedTasks).call();
       runTaskResults.add(taskResult);
     }
     return runTaskResults;
@@ -29,14 +29,19 @@ http://www.gnu.org/licenses/
 package us.fatehi.utility.scheduler;
 
 import static java.util.Objects.requireNonNull;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -91,17 +96,33 @@ final class MultiThreadedTaskRunner extends AbstractTaskRunner {
     }
 
     try {
-      final Collection<TimedTask> timedTasks = new CopyOnWriteArrayList<>();
-      for (final TaskDefinition taskDefinition : taskDefinitions) {
-        final TimedTask timedTask = new TimedTask(taskDefinition);
-        timedTasks.add(timedTask);
+      // Each task is started as soon as all the tasks it depends on have completed, so independent
+      // branches of the task dependency graph run concurrently
+      final Set<String> failedTasks = ConcurrentHashMap.newKeySet();
+      final Map<String, List<CompletableFuture<TimedTaskResult>>> futuresByName = new HashMap<>();
+      final List<CompletableFuture<TimedTaskResult>> futureResults = new ArrayList<>();
+      for (final TaskDefinition taskDefinition : TaskDependencies.sort(taskDefinitions)) {
+        final List<CompletableFuture<TimedTaskResult>> dependencyFutures = new ArrayList<>();
+        for (final String dependency : taskDefinition.getDependencies()) {
+          dependencyFutures.addAll(futuresByName.getOrDefault(dependency, Collections.emptyList()));
+        }
+
+        final TimedTask timedTask = new TimedTask(taskDefinition, failedTasks);
+        final CompletableFuture<TimedTaskResult> futureResult =
+            CompletableFuture.allOf(dependencyFutures.toArray(new CompletableFuture[0]))
+                .thenApplyAsync(ignored -> timedTask.call(), executorService);
+
+        futuresByName
+            .computeIfAbsent(taskDefinition.getTaskName(), key -> new ArrayList<>())
+            .add(futureResult);
+        futureResults.add(futureResult);
       }
 
-      final Collection<TimedTaskResult> runTaskResults = new CopyOnWriteArrayList<>();
+      CompletableFuture.allOf(futureResults.toArray(new CompletableFuture[0]))
+          .get(1, TimeUnit.HOURS);
 
-      final List<Future<TimedTaskResult>> futureResults =
-          executorService.invokeAll(timedTasks, 1, TimeUnit.HOURS);
-      for (final Future<TimedTaskResult> futureResult : futureResults) {
+      final Collection<TimedTaskResult> runTaskResults = new CopyOnWriteArrayList<>();
+      for (final CompletableFuture<TimedTaskResult> futureResult : futureResults) {
         final TimedTaskResult timedTaskResult = futureResult.get();
         runTaskResults.add(timedTaskResult);
       }
@@ -30,7 +30,12 @@ package us.fatehi.utility.scheduler;
 
 import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.Utility.requireNotBlank;
+import static us.fatehi.utility.Utility.isBlank;
 import static us.fatehi.utility.Utility.toSnakeCase;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import us.fatehi.utility.string.StringFormat;
@@ -50,17 +55,64 @@ public final class TaskDefinition {
 
   private final String taskName;
   private final TaskRunnable task;
+  private final Set<String> dependencies;
 
   public TaskDefinition(final String taskName) {
-    this.taskName = toSnakeCase(requireNotBlank(taskName, "Task name not provided"));
-    this.task = () -> LOGGER.log(Level.INFO, new StringFormat("Not running task <%s>", taskName));
+    this(taskName, Collections.emptyList());
+  }
+
+  /**
+   * Task that does not run, but is still a node in the task dependency graph, so tasks that depend
+   * on it are not held back.
+   *
+   * @param taskName Name of the task.
+   * @param dependencies Names of tasks that need to complete before this one can run.
+   */
+  public TaskDefinition(final String taskName, final Collection<String> dependencies) {
+    this(
+        taskName,
+        () -> LOGGER.log(Level.INFO, new StringFormat("Not running task <%s>", taskName)),
+        dependencies);
   }
 
   public TaskDefinition(final String taskName, final TaskRunnable task) {
+    this(taskName, task, Collections.emptyList());
+  }
+
+  /**
+   * Task that runs only after all of the tasks that it depends on, from the same submission, have
+   * completed. Dependencies on tasks that are not part of the same submission are considered to be
+   * already satisfied.
+   *
+   * @param taskName Name of the task.
+   * @param task Task to run.
+   * @param dependencies Names of tasks that need to complete before this one can run.
+   */
+  public TaskDefinition(
+      final String taskName, final TaskRunnable task, final Collection<String> dependencies) {
     requireNotBlank(taskName, "Task name not provided");
+    requireNonNull(dependencies, "Task dependencies not provided");
 
     this.taskName = toSnakeCase(taskName);
     this.task = requireNonNull(task, "Task not provided");
+
+    final Set<String> taskDependencies = new LinkedHashSet<>();
+    for (final String dependency : dependencies) {
+      if (!isBlank(dependency)) {
+        taskDependencies.add(toSnakeCase(dependency));
+      }
+    }
+    taskDependencies.remove(this.taskName);
+    this.dependencies = Collections.unmodifiableSet(taskDependencies);
+  }
+
+  /**
+   * Names of tasks that need to complete before this one can run.
+   *
+   * @return Names of tasks that this task depends on.
+   */
+  public Set<String> getDependencies() {
+    return dependencies;
   }
 
   public TaskRunnable getTask() {
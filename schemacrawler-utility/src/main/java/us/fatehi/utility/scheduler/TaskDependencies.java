@@ -0,0 +1,121 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+
+package us.fatehi.utility.scheduler;
+
+import static java.util.Collections.emptyList;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Orders a batch of task definitions so that every task comes after the tasks it depends on.
+ * Dependencies on tasks that are not in the batch are ignored, since they are assumed to have run
+ * in an earlier submission.
+ */
+final class TaskDependencies {
+
+  /**
+   * Sorts task definitions in dependency order. Among tasks that are ready to run, the order in
+   * which they were added is preserved.
+   *
+   * @param taskDefinitions Task definitions in the order they were added.
+   * @return Task definitions in dependency order.
+   * @throws IllegalStateException If there is a cycle in the task dependencies
+   */
+  static List<TaskDefinition> sort(final Collection<TaskDefinition> taskDefinitions) {
+    requireNonNull(taskDefinitions, "Tasks not provided");
+
+    // Task names need not be unique, so work with positions in the batch
+    final List<TaskDefinition> tasks = new ArrayList<>(taskDefinitions);
+    final Map<String, List<Integer>> positionsByName = new HashMap<>();
+    for (int i = 0; i < tasks.size(); i++) {
+      positionsByName
+          .computeIfAbsent(tasks.get(i).getTaskName(), key -> new ArrayList<>())
+          .add(i);
+    }
+
+    final int[] inDegree = new int[tasks.size()];
+    final List<List<Integer>> dependents = new ArrayList<>(tasks.size());
+    for (int i = 0; i < tasks.size(); i++) {
+      dependents.add(new ArrayList<>());
+    }
+    for (int i = 0; i < tasks.size(); i++) {
+      for (final String dependency : tasks.get(i).getDependencies()) {
+        for (final int position : positionsByName.getOrDefault(dependency, emptyList())) {
+          dependents.get(position).add(i);
+          inDegree[i]++;
+        }
+      }
+    }
+
+    final List<TaskDefinition> sorted = new ArrayList<>(tasks.size());
+    final Queue<Integer> ready = new ArrayDeque<>();
+    for (int i = 0; i < tasks.size(); i++) {
+      if (inDegree[i] == 0) {
+        ready.add(i);
+      }
+    }
+    while (!ready.isEmpty()) {
+      final int position = ready.remove();
+      sorted.add(tasks.get(position));
+      for (final int dependent : dependents.get(position)) {
+        inDegree[dependent]--;
+        if (inDegree[dependent] == 0) {
+          ready.add(dependent);
+        }
+      }
+    }
+
+    if (sorted.size() != tasks.size()) {
+      final Set<String> unsorted = new LinkedHashSet<>();
+      for (int i = 0; i < tasks.size(); i++) {
+        if (inDegree[i] > 0) {
+          unsorted.add(tasks.get(i).getTaskName());
+        }
+      }
+      throw new IllegalStateException(
+          String.format("Cycle in task dependencies, involving %s", unsorted));
+    }
+
+    return sorted;
+  }
+
+  private TaskDependencies() {
+    // Prevent instantiation
+  }
+}
@@ -0,0 +1,249 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+
+package us.fatehi.utility.scheduler;
+
+import static java.util.Objects.requireNonNull;
+import static us.fatehi.utility.Utility.requireNotBlank;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts of the work done by a task, such as rows read and database round trips made. Counts are
+ * recorded against the task running on the current thread, and also against the task that
+ * submitted it, so that a task that runs its own nested tasks accounts for all of their work. The
+ * record methods do nothing when no task is running on the current thread.
+ */
+public final class TaskMetrics implements Serializable {
+
+  private static final long serialVersionUID = 5265486370719567328L;
+
+  private static final ThreadLocal<TaskMetrics> currentTaskMetrics = new ThreadLocal<>();
+
+  /**
+   * Metrics of the task running on the current thread, if any.
+   *
+   * @return Metrics of the current task.
+   */
+  public static Optional<TaskMetrics> currentTaskMetrics() {
+    return Optional.ofNullable(currentTaskMetrics.get());
+  }
+
+  /**
+   * Records a connection borrowed by the current task.
+   *
+   * @param connections Number of connections borrowed.
+   */
+  public static void recordConnections(final long connections) {
+    for (TaskMetrics metrics = currentTaskMetrics.get();
+        metrics != null;
+        metrics = metrics.parent) {
+      metrics.connections.add(connections);
+    }
+  }
+
+  /**
+   * Records characters read from large objects by the current task.
+   *
+   * @param lobCharacters Number of characters read.
+   */
+  public static void recordLobCharacters(final long lobCharacters) {
+    for (TaskMetrics metrics = currentTaskMetrics.get();
+        metrics != null;
+        metrics = metrics.parent) {
+      metrics.lobCharacters.add(lobCharacters);
+    }
+  }
+
+  /**
+   * Records objects created by the current task.
+   *
+   * @param objects Number of objects created.
+   */
+  public static void recordObjects(final long objects) {
+    for (TaskMetrics metrics = currentTaskMetrics.get();
+        metrics != null;
+        metrics = metrics.parent) {
+      metrics.objects.add(objects);
+    }
+  }
+
+  /**
+   * Records rows read by the current task, and the database round trips it took to fetch them.
+   *
+   * @param rows Number of rows read.
+   * @param roundTrips Number of round trips to the database.
+   */
+  public static void recordRows(final long rows, final long roundTrips) {
+    for (TaskMetrics metrics = currentTaskMetrics.get();
+        metrics != null;
+        metrics = metrics.parent) {
+      metrics.rows.add(rows);
+      metrics.roundTrips.add(roundTrips);
+    }
+  }
+
+  /**
+   * Makes the metrics current for the running thread.
+   *
+   * @param metrics Metrics to make current, or null to clear.
+   * @return Metrics that were current before.
+   */
+  static TaskMetrics attach(final TaskMetrics metrics) {
+    final TaskMetrics previous = currentTaskMetrics.get();
+    if (metrics == null) {
+      currentTaskMetrics.remove();
+    } else {
+      currentTaskMetrics.set(metrics);
+    }
+    return previous;
+  }
+
+  private final String taskName;
+  private final transient TaskMetrics parent;
+  private final LongAdder connections;
+  private final LongAdder lobCharacters;
+  private final LongAdder objects;
+  private final LongAdder roundTrips;
+  private final LongAdder rows;
+  private Duration duration;
+
+  TaskMetrics(final String taskName, final TaskMetrics parent) {
+    this.taskName = requireNotBlank(taskName, "Task name not provided");
+    this.parent = parent;
+    connections = new LongAdder();
+    lobCharacters = new LongAdder();
+    objects = new LongAdder();
+    roundTrips = new LongAdder();
+    rows = new LongAdder();
+    duration = Duration.ZERO;
+  }
+
+  /** Restores metrics of an earlier task run, such as from a saved catalog. */
+  public TaskMetrics(
+      final String taskName,
+      final Duration duration,
+      final long rows,
+      final long roundTrips,
+      final long connections,
+      final long lobCharacters,
+      final long objects) {
+    this(taskName, null);
+    this.duration = requireNonNull(duration, "Duration not provided");
+    this.rows.add(rows);
+    this.roundTrips.add(roundTrips);
+    this.connections.add(connections);
+    this.lobCharacters.add(lobCharacters);
+    this.objects.add(objects);
+  }
+
+  /**
+   * Number of connections borrowed.
+   *
+   * @return Number of connections.
+   */
+  public long getConnections() {
+    return connections.sum();
+  }
+
+  /**
+   * Wall-clock time taken to run the task.
+   *
+   * @return Duration of the task.
+   */
+  public Duration getDuration() {
+    return duration;
+  }
+
+  /**
+   * Number of characters read from large objects.
+   *
+   * @return Number of characters.
+   */
+  public long getLobCharacters() {
+    return lobCharacters.sum();
+  }
+
+  /**
+   * Number of objects created.
+   *
+   * @return Number of objects.
+   */
+  public long getObjects() {
+    return objects.sum();
+  }
+
+  /**
+   * Number of round trips to the database.
+   *
+   * @return Number of round trips.
+   */
+  public long getRoundTrips() {
+    return roundTrips.sum();
+  }
+
+  /**
+   * Number of rows read.
+   *
+   * @return Number of rows.
+   */
+  public long getRows() {
+    return rows.sum();
+  }
+
+  /**
+   * Name of the task.
+   *
+   * @return Task name.
+   */
+  public String getTaskName() {
+    return taskName;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "<%s> - %d rows, %d round trips, %d connections, %d LOB characters, %d objects",
+        taskName,
+        getRows(),
+        getRoundTrips(),
+        getConnections(),
+        getLobCharacters(),
+        getObjects());
+  }
+
+  void setDuration(final Duration duration) {
+    if (duration != null) {
+      this.duration = duration;
+    }
+  }
+}
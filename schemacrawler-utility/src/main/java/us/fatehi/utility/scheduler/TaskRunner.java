@@ -28,6 +28,7 @@ http://www.gnu.org/licenses/
 
 package us.fatehi.utility.scheduler;
 
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
 
@@ -52,6 +53,14 @@ public interface TaskRunner extends AutoCloseable {
    */
   String getId();
 
+  /**
+   * Metrics for the tasks that have run since the last report, in the order in which they
+   * completed.
+   *
+   * @return Metrics for each task run.
+   */
+  List<TaskMetrics> getTaskMetrics();
+
   /**
    * Returns true if the task runner is stopped and is not accepting any more tasks.
    *
@@ -77,7 +86,8 @@ public interface TaskRunner extends AutoCloseable {
 
   /**
    * Submit the current list of tasks for execution, and block until execution is complete. Then
-   * clears the task list.
+   * clears the task list. Tasks are run in an order that respects their dependencies, and
+   * independent tasks may run concurrently. If a task fails, tasks that depend on it are not run.
    *
    * @throws Exception On an exception in any one of the tasks.
    */
@@ -32,7 +32,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -40,27 +42,55 @@ import us.fatehi.utility.string.StringFormat;
 
 /**
  * Wrapper around a task definition that runs the task and times it. Throws an exception if the task
- * does not succeed.
+ * does not succeed. The task is not run if any task that it depends on has failed, and in turn, it
+ * is marked as failed so that tasks depending on it are not run either.
  */
 class TimedTask implements Callable<TimedTaskResult> {
 
   private static final Logger LOGGER = Logger.getLogger(TimedTask.class.getName());
 
   private final TaskDefinition taskDefinition;
+  private final Set<String> failedTasks;
+  private final TaskMetrics parentMetrics;
 
   TimedTask(final TaskDefinition task) {
+    this(task, ConcurrentHashMap.newKeySet());
+  }
+
+  TimedTask(final TaskDefinition task, final Set<String> failedTasks) {
     this.taskDefinition = requireNonNull(task, "Task not provided");
+    this.failedTasks = requireNonNull(failedTasks, "Failed tasks not provided");
+    // Created on the submitting thread, so work done by a nested task is also counted for the
+    // task that submitted it
+    parentMetrics = TaskMetrics.currentTaskMetrics().orElse(null);
   }
 
   @Override
   public TimedTaskResult call() {
 
+    for (final String dependency : taskDefinition.getDependencies()) {
+      if (failedTasks.contains(dependency)) {
+        LOGGER.log(
+            Level.WARNING,
+            new StringFormat(
+                "Not running <%s>, since <%s> failed", taskDefinition.getTaskName(), dependency));
+        failedTasks.add(taskDefinition.getTaskName());
+        return new TimedTaskResult(
+            taskDefinition.getTaskName(),
+            Duration.ZERO,
+            null,
+            new TaskMetrics(taskDefinition.getTaskName(), null));
+      }
+    }
+
     LOGGER.log(
         Level.INFO,
         new StringFormat(
             "Running <%s> on thread <%s>",
             taskDefinition.getTaskName(), Thread.currentThread().getName()));
 
+    final TaskMetrics metrics = new TaskMetrics(taskDefinition.getTaskName(), parentMetrics);
+    final TaskMetrics previousMetrics = TaskMetrics.attach(metrics);
     final Instant start = Instant.now();
 
     Exception ex = null;
@@ -68,14 +98,19 @@ class TimedTask implements Callable<TimedTaskResult> {
       taskDefinition.getTask().run();
     } catch (final Exception e) {
       ex = e;
+    } finally {
+      TaskMetrics.attach(previousMetrics);
     }
 
     final Instant stop = Instant.now();
     final Duration runTime = Duration.between(start, stop);
+    metrics.setDuration(runTime);
+
     final TimedTaskResult timedTaskResult =
-        new TimedTaskResult(taskDefinition.getTaskName(), runTime, ex);
+        new TimedTaskResult(taskDefinition.getTaskName(), runTime, ex, metrics);
 
     if (ex != null) {
+      failedTasks.add(taskDefinition.getTaskName());
       LOGGER.log(
           Level.WARNING,
           String.format(
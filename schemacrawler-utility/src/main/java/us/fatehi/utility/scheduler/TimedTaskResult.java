@@ -57,13 +57,20 @@ final class TimedTaskResult implements Serializable {
   private final Duration duration;
   private final String taskName;
   private final Exception exception;
+  private final TaskMetrics metrics;
 
-  TimedTaskResult(final String taskName, final Duration duration, final Exception exception) {
+  TimedTaskResult(
+      final String taskName,
+      final Duration duration,
+      final Exception exception,
+      final TaskMetrics metrics) {
     requireNonNull(taskName, "Task name not provided");
     requireNonNull(duration, "Duration not provided");
+    requireNonNull(metrics, "Task metrics not provided");
     this.taskName = taskName;
     this.duration = duration;
     this.exception = exception;
+    this.metrics = metrics;
   }
 
   public Duration getDuration() {
@@ -74,6 +81,10 @@ final class TimedTaskResult implements Serializable {
     return exception;
   }
 
+  public TaskMetrics getMetrics() {
+    return metrics;
+  }
+
   public boolean hasException() {
     return exception != null;
   }
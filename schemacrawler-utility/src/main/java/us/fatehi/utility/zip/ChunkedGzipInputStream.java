@@ -0,0 +1,220 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package us.fatehi.utility.zip;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import us.fatehi.utility.scheduler.TaskDefinition;
+import us.fatehi.utility.scheduler.TaskRunner;
+import us.fatehi.utility.scheduler.TaskRunners;
+
+/**
+ * Gzip input stream that inflates chunks written by {@link ChunkedGzipOutputStream} concurrently.
+ * Any other gzip data is read as a plain gzip stream, so older files can still be read.
+ */
+public final class ChunkedGzipInputStream extends InputStream {
+
+  private final BufferedInputStream in;
+  private final InputStream gzipIn;
+  private final int chunksPerBatch;
+  private final TaskRunner taskRunner;
+  private byte[][] chunks;
+  private int chunkIndex;
+  private int position;
+  private boolean endOfStream;
+  private boolean closed;
+
+  /**
+   * Gzip input stream that inflates chunks concurrently.
+   *
+   * @param in Input stream with gzip data
+   * @param maxThreads Number of threads to inflate with
+   * @throws IOException On an exception reading the gzip header
+   */
+  public ChunkedGzipInputStream(final InputStream in, final int maxThreads) throws IOException {
+    this.in = new BufferedInputStream(requireNonNull(in, "No input stream provided"));
+
+    this.in.mark(GzipChunks.HEADER_LENGTH);
+    final byte[] header = GzipChunks.readFully(this.in, GzipChunks.HEADER_LENGTH);
+    this.in.reset();
+
+    if (GzipChunks.isChunkHeader(header, header.length)) {
+      gzipIn = null;
+      chunksPerBatch = Math.max(1, maxThreads) * 2;
+      taskRunner = TaskRunners.getTaskRunner("inflateChunks", maxThreads);
+    } else {
+      gzipIn = new GZIPInputStream(this.in);
+      chunksPerBatch = 0;
+      taskRunner = null;
+    }
+    chunks = new byte[0][];
+  }
+
+  @Override
+  public int available() throws IOException {
+    ensureOpen();
+    if (gzipIn != null) {
+      return gzipIn.available();
+    }
+    if (chunkIndex < chunks.length) {
+      return chunks[chunkIndex].length - position;
+    }
+    return 0;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    chunks = new byte[0][];
+    try {
+      if (taskRunner != null) {
+        taskRunner.close();
+      }
+    } catch (final Exception e) {
+      // Ignore - all tasks are complete
+    } finally {
+      if (gzipIn != null) {
+        gzipIn.close();
+      } else {
+        in.close();
+      }
+    }
+  }
+
+  @Override
+  public int read() throws IOException {
+    final byte[] b = new byte[1];
+    final int count = read(b, 0, 1);
+    if (count == -1) {
+      return -1;
+    }
+    return b[0] & 0xff;
+  }
+
+  @Override
+  public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+    ensureOpen();
+    if (gzipIn != null) {
+      return gzipIn.read(bytes, offset, length);
+    }
+    if (length == 0) {
+      return 0;
+    }
+
+    while (chunkIndex < chunks.length && position == chunks[chunkIndex].length) {
+      chunkIndex++;
+      position = 0;
+    }
+    if (chunkIndex == chunks.length) {
+      if (!inflateChunks()) {
+        return -1;
+      }
+      return read(bytes, offset, length);
+    }
+
+    final byte[] chunk = chunks[chunkIndex];
+    final int count = Math.min(length, chunk.length - position);
+    System.arraycopy(chunk, position, bytes, offset, count);
+    position = position + count;
+    return count;
+  }
+
+  private void ensureOpen() throws IOException {
+    if (closed) {
+      throw new IOException("Stream closed");
+    }
+  }
+
+  /**
+   * Reads the next batch of gzip members, and inflates them concurrently.
+   *
+   * @return False at the end of the stream
+   * @throws IOException On an exception reading or inflating data
+   */
+  private boolean inflateChunks() throws IOException {
+    if (endOfStream) {
+      return false;
+    }
+
+    final List<byte[]> members = new ArrayList<>();
+    while (members.size() < chunksPerBatch) {
+      final byte[] header = GzipChunks.readFully(in, GzipChunks.HEADER_LENGTH);
+      if (header.length == 0) {
+        endOfStream = true;
+        break;
+      }
+      if (!GzipChunks.isChunkHeader(header, header.length)) {
+        throw new IOException("Corrupt chunked gzip data");
+      }
+      final int memberSize = GzipChunks.memberSize(header);
+      if (memberSize < GzipChunks.HEADER_LENGTH || memberSize > GzipChunks.MAX_MEMBER_SIZE) {
+        throw new IOException("Corrupt chunked gzip data");
+      }
+      final byte[] member = new byte[memberSize];
+      System.arraycopy(header, 0, member, 0, header.length);
+      final int count = GzipChunks.readFully(in, member, header.length, memberSize - header.length);
+      if (count != memberSize - header.length) {
+        throw new IOException("Unexpected end of chunked gzip data");
+      }
+      members.add(member);
+    }
+    if (members.isEmpty()) {
+      return false;
+    }
+
+    final byte[][] inflatedChunks = new byte[members.size()][];
+    try {
+      for (int i = 0; i < members.size(); i++) {
+        final int chunk = i;
+        taskRunner.add(
+            new TaskDefinition(
+                "inflateChunk" + i,
+                () -> inflatedChunks[chunk] = GzipChunks.inflate(members.get(chunk))));
+      }
+      taskRunner.submit();
+    } catch (final Exception e) {
+      throw new IOException("Could not inflate data", e);
+    }
+
+    chunks = inflatedChunks;
+    chunkIndex = 0;
+    position = 0;
+    return true;
+  }
+}
@@ -0,0 +1,199 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package us.fatehi.utility.zip;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import us.fatehi.utility.scheduler.TaskDefinition;
+import us.fatehi.utility.scheduler.TaskRunner;
+import us.fatehi.utility.scheduler.TaskRunners;
+
+/**
+ * Gzip output stream that compresses independent chunks of data concurrently. The output is made
+ * up of gzip members that any gzip reader can read, and which can be read back concurrently with
+ * {@link ChunkedGzipInputStream}.
+ */
+public final class ChunkedGzipOutputStream extends OutputStream {
+
+  private final OutputStream out;
+  private final boolean fastCompression;
+  private final int chunkSize;
+  private final int chunksPerBatch;
+  private final TaskRunner taskRunner;
+  private final List<byte[]> chunks;
+  private final List<Integer> chunkLengths;
+  private byte[] buffer;
+  private int position;
+  private boolean hasChunks;
+  private boolean closed;
+
+  public ChunkedGzipOutputStream(
+      final OutputStream out, final int maxThreads, final boolean fastCompression) {
+    this(out, maxThreads, fastCompression, GzipChunks.DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Gzip output stream that compresses chunks concurrently.
+   *
+   * @param out Output stream to write compressed data to
+   * @param maxThreads Number of threads to compress with
+   * @param fastCompression Whether to compress for speed, rather than size
+   * @param chunkSize Number of bytes of data in each chunk, up to 16 MB
+   */
+  public ChunkedGzipOutputStream(
+      final OutputStream out,
+      final int maxThreads,
+      final boolean fastCompression,
+      final int chunkSize) {
+    this.out = requireNonNull(out, "No output stream provided");
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("Chunk size needs to be positive");
+    }
+    if (chunkSize > GzipChunks.MAX_CHUNK_SIZE) {
+      throw new IllegalArgumentException(
+          String.format("Chunk size cannot be larger than %d bytes", GzipChunks.MAX_CHUNK_SIZE));
+    }
+    this.fastCompression = fastCompression;
+    this.chunkSize = chunkSize;
+    // Keep a couple of chunks for every thread in memory, so that threads are not left idle, but
+    // memory use is bounded
+    chunksPerBatch = Math.max(1, maxThreads) * 2;
+    taskRunner = TaskRunners.getTaskRunner("compressChunks", maxThreads);
+    chunks = new ArrayList<>();
+    chunkLengths = new ArrayList<>();
+    buffer = new byte[chunkSize];
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      endChunk();
+      if (!hasChunks) {
+        // Write an empty chunk, so that the output is still valid gzip data
+        chunks.add(new byte[0]);
+        chunkLengths.add(0);
+      }
+      compressChunks();
+    } finally {
+      try {
+        taskRunner.close();
+      } catch (final Exception e) {
+        // Ignore - all tasks are complete
+      }
+      out.close();
+    }
+  }
+
+  /** Flushes compressed chunks to the output stream, but not data that is still being chunked. */
+  @Override
+  public void flush() throws IOException {
+    ensureOpen();
+    out.flush();
+  }
+
+  @Override
+  public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+    ensureOpen();
+    int current = offset;
+    int remaining = length;
+    while (remaining > 0) {
+      final int count = Math.min(remaining, chunkSize - position);
+      System.arraycopy(bytes, current, buffer, position, count);
+      position = position + count;
+      current = current + count;
+      remaining = remaining - count;
+      if (position == chunkSize) {
+        endChunk();
+      }
+    }
+  }
+
+  @Override
+  public void write(final int b) throws IOException {
+    write(new byte[] {(byte) b}, 0, 1);
+  }
+
+  private void compressChunks() throws IOException {
+    if (chunks.isEmpty()) {
+      return;
+    }
+
+    final byte[][] members = new byte[chunks.size()][];
+    try {
+      for (int i = 0; i < chunks.size(); i++) {
+        final int chunk = i;
+        taskRunner.add(
+            new TaskDefinition(
+                "compressChunk" + i,
+                () ->
+                    members[chunk] =
+                        GzipChunks.deflate(
+                            chunks.get(chunk), chunkLengths.get(chunk), fastCompression)));
+      }
+      taskRunner.submit();
+    } catch (final Exception e) {
+      throw new IOException("Could not compress data", e);
+    }
+
+    for (final byte[] member : members) {
+      out.write(member);
+    }
+    chunks.clear();
+    chunkLengths.clear();
+  }
+
+  private void endChunk() throws IOException {
+    if (position == 0) {
+      return;
+    }
+    chunks.add(buffer);
+    chunkLengths.add(position);
+    hasChunks = true;
+    buffer = new byte[chunkSize];
+    position = 0;
+    if (chunks.size() == chunksPerBatch) {
+      compressChunks();
+    }
+  }
+
+  private void ensureOpen() throws IOException {
+    if (closed) {
+      throw new IOException("Stream closed");
+    }
+  }
+}
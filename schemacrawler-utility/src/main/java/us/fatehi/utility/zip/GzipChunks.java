@@ -0,0 +1,225 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package us.fatehi.utility.zip;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import us.fatehi.utility.UtilityMarker;
+
+/**
+ * Chunks are written as complete gzip members, one after the other, so any gzip reader can read
+ * them back as a single stream. Each member has an extra header field with the size of the whole
+ * member, so that members can be read without inflating them first, and then inflated
+ * concurrently.
+ */
+@UtilityMarker
+final class GzipChunks {
+
+  static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+  static final int HEADER_LENGTH = 20;
+  static final int MAX_CHUNK_SIZE = 16 * 1024 * 1024;
+  // Deflated data can be slightly larger than the data, if the data does not compress
+  static final int MAX_MEMBER_SIZE = MAX_CHUNK_SIZE + MAX_CHUNK_SIZE / 8 + 1024;
+
+  private static final int FEXTRA = 4;
+  private static final int XLEN = 8;
+  private static final byte SUBFIELD_ID1 = 'S';
+  private static final byte SUBFIELD_ID2 = 'C';
+  private static final int SUBFIELD_LENGTH = 4;
+
+  /**
+   * Compresses a chunk of data into a complete gzip member.
+   *
+   * @param data Data to compress
+   * @param length Number of bytes of data to compress
+   * @param fastCompression Whether to compress for speed, rather than size
+   * @return Gzip member
+   */
+  static byte[] deflate(final byte[] data, final int length, final boolean fastCompression) {
+    final int level = fastCompression ? Deflater.BEST_SPEED : Deflater.DEFAULT_COMPRESSION;
+    final ByteArrayOutputStream member = new ByteArrayOutputStream(length / 2 + HEADER_LENGTH + 8);
+
+    // Header, with the member size filled in at the end
+    member.write(0x1f);
+    member.write(0x8b);
+    member.write(Deflater.DEFLATED);
+    member.write(FEXTRA);
+    writeInt(member, 0);
+    member.write(fastCompression ? 4 : 0);
+    member.write(255);
+    writeShort(member, XLEN);
+    member.write(SUBFIELD_ID1);
+    member.write(SUBFIELD_ID2);
+    writeShort(member, SUBFIELD_LENGTH);
+    writeInt(member, 0);
+
+    final Deflater deflater = new Deflater(level, true);
+    try {
+      deflater.setInput(data, 0, length);
+      deflater.finish();
+      final byte[] buffer = new byte[64 * 1024];
+      while (!deflater.finished()) {
+        final int count = deflater.deflate(buffer);
+        member.write(buffer, 0, count);
+      }
+    } finally {
+      deflater.end();
+    }
+
+    final CRC32 crc = new CRC32();
+    crc.update(data, 0, length);
+    writeInt(member, (int) crc.getValue());
+    writeInt(member, length);
+
+    final byte[] bytes = member.toByteArray();
+    putInt(bytes, HEADER_LENGTH - 4, bytes.length);
+    return bytes;
+  }
+
+  /**
+   * Inflates a complete gzip member, and checks it against its checksum.
+   *
+   * @param member Gzip member
+   * @return Inflated data
+   * @throws IOException On a corrupt member
+   */
+  static byte[] inflate(final byte[] member) throws IOException {
+    try (final InputStream in = new GZIPInputStream(new ByteArrayInputStream(member))) {
+      final ByteArrayOutputStream data = new ByteArrayOutputStream(member.length * 4);
+      final byte[] buffer = new byte[64 * 1024];
+      int count;
+      while ((count = in.read(buffer)) != -1) {
+        data.write(buffer, 0, count);
+      }
+      return data.toByteArray();
+    }
+  }
+
+  /**
+   * Reads bytes until the requested number of bytes are read, or the end of the stream is reached.
+   *
+   * @param in Input stream
+   * @param buffer Buffer to read into
+   * @param offset Offset in the buffer to start at
+   * @param length Number of bytes to read
+   * @return Number of bytes read, which is less than requested only at the end of the stream
+   * @throws IOException On an exception reading the stream
+   */
+  static int readFully(
+      final InputStream in, final byte[] buffer, final int offset, final int length)
+      throws IOException {
+    int total = 0;
+    while (total < length) {
+      final int count = in.read(buffer, offset + total, length - total);
+      if (count == -1) {
+        break;
+      }
+      total += count;
+    }
+    return total;
+  }
+
+  /**
+   * Reads bytes until the requested number of bytes are read, or the end of the stream is reached.
+   *
+   * @param in Input stream
+   * @param length Number of bytes to read
+   * @return Bytes read, which are fewer than requested only at the end of the stream
+   * @throws IOException On an exception reading the stream
+   */
+  static byte[] readFully(final InputStream in, final int length) throws IOException {
+    final byte[] buffer = new byte[length];
+    final int count = readFully(in, buffer, 0, length);
+    return count == length ? buffer : Arrays.copyOf(buffer, count);
+  }
+
+  /**
+   * Checks if a header was written for a chunk, and so has the size of the member.
+   *
+   * @param header Header bytes
+   * @param length Number of header bytes available
+   * @return True if the header is for a chunk
+   */
+  static boolean isChunkHeader(final byte[] header, final int length) {
+    return length == HEADER_LENGTH
+        && (header[0] & 0xff) == 0x1f
+        && (header[1] & 0xff) == 0x8b
+        && header[2] == Deflater.DEFLATED
+        && header[3] == FEXTRA
+        && getShort(header, 10) == XLEN
+        && header[12] == SUBFIELD_ID1
+        && header[13] == SUBFIELD_ID2
+        && getShort(header, 14) == SUBFIELD_LENGTH;
+  }
+
+  /**
+   * Gets the size of the whole member from a chunk header.
+   *
+   * @param header Chunk header
+   * @return Member size, including the header
+   */
+  static int memberSize(final byte[] header) {
+    return (header[16] & 0xff)
+        | (header[17] & 0xff) << 8
+        | (header[18] & 0xff) << 16
+        | (header[19] & 0xff) << 24;
+  }
+
+  private static int getShort(final byte[] bytes, final int offset) {
+    return (bytes[offset] & 0xff) | (bytes[offset + 1] & 0xff) << 8;
+  }
+
+  private static void putInt(final byte[] bytes, final int offset, final int value) {
+    bytes[offset] = (byte) value;
+    bytes[offset + 1] = (byte) (value >> 8);
+    bytes[offset + 2] = (byte) (value >> 16);
+    bytes[offset + 3] = (byte) (value >> 24);
+  }
+
+  private static void writeInt(final ByteArrayOutputStream out, final int value) {
+    writeShort(out, value & 0xffff);
+    writeShort(out, value >>> 16 & 0xffff);
+  }
+
+  private static void writeShort(final ByteArrayOutputStream out, final int value) {
+    out.write(value & 0xff);
+    out.write(value >> 8 & 0xff);
+  }
+
+  private GzipChunks() {
+    // Prevent instantiation
+  }
+}
@@ -0,0 +1,209 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+
+package us.fatehi.utility.datasource;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class BoundedDatabaseConnectionSourceTest {
+
+  private String connectionUrl;
+  private MultiUseUserCredentials userCredentials;
+  private DatabaseConnectionSource databaseConnectionSource;
+
+  @Test
+  public void badConstructorArgs() throws Exception {
+
+    assertThrows(
+        RuntimeException.class,
+        () ->
+            new BoundedDatabaseConnectionSource(
+                "<bad-url>",
+                null,
+                new MultiUseUserCredentials("user", "!"),
+                connection -> {},
+                2,
+                1));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new BoundedDatabaseConnectionSource(
+                connectionUrl, new HashMap<>(), userCredentials, connection -> {}, 0, 0));
+  }
+
+  @Test
+  public void boundedConcurrentConnections() throws Exception {
+
+    final AtomicInteger inUse = new AtomicInteger();
+    final AtomicInteger maxInUse = new AtomicInteger();
+    final ExecutorService executorService = Executors.newFixedThreadPool(6);
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < 30; i++) {
+        futures.add(
+            executorService.submit(
+                () -> {
+                  try (final Connection connection = databaseConnectionSource.get()) {
+                    maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+                    Thread.sleep(5);
+                    inUse.decrementAndGet();
+                  }
+                  return null;
+                }));
+      }
+      for (final Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executorService.shutdown();
+    }
+
+    assertThat(maxInUse.get() <= databaseConnectionSource.getMaxConnections(), is(true));
+  }
+
+  @Test
+  public void connectionTests() throws Exception {
+
+    final Connection connection = databaseConnectionSource.get();
+    final Connection unwrappedConnection = connection.unwrap(Connection.class);
+    assertThat(connection, is(not(sameInstance(unwrappedConnection))));
+    assertThat(connection.isClosed(), is(false));
+
+    connection.close();
+    assertThat(connection.isClosed(), is(true));
+    assertThat(unwrappedConnection.isClosed(), is(false));
+
+    // Connections can only be returned to the pool once
+    assertThat(databaseConnectionSource.releaseConnection(connection), is(false));
+
+    // Idle connections are reused
+    final Connection nextConnection = databaseConnectionSource.get();
+    assertThat(nextConnection.unwrap(Connection.class), is(sameInstance(unwrappedConnection)));
+    nextConnection.close();
+
+    databaseConnectionSource.close();
+    assertThat(unwrappedConnection.isClosed(), is(true));
+  }
+
+  @Test
+  public void connectionInitializerFails() throws Exception {
+
+    final List<Connection> initializedConnections = new ArrayList<>();
+    final DatabaseConnectionSource connectionSource =
+        new BoundedDatabaseConnectionSource(
+            connectionUrl,
+            new HashMap<>(),
+            userCredentials,
+            connection -> {
+              initializedConnections.add(connection);
+              if (initializedConnections.size() == 1) {
+                throw new RuntimeException("Cannot initialize connection");
+              }
+            },
+            2,
+            0);
+    try {
+      assertThrows(RuntimeException.class, connectionSource::get);
+      // The connection that could not be initialized is closed, and not reused
+      assertThat(initializedConnections.get(0).isClosed(), is(true));
+
+      // All connections can still be borrowed, so no permit was lost
+      assertTimeoutPreemptively(
+          Duration.ofSeconds(30),
+          () -> {
+            try (final Connection connection1 = connectionSource.get();
+                final Connection connection2 = connectionSource.get()) {
+              assertThat(
+                  connection1.unwrap(Connection.class),
+                  is(not(sameInstance(initializedConnections.get(0)))));
+              assertThat(
+                  connection2.unwrap(Connection.class),
+                  is(not(sameInstance(initializedConnections.get(0)))));
+            }
+          });
+    } finally {
+      connectionSource.close();
+    }
+  }
+
+  @BeforeEach
+  public void createDatabase() throws Exception {
+
+    final EmbeddedDatabase db =
+        new EmbeddedDatabaseBuilder()
+            .generateUniqueName(true)
+            .setScriptEncoding("UTF-8")
+            .ignoreFailedDrops(true)
+            .addScript("testdb.sql")
+            .build();
+
+    final Connection wrappedConnection = db.getConnection();
+    final DatabaseMetaData metaData = wrappedConnection.getMetaData();
+    connectionUrl = metaData.getURL();
+    userCredentials = new MultiUseUserCredentials(metaData.getUserName(), "");
+    databaseConnectionSource =
+        new BoundedDatabaseConnectionSource(
+            connectionUrl, new HashMap<>(), userCredentials, connection -> {}, 2, 2);
+  }
+
+  @Test
+  public void maxConnections() throws Exception {
+    assertThat(databaseConnectionSource.getMaxConnections(), is(2));
+  }
+
+  @AfterEach
+  public void closeDatabaseConnectionSource() throws Exception {
+    databaseConnectionSource.close();
+  }
+}
@@ -84,6 +84,12 @@ public class SimpleDatabaseConnectionSourceTest {
     assertThat(unwrappedConnection.isClosed(), is(true));
   }
 
+  @Test
+  public void maxConnections() throws Exception {
+    assertThat(databaseConnectionSource.getMaxConnections(), is(Integer.MAX_VALUE));
+    databaseConnectionSource.close();
+  }
+
   @BeforeEach
   public void createDatabase() throws Exception {
 
@@ -0,0 +1,91 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package us.fatehi.utility.test.graph;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.fatehi.utility.graph.DirectedGraph;
+import us.fatehi.utility.graph.TarjanStronglyConnectedComponentFinder;
+
+/**
+ * Graphs the size of large catalogs, with each table referencing earlier tables, like foreign keys
+ * do. Graph algorithms need to run in linear time, and without recursion, to finish on graphs
+ * like these.
+ */
+public class DirectedGraphLargeTest extends GraphTestBase {
+
+  private static final int VERTICES = 200_000;
+
+  @Test
+  public void largeGraph() throws Exception {
+    final DirectedGraph<Integer> graph = makeGraph();
+
+    assertThat(containsCycleSimple(graph), is(false));
+    assertThat(containsCycleTarjan(graph), is(false));
+
+    final List<Integer> sorted = topologicalSort(graph);
+    assertThat(sorted, hasSize(VERTICES));
+    assertThat(sorted.subList(0, 3), contains(0, 1, 2));
+  }
+
+  @Test
+  public void largeGraphCycle() throws Exception {
+    final DirectedGraph<Integer> graph = makeGraph();
+    // Close the chain through all vertices into a single cycle
+    graph.addEdge(VERTICES - 1, 0);
+
+    assertThat(containsCycleSimple(graph), is(true));
+
+    final Collection<List<Integer>> sccs =
+        new TarjanStronglyConnectedComponentFinder<>(graph).detectCycles();
+    assertThat(sccs, hasSize(1));
+    assertThat(new ArrayList<>(sccs).get(0), hasSize(VERTICES));
+  }
+
+  private DirectedGraph<Integer> makeGraph() {
+    final Random random = new Random(VERTICES);
+    final DirectedGraph<Integer> graph = new DirectedGraph<>("large");
+    for (int vertex = 1; vertex < VERTICES; vertex++) {
+      // A chain makes the graph as deep as it is large
+      graph.addEdge(vertex - 1, vertex);
+      graph.addEdge(random.nextInt(vertex), vertex);
+    }
+    return graph;
+  }
+}
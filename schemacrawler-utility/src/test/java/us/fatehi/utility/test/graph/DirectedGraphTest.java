@@ -29,15 +29,20 @@ http://www.gnu.org/licenses/
 package us.fatehi.utility.test.graph;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import us.fatehi.utility.graph.DirectedGraph;
 import us.fatehi.utility.graph.GraphException;
+import us.fatehi.utility.graph.TarjanStronglyConnectedComponentFinder;
 
 public class DirectedGraphTest extends GraphTestBase {
 
@@ -72,6 +77,25 @@ public class DirectedGraphTest extends GraphTestBase {
     assertThat(containsCycleTarjan(graph), is(true));
   }
 
+  @Test
+  public void stronglyConnectedComponentWithShortcut() throws Exception {
+    final DirectedGraph<String> graph = new DirectedGraph<>("");
+    graph.addEdge("0", "5");
+    graph.addEdge("5", "2");
+    graph.addEdge("2", "7");
+    graph.addEdge("7", "1");
+    graph.addEdge("1", "0");
+    graph.addEdge("0", "3");
+    graph.addEdge("3", "5");
+
+    // The shortcut 0->3->5 is inside the cycle 0->5->2->7->1->0, so all vertices are in one
+    // strongly connected component
+    final List<List<String>> sccs =
+        new ArrayList<>(new TarjanStronglyConnectedComponentFinder<>(graph).detectCycles());
+    assertThat(sccs, hasSize(1));
+    assertThat(sccs.get(0), containsInAnyOrder("0", "1", "2", "3", "5", "7"));
+  }
+
   @Test
   public void topologicalSort() throws Exception {
     for (int i = 0; i < 8; i++) {
@@ -36,6 +36,8 @@ import static org.hamcrest.Matchers.nullValue;
 import static us.fatehi.utility.html.TagBuilder.tableCell;
 import static us.fatehi.utility.html.TagBuilder.tableHeaderCell;
 
+import java.io.IOException;
+
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
@@ -117,6 +119,26 @@ public class TableCellTest {
     assertThat(tablecell.render(TagOutputFormat.tsv), is("display & text"));
   }
 
+  @DisplayName("td: render to a reused output")
+  @Test
+  public void td3() throws IOException {
+    final StringBuilder buffer = new StringBuilder();
+    buffer.append("[");
+    tableCell().withEscapedText("left").withWidth(6).make().render(TagOutputFormat.text, buffer);
+    buffer.append("|");
+    tableCell()
+        .withEscapedText("right")
+        .withWidth(7)
+        .withAlignment(Alignment.right)
+        .make()
+        .render(TagOutputFormat.text, buffer);
+    buffer.append("|");
+    tableCell().withEscapedText("a < b").make().render(TagOutputFormat.html, buffer);
+    buffer.append("]");
+
+    assertThat(buffer.toString(), is("[left  |  right|<td>a &lt; b</td>]"));
+  }
+
   @DisplayName("th: basic output")
   @Test
   public void th1() {
@@ -0,0 +1,176 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package us.fatehi.utility.test.html;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static us.fatehi.utility.html.TagBuilder.tableCell;
+import static us.fatehi.utility.html.TagBuilder.tableHeaderCell;
+import static us.fatehi.utility.html.TagBuilder.tableRow;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+import us.fatehi.utility.html.Alignment;
+import us.fatehi.utility.html.TableRowWriter;
+import us.fatehi.utility.html.Tag;
+import us.fatehi.utility.html.TagOutputFormat;
+
+public class TableRowWriterTest {
+
+  @Test
+  public void cells() {
+    final Tag row = tableRow().make();
+    row.addInnerTag(tableCell().withStyleClass("spacer").make());
+    row.addInnerTag(
+        tableCell()
+            .withEscapedText("<b>bold & more</b>")
+            .withWidth(24)
+            .withEmphasis()
+            .withStyleClass("name")
+            .withColumnSpan(2)
+            .make());
+    row.addInnerTag(
+        tableCell()
+            .withEscapedText("<b>not escaped</b>", false)
+            .withWidth(20)
+            .withAlignment(Alignment.right)
+            .make());
+    row.addInnerTag(tableCell().withEscapedText("longer than the width").withWidth(4).make());
+    row.addInnerTag(tableHeaderCell().withText("header").make());
+
+    for (final TagOutputFormat tagOutputFormat : TagOutputFormat.values()) {
+      final StringWriter writer = new StringWriter();
+      final TableRowWriter rowWriter =
+          new TableRowWriter(new PrintWriter(writer), tagOutputFormat);
+      rowWriter
+          .startRow()
+          .cell()
+          .withStyleClass("spacer")
+          .add()
+          .cell()
+          .withEscapedText("<b>bold & more</b>")
+          .withWidth(24)
+          .withEmphasis(true)
+          .withStyleClass("name")
+          .withColumnSpan(2)
+          .add()
+          .cell()
+          .withEscapedText("<b>not escaped</b>", false)
+          .withWidth(20)
+          .withAlignment(Alignment.right)
+          .add()
+          .cell()
+          .withEscapedText("longer than the width")
+          .withWidth(4)
+          .add()
+          .headerCell()
+          .withText("header")
+          .add()
+          .endRow();
+
+      assertThat(
+          tagOutputFormat.name(),
+          writer.toString(),
+          is(row.render(tagOutputFormat) + System.lineSeparator()));
+    }
+  }
+
+  @Test
+  public void cellSettingsAreReset() {
+    final StringWriter writer = new StringWriter();
+    final TableRowWriter rowWriter =
+        new TableRowWriter(new PrintWriter(writer), TagOutputFormat.text);
+
+    // The cell is reused, but settings of one cell do not carry over to the next
+    rowWriter
+        .startRow()
+        .cell()
+        .withEscapedText("a")
+        .withWidth(4)
+        .withAlignment(Alignment.right)
+        .add()
+        .cell()
+        .withEscapedText("b")
+        .add()
+        .endRow();
+
+    assertThat(writer.toString(), is("   a  b" + System.lineSeparator()));
+  }
+
+  @Test
+  public void emptyRow() {
+    for (final TagOutputFormat tagOutputFormat : TagOutputFormat.values()) {
+      final StringWriter writer = new StringWriter();
+      new TableRowWriter(new PrintWriter(writer), tagOutputFormat).startRow().endRow();
+
+      assertThat(
+          tagOutputFormat.name(),
+          writer.toString(),
+          is(tableRow().make().render(tagOutputFormat) + System.lineSeparator()));
+    }
+  }
+
+  @Test
+  public void reuseForRows() {
+    final StringWriter writer = new StringWriter();
+    final TableRowWriter rowWriter =
+        new TableRowWriter(new PrintWriter(writer), TagOutputFormat.tsv);
+
+    final StringBuilder longText = new StringBuilder();
+    for (int i = 0; i < 2_000; i++) {
+      longText.append(i % 10);
+    }
+
+    rowWriter.startRow().cell().withEscapedText("discarded").add();
+    rowWriter
+        .startRow()
+        .cell()
+        .withEscapedText("a")
+        .add()
+        .cell()
+        .withEscapedText("b")
+        .add()
+        .endRow();
+    rowWriter.startRow().cell().withEscapedText(longText.toString()).add().endRow();
+    rowWriter.startRow().cell().withEscapedText("c").add().endRow();
+
+    assertThat(
+        writer.toString(),
+        is(
+            "a\tb"
+                + System.lineSeparator()
+                + longText
+                + System.lineSeparator()
+                + "c"
+                + System.lineSeparator()));
+  }
+}
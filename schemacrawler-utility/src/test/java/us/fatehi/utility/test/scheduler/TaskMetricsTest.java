@@ -0,0 +1,90 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+
+package us.fatehi.utility.test.scheduler;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import us.fatehi.utility.scheduler.TaskDefinition;
+import us.fatehi.utility.scheduler.TaskMetrics;
+import us.fatehi.utility.scheduler.TaskRunner;
+import us.fatehi.utility.scheduler.TaskRunners;
+
+public class TaskMetricsTest {
+
+  @Test
+  public void nestedTaskMetrics() throws Exception {
+    try (final TaskRunner taskRunner = TaskRunners.getTaskRunner("outer", 2)) {
+      taskRunner.add(
+          new TaskDefinition(
+              "outer",
+              () -> {
+                TaskMetrics.recordRows(10, 1);
+                try (final TaskRunner nestedTaskRunner = TaskRunners.getTaskRunner("inner", 2)) {
+                  for (int i = 0; i < 3; i++) {
+                    nestedTaskRunner.add(
+                        new TaskDefinition(
+                            "inner" + i,
+                            () -> {
+                              TaskMetrics.recordRows(5, 2);
+                              TaskMetrics.recordConnections(1);
+                              TaskMetrics.recordObjects(4);
+                            }));
+                  }
+                  nestedTaskRunner.submit();
+                  assertThat(nestedTaskRunner.getTaskMetrics(), hasSize(3));
+                }
+              }));
+      taskRunner.submit();
+
+      final List<TaskMetrics> taskMetrics = taskRunner.getTaskMetrics();
+      assertThat(taskMetrics, hasSize(1));
+      final TaskMetrics metrics = taskMetrics.get(0);
+      assertThat(metrics.getTaskName(), is("outer"));
+      assertThat(metrics.getRows(), is(25L));
+      assertThat(metrics.getRoundTrips(), is(7L));
+      assertThat(metrics.getConnections(), is(3L));
+      assertThat(metrics.getObjects(), is(12L));
+      assertThat(metrics.getLobCharacters(), is(0L));
+    }
+  }
+
+  @Test
+  public void noCurrentTask() {
+    // Recording outside of a task does nothing
+    TaskMetrics.recordRows(10, 1);
+    assertThat(TaskMetrics.currentTaskMetrics().isPresent(), is(false));
+  }
+}
@@ -0,0 +1,139 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+
+package us.fatehi.utility.test.scheduler;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import us.fatehi.utility.scheduler.TaskDefinition;
+import us.fatehi.utility.scheduler.TaskRunner;
+import us.fatehi.utility.scheduler.TaskRunners;
+
+public class TaskRunnerDependenciesTest {
+
+  @Test
+  public void cycle() throws Exception {
+    try (final TaskRunner taskRunner = TaskRunners.getTaskRunner("cycle", 2)) {
+      taskRunner.add(new TaskDefinition("a", () -> {}, Arrays.asList("b")));
+      taskRunner.add(new TaskDefinition("b", () -> {}, Arrays.asList("a")));
+
+      assertThrows(IllegalStateException.class, () -> taskRunner.submit());
+    }
+  }
+
+  @Test
+  public void dependencyOrder() throws Exception {
+    final List<String> runOrder = new CopyOnWriteArrayList<>();
+    try (final TaskRunner taskRunner = TaskRunners.getTaskRunner("order", 4)) {
+      // Add dependents before the tasks they depend on
+      taskRunner.add(new TaskDefinition("c", () -> runOrder.add("c"), Arrays.asList("b")));
+      taskRunner.add(new TaskDefinition("b", () -> runOrder.add("b"), Arrays.asList("a")));
+      taskRunner.add(new TaskDefinition("a", () -> runOrder.add("a")));
+      taskRunner.submit();
+    }
+    assertThat(runOrder, contains("a", "b", "c"));
+  }
+
+  @Test
+  public void failedDependency() throws Exception {
+    final List<String> runOrder = new CopyOnWriteArrayList<>();
+    try (final TaskRunner taskRunner = TaskRunners.getTaskRunner("failed", 2)) {
+      taskRunner.add(
+          new TaskDefinition(
+              "a",
+              () -> {
+                throw new RuntimeException("Forced failure");
+              }));
+      taskRunner.add(new TaskDefinition("b", () -> runOrder.add("b"), Arrays.asList("a")));
+      taskRunner.add(new TaskDefinition("c", () -> runOrder.add("c"), Arrays.asList("b")));
+
+      assertThrows(RuntimeException.class, () -> taskRunner.submit());
+    }
+    assertThat(runOrder, is(empty()));
+  }
+
+  @Test
+  public void independentBranches() throws Exception {
+    // Branch "b" can only complete if it runs while branch "a" is still waiting
+    final CountDownLatch latch = new CountDownLatch(1);
+    final List<String> runOrder = new CopyOnWriteArrayList<>();
+    try (final TaskRunner taskRunner = TaskRunners.getTaskRunner("branches", 2)) {
+      taskRunner.add(new TaskDefinition("root", () -> runOrder.add("root")));
+      taskRunner.add(
+          new TaskDefinition(
+              "a",
+              () -> {
+                latch.await(10, TimeUnit.SECONDS);
+                runOrder.add("a");
+              },
+              Arrays.asList("root")));
+      taskRunner.add(
+          new TaskDefinition(
+              "b",
+              () -> {
+                runOrder.add("b");
+                latch.countDown();
+              },
+              Arrays.asList("root")));
+      taskRunner.submit();
+    }
+    assertThat(runOrder, contains("root", "b", "a"));
+    assertThat(latch.getCount(), is(lessThan(1L)));
+  }
+
+  @Test
+  public void sameTaskNames() throws Exception {
+    for (final int maxThreads : new int[] {1, 4}) {
+      final List<String> runOrder = new CopyOnWriteArrayList<>();
+      try (final TaskRunner taskRunner = TaskRunners.getTaskRunner("same", maxThreads)) {
+        // Tasks that share a name are all run, and dependents wait for all of them
+        taskRunner.add(
+            new TaskDefinition("after", () -> runOrder.add("after"), Arrays.asList("table")));
+        taskRunner.add(new TaskDefinition("table", () -> runOrder.add("table")));
+        taskRunner.add(new TaskDefinition("table", () -> runOrder.add("table")));
+        taskRunner.add(new TaskDefinition("table", () -> runOrder.add("table")));
+        taskRunner.submit();
+      }
+      assertThat(runOrder, contains("table", "table", "table", "after"));
+    }
+  }
+}
@@ -0,0 +1,193 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2024, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+
+package us.fatehi.utility.test.zip;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+import us.fatehi.utility.zip.ChunkedGzipInputStream;
+import us.fatehi.utility.zip.ChunkedGzipOutputStream;
+
+public class ChunkedGzipStreamTest {
+
+  private static final int CHUNK_SIZE = 100;
+  private static final int[] SIZES = {0, 1, 99, 100, 101, 12_345};
+
+  @Test
+  public void closedStream() throws IOException {
+    final InputStream in =
+        new ChunkedGzipInputStream(new ByteArrayInputStream(compress(data(1_000), false)), 2);
+    in.close();
+    assertThrows(IOException.class, () -> in.read());
+  }
+
+  @Test
+  public void corruptChunk() throws IOException {
+    final byte[] compressed = compress(data(1_000), false);
+    final byte[] truncated = Arrays.copyOf(compressed, compressed.length - 10);
+    try (final InputStream in =
+        new ChunkedGzipInputStream(new ByteArrayInputStream(truncated), 2)) {
+      assertThrows(IOException.class, () -> readAll(in));
+    }
+  }
+
+  @Test
+  public void largeChunkSize() {
+    final OutputStream out = new ByteArrayOutputStream();
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new ChunkedGzipOutputStream(out, 2, false, Integer.MAX_VALUE));
+  }
+
+  @Test
+  public void largeMemberSize() throws IOException {
+    final byte[] compressed = compress(data(1_000), false);
+    // Member size in the header of the first chunk
+    compressed[16] = (byte) 0xff;
+    compressed[17] = (byte) 0xff;
+    compressed[18] = (byte) 0xff;
+    compressed[19] = (byte) 0x7f;
+    try (final InputStream in =
+        new ChunkedGzipInputStream(new ByteArrayInputStream(compressed), 2)) {
+      assertThrows(IOException.class, () -> readAll(in));
+    }
+  }
+
+  @Test
+  public void readChunkedGzip() throws IOException {
+    for (final int size : SIZES) {
+      final byte[] data = data(size);
+      for (final boolean fastCompression : new boolean[] {false, true}) {
+        final byte[] compressed = compress(data, fastCompression);
+        try (final InputStream in =
+            new ChunkedGzipInputStream(new ByteArrayInputStream(compressed), 3)) {
+          assertThat(Arrays.equals(readAll(in), data), is(true));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void readChunkedGzipAsGzip() throws IOException {
+    for (final int size : SIZES) {
+      final byte[] data = data(size);
+      final byte[] compressed = compress(data, false);
+      // Chunks are gzip members, so any gzip reader can read them
+      try (final InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+        assertThat(Arrays.equals(readAll(in), data), is(true));
+      }
+    }
+  }
+
+  @Test
+  public void readGzip() throws IOException {
+    for (final int size : SIZES) {
+      final byte[] data = data(size);
+      final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+      try (final OutputStream out = new GZIPOutputStream(compressed)) {
+        out.write(data);
+      }
+      try (final InputStream in =
+          new ChunkedGzipInputStream(new ByteArrayInputStream(compressed.toByteArray()), 3)) {
+        assertThat(Arrays.equals(readAll(in), data), is(true));
+      }
+    }
+  }
+
+  @Test
+  public void singleBytes() throws IOException {
+    final byte[] data = data(1_000);
+    final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (final OutputStream out = new ChunkedGzipOutputStream(compressed, 2, false, CHUNK_SIZE)) {
+      for (final byte b : data) {
+        out.write(b);
+      }
+    }
+
+    final ByteArrayOutputStream uncompressed = new ByteArrayOutputStream();
+    try (final InputStream in =
+        new ChunkedGzipInputStream(new ByteArrayInputStream(compressed.toByteArray()), 2)) {
+      int b;
+      while ((b = in.read()) != -1) {
+        uncompressed.write(b);
+      }
+    }
+    assertThat(Arrays.equals(uncompressed.toByteArray(), data), is(true));
+  }
+
+  private byte[] compress(final byte[] data, final boolean fastCompression) throws IOException {
+    final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (final OutputStream out =
+        new ChunkedGzipOutputStream(compressed, 3, fastCompression, CHUNK_SIZE)) {
+      // Write in uneven pieces, so that writes span chunks
+      int position = 0;
+      int length = 1;
+      while (position < data.length) {
+        final int count = Math.min(data.length - position, length);
+        out.write(data, position, count);
+        position = position + count;
+        length = length * 3 % 157 + 1;
+      }
+    }
+    return compressed.toByteArray();
+  }
+
+  private byte[] readAll(final InputStream in) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final byte[] buffer = new byte[512];
+    int count;
+    while ((count = in.read(buffer)) != -1) {
+      bytes.write(buffer, 0, count);
+    }
+    return bytes.toByteArray();
+  }
+
+  private byte[] data(final int size) {
+    final Random random = new Random(size);
+    final byte[] data = new byte[size];
+    for (int i = 0; i < size; i++) {
+      data[i] = (byte) (random.nextInt(4) == 0 ? random.nextInt(256) : 'a' + i % 7);
+    }
+    return data;
+  }
+}